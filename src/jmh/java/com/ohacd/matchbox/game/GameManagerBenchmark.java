@@ -0,0 +1,87 @@
+package com.ohacd.matchbox.game;
+
+import com.ohacd.matchbox.api.MatchboxAPI;
+import com.ohacd.matchbox.api.SessionCreationResult;
+import com.ohacd.matchbox.utils.MockBukkitFactory;
+import com.ohacd.matchbox.utils.TestPluginFactory;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Player-to-session lookup, which every event listener does before anything else.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GameManagerBenchmark {
+    private static final int PLAYERS_PER_SESSION = 8;
+
+    @Param({"1", "16", "128"})
+    public int sessions;
+
+    private GameManager gameManager;
+    private final List<String> sessionNames = new ArrayList<>();
+    private UUID[] participants;
+    private UUID outsider;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TestPluginFactory.setUpMockPlugin();
+        gameManager = TestPluginFactory.getMockGameManager();
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            String sessionName = "bench-session-" + i;
+            List<Player> players = MockBukkitFactory.createMockPlayers(PLAYERS_PER_SESSION);
+            SessionCreationResult result = MatchboxAPI.createSessionBuilder(sessionName)
+                .withPlayers(players)
+                .withSpawnPoints(List.of(MockBukkitFactory.createMockLocation()))
+                .startWithResult();
+            if (result.isFailure()) {
+                throw new IllegalStateException("Could not start " + sessionName + ": " + result.getErrorMessage().orElse("unknown error"));
+            }
+            sessionNames.add(sessionName);
+            players.forEach(player -> ids.add(player.getUniqueId()));
+        }
+        // Visit players in no particular session order
+        Collections.shuffle(ids, new Random(42));
+        participants = ids.toArray(new UUID[0]);
+        outsider = UUID.randomUUID();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionNames.forEach(MatchboxAPI::endSession);
+        sessionNames.clear();
+        TestPluginFactory.tearDownMockPlugin();
+    }
+
+    @Benchmark
+    public SessionGameContext lookupParticipant() {
+        UUID playerId = participants[next];
+        next = next + 1 == participants.length ? 0 : next + 1;
+        return gameManager.getContextForPlayer(playerId);
+    }
+
+    @Benchmark
+    public SessionGameContext lookupOutsider() {
+        return gameManager.getContextForPlayer(outsider);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatChannel;
+import com.ohacd.matchbox.api.ChatMessage;
+import com.ohacd.matchbox.api.ChatProcessor;
+import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.phase.PhaseManager;
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.GamePhase;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * One chat message from an alive player through a session's pipeline during discussion,
+ * with a number of pass-through processors in front of the session handler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ChatPipelineBenchmark {
+    private static final String SESSION = "bench-session";
+
+    @Param({"0", "1", "4", "16"})
+    public int processors;
+
+    private ChatPipelineManager pipeline;
+    private ChatMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setLevel(java.util.logging.Level.OFF);
+        Plugin plugin = mock(Plugin.class, withSettings().stubOnly());
+        when(plugin.getLogger()).thenReturn(logger);
+
+        UUID senderId = UUID.randomUUID();
+        Player sender = mock(Player.class, withSettings().stubOnly());
+        when(sender.getUniqueId()).thenReturn(senderId);
+        when(sender.getName()).thenReturn("Sender");
+
+        GameState gameState = new GameState();
+        gameState.addAlivePlayer(sender);
+        PhaseManager phaseManager = mock(PhaseManager.class, withSettings().stubOnly());
+        when(phaseManager.getCurrentPhase()).thenReturn(GamePhase.DISCUSSION);
+        SessionGameContext context = mock(SessionGameContext.class, withSettings().stubOnly());
+        when(context.getGameState()).thenReturn(gameState);
+        when(context.getPhaseManager()).thenReturn(phaseManager);
+        GameManager gameManager = mock(GameManager.class, withSettings().stubOnly());
+        when(gameManager.getContext(SESSION)).thenReturn(context);
+
+        pipeline = new ChatPipelineManager(plugin, gameManager);
+        for (int i = 0; i < processors; i++) {
+            pipeline.registerProcessor(SESSION, new PassThroughProcessor());
+        }
+        // Chat is logged from the background writer in a running server
+        pipeline.startLogWriter();
+
+        Component text = Component.text("who swiped me?");
+        message = new ChatMessage(text, text, sender, ChatChannel.GAME, SESSION, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pipeline.stopLogWriter();
+    }
+
+    @Benchmark
+    public ChatProcessor.ChatProcessingResult processMessage() {
+        return pipeline.processMessage(SESSION, message);
+    }
+
+    private static final class PassThroughProcessor implements ChatProcessor {
+        @Override
+        public ChatProcessingResult process(ChatMessage message) {
+            return ChatProcessingResult.allow(message);
+        }
+    }
+}
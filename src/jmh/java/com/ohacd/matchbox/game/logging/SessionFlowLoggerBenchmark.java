@@ -0,0 +1,85 @@
+package com.ohacd.matchbox.game.logging;
+
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Session event recording from several threads at once, as happens when game, chat and
+ * async processor threads all log into the same sessions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class SessionFlowLoggerBenchmark {
+
+    /** Sessions the recording threads are spread over; 1 puts every thread on the same session */
+    @Param({"1", "8"})
+    public int sessions;
+
+    private SessionFlowLogger flowLogger;
+    private final AtomicInteger threadIndex = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setLevel(java.util.logging.Level.OFF);
+        Plugin plugin = mock(Plugin.class, withSettings().stubOnly());
+        when(plugin.getLogger()).thenReturn(logger);
+        flowLogger = new SessionFlowLogger(plugin);
+        // Entries are written from the background sink in a running server
+        flowLogger.startEventSink(SessionEventSink.DEFAULT_CAPACITY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        flowLogger.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Recorder {
+        String sessionName;
+        UUID actorId;
+        UUID targetId;
+
+        @Setup(Level.Trial)
+        public void setUp(SessionFlowLoggerBenchmark shared) {
+            sessionName = "bench-session-" + shared.threadIndex.getAndIncrement() % shared.sessions;
+            shared.flowLogger.openSession(sessionName);
+            actorId = UUID.randomUUID();
+            targetId = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public void record(Recorder recorder) {
+        flowLogger.record(recorder.sessionName, "VOTE", "Player voted", recorder.actorId, recorder.targetId, null);
+    }
+
+    /**
+     * A vote as the game logs it: per-player stat counters plus the entry.
+     */
+    @Benchmark
+    public void recordVote(Recorder recorder) {
+        flowLogger.recordVote(recorder.sessionName, recorder.actorId, recorder.targetId, "Voter", "Target");
+    }
+}
@@ -0,0 +1,87 @@
+package com.ohacd.matchbox.game.state;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Per-round flags that abilities check and set on every use, and the reset at the start of a round.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GameStateBenchmark {
+
+    @Param({"8", "32"})
+    public int players;
+
+    private GameState gameState;
+    private UUID[] playerIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameState = new GameState();
+        List<Player> participants = new ArrayList<>();
+        playerIds = new UUID[players];
+        for (int i = 0; i < players; i++) {
+            UUID playerId = UUID.randomUUID();
+            // Stub-only mocks keep no invocation history, so they do not grow over a run
+            Player player = mock(Player.class, withSettings().stubOnly());
+            when(player.getUniqueId()).thenReturn(playerId);
+            when(player.getName()).thenReturn("Player" + i);
+            participants.add(player);
+            playerIds[i] = playerId;
+        }
+        gameState.addAlivePlayers(participants);
+    }
+
+    @Benchmark
+    public boolean markSwiped() {
+        UUID playerId = nextPlayer();
+        gameState.markSwiped(playerId);
+        return gameState.hasSwipedThisRound(playerId);
+    }
+
+    @Benchmark
+    public boolean checkRoundFlags() {
+        UUID playerId = nextPlayer();
+        return gameState.hasSwipedThisRound(playerId)
+            | gameState.hasCuredThisRound(playerId)
+            | gameState.hasUsedHunterVisionThisRound(playerId)
+            | gameState.wasInfectedThisRound(playerId);
+    }
+
+    @Benchmark
+    public int playRound() {
+        for (UUID playerId : playerIds) {
+            gameState.markSwiped(playerId);
+            gameState.markCured(playerId);
+            gameState.markUsedHunterVision(playerId);
+        }
+        gameState.clearRoundState();
+        return gameState.getAlivePlayerCount();
+    }
+
+    private UUID nextPlayer() {
+        UUID playerId = playerIds[next];
+        next = next + 1 == playerIds.length ? 0 : next + 1;
+        return playerId;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ohacd.matchbox.game.utils.Managers;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Game item check run by the inventory, drop and interact listeners for every item they see.
+ *
+ * <p>Items are stub-only mocks, so scores include Mockito's dispatch cost; compare runs with each
+ * other rather than with a live server.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class InventoryManagerBenchmark {
+
+    private ItemStack votingPaper;
+    private ItemStack abilityItem;
+    private ItemStack plainItem;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("deprecation")
+    public void setUp() {
+        ItemMeta paperMeta = mock(ItemMeta.class, withSettings().stubOnly());
+        when(paperMeta.getDisplayName()).thenReturn("§eVote: Player1");
+        votingPaper = item(Material.PAPER, paperMeta);
+
+        ItemMeta abilityMeta = mock(ItemMeta.class, withSettings().stubOnly());
+        when(abilityMeta.getDisplayName()).thenReturn("§6Crossbow");
+        when(abilityMeta.isUnbreakable()).thenReturn(true);
+        when(abilityMeta.getLore()).thenReturn(List.of("§7Game item"));
+        abilityItem = item(Material.CROSSBOW, abilityMeta);
+
+        plainItem = item(Material.DIRT, mock(ItemMeta.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public boolean votingPaper() {
+        return InventoryManager.isGameItem(votingPaper);
+    }
+
+    @Benchmark
+    public boolean abilityItem() {
+        return InventoryManager.isGameItem(abilityItem);
+    }
+
+    @Benchmark
+    public boolean plainItem() {
+        return InventoryManager.isGameItem(plainItem);
+    }
+
+    private static ItemStack item(Material type, ItemMeta meta) {
+        ItemStack item = mock(ItemStack.class, withSettings().stubOnly());
+        when(item.getType()).thenReturn(type);
+        when(item.getItemMeta()).thenReturn(meta);
+        return item;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ohacd.matchbox.game.vote;
+
+import com.ohacd.matchbox.game.config.ConfigManager;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Threshold check made for every vote tally, reading the shipped default config.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DynamicVotingThresholdBenchmark {
+
+    @Param({"4", "12", "20"})
+    public int alivePlayers;
+
+    private DynamicVotingThreshold threshold;
+    private int noEliminationPhases;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setLevel(java.util.logging.Level.OFF);
+        Plugin plugin = mock(Plugin.class, withSettings().stubOnly());
+        when(plugin.getLogger()).thenReturn(logger);
+        when(plugin.getDataFolder()).thenReturn(Files.createTempDirectory("matchbox-jmh").toFile());
+        when(plugin.getResource("config.yml"))
+            .thenAnswer(invocation -> ConfigManager.class.getClassLoader().getResourceAsStream("config.yml"));
+        threshold = new DynamicVotingThreshold(new ConfigManager(plugin));
+    }
+
+    @Benchmark
+    public boolean meetsThreshold() {
+        // Cycle through the no-elimination penalty steps a game goes through
+        noEliminationPhases = noEliminationPhases == 3 ? 0 : noEliminationPhases + 1;
+        return threshold.meetsThreshold(alivePlayers / 2, alivePlayers, noEliminationPhases);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ohacd.matchbox.game.vote;
+
+import com.ohacd.matchbox.game.state.GameState;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Vote registration and tallying for one voting phase.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class VoteManagerBenchmark {
+
+    @Param({"8", "32"})
+    public int voters;
+
+    private UUID[] playerIds;
+    private VoteManager votingRound;
+    private VoteManager tallied;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameState gameState = new GameState();
+        List<Player> participants = new ArrayList<>();
+        playerIds = new UUID[voters];
+        for (int i = 0; i < voters; i++) {
+            UUID playerId = UUID.randomUUID();
+            Player player = mock(Player.class, withSettings().stubOnly());
+            when(player.getUniqueId()).thenReturn(playerId);
+            when(player.getName()).thenReturn("Player" + i);
+            participants.add(player);
+            playerIds[i] = playerId;
+        }
+        gameState.addAlivePlayers(participants);
+
+        votingRound = new VoteManager(gameState);
+        tallied = new VoteManager(gameState);
+        castVotes(tallied);
+    }
+
+    /**
+     * A whole voting phase: every alive player votes, then the result is read.
+     */
+    @Benchmark
+    public UUID votingPhase() {
+        votingRound.clearVotes();
+        castVotes(votingRound);
+        return votingRound.getMostVotedPlayer();
+    }
+
+    @Benchmark
+    public boolean registerVote() {
+        // Rejected as a repeat vote after the first call, which is the common case once voting is under way
+        return tallied.registerVote(playerIds[0], playerIds[1]);
+    }
+
+    @Benchmark
+    public UUID getMostVotedPlayer() {
+        return tallied.getMostVotedPlayer();
+    }
+
+    /**
+     * Votes spread over a few targets, with the first player a clear leader.
+     */
+    private void castVotes(VoteManager voteManager) {
+        for (int i = 0; i < playerIds.length; i++) {
+            int target = i % 4 == 0 ? 1 : i % 2 == 0 ? 2 : 0;
+            if (target == i) {
+                target = 3 % playerIds.length;
+            }
+            voteManager.registerVote(playerIds[i], playerIds[target]);
+        }
+    }
+}
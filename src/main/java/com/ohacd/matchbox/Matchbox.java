@@ -31,6 +31,11 @@ import com.ohacd.matchbox.game.utils.listeners.VotePaperListener;
 import com.ohacd.matchbox.game.nick.NickManager;
 import com.ohacd.matchbox.game.sign.SignModeManager;
 import com.ohacd.matchbox.game.sign.SignModeListener;
+import com.ohacd.matchbox.game.metrics.MetricsEndpoint;
+import com.ohacd.matchbox.game.metrics.MetricsExporter;
+import com.ohacd.matchbox.game.profiling.TickProfiler;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.TickDriver;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -48,16 +53,21 @@ public final class Matchbox extends JavaPlugin {
     private CheckProjectVersion versionChecker;
 
     private static Matchbox instance;
+    private TickDriver tickDriver;
     private HologramManager hologramManager;
     private GameManager gameManager;
     private SessionManager sessionManager;
     private AbilityManager abilityManager;
+    private MetricsExporter metricsExporter;
+    private MetricsEndpoint metricsEndpoint;
 
     @Override
     public void onEnable() {
         instance = this;
-        this.hologramManager = new HologramManager(this);
-        this.gameManager = new GameManager(this, hologramManager);
+        // One driver multiplexes every Matchbox timer onto a single repeating task
+        this.tickDriver = new TickDriver(this, GameScheduler.create(this));
+        this.hologramManager = new HologramManager(this, tickDriver);
+        this.gameManager = new GameManager(this, hologramManager, tickDriver);
         this.sessionManager = new SessionManager();
         this.abilityManager = new AbilityManager(gameManager);
         this.versionChecker = new CheckProjectVersion(this);
@@ -76,9 +86,18 @@ public final class Matchbox extends JavaPlugin {
         NickManager nickManager = new NickManager(this);
         gameManager.setNickManager(nickManager);
 
+        // Drain per-session command queues once per tick so API calls from other threads apply in order
+        gameManager.startCommandPump();
+        // Render and record chat lines for the session logs off the chat thread
+        gameManager.getChatPipelineManager().startLogWriter();
+        // Write session event files and console echo off the game thread
+        gameManager.startSessionEventSink();
+        // Serve Prometheus metrics on localhost when enabled
+        startMetricsEndpoint();
+
         // Repeating task: show action bar reminder to any player who has a nick stored.
         // Suppressed while the player is inside an active game session (phases have their own action bar).
-        getServer().getScheduler().runTaskTimer(this, () -> {
+        tickDriver.runTimer(timer -> {
             for (org.bukkit.entity.Player p : getServer().getOnlinePlayers()) {
                 String nick = nickManager.getNick(p.getUniqueId());
                 if (nick == null) continue;
@@ -91,15 +110,16 @@ public final class Matchbox extends JavaPlugin {
             }
         }, 40L, 40L); // start after 2 s, repeat every 2 s (action bar fades after ~3 s)
 
-        // Register event listeners
-        getServer().getPluginManager().registerEvents(new ChatListener(hologramManager, gameManager), this);
-        getServer().getPluginManager().registerEvents(
-                new HitRevealListener(gameManager, hologramManager, gameManager.getInventoryManager()), this);
-        getServer().getPluginManager().registerEvents(new GameItemProtectionListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new DamageProtectionListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new BlockInteractionProtectionListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new PotBreakProtectionListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new SignModeListener(gameManager, signModeManager), this);
+        // Register event listeners; each handler is timed while the tick profiler is on
+        TickProfiler profiler = gameManager.getTickProfiler();
+        profiler.registerEvents(this, new ChatListener(hologramManager, gameManager));
+        profiler.registerEvents(this,
+                new HitRevealListener(gameManager, hologramManager, gameManager.getInventoryManager()));
+        profiler.registerEvents(this, new GameItemProtectionListener(gameManager));
+        profiler.registerEvents(this, new DamageProtectionListener(gameManager));
+        profiler.registerEvents(this, new BlockInteractionProtectionListener(gameManager));
+        profiler.registerEvents(this, new PotBreakProtectionListener(gameManager));
+        profiler.registerEvents(this, new SignModeListener(gameManager, signModeManager));
 
         // Register abilities through a single event router
         abilityManager.registerAbility(new SwipeActivationListener(gameManager, this));
@@ -108,18 +128,18 @@ public final class Matchbox extends JavaPlugin {
         abilityManager.registerAbility(new MedicAbilityListener(gameManager, this));
         abilityManager.registerAbility(new MedicHitListener(gameManager));
         abilityManager.registerAbility(new MedicSightListener(gameManager));
-        abilityManager.registerAbility(new SparkSwapAbility(this));
+        abilityManager.registerAbility(new SparkSwapAbility(gameManager, this));
         abilityManager.registerAbility(new DelusionActivationListener(gameManager, this));
         abilityManager.registerAbility(new DelusionHitListener(gameManager));
-        getServer().getPluginManager().registerEvents(new AbilityEventListener(abilityManager), this);
+        profiler.registerEvents(this, new AbilityEventListener(abilityManager));
 
         // Register voting listeners
-        getServer().getPluginManager().registerEvents(new VoteItemListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new VotePaperListener(gameManager), this);
-        getServer().getPluginManager().registerEvents(new PlayerQuitListener(gameManager), this);
+        profiler.registerEvents(this, new VoteItemListener(gameManager));
+        profiler.registerEvents(this, new VotePaperListener(gameManager));
+        profiler.registerEvents(this, new PlayerQuitListener(gameManager));
         
         // Register join listener for welcome messages
-        getServer().getPluginManager().registerEvents(new PlayerJoinListener(this, versionChecker), this);
+        profiler.registerEvents(this, new PlayerJoinListener(this, versionChecker));
 
         // Register command handler
         MatchboxCommand commandHandler = new MatchboxCommand(this, sessionManager, gameManager, nickManager);
@@ -133,9 +153,12 @@ public final class Matchbox extends JavaPlugin {
     public void onDisable() {
         getLogger().info("Disabling Matchbox plugin...");
 
+        stopMetricsEndpoint();
+
         // End all active games first (this cancels all tasks)
         if (gameManager != null) {
             try {
+                gameManager.stopCommandPump();
                 Set<String> activeSessions = gameManager.getActiveSessionNames();
                 getLogger().info("Ending " + activeSessions.size() + " active game session(s)...");
                 for (String sessionName : activeSessions) {
@@ -161,11 +184,36 @@ public final class Matchbox extends JavaPlugin {
         NameTagManager.restoreAllNameTags();
 
         // Ensure no outstanding tasks continue after disable.
+        if (tickDriver != null) {
+            tickDriver.shutdown();
+        }
         getServer().getScheduler().cancelTasks(this);
 
         getLogger().info("Matchbox disabled");
     }
 
+    private void startMetricsEndpoint() {
+        if (!gameManager.getConfigManager().isMetricsEnabled()) {
+            return;
+        }
+        metricsExporter = new MetricsExporter(gameManager, hologramManager);
+        metricsEndpoint = new MetricsEndpoint(this, metricsExporter);
+        if (metricsEndpoint.start(gameManager.getConfigManager().getMetricsPort())) {
+            metricsExporter.startSampling(tickDriver);
+        }
+    }
+
+    private void stopMetricsEndpoint() {
+        if (metricsEndpoint != null) {
+            metricsEndpoint.stop();
+            metricsEndpoint = null;
+        }
+        if (metricsExporter != null) {
+            metricsExporter.stopSampling();
+            metricsExporter = null;
+        }
+    }
+
     public static Matchbox getInstance() {
         return instance;
     }
@@ -96,7 +96,7 @@ public class ApiGameSession {
         SessionGameContext context = gameManager.getContext(session.getName());
         if (context == null) return -1;
         
-        return context.getGameState().getCurrentRound();
+        return context.getGameState().getSnapshot().getRound();
     }
     
     /**
@@ -165,7 +165,8 @@ public class ApiGameSession {
         SessionGameContext context = gameManager.getContext(session.getName());
         if (context == null) return Optional.empty();
         
-        Role role = context.getGameState().getRole(player.getUniqueId());
+        // Read the published snapshot so API callers on any thread see a consistent view
+        Role role = context.getGameState().getSnapshot().getRole(player.getUniqueId());
         return role != null ? Optional.of(role) : Optional.empty();
     }
     
@@ -0,0 +1,108 @@
+package com.ohacd.matchbox.api;
+
+import com.ohacd.matchbox.api.annotation.Experimental;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Chat processor that completes asynchronously, for filters that call out to a
+ * moderation service, a database or anything else that should not block chat.
+ *
+ * <p>Consecutive asynchronous processors in a session do not depend on each other, so the
+ * pipeline starts them together on the same input message and waits for them in parallel.
+ * A synchronous {@link ChatProcessor} registered between them starts a new group and sees
+ * the combined result of the processors before it.</p>
+ *
+ * <p>Within a group, the first non-ALLOW result in registration order wins. Processors in a
+ * group all see the same input, so their edits cannot be chained: if several return a modified
+ * message, the one registered last is kept and the pipeline logs a warning. Register a
+ * synchronous processor between them to apply their edits one after another.</p>
+ *
+ * <p>Each processor gets a per-message time budget. A processor that misses its budget or
+ * completes exceptionally is handled by its {@link FailurePolicy}: fail-open lets the message
+ * through unchanged, fail-closed denies it. Both defaults come from the {@code chat} section
+ * of the config and can be overridden per processor.</p>
+ *
+ * <p>{@link #processAsync(ChatMessage)} is called on the chat thread and should return
+ * quickly; do the slow work in the returned future.</p>
+ *
+ * @since 0.9.8
+ */
+@Experimental
+public interface AsyncChatProcessor extends ChatProcessor {
+
+    /**
+     * Budget used by {@link #process(ChatMessage)} when the processor does not set its own.
+     */
+    long DEFAULT_TIME_BUDGET_MILLIS = 50L;
+
+    /**
+     * What the pipeline does when a processor misses its budget or fails.
+     */
+    enum FailurePolicy {
+        /** Let the message through as if the processor had allowed it */
+        FAIL_OPEN,
+        /** Deny the message */
+        FAIL_CLOSED
+    }
+
+    /**
+     * Starts processing a chat message.
+     *
+     * @param message the chat message to process (immutable)
+     * @return future completing with the result of processing
+     */
+    @NotNull
+    CompletableFuture<ChatProcessingResult> processAsync(@NotNull ChatMessage message);
+
+    /**
+     * Gets this processor's per-message time budget.
+     *
+     * @return budget in milliseconds, or 0 to use the configured default
+     */
+    default long getTimeBudgetMillis() {
+        return 0L;
+    }
+
+    /**
+     * Gets how a missed budget or failure of this processor is handled.
+     *
+     * @return the policy, or null to use the configured default
+     */
+    @Nullable
+    default FailurePolicy getFailurePolicy() {
+        return null;
+    }
+
+    /**
+     * Blocking fallback for callers that run processors one at a time. Waits at most this
+     * processor's time budget, then applies its failure policy (fail-open if unset).
+     */
+    @Override
+    @NotNull
+    default ChatProcessingResult process(@NotNull ChatMessage message) {
+        long budget = getTimeBudgetMillis() > 0 ? getTimeBudgetMillis() : DEFAULT_TIME_BUDGET_MILLIS;
+        CompletableFuture<ChatProcessingResult> future = null;
+        try {
+            future = processAsync(message);
+            ChatProcessingResult result = future != null ? future.get(budget, TimeUnit.MILLISECONDS) : null;
+            if (result != null) {
+                return result;
+            }
+        } catch (TimeoutException e) {
+            future.cancel(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            // Handled by the failure policy below
+        }
+        return getFailurePolicy() == FailurePolicy.FAIL_CLOSED
+            ? ChatProcessingResult.deny(message)
+            : ChatProcessingResult.allow(message);
+    }
+}
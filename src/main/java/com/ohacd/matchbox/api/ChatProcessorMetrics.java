@@ -0,0 +1,122 @@
+package com.ohacd.matchbox.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable latency snapshot for one registered chat processor.
+ *
+ * @since 0.9.8
+ */
+public final class ChatProcessorMetrics {
+    private final String processorName;
+    private final long invocations;
+    private final long timeouts;
+    private final long failures;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Creates an immutable metrics snapshot.
+     *
+     * @param processorName class name of the processor
+     * @param invocations messages the processor completed within its budget
+     * @param timeouts messages on which the processor missed its budget
+     * @param failures messages on which the processor threw or completed exceptionally
+     * @param totalNanos total time spent on completed messages
+     * @param maxNanos slowest completed message
+     */
+    public ChatProcessorMetrics(
+        @NotNull String processorName,
+        long invocations,
+        long timeouts,
+        long failures,
+        long totalNanos,
+        long maxNanos
+    ) {
+        if (processorName == null) {
+            throw new IllegalArgumentException("processorName cannot be null");
+        }
+        this.processorName = processorName;
+        this.invocations = invocations;
+        this.timeouts = timeouts;
+        this.failures = failures;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the class name of the processor.
+     *
+     * @return processor name
+     */
+    @NotNull
+    public String getProcessorName() {
+        return processorName;
+    }
+
+    /**
+     * Returns how many messages the processor completed within its budget.
+     *
+     * @return completed invocations
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Returns how many messages the processor missed its budget on.
+     *
+     * @return timeouts
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Returns how many messages the processor threw or completed exceptionally on.
+     *
+     * @return failures
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the total time spent on completed messages.
+     *
+     * @return total nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the time taken by the slowest completed message.
+     *
+     * @return maximum nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean time per completed message.
+     *
+     * @return average milliseconds, or 0 if nothing completed
+     */
+    public double getAverageMillis() {
+        return invocations == 0 ? 0.0 : totalNanos / (double) invocations / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatProcessorMetrics{" +
+            "processor='" + processorName + '\'' +
+            ", invocations=" + invocations +
+            ", timeouts=" + timeouts +
+            ", failures=" + failures +
+            ", avgMs=" + String.format(java.util.Locale.ROOT, "%.3f", getAverageMillis()) +
+            ", maxMs=" + String.format(java.util.Locale.ROOT, "%.3f", maxNanos / 1_000_000.0) +
+            '}';
+    }
+}
@@ -1,6 +1,8 @@
 package com.ohacd.matchbox.api;
 
+import com.ohacd.matchbox.api.annotation.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -13,6 +15,7 @@ import java.util.List;
 public final class GameSessionLog {
     private final String sessionName;
     private final List<GameLogEntry> entries;
+    private final SessionLogQuery.Index index;
 
     /**
      * Creates an immutable session log snapshot.
@@ -21,6 +24,10 @@ public final class GameSessionLog {
      * @param entries log entries in timeline order
      */
     public GameSessionLog(@NotNull String sessionName, @NotNull List<GameLogEntry> entries) {
+        this(sessionName, entries, true, null);
+    }
+
+    private GameSessionLog(String sessionName, List<GameLogEntry> entries, boolean copy, SessionLogQuery.Index index) {
         if (sessionName == null || sessionName.trim().isEmpty()) {
             throw new IllegalArgumentException("sessionName cannot be null or empty");
         }
@@ -28,7 +35,50 @@ public final class GameSessionLog {
             throw new IllegalArgumentException("entries cannot be null");
         }
         this.sessionName = sessionName;
-        this.entries = Collections.unmodifiableList(List.copyOf(entries));
+        this.entries = Collections.unmodifiableList(copy ? List.copyOf(entries) : entries);
+        this.index = index;
+    }
+
+    /**
+     * Wraps an already immutable entry list without copying it, so long timelines that are
+     * partly stored on disk are only read as far as the caller walks them.
+     *
+     * @param sessionName owning session name
+     * @param entries log entries in timeline order; must not change afterwards
+     * @return session log backed by {@code entries}
+     * @since 0.9.8
+     */
+    @Internal
+    @NotNull
+    public static GameSessionLog ofView(@NotNull String sessionName, @NotNull List<GameLogEntry> entries) {
+        return new GameSessionLog(sessionName, entries, false, null);
+    }
+
+    /**
+     * Wraps an already immutable entry list without copying it, answering queries from
+     * {@code index}.
+     *
+     * @param sessionName owning session name
+     * @param entries log entries in timeline order; must not change afterwards
+     * @param index index over {@code entries}
+     * @return session log backed by {@code entries}
+     * @since 0.9.8
+     */
+    @Internal
+    @NotNull
+    public static GameSessionLog ofView(@NotNull String sessionName, @NotNull List<GameLogEntry> entries, @Nullable SessionLogQuery.Index index) {
+        return new GameSessionLog(sessionName, entries, false, index);
+    }
+
+    /**
+     * Starts a query over this log.
+     *
+     * @return a new query matching every entry until filters are added
+     * @since 0.9.8
+     */
+    @NotNull
+    public SessionLogQuery query() {
+        return new SessionLogQuery(entries, index);
     }
 
     /**
@@ -113,6 +113,8 @@ public final class GameStatistics {
      * @param eliminations times the player was eliminated
      * @param chatsSent chat messages sent
      * @param signMessages sign messages sent
+     * @param chatsDropped chat messages shed by flood control
+     * @param chatsThrottled times the player ran out of chat allowance
      */
     public record PlayerStats(
         int votesCast,
@@ -121,15 +123,32 @@ public final class GameStatistics {
         int cures,
         int eliminations,
         int chatsSent,
-        int signMessages
+        int signMessages,
+        int chatsDropped,
+        int chatsThrottled
     ) {
+        /**
+         * Creates player statistics without flood-control counters.
+         *
+         * @param votesCast votes cast by the player
+         * @param votesReceived votes received by the player
+         * @param swipes successful swipe actions performed
+         * @param cures successful cure actions performed
+         * @param eliminations times the player was eliminated
+         * @param chatsSent chat messages sent
+         * @param signMessages sign messages sent
+         */
+        public PlayerStats(int votesCast, int votesReceived, int swipes, int cures, int eliminations, int chatsSent, int signMessages) {
+            this(votesCast, votesReceived, swipes, cures, eliminations, chatsSent, signMessages, 0, 0);
+        }
+
         /**
          * Returns an empty zeroed statistics snapshot.
          *
          * @return empty player statistics
          */
         public static PlayerStats empty() {
-            return new PlayerStats(0, 0, 0, 0, 0, 0, 0);
+            return new PlayerStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
         }
 
         /**
@@ -139,7 +158,7 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withVotesCast(int increment) {
-            return new PlayerStats(votesCast + increment, votesReceived, swipes, cures, eliminations, chatsSent, signMessages);
+            return new PlayerStats(votesCast + increment, votesReceived, swipes, cures, eliminations, chatsSent, signMessages, chatsDropped, chatsThrottled);
         }
 
         /**
@@ -149,7 +168,7 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withVotesReceived(int increment) {
-            return new PlayerStats(votesCast, votesReceived + increment, swipes, cures, eliminations, chatsSent, signMessages);
+            return new PlayerStats(votesCast, votesReceived + increment, swipes, cures, eliminations, chatsSent, signMessages, chatsDropped, chatsThrottled);
         }
 
         /**
@@ -159,7 +178,7 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withSwipes(int increment) {
-            return new PlayerStats(votesCast, votesReceived, swipes + increment, cures, eliminations, chatsSent, signMessages);
+            return new PlayerStats(votesCast, votesReceived, swipes + increment, cures, eliminations, chatsSent, signMessages, chatsDropped, chatsThrottled);
         }
 
         /**
@@ -169,7 +188,7 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withCures(int increment) {
-            return new PlayerStats(votesCast, votesReceived, swipes, cures + increment, eliminations, chatsSent, signMessages);
+            return new PlayerStats(votesCast, votesReceived, swipes, cures + increment, eliminations, chatsSent, signMessages, chatsDropped, chatsThrottled);
         }
 
         /**
@@ -179,7 +198,7 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withEliminations(int increment) {
-            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations + increment, chatsSent, signMessages);
+            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations + increment, chatsSent, signMessages, chatsDropped, chatsThrottled);
         }
 
         /**
@@ -189,7 +208,7 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withChatsSent(int increment) {
-            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations, chatsSent + increment, signMessages);
+            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations, chatsSent + increment, signMessages, chatsDropped, chatsThrottled);
         }
 
         /**
@@ -199,7 +218,27 @@ public final class GameStatistics {
          * @return updated player statistics
          */
         public PlayerStats withSignMessages(int increment) {
-            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations, chatsSent, signMessages + increment);
+            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations, chatsSent, signMessages + increment, chatsDropped, chatsThrottled);
+        }
+
+        /**
+         * Returns a copy with incremented dropped-chat count.
+         *
+         * @param increment amount to add
+         * @return updated player statistics
+         */
+        public PlayerStats withChatsDropped(int increment) {
+            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations, chatsSent, signMessages, chatsDropped + increment, chatsThrottled);
+        }
+
+        /**
+         * Returns a copy with incremented throttle count.
+         *
+         * @param increment amount to add
+         * @return updated player statistics
+         */
+        public PlayerStats withChatsThrottled(int increment) {
+            return new PlayerStats(votesCast, votesReceived, swipes, cures, eliminations, chatsSent, signMessages, chatsDropped, chatsThrottled + increment);
         }
     }
 }
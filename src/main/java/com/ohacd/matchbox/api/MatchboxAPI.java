@@ -12,7 +12,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import com.ohacd.matchbox.api.annotation.Experimental;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -98,8 +100,10 @@ public final class MatchboxAPI {
     /**
      * Ends a game session gracefully.
      *
+     * <p>When called off the main thread the request is queued and applied on the next server tick.</p>
+     *
      * @param name the session name to end
-     * @return true if the session was found and ended, false otherwise
+     * @return true if the session was found and ended (or queued to end), false otherwise
      */
     public static boolean endSession(@Nullable String name) {
         if (name == null || name.trim().isEmpty()) {
@@ -120,16 +124,23 @@ public final class MatchboxAPI {
         GameManager gameManager = plugin.getGameManager();
         if (gameManager == null) return false;
 
-        try {
-            gameManager.endGame(name);
-            return true;
-        } catch (Exception e) {
-            JavaPlugin matchboxPlugin = Matchbox.getInstance();
-            if (matchboxPlugin != null) {
-                matchboxPlugin.getLogger().warning("Failed to end session '" + name + "': " + e.getMessage());
+        // Applied through the session's command queue; from other threads it runs on the next tick
+        CompletableFuture<Boolean> result = gameManager.submitSessionCommand(name, () -> {
+            try {
+                gameManager.endGame(name);
+                return true;
+            } catch (Exception e) {
+                JavaPlugin matchboxPlugin = Matchbox.getInstance();
+                if (matchboxPlugin != null) {
+                    matchboxPlugin.getLogger().warning("Failed to end session '" + name + "': " + e.getMessage());
+                }
+                return false;
             }
-            return false;
+        });
+        if (!result.isDone()) {
+            return true;
         }
+        return !result.isCompletedExceptionally() && result.join();
     }
 
     /**
@@ -212,7 +223,7 @@ public final class MatchboxAPI {
         var context = gameManager.getContextForPlayer(player.getUniqueId());
         if (context == null) return Optional.empty();
         
-        Role role = context.getGameState().getRole(player.getUniqueId());
+        Role role = context.getGameState().getSnapshot().getRole(player.getUniqueId());
         return role != null ? Optional.of(role) : Optional.empty();
     }
     
@@ -355,6 +366,160 @@ public final class MatchboxAPI {
         }
     }
 
+    /**
+     * Starts an indexed query over a session's log, e.g. all votes by one player or all
+     * eliminations in round 3.
+     *
+     * @param sessionName session name
+     * @return query over a snapshot of the session log, empty if the session has no log
+     * @since 0.9.8
+     */
+    @Experimental
+    @NotNull
+    public static Optional<SessionLogQuery> querySessionLog(@NotNull String sessionName) {
+        return getSessionLog(sessionName).map(GameSessionLog::query);
+    }
+
+    /**
+     * Exports the complete logs of ended games to JSON Lines, one {@code .jsonl} file per game,
+     * without loading them onto the heap. Only games whose logs are still kept in
+     * {@code session-logs/} are exported; sessions still running are skipped.
+     *
+     * @param sessionName only export this session's games, or null for every session
+     * @param outputDirectory folder to write the files to, created if missing
+     * @return the number of games exported once the export has finished on a background thread,
+     *         0 if Matchbox is not running or session logs are not kept on disk
+     * @throws IllegalArgumentException if outputDirectory is null
+     * @since 0.9.8
+     */
+    @Experimental
+    @NotNull
+    public static CompletableFuture<Integer> exportSessionLogs(@Nullable String sessionName, @NotNull Path outputDirectory) {
+        if (outputDirectory == null) {
+            throw new IllegalArgumentException("Output directory cannot be null");
+        }
+
+        Matchbox plugin = Matchbox.getInstance();
+        if (plugin == null || plugin.getGameManager() == null) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return plugin.getGameManager().exportSessionLogs(sessionName, outputDirectory);
+    }
+
+    /**
+     * Returns latency counters for the chat processors registered on a session,
+     * in registration order.
+     *
+     * @param sessionName the session name
+     * @return metrics snapshots, empty if the session has no processors
+     * @since 0.9.8
+     */
+    @Experimental
+    @NotNull
+    public static List<ChatProcessorMetrics> getChatProcessorMetrics(@NotNull String sessionName) {
+        if (sessionName == null || sessionName.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Matchbox plugin = Matchbox.getInstance();
+        if (plugin == null || plugin.getGameManager() == null) {
+            return Collections.emptyList();
+        }
+
+        var chatPipelineManager = plugin.getGameManager().getChatPipelineManager();
+        if (chatPipelineManager == null) {
+            return Collections.emptyList();
+        }
+        return chatPipelineManager.getProcessorMetrics(sessionName);
+    }
+
+    /**
+     * Returns the profiler's timings for Matchbox event handlers, abilities and scheduled
+     * tasks, costliest first. Entries are named {@code listener:<Class>#<method>},
+     * {@code ability:<Class>} or {@code task:<Class>}.
+     *
+     * @return timing snapshots, empty if nothing has been recorded
+     * @since 0.9.8
+     */
+    @Experimental
+    @NotNull
+    public static List<TimingSnapshot> getTickProfile() {
+        Matchbox plugin = Matchbox.getInstance();
+        if (plugin == null || plugin.getGameManager() == null) {
+            return Collections.emptyList();
+        }
+        return plugin.getGameManager().getTickProfiler().snapshot();
+    }
+
+    /**
+     * Turns the tick profiler on or off. Timings recorded so far are kept.
+     *
+     * @param enabled whether handlers, abilities and tasks should be timed
+     * @return true if the profiler was updated, false if Matchbox is not running
+     * @since 0.9.8
+     */
+    @Experimental
+    public static boolean setProfilingEnabled(boolean enabled) {
+        Matchbox plugin = Matchbox.getInstance();
+        if (plugin == null || plugin.getGameManager() == null) {
+            return false;
+        }
+        plugin.getGameManager().getTickProfiler().setEnabled(enabled);
+        return true;
+    }
+
+    /**
+     * Returns whether the tick profiler is currently timing handlers, abilities and tasks.
+     *
+     * @return true if profiling is on
+     * @since 0.9.8
+     */
+    @Experimental
+    public static boolean isProfilingEnabled() {
+        Matchbox plugin = Matchbox.getInstance();
+        return plugin != null && plugin.getGameManager() != null && plugin.getGameManager().getTickProfiler().isEnabled();
+    }
+
+    /**
+     * Returns latency timings for phase transitions and player actions across all sessions.
+     * Entries are named {@code phase.<transition>} (e.g. {@code phase.end-swipe}) or
+     * {@code action.<type>} (e.g. {@code action.swipe}); operations never performed are omitted.
+     *
+     * @return timing snapshots, empty if nothing has been recorded
+     * @since 0.9.8
+     */
+    @Experimental
+    @NotNull
+    public static List<TimingSnapshot> getLatencyMetrics() {
+        Matchbox plugin = Matchbox.getInstance();
+        if (plugin == null || plugin.getGameManager() == null) {
+            return Collections.emptyList();
+        }
+        return plugin.getGameManager().getLatencyMetrics().snapshot();
+    }
+
+    /**
+     * Returns latency timings for phase transitions and player actions in one session.
+     * Only the most recently active sessions are tracked individually.
+     *
+     * @param sessionName the session name
+     * @return timing snapshots, empty if the session has recorded nothing
+     * @since 0.9.8
+     */
+    @Experimental
+    @NotNull
+    public static List<TimingSnapshot> getLatencyMetrics(@NotNull String sessionName) {
+        if (sessionName == null || sessionName.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Matchbox plugin = Matchbox.getInstance();
+        if (plugin == null || plugin.getGameManager() == null) {
+            return Collections.emptyList();
+        }
+        return plugin.getGameManager().getLatencyMetrics().snapshot(sessionName);
+    }
+
     /**
      * Unregisters a custom chat processor from a specific session.
      *
@@ -7,6 +7,7 @@ import com.ohacd.matchbox.game.session.GameSession;
 import com.ohacd.matchbox.game.utils.GamePhase;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
@@ -69,7 +70,10 @@ public final class PhaseController {
     /**
      * Skips to the next phase in the natural progression.
      * 
-     * @return true if the phase was skipped successfully
+     * <p>Called off the main thread, the transition is queued on the session
+     * and applied on the next server tick.</p>
+     * 
+     * @return true if the phase was skipped successfully (or queued)
      */
     public boolean skipToNextPhase() {
         Matchbox plugin = Matchbox.getInstance();
@@ -84,38 +88,49 @@ public final class PhaseController {
             return false;
         }
         
-        GamePhase currentPhase = getCurrentPhase();
-        if (currentPhase == null) {
+        if (getCurrentPhase() == null) {
             logError("Current phase not available");
             return false;
         }
         
-        try {
-            switch (currentPhase) {
-                case SWIPE:
-                    gameManager.endSwipePhase(sessionName);
-                    return true;
-                case DISCUSSION:
-                    gameManager.endDiscussionPhase(sessionName);
-                    return true;
-                case VOTING:
-                    gameManager.endVotingPhase(sessionName);
-                    return true;
-                default:
-                    logError("Cannot skip from phase: " + currentPhase);
-                    return false;
+        // The phase is re-read when the command runs, since it may have moved on while queued
+        return awaitIfCompleted(gameManager.submitSessionCommand(sessionName, () -> {
+            GamePhase currentPhase = getCurrentPhase();
+            if (currentPhase == null) {
+                logError("Current phase not available");
+                return false;
             }
-        } catch (Exception e) {
-            logError("Failed to skip phase: " + e.getMessage());
-            return false;
-        }
+            
+            try {
+                switch (currentPhase) {
+                    case SWIPE:
+                        gameManager.endSwipePhase(sessionName);
+                        return true;
+                    case DISCUSSION:
+                        gameManager.endDiscussionPhase(sessionName);
+                        return true;
+                    case VOTING:
+                        gameManager.endVotingPhase(sessionName);
+                        return true;
+                    default:
+                        logError("Cannot skip from phase: " + currentPhase);
+                        return false;
+                }
+            } catch (Exception e) {
+                logError("Failed to skip phase: " + e.getMessage());
+                return false;
+            }
+        }));
     }
     
     /**
      * Forces the game to a specific phase.
      * 
+     * <p>Called off the main thread, the transition is queued on the session
+     * and applied on the next server tick.</p>
+     * 
      * @param targetPhase the phase to force
-     * @return true if the phase was forced successfully
+     * @return true if the phase was forced successfully (or queued)
      */
     public boolean forcePhase(@NotNull GamePhase targetPhase) {
         if (targetPhase == null) {
@@ -135,25 +150,32 @@ public final class PhaseController {
             return false;
         }
         
-        GamePhase currentPhase = getCurrentPhase();
-        if (currentPhase == null) {
+        if (getCurrentPhase() == null) {
             logError("Current phase not available");
             return false;
         }
         
-        try {
-            // End current phase first
-            if (!endCurrentPhase(gameManager, currentPhase)) {
+        return awaitIfCompleted(gameManager.submitSessionCommand(sessionName, () -> {
+            GamePhase currentPhase = getCurrentPhase();
+            if (currentPhase == null) {
+                logError("Current phase not available");
                 return false;
             }
             
-            // Start target phase
-            return startTargetPhase(gameManager, targetPhase);
-            
-        } catch (Exception e) {
-            logError("Failed to force phase to " + targetPhase + ": " + e.getMessage());
-            return false;
-        }
+            try {
+                // End current phase first
+                if (!endCurrentPhase(gameManager, currentPhase)) {
+                    return false;
+                }
+                
+                // Start target phase
+                return startTargetPhase(gameManager, targetPhase);
+                
+            } catch (Exception e) {
+                logError("Failed to force phase to " + targetPhase + ": " + e.getMessage());
+                return false;
+            }
+        }));
     }
     
     /**
@@ -270,6 +292,17 @@ public final class PhaseController {
         }
     }
     
+    /**
+     * Resolves a queued phase command: its result if it has already run,
+     * otherwise true because it will be applied on the next tick.
+     */
+    private boolean awaitIfCompleted(@NotNull CompletableFuture<Boolean> result) {
+        if (!result.isDone()) {
+            return true;
+        }
+        return !result.isCompletedExceptionally() && result.join();
+    }
+    
     /**
      * Gets the game context for this session.
      */
@@ -0,0 +1,199 @@
+package com.ohacd.matchbox.api;
+
+import com.ohacd.matchbox.api.annotation.Experimental;
+import com.ohacd.matchbox.api.annotation.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Filters a {@link GameSessionLog}. Filters combine with AND; categories given to
+ * {@link #category(String...)} combine with OR.
+ *
+ * <p>Logs returned by Matchbox answer queries from indexes kept while the session is recorded,
+ * so only matching entries are read, including entries that were moved to disk. The returned
+ * stream is lazy: entries are read as it is consumed.</p>
+ *
+ * <pre>{@code
+ * MatchboxAPI.getSessionLog("arena1").ifPresent(log -> log.query()
+ *     .category("VOTE")
+ *     .actor(playerId)
+ *     .round(3)
+ *     .stream()
+ *     .forEach(entry -> ...));
+ * }</pre>
+ *
+ * @since 0.9.8
+ */
+@Experimental
+public final class SessionLogQuery {
+
+    /**
+     * Narrows a query to candidate positions using indexes.
+     *
+     * @since 0.9.8
+     */
+    @Internal
+    public interface Index {
+        /**
+         * Returns ascending positions in the entry list that may match. Candidates are re-checked
+         * against every filter.
+         *
+         * @param query the query being run
+         * @return candidate positions
+         */
+        @NotNull
+        IntStream candidates(@NotNull SessionLogQuery query);
+    }
+
+    private final List<GameLogEntry> entries;
+    private final Index index;
+
+    private final Set<String> categories = new HashSet<>();
+    private UUID actorId;
+    private UUID targetId;
+    private Integer round;
+    private Instant from;
+    private Instant to;
+
+    SessionLogQuery(@NotNull List<GameLogEntry> entries, @Nullable Index index) {
+        this.entries = entries;
+        this.index = index;
+    }
+
+    /**
+     * Keeps entries in any of the given categories.
+     *
+     * @param categories event categories, e.g. {@code "VOTE"}
+     * @return this query
+     */
+    @NotNull
+    public SessionLogQuery category(@NotNull String... categories) {
+        if (categories == null) {
+            throw new IllegalArgumentException("categories cannot be null");
+        }
+        Collections.addAll(this.categories, categories);
+        return this;
+    }
+
+    /**
+     * Keeps entries performed by a player.
+     *
+     * @param actorId acting player
+     * @return this query
+     */
+    @NotNull
+    public SessionLogQuery actor(@NotNull UUID actorId) {
+        if (actorId == null) {
+            throw new IllegalArgumentException("actorId cannot be null");
+        }
+        this.actorId = actorId;
+        return this;
+    }
+
+    /**
+     * Keeps entries targeting a player.
+     *
+     * @param targetId target player
+     * @return this query
+     */
+    @NotNull
+    public SessionLogQuery target(@NotNull UUID targetId) {
+        if (targetId == null) {
+            throw new IllegalArgumentException("targetId cannot be null");
+        }
+        this.targetId = targetId;
+        return this;
+    }
+
+    /**
+     * Keeps entries whose {@code round} attribute is the given round number. Matchbox stamps the
+     * current round on every entry recorded once a game's first round has started; entries
+     * without the attribute never match.
+     *
+     * @param round round number
+     * @return this query
+     */
+    @NotNull
+    public SessionLogQuery round(int round) {
+        this.round = round;
+        return this;
+    }
+
+    /**
+     * Keeps entries with {@code from <= timestamp < to}.
+     *
+     * @param from inclusive start
+     * @param to exclusive end
+     * @return this query
+     */
+    @NotNull
+    public SessionLogQuery between(@NotNull Instant from, @NotNull Instant to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("time range cannot be null");
+        }
+        this.from = from;
+        this.to = to;
+        return this;
+    }
+
+    /**
+     * Runs the query.
+     *
+     * @return matching entries in timeline order
+     */
+    @NotNull
+    public Stream<GameLogEntry> stream() {
+        if (index == null) {
+            return entries.stream().filter(this::matches);
+        }
+        return index.candidates(this).mapToObj(entries::get).filter(this::matches);
+    }
+
+    @NotNull
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(categories);
+    }
+
+    @Nullable
+    public UUID getActorId() {
+        return actorId;
+    }
+
+    @Nullable
+    public UUID getTargetId() {
+        return targetId;
+    }
+
+    @Nullable
+    public Integer getRound() {
+        return round;
+    }
+
+    @Nullable
+    public Instant getFrom() {
+        return from;
+    }
+
+    @Nullable
+    public Instant getTo() {
+        return to;
+    }
+
+    private boolean matches(GameLogEntry entry) {
+        return (categories.isEmpty() || categories.contains(entry.category()))
+            && (actorId == null || actorId.equals(entry.actorId()))
+            && (targetId == null || targetId.equals(entry.targetId()))
+            && (from == null || !entry.timestamp().isBefore(from))
+            && (to == null || entry.timestamp().isBefore(to))
+            && (round == null || String.valueOf(round).equals(entry.attributes().get("round")));
+    }
+}
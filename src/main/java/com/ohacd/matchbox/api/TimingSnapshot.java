@@ -0,0 +1,137 @@
+package com.ohacd.matchbox.api;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable timing summary for one measured Matchbox code path, such as an event handler or a
+ * scheduled task.
+ *
+ * <p>Percentiles are read from a log-linear histogram and are accurate to within 12.5%.</p>
+ *
+ * @since 0.9.8
+ */
+public final class TimingSnapshot {
+    private final String name;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+
+    /**
+     * Creates an immutable timing snapshot.
+     *
+     * @param name what was measured
+     * @param count number of timings recorded
+     * @param totalNanos sum of all timings
+     * @param maxNanos slowest timing
+     * @param p50Nanos median timing
+     * @param p90Nanos 90th percentile timing
+     * @param p99Nanos 99th percentile timing
+     */
+    public TimingSnapshot(
+        @NotNull String name,
+        long count,
+        long totalNanos,
+        long maxNanos,
+        long p50Nanos,
+        long p90Nanos,
+        long p99Nanos
+    ) {
+        if (name == null) {
+            throw new IllegalArgumentException("name cannot be null");
+        }
+        this.name = name;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+    }
+
+    /**
+     * Returns what was measured, e.g. {@code listener:HitRevealListener#onDamage}.
+     *
+     * @return timing name
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns how many timings were recorded.
+     *
+     * @return timing count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all recorded timings.
+     *
+     * @return total nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the slowest recorded timing.
+     *
+     * @return maximum nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the median timing.
+     *
+     * @return 50th percentile nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Returns the 90th percentile timing.
+     *
+     * @return 90th percentile nanoseconds
+     */
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    /**
+     * Returns the 99th percentile timing.
+     *
+     * @return 99th percentile nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Returns the mean timing.
+     *
+     * @return average milliseconds, or 0 if nothing was recorded
+     */
+    public double getAverageMillis() {
+        return count == 0 ? 0.0 : totalNanos / (double) count / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "TimingSnapshot{" +
+            "name='" + name + '\'' +
+            ", count=" + count +
+            ", avgMs=" + String.format(java.util.Locale.ROOT, "%.3f", getAverageMillis()) +
+            ", p99Ms=" + String.format(java.util.Locale.ROOT, "%.3f", p99Nanos / 1_000_000.0) +
+            ", maxMs=" + String.format(java.util.Locale.ROOT, "%.3f", maxNanos / 1_000_000.0) +
+            '}';
+    }
+}
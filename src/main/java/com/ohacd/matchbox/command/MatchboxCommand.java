@@ -1,10 +1,17 @@
 package com.ohacd.matchbox.command;
 
 import com.ohacd.matchbox.Matchbox;
+import com.ohacd.matchbox.api.TimingSnapshot;
 import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.SessionContextPool;
 import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.chat.ChatLogWriter;
+import com.ohacd.matchbox.game.logging.SessionEventSink;
 import com.ohacd.matchbox.game.nick.NickManager;
+import com.ohacd.matchbox.game.profiling.LatencyMetrics;
+import com.ohacd.matchbox.game.profiling.TickProfiler;
 import com.ohacd.matchbox.game.nick.RandomNickGenerator;
+import com.ohacd.matchbox.game.scheduler.TickDriver;
 import com.ohacd.matchbox.game.session.GameSession;
 import com.ohacd.matchbox.game.session.SessionManager;
 import com.ohacd.matchbox.game.utils.GamePhase;
@@ -21,11 +28,15 @@ import org.bukkit.Bukkit;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -36,6 +47,11 @@ import java.util.stream.Collectors;
  * Handles all matchbox commands.
  */
 public class MatchboxCommand implements CommandExecutor, TabCompleter {
+    /** Costliest entries shown by /matchbox profile */
+    private static final int PROFILE_REPORT_LINES = 15;
+    /** Folder name of each /matchbox log export under session-exports/ */
+    private static final DateTimeFormatter LOG_EXPORT_FOLDER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss", Locale.ROOT);
+
     private final SessionManager sessionManager;
     private final GameManager gameManager;
     private final NickManager nickManager;
@@ -88,6 +104,12 @@ public class MatchboxCommand implements CommandExecutor, TabCompleter {
                 return handleCleanup(sender);
             case "debug":
                 return handleDebug(sender);
+            case "profile":
+                return handleProfile(sender, args);
+            case "metrics":
+                return handleMetrics(sender, args);
+            case "log":
+                return handleLog(sender, args);
             case "skip":
                 return handleSkip(sender);
             case "nick":
@@ -378,9 +400,30 @@ public class MatchboxCommand implements CommandExecutor, TabCompleter {
                 sender.sendMessage("    §7Game State: " + context.getGameState().getDebugInfo());
                 sender.sendMessage("    §7State Valid: " + (context.getGameState().validateState() ? "§aYes" : "§cNo"));
                 sender.sendMessage("    §7Phase Info: " + context.getPhaseManager().getDebugInfo());
+                Long sessionNanos = gameManager.getTickDriver().getSessionTickNanos().get(sessionName);
+                sender.sendMessage("    §7Timer Cost: " + formatMillis(sessionNanos != null ? sessionNanos : 0L) + "/tick");
             }
         }
 
+        // Tick time consumed by Matchbox timers (phase countdowns, window expiries, effects, command queues)
+        TickDriver tickDriver = gameManager.getTickDriver();
+        sender.sendMessage("§eTick Time: §7last " + formatMillis(tickDriver.getLastTickNanos())
+            + ", avg " + formatMillis(tickDriver.getAverageTickNanos())
+            + ", max " + formatMillis(tickDriver.getMaxTickNanos())
+            + " §8(" + tickDriver.getScheduledTaskCount() + " timers)");
+
+        SessionContextPool contextPool = gameManager.getContextPool();
+        sender.sendMessage("§eContext Pool: §7" + contextPool.getIdleCount() + "/" + contextPool.getCapacity()
+            + " idle, " + contextPool.getHits() + " hits, " + contextPool.getMisses() + " misses");
+        ChatLogWriter chatLog = gameManager.getChatPipelineManager().getChatLogWriter();
+        sender.sendMessage("§eChat Log: §7" + chatLog.getQueueDepth() + "/" + chatLog.getCapacity()
+            + " queued (peak " + chatLog.getHighWaterMark() + "), " + chatLog.getWrittenCount() + " written, "
+            + chatLog.getDroppedCount() + " dropped");
+        SessionEventSink eventSink = gameManager.getSessionFlowLogger().getEventSink();
+        sender.sendMessage("§eSession Events: §7" + eventSink.getQueueDepth() + "/" + eventSink.getCapacity()
+            + " queued, " + eventSink.getWrittenCount() + " written, " + eventSink.getEchoedCount() + " echoed, "
+            + eventSink.getDroppedCount() + " dropped");
+
         // List all sessions (including inactive)
         sender.sendMessage("§eAll Sessions: " + sessionManager.getAllSessionNames().size());
         for (String sessionName : sessionManager.getAllSessionNames()) {
@@ -390,6 +433,115 @@ public class MatchboxCommand implements CommandExecutor, TabCompleter {
 
         return true;
     }
+
+    private boolean handleProfile(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("matchbox.admin")) {
+            sender.sendMessage("§cYou don't have permission to use this command.");
+            return true;
+        }
+
+        TickProfiler profiler = gameManager.getTickProfiler();
+        String action = args.length >= 2 ? args[1].toLowerCase() : "report";
+        switch (action) {
+            case "on":
+                profiler.setEnabled(true);
+                sender.sendMessage("§aProfiler enabled. §7Use §e/matchbox profile §7to see the report.");
+                return true;
+            case "off":
+                profiler.setEnabled(false);
+                sender.sendMessage("§eProfiler disabled. §7Timings so far are kept until §e/matchbox profile reset§7.");
+                return true;
+            case "reset":
+                profiler.reset();
+                sender.sendMessage("§aProfiler timings cleared.");
+                return true;
+            case "report":
+                break;
+            default:
+                sender.sendMessage("§cUsage: /matchbox profile [on|off|reset]");
+                return true;
+        }
+
+        double ticks = profiler.getProfiledTicks();
+        sender.sendMessage("§6=== Matchbox Profile §7(" + (profiler.isEnabled() ? "§arunning" : "§cstopped") + "§7, "
+            + String.format(java.util.Locale.ROOT, "%.0f", ticks) + " ticks) §6===");
+        List<TimingSnapshot> timings = profiler.snapshot();
+        if (timings.isEmpty()) {
+            sender.sendMessage("§7Nothing recorded yet." + (profiler.isEnabled() ? "" : " Start with §e/matchbox profile on§7."));
+            return true;
+        }
+        for (int i = 0; i < Math.min(PROFILE_REPORT_LINES, timings.size()); i++) {
+            TimingSnapshot timing = timings.get(i);
+            double perTick = ticks > 0 ? timing.getTotalNanos() / ticks : 0;
+            sender.sendMessage("§e" + timing.getName() + " §7" + formatMillis((long) perTick) + "/tick, "
+                + timing.getCount() + " calls, avg " + formatMillis(timing.getTotalNanos() / timing.getCount())
+                + ", p99 " + formatMillis(timing.getP99Nanos()) + ", max " + formatMillis(timing.getMaxNanos()));
+        }
+        if (timings.size() > PROFILE_REPORT_LINES) {
+            sender.sendMessage("§7... and " + (timings.size() - PROFILE_REPORT_LINES) + " more");
+        }
+        return true;
+    }
+
+    private boolean handleMetrics(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("matchbox.admin")) {
+            sender.sendMessage("§cYou don't have permission to use this command.");
+            return true;
+        }
+
+        LatencyMetrics metrics = gameManager.getLatencyMetrics();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage("§aLatency metrics cleared.");
+            return true;
+        }
+
+        String sessionName = args.length >= 2 ? args[1] : null;
+        List<TimingSnapshot> timings = sessionName != null ? metrics.snapshot(sessionName) : metrics.snapshot();
+        sender.sendMessage("§6=== Matchbox Latency §7(" + (sessionName != null ? "session " + sessionName : "all sessions") + ") §6===");
+        if (timings.isEmpty()) {
+            sender.sendMessage("§7Nothing recorded yet.");
+            return true;
+        }
+        for (TimingSnapshot timing : timings) {
+            sender.sendMessage("§e" + timing.getName() + " §7" + timing.getCount() + "x, p50 " + formatMillis(timing.getP50Nanos())
+                + ", p99 " + formatMillis(timing.getP99Nanos()) + ", max " + formatMillis(timing.getMaxNanos()));
+        }
+        return true;
+    }
+
+    private boolean handleLog(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("matchbox.admin")) {
+            sender.sendMessage("§cYou don't have permission to use this command.");
+            return true;
+        }
+        if (args.length < 2 || !args[1].equalsIgnoreCase("export")) {
+            sender.sendMessage("§cUsage: /matchbox log export [session]");
+            return true;
+        }
+
+        String sessionName = args.length >= 3 ? args[2] : null;
+        String folderName = "session-exports/" + LOG_EXPORT_FOLDER_FORMAT.format(LocalDateTime.now());
+        File outputFolder = new File(gameManager.getPlugin().getDataFolder(), folderName);
+        sender.sendMessage("§eExporting " + (sessionName != null ? "logs of session " + sessionName : "session logs") + "...");
+        // Reply on the server thread once the background export is done
+        gameManager.exportSessionLogs(sessionName, outputFolder.toPath()).whenComplete((exported, error) ->
+            gameManager.getTickDriver().run(() -> {
+                if (error != null) {
+                    sender.sendMessage("§cSession log export failed: " + error.getMessage());
+                } else if (exported == 0) {
+                    sender.sendMessage("§7No ended games to export. Logs are kept in §esession-logs/§7 until retention removes them.");
+                } else {
+                    sender.sendMessage("§aExported " + exported + " game log(s) to §e" + folderName + "§a.");
+                }
+            }));
+        return true;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(java.util.Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+
     private boolean handleCleanup(CommandSender sender) {
         if (!sender.hasPermission("matchbox.admin")) {
             sender.sendMessage("§cYou don't have permission to use this command.");
@@ -1214,6 +1366,9 @@ public class MatchboxCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§e/matchbox list §7- List all sessions");
         sender.sendMessage("§e/matchbox cleanup §7- Emergency nametag restore (admin only)");
         sender.sendMessage("§e/matchbox debug §7- Show debug info (admin only)");
+        sender.sendMessage("§e/matchbox profile [on|off|reset] §7- Show handler and timer costs (admin only)");
+        sender.sendMessage("§e/matchbox metrics [session|reset] §7- Show phase and action latencies (admin only)");
+        sender.sendMessage("§e/matchbox log export [session] §7- Export ended games' logs as JSON Lines (admin only)");
         sender.sendMessage("§e/matchbox debugstart <name> §7- Force begin with debug override (admin only)");
         sender.sendMessage("§e/matchbox skip §7- Skip current phase (admin only)");
     }
@@ -1221,7 +1376,7 @@ public class MatchboxCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            List<String> subCommands = Arrays.asList("setup", "start", "begin", "debugstart", "stop", "join", "leave", "nick", "setdiscussion", "list", "remove", "cleanup", "debug", "skip");
+            List<String> subCommands = Arrays.asList("setup", "start", "begin", "debugstart", "stop", "join", "leave", "nick", "setdiscussion", "list", "remove", "cleanup", "debug", "profile", "metrics", "log", "skip");
             return subCommands.stream()
                     .filter(cmd -> cmd.startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
@@ -1260,6 +1415,23 @@ public class MatchboxCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 2) {
             String subCommand = args[0].toLowerCase();
+            if (subCommand.equals("profile")) {
+                return Arrays.asList("on", "off", "reset").stream()
+                        .filter(s -> s.startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList());
+            }
+            if (subCommand.equals("metrics")) {
+                List<String> options = new ArrayList<>(sessionManager.getAllSessionNames());
+                options.add("reset");
+                return options.stream()
+                        .filter(s -> s.startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList());
+            }
+            if (subCommand.equals("log")) {
+                return List.of("export").stream()
+                        .filter(s -> s.startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList());
+            }
             if (subCommand.equals("nick")) {
                 List<String> nickSubs = Arrays.asList("reset", "random");
                 return nickSubs.stream()
@@ -0,0 +1,187 @@
+package com.ohacd.matchbox.game;
+
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import com.ohacd.matchbox.game.scheduler.TimingWheel;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-session expirations keyed by player, backed by a {@link TimingWheel}.
+ * <p>
+ * Ability windows and timed effects register here instead of each owning a scheduler task.
+ * Expiry callbacks fire on the tick they come due, and scheduling the same kind for the same
+ * player replaces the previous entry. The wheel is only driven while something is pending.
+ */
+public final class ExpiryService {
+
+    /**
+     * Kinds of per-player expirations a session tracks.
+     */
+    public enum Kind {
+        SWIPE_WINDOW,
+        CURE_WINDOW,
+        DELUSION_WINDOW,
+        DELUSION_DECAY
+    }
+
+    private final Plugin plugin;
+    private String sessionName;
+    private GameScheduler scheduler;
+    private final TimingWheel<Entry> wheel = new TimingWheel<>(this::collect);
+    private final Map<Kind, Map<UUID, TimingWheel.Timeout<Entry>>> scheduled = new EnumMap<>(Kind.class);
+
+    /** Entries fired during the current advance, run once the lock is released */
+    private final List<Entry> fired = new ArrayList<>();
+    private GameTask driveTask;
+    /** Bumped whenever the service is cleared, so callbacks that fired in the same tick stop running */
+    private volatile long epoch;
+
+    public ExpiryService(Plugin plugin, String sessionName, GameScheduler scheduler) {
+        this.plugin = plugin;
+        this.sessionName = sessionName;
+        this.scheduler = scheduler;
+        for (Kind kind : Kind.values()) {
+            scheduled.put(kind, new HashMap<>());
+        }
+    }
+
+    /**
+     * Schedules an expiry for a player, replacing any pending one of the same kind.
+     */
+    public void schedule(Kind kind, UUID playerId, long delayTicks, Runnable onExpire) {
+        if (kind == null || playerId == null || onExpire == null) {
+            throw new IllegalArgumentException("Kind, player and callback cannot be null");
+        }
+        synchronized (this) {
+            TimingWheel.Timeout<Entry> previous = scheduled.get(kind).remove(playerId);
+            if (previous != null) {
+                previous.cancel();
+            }
+            scheduled.get(kind).put(playerId, wheel.schedule(delayTicks, new Entry(kind, playerId, onExpire)));
+            if (driveTask == null || driveTask.isCancelled()) {
+                driveTask = scheduler.runTimer(task -> tick(), 1L, 1L);
+            }
+        }
+    }
+
+    /**
+     * Cancels a pending expiry without running its callback.
+     *
+     * @return true if one was pending
+     */
+    public synchronized boolean cancel(Kind kind, UUID playerId) {
+        if (kind == null || playerId == null) {
+            return false;
+        }
+        TimingWheel.Timeout<Entry> timeout = scheduled.get(kind).remove(playerId);
+        return timeout != null && timeout.cancel();
+    }
+
+    /**
+     * Cancels every pending expiry for a player, e.g. when they are eliminated or leave.
+     */
+    public synchronized void cancelAll(UUID playerId) {
+        for (Kind kind : Kind.values()) {
+            cancel(kind, playerId);
+        }
+    }
+
+    public synchronized boolean isScheduled(Kind kind, UUID playerId) {
+        return kind != null && playerId != null && scheduled.get(kind).containsKey(playerId);
+    }
+
+    /**
+     * Gets the number of pending expirations.
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Advances the wheel by one tick and runs the callbacks that came due.
+     * Called by the session's scheduler while anything is pending.
+     */
+    public void tick() {
+        List<Entry> due;
+        long firedEpoch;
+        synchronized (this) {
+            firedEpoch = epoch;
+            wheel.advance();
+            if (fired.isEmpty()) {
+                stopIfIdle();
+                return;
+            }
+            due = new ArrayList<>(fired);
+            fired.clear();
+            stopIfIdle();
+        }
+        for (Entry entry : due) {
+            if (epoch != firedEpoch) {
+                // An earlier callback ended the session; the rest belong to a game that is over
+                return;
+            }
+            try {
+                entry.onExpire.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Expiry " + entry.kind + " failed in session '" + sessionName + "': " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drops every pending expiry without running callbacks.
+     */
+    public synchronized void clear() {
+        epoch++;
+        wheel.clear();
+        fired.clear();
+        for (Map<UUID, TimingWheel.Timeout<Entry>> byPlayer : scheduled.values()) {
+            byPlayer.clear();
+        }
+        stopIfIdle();
+    }
+
+    /**
+     * Drops every pending expiry and binds the service to another session.
+     */
+    public synchronized void reset(String sessionName, GameScheduler scheduler) {
+        clear();
+        this.sessionName = sessionName;
+        this.scheduler = scheduler;
+    }
+
+    private void collect(Entry entry) {
+        Map<UUID, TimingWheel.Timeout<Entry>> byPlayer = scheduled.get(entry.kind);
+        TimingWheel.Timeout<Entry> current = byPlayer.get(entry.playerId);
+        if (current != null && current.getPayload() == entry) {
+            byPlayer.remove(entry.playerId);
+        }
+        fired.add(entry);
+    }
+
+    private void stopIfIdle() {
+        if (wheel.isEmpty() && driveTask != null) {
+            driveTask.cancel();
+            driveTask = null;
+        }
+    }
+
+    private static final class Entry {
+        private final Kind kind;
+        private final UUID playerId;
+        private final Runnable onExpire;
+
+        private Entry(Kind kind, UUID playerId, Runnable onExpire) {
+            this.kind = kind;
+            this.playerId = playerId;
+            this.onExpire = onExpire;
+        }
+    }
+}
@@ -12,16 +12,25 @@ import com.ohacd.matchbox.game.ability.MedicSecondaryAbility;
 import com.ohacd.matchbox.game.ability.SparkSecondaryAbility;
 import com.ohacd.matchbox.game.action.PlayerActionHandler;
 import com.ohacd.matchbox.game.chat.ChatPipelineManager;
+import com.ohacd.matchbox.game.chat.SessionChatHandler;
 import com.ohacd.matchbox.game.config.ConfigManager;
 import com.ohacd.matchbox.game.cosmetic.SkinManager;
 import com.ohacd.matchbox.game.hologram.HologramManager;
 import com.ohacd.matchbox.game.lifecycle.GameLifecycleManager;
+import com.ohacd.matchbox.game.logging.SessionEventSink;
 import com.ohacd.matchbox.game.logging.SessionFlowLogger;
+import com.ohacd.matchbox.game.profiling.LatencyMetrics;
+import com.ohacd.matchbox.game.profiling.TickProfiler;
 import com.ohacd.matchbox.game.phase.DiscussionPhaseHandler;
 import com.ohacd.matchbox.game.phase.PhaseManager;
 import com.ohacd.matchbox.game.phase.SwipePhaseHandler;
 import com.ohacd.matchbox.game.phase.VotingPhaseHandler;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import com.ohacd.matchbox.game.scheduler.TickDriver;
 import com.ohacd.matchbox.game.session.GameSession;
+import com.ohacd.matchbox.game.session.SessionKey;
+import com.ohacd.matchbox.game.session.SessionTable;
 import com.ohacd.matchbox.game.session.SessionManager;
 import com.ohacd.matchbox.game.nick.NickManager;
 import com.ohacd.matchbox.game.sign.SignModeManager;
@@ -45,8 +54,15 @@ import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.plugin.Plugin;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -67,6 +83,9 @@ public class GameManager {
     private final VotingPhaseHandler votingPhaseHandler;
     private final InventoryManager inventoryManager;
     private final ConfigManager configManager;
+    private final TickDriver tickDriver;
+    private final TickProfiler tickProfiler;
+    private final LatencyMetrics latencyMetrics = new LatencyMetrics();
 
     // Helper classes for code organization
     private final GameLifecycleManager lifecycleManager;
@@ -83,20 +102,46 @@ public class GameManager {
     private NickManager nickManager;
 
     // Active game sessions - each session has its own game state and context
-    private final Map<String, SessionGameContext> activeSessions = new ConcurrentHashMap<>();
-    private final Map<String, RoleAssignmentStrategy> roleAssignmentStrategies = new ConcurrentHashMap<>();
-    private final Map<String, List<SessionAbilityHandler>> sessionAbilityHandlers = new ConcurrentHashMap<>();
+    private final SessionTable<SessionGameContext> activeSessions = new SessionTable<>();
+    // Reverse index so player lookups from listeners and the async chat thread are O(1)
+    private final Map<UUID, SessionGameContext> playerContexts = new ConcurrentHashMap<>();
+    private final Map<SessionKey, RoleAssignmentStrategy> roleAssignmentStrategies = new ConcurrentHashMap<>();
+    private final Map<SessionKey, List<SessionAbilityHandler>> sessionAbilityHandlers = new ConcurrentHashMap<>();
 
     // Player backups for restoration (shared, but keyed by player UUID)
     private final Map<UUID, PlayerBackup> playerBackups = new ConcurrentHashMap<>();
 
+    // Finished session contexts kept for reuse by the next game
+    private static final int CONTEXT_POOL_CAPACITY = 8;
+    private final SessionContextPool contextPool;
+
+    // Per-tick drain of session command queues; while stopped, submitted commands run on the caller
+    private static final int MAX_COMMANDS_PER_SESSION_PER_TICK = 64;
+    private GameTask commandPumpTask;
+    private volatile boolean commandPumpRunning = false;
+
+    /**
+     * Creates a game manager with its own tick driver on the server scheduler.
+     */
     public GameManager(Plugin plugin, HologramManager hologramManager) {
+        this(plugin, hologramManager, plugin != null ? new TickDriver(plugin, GameScheduler.create(plugin)) : null);
+    }
+
+    /**
+     * Creates a game manager whose game timers run through the given tick driver.
+     *
+     * @param tickDriver driver for phase, ability and expiry timers; tests pass one backed by a virtual clock
+     */
+    public GameManager(Plugin plugin, HologramManager hologramManager, TickDriver tickDriver) {
         if (plugin == null) {
             throw new IllegalArgumentException("Plugin cannot be null");
         }
         if (hologramManager == null) {
             throw new IllegalArgumentException("HologramManager cannot be null");
         }
+        if (tickDriver == null) {
+            throw new IllegalArgumentException("TickDriver cannot be null");
+        }
 
         this.plugin = plugin;
         this.hologramManager = hologramManager;
@@ -104,33 +149,47 @@ public class GameManager {
         // Initialize shared systems
         this.configManager = new ConfigManager(plugin);
         this.messageUtils = new MessageUtils(plugin);
-        this.swipePhaseHandler = new SwipePhaseHandler(plugin, messageUtils);
-        this.discussionPhaseHandler = new DiscussionPhaseHandler(plugin, messageUtils, configManager);
-        this.votingPhaseHandler = new VotingPhaseHandler(plugin, messageUtils);
+        this.tickDriver = tickDriver;
+        this.tickProfiler = new TickProfiler();
+        tickProfiler.setEnabled(configManager.isProfilingEnabled());
+        tickDriver.setProfiler(tickProfiler);
+        this.contextPool = new SessionContextPool(plugin, CONTEXT_POOL_CAPACITY);
+        // Phase timers share the plugin-wide tick driver, pinned to each session's arena region on Folia
+        this.swipePhaseHandler = new SwipePhaseHandler(plugin, messageUtils, tickDriver, this::getSessionRegion);
+        this.discussionPhaseHandler = new DiscussionPhaseHandler(plugin, messageUtils, configManager, tickDriver, this::getSessionRegion);
+        this.votingPhaseHandler = new VotingPhaseHandler(plugin, messageUtils, tickDriver, this::getSessionRegion);
         this.inventoryManager = new InventoryManager(plugin);
         this.skinManager = new SkinManager(plugin);
-        this.hunterVisionAdapter = createHunterVisionAdapter(plugin);
+        this.hunterVisionAdapter = createHunterVisionAdapter(plugin, tickDriver);
 
         // Initialize helper classes
         this.lifecycleManager = new GameLifecycleManager(plugin, messageUtils, swipePhaseHandler, inventoryManager, playerBackups);
-        this.actionHandler = new PlayerActionHandler(plugin);
+        this.actionHandler = new PlayerActionHandler(plugin, tickDriver);
         this.chatPipelineManager = new ChatPipelineManager(plugin, this);
-        this.sessionFlowLogger = new SessionFlowLogger(plugin);
+        File dataFolder = plugin.getDataFolder();
+        SessionEventSink eventSink = new SessionEventSink(plugin,
+            dataFolder != null && configManager.isSessionEventFilesEnabled() ? new File(dataFolder, "session-events") : null,
+            configManager.getSessionEventMaxFileBytes(), configManager.getSessionEventMaxFiles(),
+            configManager.getSessionEventMaxSessions(), Duration.ofDays(configManager.getSessionEventMaxAgeDays()),
+            configManager.getSessionEventConsoleFilter());
+        this.sessionFlowLogger = new SessionFlowLogger(plugin, configManager.getSessionLogMemoryCapacity(),
+            dataFolder != null ? new File(dataFolder, "session-logs") : null,
+            configManager.getSessionLogSpillMaxFiles(), Duration.ofDays(configManager.getSessionLogSpillMaxAgeDays()), eventSink);
 
         skinManager.preloadDefaultSkins();
     }
 
-    private HunterVisionAdapter createHunterVisionAdapter(Plugin plugin) {
+    private HunterVisionAdapter createHunterVisionAdapter(Plugin plugin, TickDriver scheduler) {
         try {
             if (Bukkit.getPluginManager().isPluginEnabled("ProtocolLib")) {
                 plugin.getLogger().info("ProtocolLib detected. Using packet-based Hunter Vision.");
-                return new ProtocolLibHunterVisionAdapter(plugin);
+                return new ProtocolLibHunterVisionAdapter(plugin, scheduler);
             }
             plugin.getLogger().warning("ProtocolLib not detected. Hunter Vision will use particle fallback.");
         } catch (Exception e) {
             plugin.getLogger().warning("Unable to initialize ProtocolLib Hunter Vision (" + e.getMessage() + "). Using fallback.");
         }
-        return new FallbackHunterVisionAdapter(plugin);
+        return new FallbackHunterVisionAdapter(plugin, scheduler);
     }
 
     /**
@@ -144,6 +203,7 @@ public class GameManager {
 
         // Validate session exists in SessionManager BEFORE creating context
         SessionManager sessionManager = null;
+        GameSession session;
         try {
             // Try to get SessionManager from plugin (works in production)
             if (plugin instanceof Matchbox) {
@@ -169,7 +229,7 @@ public class GameManager {
             }
 
             // Get the actual session to ensure it's valid and active
-            GameSession session = sessionManager.getSession(sessionName);
+            session = sessionManager.getSession(sessionName);
             if (session == null || !session.isActive()) {
                 plugin.getLogger().warning("Session is null or not active: " + sessionName);
                 return null;
@@ -181,20 +241,163 @@ public class GameManager {
         }
 
         // Only create context if Session validation passed
-        return activeSessions.computeIfAbsent(sessionName, name -> {
-            SessionGameContext context = new SessionGameContext(plugin, name);
+        // Keyed case-insensitively; the context takes the session's registered spelling
+        return activeSessions.computeIfAbsent(session.getName(), name -> {
+            SessionGameContext context = contextPool.acquire(name, tickDriver.forSession(name));
+            context.getGameState().setParticipantListener(new PlayerIndexUpdater(context));
+            context.getCommandQueue().setInlineDrainCheck(this::canDrainCommandsInline);
             plugin.getLogger().info("Created new game context for session: " + name);
             return context;
         });
     }
 
     /**
-     * Gets the game context for a session, or null if it doesn't exist.
+     * Keeps {@link #playerContexts} in sync with a session's participant set.
      */
-    public SessionGameContext getContext(String sessionName) {
-        if (sessionName == null) {
+    private final class PlayerIndexUpdater implements GameState.ParticipantListener {
+        private final SessionGameContext context;
+
+        private PlayerIndexUpdater(SessionGameContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void onParticipantAdded(UUID playerId) {
+            SessionGameContext previous = playerContexts.put(playerId, context);
+            if (previous != null && previous != context) {
+                plugin.getLogger().warning("Player " + playerId + " found in multiple sessions! Sessions: " +
+                    previous.getSessionName() + " and " + context.getSessionName());
+            }
+            invalidateChatAudiences(context.getSessionName());
+        }
+
+        @Override
+        public void onParticipantRemoved(UUID playerId) {
+            playerContexts.remove(playerId, context);
+            context.getExpiryService().cancelAll(playerId);
+            invalidateChatAudiences(context.getSessionName());
+            chatPipelineManager.resetRateLimit(context.getSessionName(), playerId);
+        }
+
+        @Override
+        public void onPlayerEliminated(UUID playerId) {
+            context.getExpiryService().cancelAll(playerId);
+            invalidateChatAudiences(context.getSessionName());
+        }
+    }
+
+    /**
+     * Starts the per-tick task that drains every session's command queue on the main thread.
+     * Until this is called, commands submitted through {@link #submitSessionCommand} run on the caller thread.
+     */
+    public void startCommandPump() {
+        if (commandPumpTask != null && !commandPumpTask.isCancelled()) {
+            return;
+        }
+        commandPumpTask = tickDriver.runTimer(timer -> drainSessionCommands(), 1L, 1L);
+        commandPumpRunning = true;
+    }
+
+    /**
+     * Stops the command pump. Commands still queued are drained before returning.
+     */
+    public void stopCommandPump() {
+        commandPumpRunning = false;
+        if (commandPumpTask != null) {
+            try {
+                commandPumpTask.cancel();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error cancelling command pump: " + e.getMessage());
+            }
+            commandPumpTask = null;
+        }
+        for (SessionGameContext context : activeSessions.values()) {
+            context.getCommandQueue().drain(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Starts writing session event files and console echo from a background thread.
+     * Until this is called, they are written on the thread that records the event.
+     */
+    public void startSessionEventSink() {
+        sessionFlowLogger.startEventSink(configManager.getSessionEventQueueCapacity());
+    }
+
+    /**
+     * Gets the session event logger.
+     */
+    public SessionFlowLogger getSessionFlowLogger() {
+        return sessionFlowLogger;
+    }
+
+    private void drainSessionCommands() {
+        for (SessionGameContext context : activeSessions.values()) {
+            context.getCommandQueue().drain(MAX_COMMANDS_PER_SESSION_PER_TICK);
+        }
+    }
+
+    private boolean canDrainCommandsInline() {
+        return !commandPumpRunning || Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * Submits a state mutation for a session through its command queue so that it is applied
+     * by a single writer in submission order. Safe to call from any thread.
+     * If the session has no game context there is no queue to join, so the command is handed to
+     * the main thread on the next tick instead.
+     *
+     * @return a future completed with the command's result; already complete when called from
+     *         the main thread or while the command pump is not running
+     */
+    public <T> CompletableFuture<T> submitSessionCommand(String sessionName, Supplier<T> command) {
+        SessionGameContext context = getContext(sessionName);
+        if (context != null) {
+            return context.getCommandQueue().submit(command);
+        }
+        if (canDrainCommandsInline()) {
+            return runCommand(command);
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        tickDriver.run(() -> runCommand(command).whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        }));
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> runCommand(Supplier<T> command) {
+        try {
+            return CompletableFuture.completedFuture(command.get());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Gets a location inside a session's arena, used to pin the session's timers to the region that owns it.
+     * Returns null when the session has no arena locations yet.
+     */
+    private Location getSessionRegion(String sessionName) {
+        SessionGameContext context = getContext(sessionName);
+        if (context == null) {
             return null;
         }
+        Location discussionLocation = context.getCurrentDiscussionLocation();
+        if (discussionLocation != null) {
+            return discussionLocation;
+        }
+        List<Location> spawnLocations = context.getCurrentSpawnLocations();
+        return spawnLocations != null && !spawnLocations.isEmpty() ? spawnLocations.get(0) : null;
+    }
+
+    /**
+     * Gets the game context for a session, or null if it doesn't exist.
+     */
+    public SessionGameContext getContext(String sessionName) {
         return activeSessions.get(sessionName);
     }
 
@@ -207,35 +410,33 @@ public class GameManager {
         if (playerId == null) {
             return null;
         }
-
-        SessionGameContext found = null;
-        for (SessionGameContext context : activeSessions.values()) {
-            if (context != null && context.getGameState().getAllParticipatingPlayerIds().contains(playerId)) {
-                if (found != null) {
-                    plugin.getLogger().warning("Player " + playerId + " found in multiple sessions! Sessions: " +
-                        found.getSessionName() + " and " + context.getSessionName());
-                } else {
-                    found = context;
-                }
-            }
-        }
-        return found;
+        return playerContexts.get(playerId);
     }
 
     /**
      * Removes and cleans up a session context.
      * Ensures all timers are cancelled and resources are freed.
      */
-    private void removeContext(String sessionName) {
-        if (sessionName == null) {
+    private void removeContext(String requestedName) {
+        SessionKey key = SessionKey.of(requestedName);
+        if (key == null) {
             return;
         }
 
-        roleAssignmentStrategies.remove(sessionName);
-        sessionAbilityHandlers.remove(sessionName);
+        roleAssignmentStrategies.remove(key);
+        sessionAbilityHandlers.remove(key);
 
-        SessionGameContext context = activeSessions.remove(sessionName);
+        SessionGameContext context = activeSessions.remove(requestedName);
         if (context != null) {
+            // Timer lanes are named by the spelling the context was created with
+            String sessionName = context.getSessionName();
+
+            // Drop every timer still queued for this session (window expiries, delayed phase starts, ...)
+            tickDriver.cancelSession(sessionName);
+
+            // Drop any index entries still pointing at this context
+            playerContexts.values().removeIf(indexed -> indexed == context);
+
             // Cancel all timers for this session
             try {
                 swipePhaseHandler.cancelSwipeTask(sessionName);
@@ -255,8 +456,11 @@ public class GameManager {
                 plugin.getLogger().warning("Error cancelling voting task during context cleanup: " + e.getMessage());
             }
 
-            // Clean up context resources
+            // Clean up context resources and keep the context for the next game. Pooling waits for the
+            // next tick, once the driver has dropped the lane and no timer of this session can still be running
             context.cleanup();
+            tickDriver.run(() -> contextPool.release(context));
+            sessionFlowLogger.closeSession(sessionName);
             plugin.getLogger().info("Cleaned up context for session: " + sessionName);
         }
     }
@@ -290,7 +494,7 @@ public class GameManager {
         plugin.getLogger().warning("Performing emergency cleanup of all game sessions...");
 
         // Get all session names before clearing
-        Set<String> sessionNames = new HashSet<>(activeSessions.keySet());
+        Set<String> sessionNames = getActiveSessionNames();
 
         for (String sessionName : sessionNames) {
             try {
@@ -301,6 +505,10 @@ public class GameManager {
             }
         }
 
+        // Write out chat lines still waiting for the log writer, then the queued session events, then close the log files
+        chatPipelineManager.stopLogWriter();
+        sessionFlowLogger.close();
+
         // Clear all player backups
         playerBackups.clear();
 
@@ -367,71 +575,74 @@ public class GameManager {
             return;
         }
 
-        for (Player player : players) {
-            if (player == null || !player.isOnline()) {
-                plugin.getLogger().warning("Skipping null or offline player during backup");
-                continue;
-            }
-
-            UUID playerId = player.getUniqueId();
-
-            if (!canPlayerJoinSession(playerId, sessionName)) {
-                SessionGameContext existingContext = getContextForPlayer(playerId);
-                plugin.getLogger().warning("Player " + player.getName() + " is already in session '" +
-                    (existingContext != null ? existingContext.getSessionName() : "unknown") +
-                    "'. Removing from previous session.");
-
-                // Remove from previous session
-                if (existingContext != null) {
-                    String oldSession = existingContext.getSessionName();
-                    removePlayerFromGame(player);
-                    // Also end the old game if it's active
-                    if (existingContext.getGameState().isGameActive()) {
-                        plugin.getLogger().info("Ending previous game for player " + player.getName());
-                        endGame(oldSession);
+        timed(sessionName, LatencyMetrics.Operation.START_GAME, () -> {
+            for (Player player : players) {
+                if (player == null || !player.isOnline()) {
+                    plugin.getLogger().warning("Skipping null or offline player during backup");
+                    continue;
+                }
+
+                UUID playerId = player.getUniqueId();
+
+                if (!canPlayerJoinSession(playerId, sessionName)) {
+                    SessionGameContext existingContext = getContextForPlayer(playerId);
+                    plugin.getLogger().warning("Player " + player.getName() + " is already in session '" +
+                        (existingContext != null ? existingContext.getSessionName() : "unknown") +
+                        "'. Removing from previous session.");
+
+                    // Remove from previous session
+                    if (existingContext != null) {
+                        String oldSession = existingContext.getSessionName();
+                        removePlayerFromGame(player);
+                        // Also end the old game if it's active
+                        if (existingContext.getGameState().isGameActive()) {
+                            plugin.getLogger().info("Ending previous game for player " + player.getName());
+                            endGame(oldSession);
+                        }
                     }
                 }
             }
-        }
 
-        // Use lifecycle manager to start the game
-        sessionFlowLogger.record(sessionName, "SESSION", "Game start requested for " + players.size() + " players", null, null, Map.of("players", String.valueOf(players.size())));
-        lifecycleManager.startGame(
-            context,
-            players,
-            spawnLocations,
-            discussionLocation,
-            sessionName,
-            roleAssignmentStrategies.get(sessionName)
-        );
-        
-        // Apply skins based on config settings
-        if (configManager.isUseSteveSkins()) {
-            // Use Steve skins for all players (overrides random skins setting)
-            skinManager.applySteveSkins(players);
-        } else if (configManager.isRandomSkinsEnabled()) {
-            // Apply random skins if enabled
-            skinManager.applyRandomSkins(players);
-        }
+            // Use lifecycle manager to start the game
+            sessionFlowLogger.openSession(sessionName);
+            sessionFlowLogger.record(sessionName, "SESSION", "Game start requested for " + players.size() + " players", null, null, Map.of("players", String.valueOf(players.size())));
+            lifecycleManager.startGame(
+                context,
+                players,
+                spawnLocations,
+                discussionLocation,
+                sessionName,
+                roleAssignmentStrategies.get(SessionKey.of(sessionName))
+            );
+            
+            // Apply skins based on config settings
+            if (configManager.isUseSteveSkins()) {
+                // Use Steve skins for all players (overrides random skins setting)
+                skinManager.applySteveSkins(players);
+            } else if (configManager.isRandomSkinsEnabled()) {
+                // Apply random skins if enabled
+                skinManager.applyRandomSkins(players);
+            }
 
-        // Apply nicks for all session players (session-scoped, uniqueness enforced)
-        if (nickManager != null) {
-            java.util.Set<String> takenNicks = new java.util.HashSet<>();
-            for (Player player : players) {
-                if (player == null || !player.isOnline()) continue;
-                String nick = nickManager.getNick(player.getUniqueId());
-                if (nick == null) continue;
-                if (!nickManager.applyNick(player, takenNicks)) {
-                    player.sendMessage("§eYour nick §7" + nick + "§e is already taken in this session. You'll play as your real name.");
-                } else {
-                    takenNicks.add(nick.toLowerCase());
+            // Apply nicks for all session players (session-scoped, uniqueness enforced)
+            if (nickManager != null) {
+                java.util.Set<String> takenNicks = new java.util.HashSet<>();
+                for (Player player : players) {
+                    if (player == null || !player.isOnline()) continue;
+                    String nick = nickManager.getNick(player.getUniqueId());
+                    if (nick == null) continue;
+                    if (!nickManager.applyNick(player, takenNicks)) {
+                        player.sendMessage("§eYour nick §7" + nick + "§e is already taken in this session. You'll play as your real name.");
+                    } else {
+                        takenNicks.add(nick.toLowerCase());
+                    }
+                    refreshRolePaper(player);
                 }
-                refreshRolePaper(player);
             }
-        }
 
-        // Start first round (teleport players and begin swipe phase)
-        startNewRound(sessionName);
+            // Start first round (teleport players and begin swipe phase)
+            startNewRound(sessionName);
+        });
     }
 
     /**
@@ -484,28 +695,30 @@ public class GameManager {
             return;
         }
 
-        // Use lifecycle manager to start new round
-        lifecycleManager.startNewRound(context, sessionName);
-        sessionFlowLogger.incrementRound(sessionName);
-        sessionFlowLogger.record(sessionName, "ROUND", "Round " + gameState.getCurrentRound() + " started", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
-
-        // Reapply skins based on config settings to ensure consistency
-        Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (alivePlayers != null && !alivePlayers.isEmpty()) {
-            if (configManager.isUseSteveSkins()) {
-                // Reapply Steve skins for all players to ensure consistency
-                skinManager.applySteveSkins(alivePlayers);
-            } else if (configManager.isRandomSkinsEnabled()) {
-                // Restore assigned skins (which should be random skins from game start)
-                skinManager.restoreAssignedSkinsAfterDiscussion(alivePlayers);
+        timed(sessionName, LatencyMetrics.Operation.START_ROUND, () -> {
+            // Use lifecycle manager to start new round
+            lifecycleManager.startNewRound(context, sessionName);
+            sessionFlowLogger.incrementRound(sessionName);
+            sessionFlowLogger.record(sessionName, "ROUND", "Round " + gameState.getCurrentRound() + " started", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
+
+            // Reapply skins based on config settings to ensure consistency
+            Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (alivePlayers != null && !alivePlayers.isEmpty()) {
+                if (configManager.isUseSteveSkins()) {
+                    // Reapply Steve skins for all players to ensure consistency
+                    skinManager.applySteveSkins(alivePlayers);
+                } else if (configManager.isRandomSkinsEnabled()) {
+                    // Restore assigned skins (which should be random skins from game start)
+                    skinManager.restoreAssignedSkinsAfterDiscussion(alivePlayers);
+                }
             }
-        }
 
-        // Teleport players to spawns
-        lifecycleManager.teleportPlayersToSpawns(context, sessionName);
+            // Teleport players to spawns
+            lifecycleManager.teleportPlayersToSpawns(context, sessionName);
 
-        // Start swipe phase (will set up inventories with papers)
-        startSwipePhase(sessionName);
+            // Start swipe phase (will set up inventories with papers)
+            startSwipePhase(sessionName);
+        });
     }
 
 
@@ -519,64 +732,66 @@ public class GameManager {
             return;
         }
 
-        GameState gameState = context.getGameState();
-        PhaseManager phaseManager = context.getPhaseManager();
+        timed(sessionName, LatencyMetrics.Operation.START_SWIPE, () -> {
+            GameState gameState = context.getGameState();
+            PhaseManager phaseManager = context.getPhaseManager();
 
-        phaseManager.setPhase(GamePhase.SWIPE);
-        plugin.getLogger().info("Starting swipe phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
-        sessionFlowLogger.record(sessionName, "PHASE", "Swipe phase started", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
+            phaseManager.setPhase(GamePhase.SWIPE);
+            plugin.getLogger().info("Starting swipe phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
+            sessionFlowLogger.record(sessionName, "PHASE", "Swipe phase started", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
 
-        // Setup inventories for all players with their roles (give papers now)
-        Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (alivePlayers != null && !alivePlayers.isEmpty()) {
-            SparkSecondaryAbility sparkAbility = selectSparkSecondaryAbility(gameState);
-            MedicSecondaryAbility medicAbility = selectMedicSecondaryAbility(gameState);
+            // Setup inventories for all players with their roles (give papers now)
+            Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (alivePlayers != null && !alivePlayers.isEmpty()) {
+                SparkSecondaryAbility sparkAbility = selectSparkSecondaryAbility(gameState);
+                MedicSecondaryAbility medicAbility = selectMedicSecondaryAbility(gameState);
 
-            // Announce phase start only to players in this session
-            for (Player p : alivePlayers) {
-                if (p != null && p.isOnline()) {
-                    p.sendMessage("§6§l>> SWIPE PHASE STARTED <<");
+                // Announce phase start only to players in this session
+                for (Player p : alivePlayers) {
+                    if (p != null && p.isOnline()) {
+                        p.sendMessage("§6§l>> SWIPE PHASE STARTED <<");
+                    }
                 }
-            }
 
-            Map<UUID, Role> roleMap = new HashMap<>();
-            for (UUID playerId : gameState.getAlivePlayerIds()) {
-                Role role = gameState.getRole(playerId);
-                if (role != null) {
-                    roleMap.put(playerId, role);
+                Map<UUID, Role> roleMap = new HashMap<>();
+                for (UUID playerId : gameState.getAlivePlayerIds()) {
+                    Role role = gameState.getRole(playerId);
+                    if (role != null) {
+                        roleMap.put(playerId, role);
+                    }
                 }
-            }
-            inventoryManager.setupInventories(alivePlayers, roleMap, sparkAbility, medicAbility);
+                inventoryManager.setupInventories(alivePlayers, roleMap, sparkAbility, medicAbility);
 
-            // Give sign-mode items after normal inventory setup if sign mode is enabled
-            if (isSignModeEnabled() && signModeManager != null) {
-                signModeManager.giveSignItems(alivePlayers);
-                plugin.getLogger().info("Sign mode is active for session '" + sessionName + "' — gave sign items to " + alivePlayers.size() + " player(s)");
-                sessionFlowLogger.record(sessionName, "SIGN", "Sign mode items distributed", null, null, Map.of("players", String.valueOf(alivePlayers.size())));
+                // Give sign-mode items after normal inventory setup if sign mode is enabled
+                if (isSignModeEnabled() && signModeManager != null) {
+                    signModeManager.giveSignItems(alivePlayers);
+                    plugin.getLogger().info("Sign mode is active for session '" + sessionName + "' — gave sign items to " + alivePlayers.size() + " player(s)");
+                    sessionFlowLogger.record(sessionName, "SIGN", "Sign mode items distributed", null, null, Map.of("players", String.valueOf(alivePlayers.size())));
+                }
             }
-        }
 
-        // Hide the name tag for all alive players on phase start
-        if (alivePlayers != null) {
-            for (Player player : alivePlayers) {
-                if (player != null && player.isOnline()) {
-                    try {
-                        NameTagManager.hideNameTag(player, sessionName);
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Failed to hide nametag for " + player.getName() + ": " + e.getMessage());
+            // Hide the name tag for all alive players on phase start
+            if (alivePlayers != null) {
+                for (Player player : alivePlayers) {
+                    if (player != null && player.isOnline()) {
+                        try {
+                            NameTagManager.hideNameTag(player, sessionName);
+                        } catch (Exception e) {
+                            plugin.getLogger().warning("Failed to hide nametag for " + player.getName() + ": " + e.getMessage());
+                        }
                     }
                 }
             }
-        }
 
-        // Get swipe duration from config
-        int swipeDuration = configManager.getSwipeDuration();
-        swipePhaseHandler.startSwipePhase(
-                sessionName,
-                swipeDuration,
-                gameState.getAlivePlayerIds(),
-                () -> endSwipePhase(sessionName)
-        );
+            // Get swipe duration from config
+            int swipeDuration = configManager.getSwipeDuration();
+            swipePhaseHandler.startSwipePhase(
+                    sessionName,
+                    swipeDuration,
+                    gameState.getAlivePlayerIds(),
+                    () -> endSwipePhase(sessionName)
+            );
+        });
     }
 
     /**
@@ -601,10 +816,24 @@ public class GameManager {
 
         long expire = System.currentTimeMillis() + (seconds * 1000L);
         activeSwipeWindow.put(id, expire);
+        scheduleWindowExpiry(context, ExpiryService.Kind.SWIPE_WINDOW, activeSwipeWindow, spark, expire, seconds, this::restoreAbilityPaper);
 
         return expire;
     }
 
+    /**
+     * Closes an ability window that runs out unused and gives the player their paper back.
+     * Using the window cancels this expiry, so it only fires for wasted windows.
+     */
+    private void scheduleWindowExpiry(SessionGameContext context, ExpiryService.Kind kind, Map<UUID, Long> windows,
+                                      Player player, long expire, int seconds, Consumer<Player> restorePaper) {
+        UUID id = player.getUniqueId();
+        context.getExpiryService().schedule(kind, id, seconds * 20L, () -> context.getCommandQueue().execute(() -> {
+            windows.remove(id, expire);
+            restorePaper.accept(player);
+        }));
+    }
+
     /**
      * Ends swipe window immediately (manual cleanup).
      */
@@ -612,6 +841,7 @@ public class GameManager {
         SessionGameContext context = getContextForPlayer(playerId);
         if (context != null) {
             context.getActiveSwipeWindow().remove(playerId);
+            context.getExpiryService().cancel(ExpiryService.Kind.SWIPE_WINDOW, playerId);
         }
     }
 
@@ -648,6 +878,7 @@ public class GameManager {
 
         long expire = System.currentTimeMillis() + (seconds * 1000L);
         activeDelusionWindow.put(id, expire);
+        scheduleWindowExpiry(context, ExpiryService.Kind.DELUSION_WINDOW, activeDelusionWindow, spark, expire, seconds, this::restoreSecondaryAbilityPaper);
 
         return expire;
     }
@@ -659,6 +890,7 @@ public class GameManager {
         SessionGameContext context = getContextForPlayer(playerId);
         if (context != null) {
             context.getActiveDelusionWindow().remove(playerId);
+            context.getExpiryService().cancel(ExpiryService.Kind.DELUSION_WINDOW, playerId);
         }
     }
 
@@ -763,6 +995,7 @@ public class GameManager {
 
         long expire = System.currentTimeMillis() + (seconds * 1000L);
         activeCureWindow.put(id, expire);
+        scheduleWindowExpiry(context, ExpiryService.Kind.CURE_WINDOW, activeCureWindow, medic, expire, seconds, this::restoreAbilityPaper);
 
         return expire;
     }
@@ -916,7 +1149,7 @@ public class GameManager {
 
         // Show highlight particles on all infected players for 15 seconds
         // Only the medic can see these particles (recording-safe)
-        ParticleUtils.showMarkerParticlesOnPlayers(medic, infectedPlayers, 15, plugin);
+        ParticleUtils.showMarkerParticlesOnPlayers(medic, infectedPlayers, 15, tickDriver);
 
         plugin.getLogger().info("Showing " + infectedPlayers.size() + " infected player(s) to medic " + medic.getName());
     }
@@ -933,6 +1166,7 @@ public class GameManager {
         SessionGameContext context = getContextForPlayer(playerId);
         if (context != null) {
             context.getActiveCureWindow().remove(playerId);
+            context.getExpiryService().cancel(ExpiryService.Kind.CURE_WINDOW, playerId);
         }
     }
 
@@ -957,31 +1191,33 @@ public class GameManager {
             return;
         }
 
-        GameState gameState = context.getGameState();
-        PhaseManager phaseManager = context.getPhaseManager();
+        timed(sessionName, LatencyMetrics.Operation.END_SWIPE, () -> {
+            GameState gameState = context.getGameState();
+            PhaseManager phaseManager = context.getPhaseManager();
 
-        plugin.getLogger().info("Ending swipe phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
-        sessionFlowLogger.record(sessionName, "PHASE", "Swipe phase ended", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
+            plugin.getLogger().info("Ending swipe phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
+            sessionFlowLogger.record(sessionName, "PHASE", "Swipe phase ended", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
 
-        // Cancel swipe timer first to prevent it from continuing
-        swipePhaseHandler.cancelSwipeTask(sessionName);
+            // Cancel swipe timer first to prevent it from continuing
+            swipePhaseHandler.cancelSwipeTask(sessionName);
 
-        // Transition to discussion but do not apply pending deaths here.
-        phaseManager.setPhase(GamePhase.DISCUSSION);
+            // Transition to discussion but do not apply pending deaths here.
+            phaseManager.setPhase(GamePhase.DISCUSSION);
 
-        // Broadcast only to players in this session
-        Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (sessionPlayers != null) {
-            for (Player p : sessionPlayers) {
-                if (p != null && p.isOnline()) {
-                    p.sendMessage("§e§l>> SWIPE PHASE ENDED <<");
+            // Broadcast only to players in this session
+            Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (sessionPlayers != null) {
+                for (Player p : sessionPlayers) {
+                    if (p != null && p.isOnline()) {
+                        p.sendMessage("§e§l>> SWIPE PHASE ENDED <<");
+                    }
                 }
             }
-        }
 
-        // Clear actionbars, stop timers, etc. (assume swipePhaseHandler cleared by caller)
-        // Start the discussion phase which will apply pending deaths at its start
-        startDiscussionPhase(sessionName);
+            // Clear actionbars, stop timers, etc. (assume swipePhaseHandler cleared by caller)
+            // Start the discussion phase which will apply pending deaths at its start
+            startDiscussionPhase(sessionName);
+        });
     }
 
     /**
@@ -994,129 +1230,132 @@ public class GameManager {
             return;
         }
 
-        // Clean up all signs placed during the swipe phase before discussion begins
-        if (isSignModeEnabled() && signModeManager != null) {
-            try {
-                signModeManager.clearSessionSigns(sessionName);
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to clear session signs for '" + sessionName + "': " + e.getMessage());
+        timed(sessionName, LatencyMetrics.Operation.START_DISCUSSION, () -> {
+            // Clean up all signs placed during the swipe phase before discussion begins
+            if (isSignModeEnabled() && signModeManager != null) {
+                try {
+                    signModeManager.clearSessionSigns(sessionName);
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Failed to clear session signs for '" + sessionName + "': " + e.getMessage());
+                }
             }
-        }
-
-        GameState gameState = context.getGameState();
 
-        // Apply ALL pending deaths now (regardless of timestamp) so infected players do not participate in discussion
-        // This ensures pending deaths scheduled during swipe phase are applied at discussion start
-        Set<UUID> allPendingDeaths = new HashSet<>();
-        Set<UUID> alivePlayerIds = gameState.getAlivePlayerIds();
-        List<Player> playersCuredThisRound = new ArrayList<>();
-        if (alivePlayerIds != null) {
-            for (UUID playerId : alivePlayerIds) {
-                if (playerId != null && gameState.hasPendingDeath(playerId)) {
-                    allPendingDeaths.add(playerId);
-                }
-                if (playerId != null && gameState.hasBeenCuredThisRound(playerId)) {
-                    Player curedPlayer = getPlayer(playerId);
-                    if (curedPlayer != null) {
-                        playersCuredThisRound.add(curedPlayer);
+            GameState gameState = context.getGameState();
+
+            // Apply ALL pending deaths now (regardless of timestamp) so infected players do not participate in discussion
+            // This ensures pending deaths scheduled during swipe phase are applied at discussion start
+            Set<UUID> allPendingDeaths = new HashSet<>();
+            Set<UUID> alivePlayerIds = gameState.getAlivePlayerIds();
+            List<Player> playersCuredThisRound = new ArrayList<>();
+            if (alivePlayerIds != null) {
+                for (UUID playerId : alivePlayerIds) {
+                    if (playerId != null && gameState.hasPendingDeath(playerId)) {
+                        allPendingDeaths.add(playerId);
+                    }
+                    if (playerId != null && gameState.hasBeenCuredThisRound(playerId)) {
+                        Player curedPlayer = getPlayer(playerId);
+                        if (curedPlayer != null) {
+                            playersCuredThisRound.add(curedPlayer);
+                        }
+                        gameState.removeBeenCuredThisRound(playerId);
                     }
-                    gameState.removeBeenCuredThisRound(playerId);
                 }
             }
-        }
 
-        if (!allPendingDeaths.isEmpty()) {
-            plugin.getLogger().info("Applying pending deaths for " + allPendingDeaths.size() + " players at discussion start in session: " + sessionName);
-            sessionFlowLogger.record(sessionName, "DISCUSSION", "Applying pending deaths", null, null, Map.of("count", String.valueOf(allPendingDeaths.size())));
-        }
+            if (!allPendingDeaths.isEmpty()) {
+                plugin.getLogger().info("Applying pending deaths for " + allPendingDeaths.size() + " players at discussion start in session: " + sessionName);
+                sessionFlowLogger.record(sessionName, "DISCUSSION", "Applying pending deaths", null, null, Map.of("count", String.valueOf(allPendingDeaths.size())));
+            }
 
-        if (!playersCuredThisRound.isEmpty()) {
-            for (Player curedPlayer : playersCuredThisRound) {
-                if (curedPlayer == null || !curedPlayer.isOnline()) {
-                    continue;
+            if (!playersCuredThisRound.isEmpty()) {
+                for (Player curedPlayer : playersCuredThisRound) {
+                    if (curedPlayer == null || !curedPlayer.isOnline()) {
+                        continue;
+                    }
+                    messageUtils.sendPlayerMessage(curedPlayer, "§9You feel the Medic's cure take hold. You're safe this round!");
+                    plugin.getLogger().info("Player " + curedPlayer.getName() + " has been cured this round and will not be eliminated.");
                 }
-                messageUtils.sendPlayerMessage(curedPlayer, "§9You feel the Medic's cure take hold. You're safe this round!");
-                plugin.getLogger().info("Player " + curedPlayer.getName() + " has been cured this round and will not be eliminated.");
             }
-        }
-        List<Player> eliminatedPlayers = new ArrayList<>();
-        for (UUID victimId : allPendingDeaths) {
-            if (victimId == null) continue;
+            List<Player> eliminatedPlayers = new ArrayList<>();
+            for (UUID victimId : allPendingDeaths) {
+                if (victimId == null) continue;
 
-            if (!gameState.isAlive(victimId)) {
-                gameState.removePendingDeath(victimId);
-                continue;
-            }
-            Player victim = getPlayer(victimId);
-            if (victim != null && victim.isOnline()) {
-                try {
-                    eliminatedPlayers.add(victim);
-                    eliminatePlayer(sessionName, victim); // ensure this removes them from alive and cleans state
-                } catch (Exception e) {
-                    plugin.getLogger().warning("Error eliminating player " + victim.getName() + ": " + e.getMessage());
-                    // Fallback cleanup
+                if (!gameState.isAlive(victimId)) {
+                    gameState.removePendingDeath(victimId);
+                    continue;
+                }
+                Player victim = getPlayer(victimId);
+                if (victim != null && victim.isOnline()) {
+                    try {
+                        eliminatedPlayers.add(victim);
+                        eliminatePlayer(sessionName, victim); // ensure this removes them from alive and cleans state
+                    } catch (Exception e) {
+                        plugin.getLogger().warning("Error eliminating player " + victim.getName() + ": " + e.getMessage());
+                        // Fallback cleanup
+                        gameState.removeAlivePlayer(victimId);
+                        gameState.removePendingDeath(victimId);
+                    }
+                } else {
+                    // server-side cleanup if offline
                     gameState.removeAlivePlayer(victimId);
                     gameState.removePendingDeath(victimId);
                 }
-            } else {
-                // server-side cleanup if offline
-                gameState.removeAlivePlayer(victimId);
+                // Ensure pending death is removed
                 gameState.removePendingDeath(victimId);
             }
-            // Ensure pending death is removed
-            gameState.removePendingDeath(victimId);
-        }
 
-        // Collect alive players for discussion (no nametag/skin changes here)
-        Collection<Player> alivePlayersForDiscussion = new ArrayList<>();
-        if (alivePlayerIds != null) {
-            for (UUID playerId : alivePlayerIds) {
-                if (playerId == null) continue;
-                Player player = getPlayer(playerId);
-                if (player != null && player.isOnline()) {
-                    alivePlayersForDiscussion.add(player);
+            // Collect alive players for discussion (no nametag/skin changes here)
+            Collection<Player> alivePlayersForDiscussion = new ArrayList<>();
+            if (alivePlayerIds != null) {
+                for (UUID playerId : alivePlayerIds) {
+                    if (playerId == null) continue;
+                    Player player = getPlayer(playerId);
+                    if (player != null && player.isOnline()) {
+                        alivePlayersForDiscussion.add(player);
+                    }
                 }
             }
-        }
 
-        // Notify players about eliminated participants and hold them in place before teleport
-        if (!alivePlayersForDiscussion.isEmpty()) {
-            notifyEliminationsBeforeDiscussion(alivePlayersForDiscussion, eliminatedPlayers, 10);
-        }
+            // Notify players about eliminated participants and hold them in place before teleport
+            if (!alivePlayersForDiscussion.isEmpty()) {
+                notifyEliminationsBeforeDiscussion(alivePlayersForDiscussion, eliminatedPlayers, 10);
+            }
 
-        // Clear infected flags for the round
-        gameState.clearInfectedThisRound();
+            // Clear infected flags for the round
+            gameState.clearInfectedThisRound();
 
-        // Clear ALL inventory for all alive players (they should have nothing during discussion)
-        alivePlayerIds = gameState.getAlivePlayerIds();
-        if (alivePlayerIds != null) {
-            for (UUID playerId : alivePlayerIds) {
-                if (playerId == null) continue;
-                Player player = getPlayer(playerId);
-                if (player != null && player.isOnline()) {
-                    try {
-                        // Clear entire inventory
-                        player.getInventory().clear();
-                        player.updateInventory();
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Failed to clear inventory for " + player.getName() + ": " + e.getMessage());
+            // Clear ALL inventory for all alive players (they should have nothing during discussion)
+            alivePlayerIds = gameState.getAlivePlayerIds();
+            if (alivePlayerIds != null) {
+                for (UUID playerId : alivePlayerIds) {
+                    if (playerId == null) continue;
+                    Player player = getPlayer(playerId);
+                    if (player != null && player.isOnline()) {
+                        try {
+                            // Clear entire inventory
+                            player.getInventory().clear();
+                            player.updateInventory();
+                        } catch (Exception e) {
+                            plugin.getLogger().warning("Failed to clear inventory for " + player.getName() + ": " + e.getMessage());
+                        }
                     }
                 }
             }
-        }
 
-        // Get seat locations from session if available
-        final Map<Integer, Location> seatLocations = fetchSeatLocations(sessionName);
-        final Location discussionLocation = context.getCurrentDiscussionLocation();
-        final int discussionDuration = configManager.getDiscussionDuration();
-
-        // Delay teleportation and discussion start to give players time to read the elimination title
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            clearPreDiscussionEffects(alivePlayersForDiscussion);
-            teleportPlayersToDiscussion(alivePlayersForDiscussion, seatLocations, discussionLocation, sessionName);
-            // Start the discussion timer and supply callback to endDiscussionPhase
-            discussionPhaseHandler.startDiscussionPhase(sessionName, discussionDuration, gameState.getAlivePlayerIds(), () -> endDiscussionPhase(sessionName), seatLocations);
-        }, 20L * 10); // 10-second delay before teleporting to discussion
+            // Get seat locations from session if available
+            final Map<Integer, Location> seatLocations = fetchSeatLocations(sessionName);
+            final Location discussionLocation = context.getCurrentDiscussionLocation();
+            final int discussionDuration = configManager.getDiscussionDuration();
+
+            // Delay teleportation and discussion start to give players time to read the elimination title
+            // Scheduled in the session's lane and routed through its queue, so it is dropped if the session ends during the delay
+            tickDriver.forSession(sessionName).runLater(() -> context.getCommandQueue().execute(() -> {
+                clearPreDiscussionEffects(alivePlayersForDiscussion);
+                teleportPlayersToDiscussion(alivePlayersForDiscussion, seatLocations, discussionLocation, sessionName);
+                // Start the discussion timer and supply callback to endDiscussionPhase
+                discussionPhaseHandler.startDiscussionPhase(sessionName, discussionDuration, gameState.getAlivePlayerIds(), () -> endDiscussionPhase(sessionName), seatLocations);
+            }), 20L * 10); // 10-second delay before teleporting to discussion
+        });
     }
 
     private Map<Integer, Location> fetchSeatLocations(String sessionName) {
@@ -1257,30 +1496,32 @@ public class GameManager {
             return;
         }
 
-        GameState gameState = context.getGameState();
-        VoteManager voteManager = context.getVoteManager();
+        timed(sessionName, LatencyMetrics.Operation.END_DISCUSSION, () -> {
+            GameState gameState = context.getGameState();
+            VoteManager voteManager = context.getVoteManager();
 
-        plugin.getLogger().info("Ending discussion phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
-        sessionFlowLogger.record(sessionName, "PHASE", "Discussion phase ended", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
+            plugin.getLogger().info("Ending discussion phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
+            sessionFlowLogger.record(sessionName, "PHASE", "Discussion phase ended", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
 
-        // Cancel discussion timer first to prevent it from continuing
-        discussionPhaseHandler.cancelDiscussionTask(sessionName);
+            // Cancel discussion timer first to prevent it from continuing
+            discussionPhaseHandler.cancelDiscussionTask(sessionName);
 
-        // Broadcast only to players in this session
-        Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (sessionPlayers != null) {
-            for (Player p : sessionPlayers) {
-                if (p != null && p.isOnline()) {
-                    p.sendMessage("§e§l>> DISCUSSION PHASE ENDED <<");
+            // Broadcast only to players in this session
+            Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (sessionPlayers != null) {
+                for (Player p : sessionPlayers) {
+                    if (p != null && p.isOnline()) {
+                        p.sendMessage("§e§l>> DISCUSSION PHASE ENDED <<");
+                    }
                 }
             }
-        }
 
-        // Clear any previous votes
-        voteManager.clearVotes();
+            // Clear any previous votes
+            voteManager.clearVotes();
 
-        // Start voting phase
-        startVotingPhase(sessionName);
+            // Start voting phase
+            startVotingPhase(sessionName);
+        });
     }
 
     /**
@@ -1293,53 +1534,55 @@ public class GameManager {
             return;
         }
 
-        GameState gameState = context.getGameState();
-        PhaseManager phaseManager = context.getPhaseManager();
+        timed(sessionName, LatencyMetrics.Operation.START_VOTING, () -> {
+            GameState gameState = context.getGameState();
+            PhaseManager phaseManager = context.getPhaseManager();
 
-        phaseManager.setPhase(GamePhase.VOTING);
-        plugin.getLogger().info("Starting voting phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
+            phaseManager.setPhase(GamePhase.VOTING);
+            plugin.getLogger().info("Starting voting phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
 
-        // Clear all inventories first, then give ONLY voting papers
-        Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (alivePlayers != null && !alivePlayers.isEmpty()) {
-            for (Player player : alivePlayers) {
-                if (player != null && player.isOnline()) {
-                    try {
-                        // Clear entire inventory first
-                        player.getInventory().clear();
-                        player.updateInventory();
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Failed to clear inventory for " + player.getName() + " before voting: " + e.getMessage());
+            // Clear all inventories first, then give ONLY voting papers
+            Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (alivePlayers != null && !alivePlayers.isEmpty()) {
+                for (Player player : alivePlayers) {
+                    if (player != null && player.isOnline()) {
+                        try {
+                            // Clear entire inventory first
+                            player.getInventory().clear();
+                            player.updateInventory();
+                        } catch (Exception e) {
+                            plugin.getLogger().warning("Failed to clear inventory for " + player.getName() + " before voting: " + e.getMessage());
+                        }
+                        // Give ONLY voting papers
+                        inventoryManager.giveVotingPapers(player, alivePlayers);
                     }
-                    // Give ONLY voting papers
-                    inventoryManager.giveVotingPapers(player, alivePlayers);
                 }
             }
-        }
 
-        // Get voting duration from config
-        int votingDuration = configManager.getVotingDuration();
-        
-        // Calculate threshold information for display
-        int alivePlayerCount = gameState.getAlivePlayerCount();
-        int consecutiveNoEliminationPhases = context.getConsecutiveNoEliminationPhases();
-        DynamicVotingThreshold thresholdCalculator = new DynamicVotingThreshold(configManager);
-        int requiredVotes = thresholdCalculator.getRequiredVoteCount(alivePlayerCount, consecutiveNoEliminationPhases);
-        sessionFlowLogger.record(
-            sessionName,
-            "PHASE",
-            "Voting phase started",
-            null,
-            null,
-            Map.of(
-                "round", String.valueOf(gameState.getCurrentRound()),
-                "alive", String.valueOf(alivePlayerCount),
-                "requiredVotes", String.valueOf(requiredVotes)
-            )
-        );
-        
-        // Start the voting timer and supply callback to endVotingPhase
-        votingPhaseHandler.startVotingPhase(sessionName, votingDuration, gameState.getAlivePlayerIds(), () -> endVotingPhase(sessionName), requiredVotes, alivePlayerCount);
+            // Get voting duration from config
+            int votingDuration = configManager.getVotingDuration();
+            
+            // Calculate threshold information for display
+            int alivePlayerCount = gameState.getAlivePlayerCount();
+            int consecutiveNoEliminationPhases = context.getConsecutiveNoEliminationPhases();
+            DynamicVotingThreshold thresholdCalculator = new DynamicVotingThreshold(configManager);
+            int requiredVotes = thresholdCalculator.getRequiredVoteCount(alivePlayerCount, consecutiveNoEliminationPhases);
+            sessionFlowLogger.record(
+                sessionName,
+                "PHASE",
+                "Voting phase started",
+                null,
+                null,
+                Map.of(
+                    "round", String.valueOf(gameState.getCurrentRound()),
+                    "alive", String.valueOf(alivePlayerCount),
+                    "requiredVotes", String.valueOf(requiredVotes)
+                )
+            );
+            
+            // Start the voting timer and supply callback to endVotingPhase
+            votingPhaseHandler.startVotingPhase(sessionName, votingDuration, gameState.getAlivePlayerIds(), () -> endVotingPhase(sessionName), requiredVotes, alivePlayerCount);
+        });
     }
 
     /**
@@ -1353,67 +1596,69 @@ public class GameManager {
             return;
         }
 
-        GameState gameState = context.getGameState();
+        timed(sessionName, LatencyMetrics.Operation.END_VOTING, () -> {
+            GameState gameState = context.getGameState();
 
-        plugin.getLogger().info("Ending voting phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
-        sessionFlowLogger.record(sessionName, "PHASE", "Voting phase ended", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
+            plugin.getLogger().info("Ending voting phase for session '" + sessionName + "' - Round " + gameState.getCurrentRound());
+            sessionFlowLogger.record(sessionName, "PHASE", "Voting phase ended", null, null, Map.of("round", String.valueOf(gameState.getCurrentRound())));
 
-        // Cancel voting timer first to prevent it from continuing
-        votingPhaseHandler.cancelVotingTask(sessionName);
+            // Cancel voting timer first to prevent it from continuing
+            votingPhaseHandler.cancelVotingTask(sessionName);
 
-        // Broadcast only to players in this session
-        Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (sessionPlayers != null) {
-            for (Player p : sessionPlayers) {
-                if (p != null && p.isOnline()) {
-                    p.sendMessage("§c§l>> VOTING PHASE ENDED <<");
+            // Broadcast only to players in this session
+            Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (sessionPlayers != null) {
+                for (Player p : sessionPlayers) {
+                    if (p != null && p.isOnline()) {
+                        p.sendMessage("§c§l>> VOTING PHASE ENDED <<");
+                    }
                 }
             }
-        }
 
-        // Clear voting papers from all players
-        Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
-        if (alivePlayers != null) {
-            inventoryManager.clearAllVotingPapers(alivePlayers);
-        }
+            // Clear voting papers from all players
+            Collection<Player> alivePlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+            if (alivePlayers != null) {
+                inventoryManager.clearAllVotingPapers(alivePlayers);
+            }
 
-        // Resolve votes and eliminate
-        try {
-            resolveVotes(sessionName);
-        } catch (Exception e) {
-            plugin.getLogger().severe("Error resolving votes: " + e.getMessage());
-            e.printStackTrace();
-        }
+            // Resolve votes and eliminate
+            try {
+                resolveVotes(sessionName);
+            } catch (Exception e) {
+                plugin.getLogger().severe("Error resolving votes: " + e.getMessage());
+                e.printStackTrace();
+            }
 
-        // Check for win condition after voting
-        try {
-            if (checkForWin(sessionName)) {
-                plugin.getLogger().info("Win condition met - game ended, not starting new round for session: " + sessionName);
-                return; // Game ended
+            // Check for win condition after voting
+            try {
+                if (checkForWin(sessionName)) {
+                    plugin.getLogger().info("Win condition met - game ended, not starting new round for session: " + sessionName);
+                    return; // Game ended
+                }
+            } catch (Exception e) {
+                plugin.getLogger().severe("Error checking win conditions: " + e.getMessage());
+                e.printStackTrace();
+                // Don't continue to next round if check fails - end game instead
+                endGame(sessionName);
+                return;
             }
-        } catch (Exception e) {
-            plugin.getLogger().severe("Error checking win conditions: " + e.getMessage());
-            e.printStackTrace();
-            // Don't continue to next round if check fails - end game instead
-            endGame(sessionName);
-            return;
-        }
 
-        // Double-check game is still active before starting new round
-        if (!gameState.isGameActive()) {
-            plugin.getLogger().info("Game is not active after voting - not starting new round for session: " + sessionName);
-            return;
-        }
+            // Double-check game is still active before starting new round
+            if (!gameState.isGameActive()) {
+                plugin.getLogger().info("Game is not active after voting - not starting new round for session: " + sessionName);
+                return;
+            }
 
-        // Start next round
-        try {
-            startNewRound(sessionName);
-        } catch (Exception e) {
-            plugin.getLogger().severe("Error starting new round: " + e.getMessage());
-            e.printStackTrace();
-            // Attempt to end game gracefully
-            endGame(sessionName);
-        }
+            // Start next round
+            try {
+                startNewRound(sessionName);
+            } catch (Exception e) {
+                plugin.getLogger().severe("Error starting new round: " + e.getMessage());
+                e.printStackTrace();
+                // Attempt to end game gracefully
+                endGame(sessionName);
+            }
+        });
     }
 
     /**
@@ -1436,134 +1681,146 @@ public class GameManager {
             return;
         }
 
-        int alivePlayerCount = gameState.getAlivePlayerCount();
-        int consecutiveNoEliminationPhases = context.getConsecutiveNoEliminationPhases();
-        
-        // Initialize dynamic voting threshold calculator
-        DynamicVotingThreshold thresholdCalculator = new DynamicVotingThreshold(configManager);
-        
-        UUID mostVoted = voteManager.getMostVotedPlayer();
-        List<UUID> tied = voteManager.getTiedPlayers();
-        int maxVotes = voteManager.getMaxVoteCount();
-
-        if (tied == null) {
-            tied = Collections.emptyList();
-        }
-
-        Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
+        timed(sessionName, LatencyMetrics.Operation.RESOLVE_VOTES, () -> {
+            int alivePlayerCount = gameState.getAlivePlayerCount();
+            int consecutiveNoEliminationPhases = context.getConsecutiveNoEliminationPhases();
+            
+            // Initialize dynamic voting threshold calculator
+            DynamicVotingThreshold thresholdCalculator = new DynamicVotingThreshold(configManager);
+            
+            UUID mostVoted = voteManager.getMostVotedPlayer();
+            List<UUID> tied = voteManager.getTiedPlayers();
+            int maxVotes = voteManager.getMaxVoteCount();
 
-        if (mostVoted == null && tied.isEmpty()) {
-            // No votes cast - skip elimination and increment penalty
-            context.incrementNoEliminationPhases();
-            if (sessionPlayers != null) {
-                for (Player p : sessionPlayers) {
-                    if (p != null && p.isOnline()) {
-                        p.sendMessage("§eNo votes were cast. No one is eliminated.");
-                    }
-                }
+            if (tied == null) {
+                tied = Collections.emptyList();
             }
-            plugin.getLogger().info("No votes cast this round for session " + sessionName + ". Total voters: " + voteManager.getVoters().size() +
-                ", Alive players: " + alivePlayerCount + ", Consecutive no-elimination phases: " + consecutiveNoEliminationPhases);
-            sessionFlowLogger.record(sessionName, "VOTE", "No votes cast", null, null, Map.of("alive", String.valueOf(alivePlayerCount)));
-            return;
-        }
 
-        UUID toEliminate = null;
-        String resultMessage;
-        boolean eliminationOccurred = false;
+            Collection<Player> sessionPlayers = swipePhaseHandler.getAlivePlayerObjects(gameState.getAlivePlayerIds());
 
-        // Check if we have a clear winner (no tie)
-        if (mostVoted != null) {
-            // Check if the vote count meets the threshold
-            if (thresholdCalculator.meetsThreshold(maxVotes, alivePlayerCount, consecutiveNoEliminationPhases)) {
-                toEliminate = mostVoted;
-                eliminationOccurred = true;
-                Player eliminated = getPlayer(toEliminate);
-                if (eliminated != null) {
-                    resultMessage = "§c" + PlayerNameUtils.displayName(eliminated) + " was eliminated with " + maxVotes + " vote(s)!";
-                } else {
-                    resultMessage = "§cA player was eliminated with " + maxVotes + " vote(s)!";
-                }
-            } else {
-                // Vote count doesn't meet threshold - no elimination
-                int requiredVotes = thresholdCalculator.getRequiredVoteCount(alivePlayerCount, consecutiveNoEliminationPhases);
+            if (mostVoted == null && tied.isEmpty()) {
+                // No votes cast - skip elimination and increment penalty
                 context.incrementNoEliminationPhases();
                 if (sessionPlayers != null) {
                     for (Player p : sessionPlayers) {
                         if (p != null && p.isOnline()) {
-                            p.sendMessage("§eNot enough votes to eliminate. Required: " + requiredVotes + ", Got: " + maxVotes);
+                            p.sendMessage("§eNo votes were cast. No one is eliminated.");
                         }
                     }
                 }
-                plugin.getLogger().info("Vote threshold not met for session " + sessionName + ". Required: " + requiredVotes + 
-                    ", Got: " + maxVotes + ", Alive players: " + alivePlayerCount + 
-                    ", Consecutive no-elimination phases: " + (consecutiveNoEliminationPhases + 1));
-                sessionFlowLogger.record(sessionName, "VOTE", "Vote threshold not met", null, null, Map.of("required", String.valueOf(requiredVotes), "got", String.valueOf(maxVotes)));
+                plugin.getLogger().info("No votes cast this round for session " + sessionName + ". Total voters: " + voteManager.getVoters().size() +
+                    ", Alive players: " + alivePlayerCount + ", Consecutive no-elimination phases: " + consecutiveNoEliminationPhases);
+                sessionFlowLogger.record(sessionName, "VOTE", "No votes cast", null, null, Map.of("alive", String.valueOf(alivePlayerCount)));
                 return;
             }
-        } else if (!tied.isEmpty()) {
-            // Handle tie - check if tie vote count meets threshold
-            if (thresholdCalculator.meetsThreshold(maxVotes, alivePlayerCount, consecutiveNoEliminationPhases)) {
-                // Tie meets threshold - randomly eliminate one of the tied players
-                Collections.shuffle(tied);
-                toEliminate = tied.get(0);
-                eliminationOccurred = true;
-                Player eliminated = getPlayer(toEliminate);
-                if (eliminated != null) {
-                    resultMessage = "§cTie! " + PlayerNameUtils.displayName(eliminated) + " was randomly eliminated with " + maxVotes + " vote(s)!";
+
+            UUID toEliminate = null;
+            String resultMessage;
+            boolean eliminationOccurred = false;
+
+            // Check if we have a clear winner (no tie)
+            if (mostVoted != null) {
+                // Check if the vote count meets the threshold
+                if (thresholdCalculator.meetsThreshold(maxVotes, alivePlayerCount, consecutiveNoEliminationPhases)) {
+                    toEliminate = mostVoted;
+                    eliminationOccurred = true;
+                    Player eliminated = getPlayer(toEliminate);
+                    if (eliminated != null) {
+                        resultMessage = "§c" + PlayerNameUtils.displayName(eliminated) + " was eliminated with " + maxVotes + " vote(s)!";
+                    } else {
+                        resultMessage = "§cA player was eliminated with " + maxVotes + " vote(s)!";
+                    }
                 } else {
-                    resultMessage = "§cTie! A player was randomly eliminated with " + maxVotes + " vote(s)!";
+                    // Vote count doesn't meet threshold - no elimination
+                    int requiredVotes = thresholdCalculator.getRequiredVoteCount(alivePlayerCount, consecutiveNoEliminationPhases);
+                    context.incrementNoEliminationPhases();
+                    if (sessionPlayers != null) {
+                        for (Player p : sessionPlayers) {
+                            if (p != null && p.isOnline()) {
+                                p.sendMessage("§eNot enough votes to eliminate. Required: " + requiredVotes + ", Got: " + maxVotes);
+                            }
+                        }
+                    }
+                    plugin.getLogger().info("Vote threshold not met for session " + sessionName + ". Required: " + requiredVotes + 
+                        ", Got: " + maxVotes + ", Alive players: " + alivePlayerCount + 
+                        ", Consecutive no-elimination phases: " + (consecutiveNoEliminationPhases + 1));
+                    sessionFlowLogger.record(sessionName, "VOTE", "Vote threshold not met", null, null, Map.of("required", String.valueOf(requiredVotes), "got", String.valueOf(maxVotes)));
+                    return;
+                }
+            } else if (!tied.isEmpty()) {
+                // Handle tie - check if tie vote count meets threshold
+                if (thresholdCalculator.meetsThreshold(maxVotes, alivePlayerCount, consecutiveNoEliminationPhases)) {
+                    // Tie meets threshold - randomly eliminate one of the tied players
+                    Collections.shuffle(tied);
+                    toEliminate = tied.get(0);
+                    eliminationOccurred = true;
+                    Player eliminated = getPlayer(toEliminate);
+                    if (eliminated != null) {
+                        resultMessage = "§cTie! " + PlayerNameUtils.displayName(eliminated) + " was randomly eliminated with " + maxVotes + " vote(s)!";
+                    } else {
+                        resultMessage = "§cTie! A player was randomly eliminated with " + maxVotes + " vote(s)!";
+                    }
+                } else {
+                    // Tie doesn't meet threshold - no elimination
+                    int requiredVotes = thresholdCalculator.getRequiredVoteCount(alivePlayerCount, consecutiveNoEliminationPhases);
+                    context.incrementNoEliminationPhases();
+                    if (sessionPlayers != null) {
+                        for (Player p : sessionPlayers) {
+                            if (p != null && p.isOnline()) {
+                                p.sendMessage("§eTie occurred but not enough votes to eliminate. Required: " + requiredVotes + ", Got: " + maxVotes);
+                            }
+                        }
+                    }
+                    plugin.getLogger().info("Tie vote threshold not met for session " + sessionName + ". Required: " + requiredVotes + 
+                        ", Got: " + maxVotes + ", Alive players: " + alivePlayerCount + 
+                        ", Consecutive no-elimination phases: " + (consecutiveNoEliminationPhases + 1));
+                    sessionFlowLogger.record(sessionName, "VOTE", "Tie threshold not met", null, null, Map.of("required", String.valueOf(requiredVotes), "got", String.valueOf(maxVotes)));
+                    return;
                 }
             } else {
-                // Tie doesn't meet threshold - no elimination
-                int requiredVotes = thresholdCalculator.getRequiredVoteCount(alivePlayerCount, consecutiveNoEliminationPhases);
+                // Should not happen, but handle gracefully
                 context.incrementNoEliminationPhases();
                 if (sessionPlayers != null) {
                     for (Player p : sessionPlayers) {
                         if (p != null && p.isOnline()) {
-                            p.sendMessage("§eTie occurred but not enough votes to eliminate. Required: " + requiredVotes + ", Got: " + maxVotes);
+                            p.sendMessage("§eVoting completed but no elimination occurred.");
                         }
                     }
                 }
-                plugin.getLogger().info("Tie vote threshold not met for session " + sessionName + ". Required: " + requiredVotes + 
-                    ", Got: " + maxVotes + ", Alive players: " + alivePlayerCount + 
-                    ", Consecutive no-elimination phases: " + (consecutiveNoEliminationPhases + 1));
-                sessionFlowLogger.record(sessionName, "VOTE", "Tie threshold not met", null, null, Map.of("required", String.valueOf(requiredVotes), "got", String.valueOf(maxVotes)));
                 return;
             }
-        } else {
-            // Should not happen, but handle gracefully
-            context.incrementNoEliminationPhases();
-            if (sessionPlayers != null) {
-                for (Player p : sessionPlayers) {
-                    if (p != null && p.isOnline()) {
-                        p.sendMessage("§eVoting completed but no elimination occurred.");
-                    }
-                }
-            }
-            return;
-        }
 
-        // Eliminate the player if we have one
-        if (toEliminate != null && eliminationOccurred) {
-            // Reset penalty counter since elimination occurred
-            context.resetNoEliminationPhases();
-            
-            Player player = getPlayer(toEliminate);
-            if (player != null && player.isOnline()) {
-                try {
-                    eliminatePlayer(sessionName, player);
-                    if (sessionPlayers != null) {
-                        for (Player p : sessionPlayers) {
-                            if (p != null && p.isOnline()) {
-                                p.sendMessage(resultMessage);
+            // Eliminate the player if we have one
+            if (toEliminate != null && eliminationOccurred) {
+                // Reset penalty counter since elimination occurred
+                context.resetNoEliminationPhases();
+                
+                Player player = getPlayer(toEliminate);
+                if (player != null && player.isOnline()) {
+                    try {
+                        eliminatePlayer(sessionName, player);
+                        if (sessionPlayers != null) {
+                            for (Player p : sessionPlayers) {
+                                if (p != null && p.isOnline()) {
+                                    p.sendMessage(resultMessage);
+                                }
+                            }
+                        }
+                    } catch (Exception e) {
+                        plugin.getLogger().severe("Error eliminating player " + player.getName() + ": " + e.getMessage());
+                        e.printStackTrace();
+                        // Fallback: remove from state
+                        gameState.removeAlivePlayer(toEliminate);
+                        if (sessionPlayers != null) {
+                            for (Player p : sessionPlayers) {
+                                if (p != null && p.isOnline()) {
+                                    p.sendMessage(resultMessage);
+                                }
                             }
                         }
                     }
-                } catch (Exception e) {
-                    plugin.getLogger().severe("Error eliminating player " + player.getName() + ": " + e.getMessage());
-                    e.printStackTrace();
-                    // Fallback: remove from state
+                } else {
+                    // Player offline - remove from state
                     gameState.removeAlivePlayer(toEliminate);
                     if (sessionPlayers != null) {
                         for (Player p : sessionPlayers) {
@@ -1573,18 +1830,8 @@ public class GameManager {
                         }
                     }
                 }
-            } else {
-                // Player offline - remove from state
-                gameState.removeAlivePlayer(toEliminate);
-                if (sessionPlayers != null) {
-                    for (Player p : sessionPlayers) {
-                        if (p != null && p.isOnline()) {
-                            p.sendMessage(resultMessage);
-                        }
-                    }
-                }
             }
-        }
+        });
     }
 
     /**
@@ -1598,7 +1845,7 @@ public class GameManager {
         if (context == null) return false;
 
         // Both players must be in the same session
-        if (!context.getGameState().getAllParticipatingPlayerIds().contains(target.getUniqueId())) {
+        if (!context.getGameState().isParticipating(target.getUniqueId())) {
             return false;
         }
 
@@ -1624,16 +1871,18 @@ public class GameManager {
             return false;
         }
 
-        // Register the vote
-        boolean success = voteManager.registerVote(voterId, targetId);
+        return timed(context.getSessionName(), LatencyMetrics.Operation.VOTE, () -> {
+            // Register the vote
+            boolean success = voteManager.registerVote(voterId, targetId);
 
-        if (success) {
-            // Silent success - no message to prevent giving away information
-            plugin.getLogger().info("Vote registered in session '" + context.getSessionName() + "': " + voter.getName() + " voted for " + target.getName());
-            sessionFlowLogger.recordVote(context.getSessionName(), voterId, targetId, voter.getName(), target.getName());
-        }
+            if (success) {
+                // Silent success - no message to prevent giving away information
+                plugin.getLogger().info("Vote registered in session '" + context.getSessionName() + "': " + voter.getName() + " voted for " + target.getName());
+                sessionFlowLogger.recordVote(context.getSessionName(), voterId, targetId, voter.getName(), target.getName());
+            }
 
-        return success;
+            return success;
+        });
     }
 
     /**
@@ -1647,14 +1896,16 @@ public class GameManager {
         SessionGameContext context = getContextForPlayer(medic.getUniqueId());
         if (context == null) return;
 
-        boolean hadPendingDeath = context.getGameState().hasPendingDeath(target.getUniqueId()) || context.getGameState().isDelusionInfected(target.getUniqueId());
+        timed(context.getSessionName(), LatencyMetrics.Operation.CURE, () -> {
+            boolean hadPendingDeath = context.getGameState().hasPendingDeath(target.getUniqueId()) || context.getGameState().isDelusionInfected(target.getUniqueId());
 
-        actionHandler.handleCure(context, medic, target);
+            actionHandler.handleCure(context, medic, target);
 
-        boolean curedAfterAction = !context.getGameState().hasPendingDeath(target.getUniqueId()) && !context.getGameState().isDelusionInfected(target.getUniqueId());
-        if (hadPendingDeath && curedAfterAction) {
-            sessionFlowLogger.recordCure(context.getSessionName(), medic.getUniqueId(), target.getUniqueId(), medic.getName(), target.getName());
-        }
+            boolean curedAfterAction = !context.getGameState().hasPendingDeath(target.getUniqueId()) && !context.getGameState().isDelusionInfected(target.getUniqueId());
+            if (hadPendingDeath && curedAfterAction) {
+                sessionFlowLogger.recordCure(context.getSessionName(), medic.getUniqueId(), target.getUniqueId(), medic.getName(), target.getName());
+            }
+        });
     }
 
     /**
@@ -1668,14 +1919,16 @@ public class GameManager {
         SessionGameContext context = getContextForPlayer(shooter.getUniqueId());
         if (context == null) return;
 
-        boolean pendingBefore = context.getGameState().hasPendingDeath(target.getUniqueId());
+        timed(context.getSessionName(), LatencyMetrics.Operation.SWIPE, () -> {
+            boolean pendingBefore = context.getGameState().hasPendingDeath(target.getUniqueId());
 
-        actionHandler.handleSwipe(context, shooter, target);
+            actionHandler.handleSwipe(context, shooter, target);
 
-        boolean pendingAfter = context.getGameState().hasPendingDeath(target.getUniqueId());
-        if (!pendingBefore && pendingAfter) {
-            sessionFlowLogger.recordSwipe(context.getSessionName(), shooter.getUniqueId(), target.getUniqueId(), shooter.getName(), target.getName());
-        }
+            boolean pendingAfter = context.getGameState().hasPendingDeath(target.getUniqueId());
+            if (!pendingBefore && pendingAfter) {
+                sessionFlowLogger.recordSwipe(context.getSessionName(), shooter.getUniqueId(), target.getUniqueId(), shooter.getName(), target.getName());
+            }
+        });
     }
 
     /**
@@ -1765,8 +2018,9 @@ public class GameManager {
                     }
                 }
             }
-            endGame(sessionName);
+            // Logged before ending, which closes the session's log
             sessionFlowLogger.record(sessionName, "WIN", result.getMessage(), null, null, Map.of("winner", result.getWinner().name()));
+            endGame(sessionName);
             return true;
         }
         return false;
@@ -1799,7 +2053,7 @@ public class GameManager {
             return false;
         }
 
-        if (!gameState.getAllParticipatingPlayerIds().contains(playerId)) {
+        if (!gameState.isParticipating(playerId)) {
             plugin.getLogger().info("Player " + player.getName() + " is not in the active game");
             return false;
         }
@@ -1822,7 +2076,7 @@ public class GameManager {
             gameState.removePendingDeath(playerId);
         }
 
-        // Remove from alive players
+        // Remove from alive players; they stay a participant, so lookups still route to the session
         gameState.removeAlivePlayer(playerId);
 
         // Also remove from session if they're in one
@@ -1930,149 +2184,153 @@ public class GameManager {
             return;
         }
 
-        // Clean up any signs remaining from the current round before ending
-        if (signModeManager != null) {
-            try {
-                signModeManager.clearSessionSigns(sessionName);
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to clear session signs during endGame for '" + sessionName + "': " + e.getMessage());
+        timed(sessionName, LatencyMetrics.Operation.END_GAME, () -> {
+            // Clean up any signs remaining from the current round before ending
+            if (signModeManager != null) {
+                try {
+                    signModeManager.clearSessionSigns(sessionName);
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Failed to clear session signs during endGame for '" + sessionName + "': " + e.getMessage());
+                }
             }
-        }
-
-        GameState gameState = context.getGameState();
-        PhaseManager phaseManager = context.getPhaseManager();
 
-        plugin.getLogger().info("Ending game for session '" + sessionName + "'. Final state: " + gameState.getDebugInfo());
-        sessionFlowLogger.record(sessionName, "SESSION", "Session ending", null, null, Map.of("state", gameState.getDebugInfo()));
+            GameState gameState = context.getGameState();
+            PhaseManager phaseManager = context.getPhaseManager();
 
-        // Restore all participating players' nametags, game modes, and inventories
-        Set<UUID> allParticipatingIds = gameState.getAllParticipatingPlayerIds();
-        hunterVisionAdapter.stopVisionForPlayers(allParticipatingIds);
-        if (allParticipatingIds != null) {
-            for (UUID playerId : allParticipatingIds) {
-                if (playerId == null) continue;
-                Player player = getPlayer(playerId);
-                if (player != null && player.isOnline()) {
-                    try {
-                        // Clear all game items first
-                        inventoryManager.clearGameItems(player);
-                        inventoryManager.clearVotingPapers(player);
-                        player.getInventory().clear(); // Clear everything
-                        player.updateInventory();
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Failed to clear game items for " + player.getName() + ": " + e.getMessage());
-                    }
+            plugin.getLogger().info("Ending game for session '" + sessionName + "'. Final state: " + gameState.getDebugInfo());
+            sessionFlowLogger.record(sessionName, "SESSION", "Session ending", null, null, Map.of("state", gameState.getDebugInfo()));
 
-                    try {
-                        // Restore nick visuals then show real nametag
-                        if (nickManager != null) nickManager.restoreNick(player);
-                        NameTagManager.showNameTag(player);
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Failed to restore nametag for " + player.getName() + ": " + e.getMessage());
-                    }
+            // Restore all participating players' nametags, game modes, and inventories
+            Set<UUID> allParticipatingIds = gameState.getAllParticipatingPlayerIds();
+            hunterVisionAdapter.stopVisionForPlayers(allParticipatingIds);
+            if (allParticipatingIds != null) {
+                for (UUID playerId : allParticipatingIds) {
+                    if (playerId == null) continue;
+                    Player player = getPlayer(playerId);
+                    if (player != null && player.isOnline()) {
+                        try {
+                            // Clear all game items first
+                            inventoryManager.clearGameItems(player);
+                            inventoryManager.clearVotingPapers(player);
+                            player.getInventory().clear(); // Clear everything
+                            player.updateInventory();
+                        } catch (Exception e) {
+                            plugin.getLogger().warning("Failed to clear game items for " + player.getName() + ": " + e.getMessage());
+                        }
 
-                    // Restore from backup if available
-                    PlayerBackup backup = playerBackups.get(playerId);
-                    if (backup != null) {
                         try {
-                            if (!backup.restore(player)) {
-                                plugin.getLogger().warning("Failed to restore backup for " + player.getName());
+                            // Restore nick visuals then show real nametag
+                            if (nickManager != null) nickManager.restoreNick(player);
+                            NameTagManager.showNameTag(player);
+                        } catch (Exception e) {
+                            plugin.getLogger().warning("Failed to restore nametag for " + player.getName() + ": " + e.getMessage());
+                        }
+
+                        // Restore from backup if available
+                        PlayerBackup backup = playerBackups.get(playerId);
+                        if (backup != null) {
+                            try {
+                                if (!backup.restore(player)) {
+                                    plugin.getLogger().warning("Failed to restore backup for " + player.getName());
+                                    // Fallback: reset to survival mode and clear inventory
+                                    try {
+                                        player.setGameMode(GameMode.SURVIVAL);
+                                        player.getInventory().clear();
+                                    } catch (Exception e) {
+                                        plugin.getLogger().warning("Failed to reset game mode/inventory for " + player.getName() + ": " + e.getMessage());
+                                    }
+                                }
+                            } catch (Exception e) {
+                                plugin.getLogger().severe("Error restoring backup for " + player.getName() + ": " + e.getMessage());
+                                e.printStackTrace();
                                 // Fallback: reset to survival mode and clear inventory
                                 try {
                                     player.setGameMode(GameMode.SURVIVAL);
                                     player.getInventory().clear();
-                                } catch (Exception e) {
-                                    plugin.getLogger().warning("Failed to reset game mode/inventory for " + player.getName() + ": " + e.getMessage());
+                                } catch (Exception ex) {
+                                    plugin.getLogger().warning("Failed to reset game mode/inventory for " + player.getName() + ": " + ex.getMessage());
                                 }
                             }
-                        } catch (Exception e) {
-                            plugin.getLogger().severe("Error restoring backup for " + player.getName() + ": " + e.getMessage());
-                            e.printStackTrace();
+                        } else {
                             // Fallback: reset to survival mode and clear inventory
                             try {
                                 player.setGameMode(GameMode.SURVIVAL);
                                 player.getInventory().clear();
-                            } catch (Exception ex) {
-                                plugin.getLogger().warning("Failed to reset game mode/inventory for " + player.getName() + ": " + ex.getMessage());
+                            } catch (Exception e) {
+                                plugin.getLogger().warning("Failed to reset game mode/inventory for " + player.getName() + ": " + e.getMessage());
                             }
                         }
-                    } else {
-                        // Fallback: reset to survival mode and clear inventory
+
+                        // Send feedback
                         try {
-                            player.setGameMode(GameMode.SURVIVAL);
-                            player.getInventory().clear();
+                            player.sendMessage("§aYou have been returned to normal state.");
                         } catch (Exception e) {
-                            plugin.getLogger().warning("Failed to reset game mode/inventory for " + player.getName() + ": " + e.getMessage());
+                            plugin.getLogger().warning("Failed to send restoration message to " + player.getName() + ": " + e.getMessage());
                         }
-                    }
 
-                    // Send feedback
-                    try {
-                        player.sendMessage("§aYou have been returned to normal state.");
-                    } catch (Exception e) {
-                        plugin.getLogger().warning("Failed to send restoration message to " + player.getName() + ": " + e.getMessage());
+                        // Remove from backups (only for this session's players)
+                        playerBackups.remove(playerId);
                     }
-
-                    // Remove from backups (only for this session's players)
-                    playerBackups.remove(playerId);
                 }
             }
-        }
 
-        skinManager.restoreOriginalSkins(allParticipatingIds);
+            skinManager.restoreOriginalSkins(allParticipatingIds);
 
-        // Cancel any running timers for this session
-        try {
-            swipePhaseHandler.cancelSwipeTask(sessionName);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Error cancelling swipe task: " + e.getMessage());
-        }
+            // Cancel any running timers for this session
+            try {
+                swipePhaseHandler.cancelSwipeTask(sessionName);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error cancelling swipe task: " + e.getMessage());
+            }
 
-        try {
-            discussionPhaseHandler.cancelDiscussionTask(sessionName);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Error cancelling discussion task: " + e.getMessage());
-        }
+            try {
+                discussionPhaseHandler.cancelDiscussionTask(sessionName);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error cancelling discussion task: " + e.getMessage());
+            }
 
-        try {
-            votingPhaseHandler.cancelVotingTask(sessionName);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Error cancelling voting task: " + e.getMessage());
-        }
+            try {
+                votingPhaseHandler.cancelVotingTask(sessionName);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error cancelling voting task: " + e.getMessage());
+            }
 
-        // Reset phase and game state
-        phaseManager.reset();
-        gameState.clearGameState();
+            // Reset phase and game state
+            phaseManager.reset();
+            gameState.clearGameState();
 
-        // Clean up context
-        removeContext(sessionName);
+            // Last entry of the session log; removing the context closes it
+            sessionFlowLogger.record(sessionName, "SESSION", "Session ended successfully", null, null, Collections.emptyMap());
 
-        // Fully terminate session - remove it from SessionManager when game ends
-        try {
-            // Access SessionManager via plugin instance
-            Matchbox matchboxPlugin = (Matchbox) plugin;
-            SessionManager sessionManager = matchboxPlugin.getSessionManager();
-            if (sessionManager != null) {
-                GameSession session = sessionManager.getSession(sessionName);
-                if (session != null) {
-                    // Mark as inactive first
-                    session.setActive(false);
-                    // Fully remove the session from SessionManager for complete termination
-                    sessionManager.removeSession(sessionName);
-                    plugin.getLogger().info("Fully terminated and removed session '" + sessionName + "' after game end");
+            // Clean up context
+            removeContext(sessionName);
+
+            // Fully terminate session - remove it from SessionManager when game ends
+            try {
+                // Access SessionManager via plugin instance
+                Matchbox matchboxPlugin = (Matchbox) plugin;
+                SessionManager sessionManager = matchboxPlugin.getSessionManager();
+                if (sessionManager != null) {
+                    GameSession session = sessionManager.getSession(sessionName);
+                    if (session != null) {
+                        // Mark as inactive first
+                        session.setActive(false);
+                        // Fully remove the session from SessionManager for complete termination
+                        sessionManager.removeSession(sessionName);
+                        plugin.getLogger().info("Fully terminated and removed session '" + sessionName + "' after game end");
+                    } else {
+                        plugin.getLogger().warning("Session '" + sessionName + "' not found when trying to remove after game end");
+                    }
                 } else {
-                    plugin.getLogger().warning("Session '" + sessionName + "' not found when trying to remove after game end");
+                    plugin.getLogger().warning("SessionManager is null when trying to remove session after game end");
                 }
-            } else {
-                plugin.getLogger().warning("SessionManager is null when trying to remove session after game end");
+            } catch (Exception e) {
+                plugin.getLogger().severe("Failed to remove session after game end: " + e.getMessage());
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            plugin.getLogger().severe("Failed to remove session after game end: " + e.getMessage());
-            e.printStackTrace();
-        }
 
-        plugin.getLogger().info("Game ended successfully for session: " + sessionName);
-        sessionFlowLogger.record(sessionName, "SESSION", "Session ended successfully", null, null, Collections.emptyMap());
+            plugin.getLogger().info("Game ended successfully for session: " + sessionName);
+        });
     }
 
     /**
@@ -2114,11 +2372,18 @@ public class GameManager {
         return activeSessions.values().iterator().next().getVoteManager();
     }
 
+    /**
+     * Gets a live, read-only view of every active session's context.
+     */
+    public Collection<SessionGameContext> getActiveContexts() {
+        return Collections.unmodifiableCollection(activeSessions.values());
+    }
+
     /**
      * Gets all active session names.
      */
     public Set<String> getActiveSessionNames() {
-        return new HashSet<>(activeSessions.keySet());
+        return new HashSet<>(activeSessions.names());
     }
 
     public MessageUtils getMessageUtils() {
@@ -2133,6 +2398,53 @@ public class GameManager {
         return configManager;
     }
 
+    /**
+     * Gets the plugin-wide tick driver that runs all session timers.
+     */
+    public TickDriver getTickDriver() {
+        return tickDriver;
+    }
+
+    /**
+     * Gets the latency histograms for phase transitions and player actions.
+     */
+    public LatencyMetrics getLatencyMetrics() {
+        return latencyMetrics;
+    }
+
+    /**
+     * Runs a phase or action that has passed its checks for a live session and records how long it took.
+     */
+    private void timed(String sessionName, LatencyMetrics.Operation operation, Runnable work) {
+        timed(sessionName, operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private <T> T timed(String sessionName, LatencyMetrics.Operation operation, Supplier<T> work) {
+        long started = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            latencyMetrics.record(sessionName, operation, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Gets the profiler that times Matchbox event handlers, abilities and timers.
+     */
+    public TickProfiler getTickProfiler() {
+        return tickProfiler;
+    }
+
+    /**
+     * Gets the pool that recycles contexts of finished sessions.
+     */
+    public SessionContextPool getContextPool() {
+        return contextPool;
+    }
+
     /**
      * Gets the chat pipeline manager for handling session-scoped chat processing.
      */
@@ -2140,6 +2452,19 @@ public class GameManager {
         return chatPipelineManager;
     }
 
+    /**
+     * Marks a session's chat audiences stale after a join, elimination or quit.
+     */
+    public void invalidateChatAudiences(String sessionName) {
+        if (chatPipelineManager == null || sessionName == null) {
+            return;
+        }
+        SessionChatHandler chatHandler = chatPipelineManager.getSessionHandler(sessionName);
+        if (chatHandler != null) {
+            chatHandler.invalidateAudiences();
+        }
+    }
+
     /**
      * Gets the plugin instance.
      */
@@ -2156,7 +2481,15 @@ public class GameManager {
     }
 
     public void logChatMessage(String sessionName, UUID senderId, String senderName, String channel, String message) {
-        sessionFlowLogger.recordChat(sessionName, senderId, senderName, channel, message);
+        logChatMessage(sessionName, senderId, senderName, channel, message, Instant.now());
+    }
+
+    public void logChatMessage(String sessionName, UUID senderId, String senderName, String channel, String message, Instant sentAt) {
+        sessionFlowLogger.recordChat(sessionName, senderId, senderName, channel, message, sentAt);
+    }
+
+    public void recordChatRateLimited(String sessionName, UUID senderId, boolean throttled) {
+        sessionFlowLogger.recordChatRateLimited(sessionName, senderId, throttled);
     }
 
     public Optional<GameSessionLog> getSessionLog(String sessionName) {
@@ -2166,6 +2499,26 @@ public class GameManager {
         return Optional.of(sessionFlowLogger.getSessionLog(sessionName));
     }
 
+    /**
+     * Exports the logs of ended games to JSON Lines on a background thread.
+     *
+     * @param sessionName only export this session's games, or null for every session
+     * @return the number of games exported, once the export has finished
+     */
+    public CompletableFuture<Integer> exportSessionLogs(String sessionName, Path outputDirectory) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        Thread exporter = new Thread(() -> {
+            try {
+                result.complete(sessionFlowLogger.exportSessionLogs(sessionName, outputDirectory));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }, "Matchbox-LogExport");
+        exporter.setDaemon(true);
+        exporter.start();
+        return result;
+    }
+
     public Optional<GameStatistics> getSessionStatistics(String sessionName) {
         if (sessionName == null || sessionName.trim().isEmpty()) {
             return Optional.empty();
@@ -2178,12 +2531,13 @@ public class GameManager {
             return;
         }
 
+        SessionKey key = SessionKey.of(sessionName);
         if (strategy == null) {
-            roleAssignmentStrategies.remove(sessionName);
+            roleAssignmentStrategies.remove(key);
             return;
         }
 
-        roleAssignmentStrategies.put(sessionName, strategy);
+        roleAssignmentStrategies.put(key, strategy);
     }
 
     public void setSessionAbilityHandlers(String sessionName, Collection<SessionAbilityHandler> handlers) {
@@ -2191,8 +2545,9 @@ public class GameManager {
             return;
         }
 
+        SessionKey key = SessionKey.of(sessionName);
         if (handlers == null || handlers.isEmpty()) {
-            sessionAbilityHandlers.remove(sessionName);
+            sessionAbilityHandlers.remove(key);
             return;
         }
 
@@ -2201,18 +2556,18 @@ public class GameManager {
             .toList();
 
         if (sanitized.isEmpty()) {
-            sessionAbilityHandlers.remove(sessionName);
+            sessionAbilityHandlers.remove(key);
             return;
         }
 
-        sessionAbilityHandlers.put(sessionName, sanitized);
+        sessionAbilityHandlers.put(key, sanitized);
     }
 
     public List<SessionAbilityHandler> getSessionAbilityHandlers(String sessionName) {
         if (sessionName == null || sessionName.trim().isEmpty()) {
             return Collections.emptyList();
         }
-        return sessionAbilityHandlers.getOrDefault(sessionName, Collections.emptyList());
+        return sessionAbilityHandlers.getOrDefault(SessionKey.of(sessionName), Collections.emptyList());
     }
 
     public GameSession getSessionForAbilityRouting(String sessionName) {
@@ -0,0 +1,173 @@
+package com.ohacd.matchbox.game;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer mailbox for mutations of one {@link SessionGameContext}.
+ * Any thread may submit commands; they are executed one at a time, in submission order,
+ * by whichever thread drains the queue (normally the main thread once per tick).
+ * <p>
+ * When the inline drain check allows it (the caller already owns the session, or no
+ * per-tick pump is running), {@link #submit(Supplier)} drains immediately so the
+ * returned future is already complete when the call returns.
+ */
+public final class SessionCommandQueue {
+    private final Plugin plugin;
+    private volatile String sessionName;
+    private final Queue<Command<?>> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private volatile BooleanSupplier inlineDrainCheck = () -> true;
+    private volatile boolean closed;
+
+    public SessionCommandQueue(Plugin plugin, String sessionName) {
+        this.plugin = plugin;
+        this.sessionName = sessionName;
+    }
+
+    /**
+     * Sets the check deciding whether a submitting thread may drain the queue itself.
+     * Defaults to always draining inline, which matches direct calls.
+     */
+    public void setInlineDrainCheck(BooleanSupplier inlineDrainCheck) {
+        this.inlineDrainCheck = inlineDrainCheck != null ? inlineDrainCheck : () -> true;
+    }
+
+    /**
+     * Queues a command for this session.
+     *
+     * @return a future completed with the command's result once it has run, or
+     *         completed exceptionally if the session has already ended
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(sessionEnded());
+        }
+
+        Command<T> command = new Command<>(action);
+        mailbox.offer(command);
+        pendingCount.incrementAndGet();
+
+        // close() may have emptied the mailbox between the check above and the offer
+        if (closed && mailbox.remove(command)) {
+            pendingCount.decrementAndGet();
+            command.result.completeExceptionally(sessionEnded());
+            return command.result;
+        }
+
+        if (inlineDrainCheck.getAsBoolean()) {
+            drain(Integer.MAX_VALUE);
+        }
+        return command.result;
+    }
+
+    /**
+     * Queues a command whose result is not needed.
+     */
+    public CompletableFuture<Void> execute(Runnable action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Command cannot be null");
+        }
+        return submit(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs up to {@code maxCommands} queued commands on the calling thread.
+     * A command that submits to its own session is queued behind the current batch
+     * rather than run re-entrantly.
+     *
+     * @return the number of commands executed
+     */
+    public int drain(int maxCommands) {
+        if (drainLock.isHeldByCurrentThread()) {
+            return 0;
+        }
+        drainLock.lock();
+        try {
+            int executed = 0;
+            Command<?> command;
+            while (executed < maxCommands && (command = mailbox.poll()) != null) {
+                pendingCount.decrementAndGet();
+                command.run();
+                executed++;
+            }
+            return executed;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of commands waiting to be executed.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Rejects further commands and cancels any that have not run yet.
+     */
+    public void close() {
+        closed = true;
+        Command<?> command;
+        while ((command = mailbox.poll()) != null) {
+            pendingCount.decrementAndGet();
+            command.result.cancel(false);
+        }
+    }
+
+    /**
+     * Accepts commands again after {@link #close()}, for a context reused by another session.
+     */
+    public void reopen(String sessionName) {
+        if (!closed) {
+            throw new IllegalStateException("Command queue for session '" + this.sessionName + "' is still open");
+        }
+        this.sessionName = sessionName;
+        this.inlineDrainCheck = () -> true;
+        closed = false;
+    }
+
+    private IllegalStateException sessionEnded() {
+        return new IllegalStateException("Session '" + sessionName + "' is no longer active");
+    }
+
+    private final class Command<T> {
+        private final Supplier<T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Command(Supplier<T> action) {
+            this.action = action;
+        }
+
+        private void run() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(action.get());
+            } catch (Exception e) {
+                plugin.getLogger().warning("Command failed for session '" + sessionName + "': " + e.getMessage());
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
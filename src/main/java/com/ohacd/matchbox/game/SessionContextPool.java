@@ -0,0 +1,106 @@
+package com.ohacd.matchbox.game;
+
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of finished {@link SessionGameContext}s.
+ * <p>
+ * Ending a session hands its context back here; starting one takes a pooled context and
+ * {@link SessionGameContext#reset(String, GameScheduler) resets} it, so the game state arrays,
+ * vote maps and window maps already sized by earlier games are reused instead of reallocated.
+ * When the pool is empty a new context is constructed, and contexts released into a full pool
+ * are simply dropped.
+ */
+public final class SessionContextPool {
+    private final Plugin plugin;
+    private final int capacity;
+    private final Deque<SessionGameContext> idle = new ArrayDeque<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public SessionContextPool(Plugin plugin, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative");
+        }
+        this.plugin = plugin;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets a context bound to the given session, reusing a pooled one when available.
+     */
+    public SessionGameContext acquire(String sessionName, GameScheduler scheduler) {
+        SessionGameContext pooled;
+        synchronized (idle) {
+            pooled = idle.pollFirst();
+        }
+        if (pooled == null) {
+            misses.incrementAndGet();
+            return new SessionGameContext(plugin, sessionName, scheduler);
+        }
+        hits.incrementAndGet();
+        pooled.reset(sessionName, scheduler);
+        return pooled;
+    }
+
+    /**
+     * Returns a context whose session has ended. The context must already be cleaned up.
+     *
+     * @return true if the context was kept for reuse
+     */
+    public boolean release(SessionGameContext context) {
+        if (context == null) {
+            return false;
+        }
+        // Drop the owner's hooks now so nothing reaches the old session through a pooled context
+        context.getGameState().setParticipantListener(null);
+        synchronized (idle) {
+            if (idle.size() >= capacity || idle.contains(context)) {
+                return false;
+            }
+            idle.addFirst(context);
+            return true;
+        }
+    }
+
+    /**
+     * Gets how many acquisitions were served from the pool.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets how many acquisitions had to construct a new context.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of contexts waiting to be reused.
+     */
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Drops every pooled context.
+     */
+    public void clear() {
+        synchronized (idle) {
+            idle.clear();
+        }
+    }
+}
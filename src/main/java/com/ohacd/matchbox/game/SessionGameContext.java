@@ -2,6 +2,7 @@ package com.ohacd.matchbox.game;
 
 import com.ohacd.matchbox.game.phase.PhaseManager;
 import com.ohacd.matchbox.game.role.RoleAssigner;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
 import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.vote.VoteManager;
 import com.ohacd.matchbox.game.win.WinConditionChecker;
@@ -21,12 +22,14 @@ import java.util.concurrent.ConcurrentHashMap;
  * Each session maintains its own game state, phase manager, vote manager, and ability windows.
  */
 public class SessionGameContext {
-    private final String sessionName;
+    private String sessionName;
     private final GameState gameState;
     private final PhaseManager phaseManager;
     private final RoleAssigner roleAssigner;
     private final WinConditionChecker winConditionChecker;
     private final VoteManager voteManager;
+    private final SessionCommandQueue commandQueue;
+    private final ExpiryService expiryService;
     
     /** Maps player UUID to expiry timestamp for active swipe windows */
     private final Map<UUID, Long> activeSwipeWindow = new ConcurrentHashMap<>();
@@ -50,15 +53,21 @@ public class SessionGameContext {
     private final List<BukkitTask> scheduledTasks = new ArrayList<>();
     
     public SessionGameContext(Plugin plugin, String sessionName) {
+        this(plugin, sessionName, GameScheduler.create(plugin));
+    }
+
+    public SessionGameContext(Plugin plugin, String sessionName, GameScheduler scheduler) {
         if (sessionName == null || sessionName.trim().isEmpty()) {
             throw new IllegalArgumentException("Session name cannot be null or empty");
         }
         this.sessionName = sessionName;
         this.gameState = new GameState();
-        this.phaseManager = new PhaseManager(plugin);
+        this.phaseManager = new PhaseManager(plugin, gameState);
         this.roleAssigner = new RoleAssigner(gameState);
         this.winConditionChecker = new WinConditionChecker(gameState);
         this.voteManager = new VoteManager(gameState);
+        this.commandQueue = new SessionCommandQueue(plugin, sessionName);
+        this.expiryService = new ExpiryService(plugin, sessionName, scheduler);
     }
     
     public String getSessionName() {
@@ -85,6 +94,20 @@ public class SessionGameContext {
         return voteManager;
     }
     
+    /**
+     * Gets the mailbox through which state mutations for this session should be submitted.
+     */
+    public SessionCommandQueue getCommandQueue() {
+        return commandQueue;
+    }
+
+    /**
+     * Gets the per-player expirations (ability windows, delusion decay) for this session.
+     */
+    public ExpiryService getExpiryService() {
+        return expiryService;
+    }
+    
     public Map<UUID, Long> getActiveSwipeWindow() {
         return activeSwipeWindow;
     }
@@ -145,10 +168,30 @@ public class SessionGameContext {
         }
     }
 
+    /**
+     * Returns this context to the state of a freshly constructed one, bound to another session.
+     * Used by {@link SessionContextPool} so a new game reuses the structures of a finished one.
+     */
+    public void reset(String sessionName, GameScheduler scheduler) {
+        if (sessionName == null || sessionName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Session name cannot be null or empty");
+        }
+        cleanup();
+        gameState.setParticipantListener(null);
+        gameState.clearRoundState();
+        phaseManager.reset();
+        voteManager.clearVotes();
+        this.sessionName = sessionName;
+        commandQueue.reopen(sessionName);
+        expiryService.reset(sessionName, scheduler);
+    }
+
     /**
      * Cleans up all resources for this session context.
      */
     public void cleanup() {
+        commandQueue.close();
+        expiryService.clear();
         for (BukkitTask task : scheduledTasks) {
             try {
                 if (!task.isCancelled()) {
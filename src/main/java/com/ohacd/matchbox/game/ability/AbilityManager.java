@@ -5,6 +5,8 @@ import com.ohacd.matchbox.api.SessionAbilityContext;
 import com.ohacd.matchbox.api.SessionAbilityHandler;
 import com.ohacd.matchbox.game.GameManager;
 import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.profiling.TickProfiler;
+import com.ohacd.matchbox.game.profiling.TimingHistogram;
 import com.ohacd.matchbox.game.session.GameSession;
 import com.ohacd.matchbox.game.utils.Role;
 import org.bukkit.entity.Player;
@@ -21,11 +23,15 @@ import java.util.UUID;
 /**
  * Central registry and dispatcher for all abilities so we only maintain one
  * Bukkit listener. Abilities remain self contained while sharing the same
- * routing logic.
+ * routing logic. While the tick profiler is on, each ability's share of the
+ * routed events is timed separately.
  */
 public class AbilityManager {
     private final GameManager gameManager;
+    private final TickProfiler profiler;
     private final List<AbilityHandler> abilities = new ArrayList<>();
+    /** Per-ability timings, in the same order as {@link #abilities} */
+    private final List<TimingHistogram> abilityTimings = new ArrayList<>();
 
     /**
      * Creates a manager responsible for routing ability events.
@@ -34,6 +40,8 @@ public class AbilityManager {
      */
     public AbilityManager(GameManager gameManager) {
         this.gameManager = gameManager;
+        TickProfiler sharedProfiler = gameManager != null ? gameManager.getTickProfiler() : null;
+        this.profiler = sharedProfiler != null ? sharedProfiler : new TickProfiler();
     }
 
     /**
@@ -44,6 +52,7 @@ public class AbilityManager {
     public void registerAbility(AbilityHandler ability) {
         if (ability != null) {
             abilities.add(ability);
+            abilityTimings.add(profiler.histogram("ability:" + TickProfiler.simpleName(ability.getClass())));
         }
     }
 
@@ -70,8 +79,13 @@ public class AbilityManager {
         if (context == null) {
             return;
         }
-        for (AbilityHandler ability : abilities) {
-            ability.handleInventoryClick(event, context);
+        boolean profiled = profiler.isEnabled();
+        for (int i = 0; i < abilities.size(); i++) {
+            long start = profiled ? System.nanoTime() : 0L;
+            abilities.get(i).handleInventoryClick(event, context);
+            if (profiled) {
+                abilityTimings.get(i).record(System.nanoTime() - start);
+            }
             if (event.isCancelled()) {
                 break;
             }
@@ -96,8 +110,13 @@ public class AbilityManager {
         if (context == null) {
             return;
         }
-        for (AbilityHandler ability : abilities) {
-            ability.handlePlayerInteract(event, context);
+        boolean profiled = profiler.isEnabled();
+        for (int i = 0; i < abilities.size(); i++) {
+            long start = profiled ? System.nanoTime() : 0L;
+            abilities.get(i).handlePlayerInteract(event, context);
+            if (profiled) {
+                abilityTimings.get(i).record(System.nanoTime() - start);
+            }
             if (event.useInteractedBlock() == Event.Result.DENY || event.useItemInHand() == Event.Result.DENY) {
                 break;
             }
@@ -122,8 +141,13 @@ public class AbilityManager {
         if (context == null) {
             return;
         }
-        for (AbilityHandler ability : abilities) {
-            ability.handlePlayerInteractEntity(event, context);
+        boolean profiled = profiler.isEnabled();
+        for (int i = 0; i < abilities.size(); i++) {
+            long start = profiled ? System.nanoTime() : 0L;
+            abilities.get(i).handlePlayerInteractEntity(event, context);
+            if (profiled) {
+                abilityTimings.get(i).record(System.nanoTime() - start);
+            }
             if (event.isCancelled()) {
                 break;
             }
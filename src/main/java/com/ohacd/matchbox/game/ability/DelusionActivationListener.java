@@ -13,7 +13,6 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 
 /**
@@ -85,25 +84,6 @@ public class DelusionActivationListener implements AbilityHandler {
         ItemStack usedIndicator = InventoryManager.createUsedIndicator(clicked);
         player.getInventory().setItem(slot, usedIndicator);
         player.updateInventory();
-
-        // schedule cleanup that restores the paper if unused
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    return;
-                }
-                SessionGameContext ctx = gameManager.getContextForPlayer(player.getUniqueId());
-                if (ctx == null) {
-                    return;
-                }
-                Long currentExpiry = ctx.getActiveDelusionWindow().get(player.getUniqueId());
-                if (currentExpiry != null && currentExpiry.equals(windowExpiry)) {
-                    gameManager.endDelusionWindow(player.getUniqueId());
-                    gameManager.restoreSecondaryAbilityPaper(player);
-                }
-            }
-        }.runTaskLater(plugin, 20L * 8); // 8 seconds
     }
     
     @Override
@@ -157,25 +137,6 @@ public class DelusionActivationListener implements AbilityHandler {
         ItemStack usedIndicator = InventoryManager.createUsedIndicator(heldItem);
         player.getInventory().setItem(InventoryManager.getVisionSightPaperSlot(), usedIndicator);
         player.updateInventory();
-
-        // schedule cleanup that restores the paper if unused
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    return;
-                }
-                SessionGameContext ctx = gameManager.getContextForPlayer(player.getUniqueId());
-                if (ctx == null) {
-                    return;
-                }
-                Long currentExpiry = ctx.getActiveDelusionWindow().get(player.getUniqueId());
-                if (currentExpiry != null && currentExpiry.equals(windowExpiry)) {
-                    gameManager.endDelusionWindow(player.getUniqueId());
-                    gameManager.restoreSecondaryAbilityPaper(player);
-                }
-            }
-        }.runTaskLater(plugin, 20L * 8); // 8 seconds
     }
 }
 
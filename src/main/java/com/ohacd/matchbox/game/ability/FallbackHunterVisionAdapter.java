@@ -1,6 +1,7 @@
 package com.ohacd.matchbox.game.ability;
 
 import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
 import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.utils.ParticleUtils;
 import org.bukkit.entity.Player;
@@ -17,9 +18,11 @@ import java.util.UUID;
  */
 public class FallbackHunterVisionAdapter implements HunterVisionAdapter {
     private final Plugin plugin;
+    private final GameScheduler scheduler;
 
-    public FallbackHunterVisionAdapter(Plugin plugin) {
+    public FallbackHunterVisionAdapter(Plugin plugin, GameScheduler scheduler) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class FallbackHunterVisionAdapter implements HunterVisionAdapter {
         }
 
         for (Player target : targets) {
-            ParticleUtils.showMarkerParticlesOnPlayer(spark, target, 15, plugin);
+            ParticleUtils.showMarkerParticlesOnPlayer(spark, target, 15, scheduler);
         }
         plugin.getLogger().info("Fallback Hunter Vision activated for spark " + spark.getName() + " (particles only).");
     }
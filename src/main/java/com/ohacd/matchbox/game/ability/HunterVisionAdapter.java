@@ -30,4 +30,11 @@ public interface HunterVisionAdapter {
      * @return true if this adapter uses the advanced ProtocolLib glow pipeline.
      */
     boolean isAdvanced();
+
+    /**
+     * @return glow packets sent since the adapter was created; 0 for adapters that send none.
+     */
+    default long getPacketsSent() {
+        return 0L;
+    }
 }
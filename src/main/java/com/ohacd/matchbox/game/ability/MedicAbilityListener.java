@@ -13,7 +13,6 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Activates an 8s cure window when a Medic clicks a PAPER in slot 27 (above hotbar slot 0).
@@ -79,25 +78,6 @@ public class MedicAbilityListener implements AbilityHandler {
         ItemStack usedIndicator = InventoryManager.createUsedIndicator(clicked);
         player.getInventory().setItem(slot, usedIndicator);
         player.updateInventory();
-
-        // schedule cleanup that restores the paper if unused
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    return;
-                }
-                SessionGameContext ctx = gameManager.getContextForPlayer(player.getUniqueId());
-                if (ctx == null) {
-                    return;
-                }
-                Long currentExpiry = ctx.getActiveCureWindow().get(player.getUniqueId());
-                if (currentExpiry != null && currentExpiry.equals(windowExpiry)) {
-                    gameManager.endCureWindow(player.getUniqueId());
-                    gameManager.restoreAbilityPaper(player);
-                }
-            }
-        }.runTaskLater(plugin, 8L * 20L);
     }
     
     @Override
@@ -146,25 +126,6 @@ public class MedicAbilityListener implements AbilityHandler {
         ItemStack usedIndicator = InventoryManager.createUsedIndicator(heldItem);
         player.getInventory().setItem(InventoryManager.getSwipeCurePaperSlot(), usedIndicator);
         player.updateInventory();
-
-        // schedule cleanup that restores the paper if unused
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    return;
-                }
-                SessionGameContext ctx = gameManager.getContextForPlayer(player.getUniqueId());
-                if (ctx == null) {
-                    return;
-                }
-                Long currentExpiry = ctx.getActiveCureWindow().get(player.getUniqueId());
-                if (currentExpiry != null && currentExpiry.equals(windowExpiry)) {
-                    gameManager.endCureWindow(player.getUniqueId());
-                    gameManager.restoreAbilityPaper(player);
-                }
-            }
-        }.runTaskLater(plugin, 8L * 20L);
     }
 }
 
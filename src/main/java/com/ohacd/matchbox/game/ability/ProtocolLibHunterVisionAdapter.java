@@ -7,11 +7,12 @@ import com.comphenix.protocol.events.PacketContainer;
 import com.comphenix.protocol.wrappers.WrappedDataValue;
 import com.comphenix.protocol.wrappers.WrappedDataWatcher;
 import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
 import com.ohacd.matchbox.game.state.GameState;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -21,6 +22,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
  * ProtocolLib-powered Hunter Vision implementation with a dynamic wallhack-style glow.
@@ -33,12 +36,19 @@ public class ProtocolLibHunterVisionAdapter implements HunterVisionAdapter {
     private static final WrappedDataWatcher.WrappedDataWatcherObject GLOW_FLAGS = createGlowWatcher();
 
     private final Plugin plugin;
+    private final GameScheduler scheduler;
     private final ProtocolManager protocolManager;
     private final FallbackHunterVisionAdapter particleFallback;
     private final Map<UUID, VisionTask> activeSessions = new ConcurrentHashMap<>();
+    private final LongAdder packetsSent = new LongAdder();
 
     public ProtocolLibHunterVisionAdapter(Plugin plugin) {
+        this(plugin, GameScheduler.create(plugin));
+    }
+
+    public ProtocolLibHunterVisionAdapter(Plugin plugin, GameScheduler scheduler) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
         ProtocolManager manager = null;
         try {
             manager = ProtocolLibrary.getProtocolManager();
@@ -46,7 +56,7 @@ public class ProtocolLibHunterVisionAdapter implements HunterVisionAdapter {
             plugin.getLogger().warning("ProtocolLib not ready (" + t.getMessage() + "). Hunter Vision will fall back to particles.");
         }
         this.protocolManager = manager;
-        this.particleFallback = new FallbackHunterVisionAdapter(plugin);
+        this.particleFallback = new FallbackHunterVisionAdapter(plugin, scheduler);
     }
 
     @Override
@@ -83,13 +93,18 @@ public class ProtocolLibHunterVisionAdapter implements HunterVisionAdapter {
     @Override
     public boolean isAdvanced() { return true; }
 
-    private class VisionTask implements Runnable {
+    @Override
+    public long getPacketsSent() {
+        return packetsSent.sum();
+    }
+
+    private class VisionTask implements Consumer<GameTask> {
         private final Player spark;
         private final SessionGameContext context;
         private final Set<UUID> glowingTargets = new HashSet<>();
         private final long endTime;
         private final GameState gameState;
-        private BukkitTask bukkitTask;
+        private GameTask gameTask;
 
         private VisionTask(Player spark, SessionGameContext context) {
             this.spark = spark;
@@ -99,17 +114,18 @@ public class ProtocolLibHunterVisionAdapter implements HunterVisionAdapter {
         }
 
         private void start() {
-            this.bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, this, 0L, UPDATE_INTERVAL_TICKS);
+            // Follows the spark so the glow is computed on the thread owning the spark's region
+            this.gameTask = scheduler.runTimer(spark, this, 0L, UPDATE_INTERVAL_TICKS);
         }
 
         private void stop() {
-            if (bukkitTask != null) bukkitTask.cancel();
+            if (gameTask != null) gameTask.cancel();
             updateGlow(new HashSet<>(glowingTargets), false);
             glowingTargets.clear();
         }
 
         @Override
-        public void run() {
+        public void accept(GameTask timer) {
             try {
                 if (!spark.isOnline() || System.currentTimeMillis() >= endTime || gameState == null
                         || !gameState.isGameActive()) {
@@ -200,6 +216,7 @@ public class ProtocolLibHunterVisionAdapter implements HunterVisionAdapter {
             metadata.add(glowValue.getHandle());
             packet.getModifier().write(1, metadata);
             protocolManager.sendServerPacket(viewer, packet);
+            packetsSent.increment();
             return true;
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to send glow packet to " + viewer.getName() + ": " + e.getMessage());
@@ -3,7 +3,9 @@ package com.ohacd.matchbox.game.ability;
 import com.comphenix.protocol.PacketType;
 import com.comphenix.protocol.ProtocolLibrary;
 import com.comphenix.protocol.events.PacketContainer;
+import com.ohacd.matchbox.game.GameManager;
 import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.profiling.LatencyMetrics;
 import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.utils.GamePhase;
 import com.ohacd.matchbox.game.utils.Managers.InventoryManager;
@@ -34,10 +36,12 @@ import java.util.concurrent.CompletableFuture;
  * same tick while preserving velocity.
  */
 public class SparkSwapAbility implements AbilityHandler {
+    private final GameManager gameManager;
     private final Plugin plugin;
     private final Random random = new Random();
 
-    public SparkSwapAbility(Plugin plugin) {
+    public SparkSwapAbility(GameManager gameManager, Plugin plugin) {
+        this.gameManager = gameManager;
         this.plugin = plugin;
     }
 
@@ -181,6 +185,19 @@ public class SparkSwapAbility implements AbilityHandler {
 
     private void performSwap(Player spark, Player target, Location sparkLoc, Location targetLoc,
             Vector sparkVelocity, Vector targetVelocity, SessionGameContext context) {
+        long started = System.nanoTime();
+        try {
+            swapPlayers(spark, target, sparkLoc, targetLoc, sparkVelocity, targetVelocity, context);
+        } finally {
+            if (gameManager != null) {
+                gameManager.getLatencyMetrics().record(context.getSessionName(),
+                    LatencyMetrics.Operation.SPARK_SWAP, System.nanoTime() - started);
+            }
+        }
+    }
+
+    private void swapPlayers(Player spark, Player target, Location sparkLoc, Location targetLoc,
+            Vector sparkVelocity, Vector targetVelocity, SessionGameContext context) {
 
         Set<UUID> alivePlayerIds = context.getGameState().getAlivePlayerIds();
         if (alivePlayerIds == null || alivePlayerIds.isEmpty()) return;
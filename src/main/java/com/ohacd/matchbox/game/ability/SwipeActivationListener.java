@@ -13,7 +13,6 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Activates an 8s swipe window when a Spark clicks a PAPER in slot 27 (above hotbar slot 0).
@@ -74,25 +73,6 @@ public class SwipeActivationListener implements AbilityHandler {
         ItemStack usedIndicator = InventoryManager.createUsedIndicator(clicked);
         player.getInventory().setItem(slot, usedIndicator);
         player.updateInventory();
-
-        // schedule cleanup that restores the paper if unused
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    return;
-                }
-                SessionGameContext ctx = gameManager.getContextForPlayer(player.getUniqueId());
-                if (ctx == null) {
-                    return;
-                }
-                Long currentExpiry = ctx.getActiveSwipeWindow().get(player.getUniqueId());
-                if (currentExpiry != null && currentExpiry.equals(windowExpiry)) {
-                    gameManager.endSwipeWindow(player.getUniqueId());
-                    gameManager.restoreAbilityPaper(player);
-                }
-            }
-        }.runTaskLater(plugin, 8L * 20L);
     }
     
     @Override
@@ -136,25 +116,6 @@ public class SwipeActivationListener implements AbilityHandler {
         ItemStack usedIndicator = InventoryManager.createUsedIndicator(heldItem);
         player.getInventory().setItem(InventoryManager.getSwipeCurePaperSlot(), usedIndicator);
         player.updateInventory();
-
-        // schedule cleanup that restores the paper if unused
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!player.isOnline()) {
-                    return;
-                }
-                SessionGameContext ctx = gameManager.getContextForPlayer(player.getUniqueId());
-                if (ctx == null) {
-                    return;
-                }
-                Long currentExpiry = ctx.getActiveSwipeWindow().get(player.getUniqueId());
-                if (currentExpiry != null && currentExpiry.equals(windowExpiry)) {
-                    gameManager.endSwipeWindow(player.getUniqueId());
-                    gameManager.restoreAbilityPaper(player);
-                }
-            }
-        }.runTaskLater(plugin, 8L * 20L);
     }
 }
 
@@ -1,7 +1,9 @@
 package com.ohacd.matchbox.game.action;
 
+import com.ohacd.matchbox.game.ExpiryService;
 import com.ohacd.matchbox.game.SessionGameContext;
 import com.ohacd.matchbox.game.phase.PhaseManager;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
 import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.utils.GamePhase;
 import com.ohacd.matchbox.game.utils.ParticleUtils;
@@ -11,7 +13,6 @@ import com.ohacd.matchbox.game.vote.VoteManager;
 import org.bukkit.Color;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Map;
 import java.util.UUID;
@@ -22,9 +23,11 @@ import java.util.UUID;
  */
 public class PlayerActionHandler {
     private final Plugin plugin;
+    private final GameScheduler scheduler;
     
-    public PlayerActionHandler(Plugin plugin) {
+    public PlayerActionHandler(Plugin plugin, GameScheduler scheduler) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
     }
     
     /**
@@ -39,7 +42,7 @@ public class PlayerActionHandler {
         if (!gameState.isGameActive()) return;
         
         // Both players must be in the same session
-        if (!gameState.getAllParticipatingPlayerIds().contains(target.getUniqueId())) {
+        if (!gameState.isParticipating(target.getUniqueId())) {
             return;
         }
         
@@ -64,7 +67,7 @@ public class PlayerActionHandler {
         
         // If target already has pending death, ignore duplicate
         if (gameState.hasPendingDeath(targetId)) {
-            activeSwipeWindow.remove(shooterId);
+            closeWindow(context, ExpiryService.Kind.SWIPE_WINDOW, activeSwipeWindow, shooterId);
             return;
         }
         
@@ -78,11 +81,11 @@ public class PlayerActionHandler {
             target,
             org.bukkit.Color.fromRGB(50, 205, 50), // Lime green
             8,
-            plugin
+            scheduler
         );
         
         // Close the swipe window
-        activeSwipeWindow.remove(shooterId);
+        closeWindow(context, ExpiryService.Kind.SWIPE_WINDOW, activeSwipeWindow, shooterId);
         
         plugin.getLogger().info("Swipe registered in session '" + context.getSessionName() + "': " + shooter.getName() + " swiped " + target.getName());
     }
@@ -99,7 +102,7 @@ public class PlayerActionHandler {
         if (!gameState.isGameActive()) return;
         
         // Both players must be in the same session
-        if (!gameState.getAllParticipatingPlayerIds().contains(target.getUniqueId())) {
+        if (!gameState.isParticipating(target.getUniqueId())) {
             return;
         }
         
@@ -127,7 +130,7 @@ public class PlayerActionHandler {
         boolean hasDelusionInfection = gameState.isDelusionInfected(targetId);
         
         if (!hasRealInfection && !hasDelusionInfection) {
-            activeCureWindow.remove(medicId);
+            closeWindow(context, ExpiryService.Kind.CURE_WINDOW, activeCureWindow, medicId);
             return;
         }
         
@@ -144,6 +147,7 @@ public class PlayerActionHandler {
         // Remove delusion infection if present (wastes the cure)
         if (hasDelusionInfection) {
             gameState.removeDelusionInfection(targetId);
+            context.getExpiryService().cancel(ExpiryService.Kind.DELUSION_DECAY, targetId);
         }
         
         // Show subtle blue particles
@@ -151,11 +155,11 @@ public class PlayerActionHandler {
             target,
             org.bukkit.Color.fromRGB(0, 100, 255), // Blue
             8,
-            plugin
+            scheduler
         );
         
         // Close the cure window
-        activeCureWindow.remove(medicId);
+        closeWindow(context, ExpiryService.Kind.CURE_WINDOW, activeCureWindow, medicId);
         
         plugin.getLogger().info("Medic " + medic.getName() + " cured " + target.getName() + " in session '" + context.getSessionName() + "'");
     }
@@ -172,7 +176,7 @@ public class PlayerActionHandler {
         if (!gameState.isGameActive()) return false;
         
         // Both players must be in the same session
-        if (!gameState.getAllParticipatingPlayerIds().contains(target.getUniqueId())) {
+        if (!gameState.isParticipating(target.getUniqueId())) {
             return false;
         }
         
@@ -202,6 +206,14 @@ public class PlayerActionHandler {
         return success;
     }
     
+    /**
+     * Closes a player's ability window and drops its pending expiry so the paper is not restored.
+     */
+    private void closeWindow(SessionGameContext context, ExpiryService.Kind kind, Map<UUID, Long> windows, UUID playerId) {
+        windows.remove(playerId);
+        context.getExpiryService().cancel(kind, playerId);
+    }
+    
     /**
      * Checks if a player has an active swipe window.
      */
@@ -245,7 +257,7 @@ public class PlayerActionHandler {
         if (!gameState.isGameActive()) return;
         
         // Both players must be in the same session
-        if (!gameState.getAllParticipatingPlayerIds().contains(target.getUniqueId())) {
+        if (!gameState.isParticipating(target.getUniqueId())) {
             return;
         }
         
@@ -270,7 +282,7 @@ public class PlayerActionHandler {
         
         // If target already has delusion infection, ignore duplicate
         if (gameState.isDelusionInfected(targetId)) {
-            activeDelusionWindow.remove(sparkId);
+            closeWindow(context, ExpiryService.Kind.DELUSION_WINDOW, activeDelusionWindow, sparkId);
             return;
         }
         
@@ -283,21 +295,21 @@ public class PlayerActionHandler {
             target,
             Color.fromRGB(50, 205, 50), // Lime green
             8,
-            plugin
+            scheduler
         );
         
         // Close the delusion window
-        activeDelusionWindow.remove(sparkId);
+        closeWindow(context, ExpiryService.Kind.DELUSION_WINDOW, activeDelusionWindow, sparkId);
         
-        // Schedule decay after 30 seconds; track the task so it is cancelled if the session ends early
+        // Decay after 30 seconds; a cure or elimination cancels it
         final UUID targetIdFinal = targetId;
         final String sessionName = context.getSessionName();
         final SessionGameContext contextFinal = context;
-        BukkitRunnable decayTask = new BukkitRunnable() {
-            @Override
-            public void run() {
+        context.getExpiryService().schedule(ExpiryService.Kind.DELUSION_DECAY, targetId, 20L * 30, () -> {
+            // Applied through the session's queue so it stays ordered with other mutations
+            contextFinal.getCommandQueue().execute(() -> {
                 // Check if game is still active and player still has delusion infection
-                if (contextFinal == null || !contextFinal.getGameState().isGameActive()) {
+                if (!contextFinal.getGameState().isGameActive()) {
                     return;
                 }
                 
@@ -306,9 +318,8 @@ public class PlayerActionHandler {
                     state.removeDelusionInfection(targetIdFinal);
                     plugin.getLogger().info("Delusion infection decayed for player " + targetIdFinal + " in session '" + sessionName + "'");
                 }
-            }
-        };
-        context.trackTask(decayTask.runTaskLater(plugin, 20L * 30)); // 30 seconds = 600 ticks
+            });
+        });
         
         plugin.getLogger().info("Delusion registered in session '" + context.getSessionName() + "': " + spark.getName() + " applied delusion to " + target.getName() + " (will decay in 1 minute)");
     }
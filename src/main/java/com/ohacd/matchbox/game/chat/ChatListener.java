@@ -10,7 +10,6 @@ import com.ohacd.matchbox.game.utils.PlayerNameUtils;
 import io.papermc.paper.event.player.AsyncChatEvent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -37,8 +36,7 @@ public class ChatListener implements Listener {
     }
 
     static Component buildFormattedMessageWithName(Player player, Component messageBody) {
-        String displayName = PlayerNameUtils.displayName(player);
-        Component playerName = LegacyComponentSerializer.legacySection().deserialize(displayName);
+        Component playerName = PlayerNameUtils.displayNameComponent(player);
 
         return Component.text("<", NamedTextColor.WHITE)
             .append(playerName)
@@ -46,6 +44,25 @@ public class ChatListener implements Listener {
             .append(messageBody);
     }
 
+    /**
+     * Runs the pipeline's flood-control stage for the sender's channel.
+     * The sender is told once each time they run out of allowance.
+     *
+     * @return true if the message may proceed
+     */
+    private boolean admitMessage(SessionGameContext context, Player player) {
+        ChatPipelineManager pipelineManager = gameManager.getChatPipelineManager();
+        if (pipelineManager == null) {
+            return true;
+        }
+        ChatChannel channel = context.getGameState().isAlive(player.getUniqueId()) ? ChatChannel.GAME : ChatChannel.SPECTATOR;
+        ChatRateLimiter.Admission admission = pipelineManager.admitMessage(context.getSessionName(), player.getUniqueId(), channel);
+        if (admission == ChatRateLimiter.Admission.THROTTLED) {
+            player.sendMessage("§cYou are sending messages too quickly. Slow down!");
+        }
+        return admission != ChatRateLimiter.Admission.THROTTLED && admission != ChatRateLimiter.Admission.DROPPED;
+    }
+
     @EventHandler
     /**
      * Handles asynchronous chat events and routes them through the chat pipeline.
@@ -79,6 +96,12 @@ public class ChatListener implements Listener {
             return;
         }
 
+        // Shed flooding senders before any formatting, hologram, delivery or logging work
+        if (!admitMessage(context, player)) {
+            event.setCancelled(true);
+            return;
+        }
+
         // Handle SWIPE phase specially - always show holograms
         if (context.getPhaseManager().getCurrentPhase() == GamePhase.SWIPE) {
             // Cancel normal chat and show hologram instead
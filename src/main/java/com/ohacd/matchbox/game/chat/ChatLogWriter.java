@@ -0,0 +1,232 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatMessage;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Moves chat logging off the chat thread.
+ *
+ * <p>The chat thread only enqueues an {@link Entry} holding a reference to the already built
+ * {@link ChatMessage}; rendering the component to text and recording it in the session log
+ * happen on a background writer thread. The queue is bounded and never blocks the chat
+ * thread: when it is full the entry is dropped and counted, and the high-water mark shows
+ * how close the writer came to falling behind.</p>
+ *
+ * <p>Until {@link #start(int)} is called entries are written inline on the caller thread.
+ * Once {@link #stop()} begins, new entries are rejected so nothing is left behind in the queue.</p>
+ */
+public final class ChatLogWriter {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * One chat line waiting to be logged.
+     *
+     * @param sessionName owning session
+     * @param message the processed message, rendered only when written
+     * @param result pipeline outcome
+     * @param note where the outcome came from
+     */
+    public record Entry(@NotNull String sessionName, @NotNull ChatMessage message, @NotNull String result, @NotNull String note) {
+    }
+
+    private final Plugin plugin;
+    private final Consumer<Entry> sink;
+
+    private volatile BlockingQueue<Entry> queue;
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread writerThread;
+    // Enqueues that passed the stopped check but may not have offered yet
+    private final AtomicInteger enqueuing = new AtomicInteger();
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+    private int capacity;
+
+    public ChatLogWriter(@NotNull Plugin plugin, @NotNull Consumer<Entry> sink) {
+        this.plugin = plugin;
+        this.sink = sink;
+    }
+
+    /**
+     * Starts the background writer with a queue of the given capacity.
+     */
+    public synchronized void start(int capacity) {
+        if (running) {
+            return;
+        }
+        this.capacity = Math.max(1, capacity);
+        this.queue = new ArrayBlockingQueue<>(this.capacity);
+        this.stopped = false;
+        this.running = true;
+        writerThread = new Thread(this::drainLoop, "Matchbox-ChatLog");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the writer and writes whatever is still queued. Entries enqueued from now on are
+     * rejected. The caller only writes leftovers once the writer thread has exited, so the
+     * sink is never called from two threads at once.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        stopped = true;
+        // Let enqueues already past the stopped check land in the queue before the final drain
+        while (enqueuing.get() > 0) {
+            Thread.onSpinWait();
+        }
+        running = false;
+
+        Thread thread = writerThread;
+        boolean interrupted = false;
+        try {
+            thread.join(2000L);
+            if (thread.isAlive()) {
+                thread.interrupt();
+                thread.join(2000L);
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+        }
+
+        BlockingQueue<Entry> remaining = queue;
+        if (thread.isAlive()) {
+            // Still inside the sink; writing from here would race it
+            plugin.getLogger().warning("Chat log writer did not stop; " + remaining.size() + " queued line(s) were not logged");
+        } else {
+            writerThread = null;
+            Entry entry;
+            while ((entry = remaining.poll()) != null) {
+                write(entry);
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues a chat line for logging. Never blocks.
+     *
+     * @return false if the queue was full or the writer is stopping, and the line was dropped
+     */
+    public boolean enqueue(@NotNull Entry entry) {
+        enqueuing.incrementAndGet();
+        try {
+            return offer(entry);
+        } finally {
+            enqueuing.decrementAndGet();
+        }
+    }
+
+    private boolean offer(Entry entry) {
+        if (stopped) {
+            dropped.increment();
+            return false;
+        }
+        BlockingQueue<Entry> current = queue;
+        if (!running || current == null) {
+            enqueued.increment();
+            write(entry);
+            return true;
+        }
+        if (!current.offer(entry)) {
+            dropped.increment();
+            return false;
+        }
+        enqueued.increment();
+        int depth = current.size();
+        int mark;
+        while (depth > (mark = highWaterMark.get())) {
+            if (highWaterMark.compareAndSet(mark, depth)) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        BlockingQueue<Entry> current = queue;
+        while (running) {
+            try {
+                Entry entry = current.poll(250L, TimeUnit.MILLISECONDS);
+                if (entry != null) {
+                    write(entry);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+        // Stopping: nothing new can arrive, so finish what is queued here rather than on the caller
+        Entry entry;
+        while (!Thread.currentThread().isInterrupted() && (entry = current.poll()) != null) {
+            write(entry);
+        }
+    }
+
+    private void write(Entry entry) {
+        try {
+            sink.accept(entry);
+            written.increment();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to log chat for session '" + entry.sessionName() + "': " + e.getMessage());
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets how many lines were accepted for logging.
+     */
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    /**
+     * Gets how many lines have been written to the session log.
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Gets how many lines were dropped because the queue was full or the writer was stopping.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of lines waiting to be written.
+     */
+    public int getQueueDepth() {
+        BlockingQueue<Entry> current = queue;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * Gets the deepest the queue has been since the writer started.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -1,8 +1,15 @@
 package com.ohacd.matchbox.game.chat;
 
+import com.ohacd.matchbox.api.AsyncChatProcessor;
+import com.ohacd.matchbox.api.ChatChannel;
 import com.ohacd.matchbox.api.ChatMessage;
 import com.ohacd.matchbox.api.ChatProcessor;
+import com.ohacd.matchbox.api.ChatProcessorMetrics;
+import com.ohacd.matchbox.api.ChatResult;
 import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.config.ConfigManager;
+import com.ohacd.matchbox.game.session.SessionKey;
+import com.ohacd.matchbox.game.session.SessionTable;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
 import org.bukkit.plugin.Plugin;
@@ -10,8 +17,14 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Manages chat processing pipeline for all game sessions.
@@ -30,15 +43,61 @@ public class ChatPipelineManager {
     private final Plugin plugin;
     private final GameManager gameManager;
 
-    // Session name -> List of processors for that session
-    private final Map<String, List<ChatProcessor>> sessionProcessors = new ConcurrentHashMap<>();
+    // Session key -> List of processors for that session
+    private final SessionTable<List<ChatProcessor>> sessionProcessors = new SessionTable<>();
 
-    // Session name -> Default session chat handler
-    private final Map<String, SessionChatHandler> sessionHandlers = new ConcurrentHashMap<>();
+    // Session key -> Latency counters for each registered processor
+    private final Map<SessionKey, Map<ChatProcessor, ProcessorCounters>> processorCounters = new ConcurrentHashMap<>();
+
+    // Session key -> Default session chat handler
+    private final Map<SessionKey, SessionChatHandler> sessionHandlers = new ConcurrentHashMap<>();
+
+    // Session key -> Per-player flood control
+    private final Map<SessionKey, ChatRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    private final ChatLogWriter chatLogWriter;
+
+    // [channel][result] -> Messages that finished the pipeline, for metrics
+    private final LongAdder[][] routedMessages = new LongAdder[ChatChannel.values().length][ChatResult.values().length];
+
+    /** Budget used for async processors when no config is available */
+    private static final int DEFAULT_PROCESSOR_BUDGET_MILLIS = (int) AsyncChatProcessor.DEFAULT_TIME_BUDGET_MILLIS;
+
+    /** Flood control used when no config is available */
+    private static final ChatRateLimiter.Limit DEFAULT_RATE_LIMIT = new ChatRateLimiter.Limit(1.0, 5);
 
     public ChatPipelineManager(@NotNull Plugin plugin, @NotNull GameManager gameManager) {
         this.plugin = plugin;
         this.gameManager = gameManager;
+        this.chatLogWriter = new ChatLogWriter(plugin, this::writeChatLog);
+        for (LongAdder[] byResult : routedMessages) {
+            for (int i = 0; i < byResult.length; i++) {
+                byResult[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Starts logging chat from a background writer. Until then chat is logged on the chat thread.
+     */
+    public void startLogWriter() {
+        ConfigManager configManager = gameManager != null ? gameManager.getConfigManager() : null;
+        chatLogWriter.start(configManager != null ? configManager.getChatLogQueueCapacity() : ChatLogWriter.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Stops the background writer after writing everything still queued.
+     */
+    public void stopLogWriter() {
+        chatLogWriter.stop();
+    }
+
+    /**
+     * Gets the chat log writer, for its queue metrics.
+     */
+    @NotNull
+    public ChatLogWriter getChatLogWriter() {
+        return chatLogWriter;
     }
 
     /**
@@ -50,14 +109,17 @@ public class ChatPipelineManager {
      * @throws IllegalArgumentException if sessionName or processor is null
      */
     public void registerProcessor(@NotNull String sessionName, @NotNull ChatProcessor processor) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             throw new IllegalArgumentException("Session name cannot be null or empty");
         }
         if (processor == null) {
             throw new IllegalArgumentException("Chat processor cannot be null");
         }
 
-        sessionProcessors.computeIfAbsent(sessionName, k -> new CopyOnWriteArrayList<>()).add(processor);
+        SessionKey key = SessionKey.of(sessionName);
+        processorCounters.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+            .putIfAbsent(processor, new ProcessorCounters(processor));
+        sessionProcessors.computeIfAbsent(sessionName, name -> new CopyOnWriteArrayList<>()).add(processor);
         plugin.getLogger().info("Registered chat processor for session '" + sessionName + "'");
     }
 
@@ -69,7 +131,7 @@ public class ChatPipelineManager {
      * @return true if the processor was removed, false if not found
      */
     public boolean unregisterProcessor(@NotNull String sessionName, @NotNull ChatProcessor processor) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             return false;
         }
         if (processor == null) {
@@ -83,10 +145,15 @@ public class ChatPipelineManager {
 
         boolean removed = processors.remove(processor);
         if (removed) {
+            Map<ChatProcessor, ProcessorCounters> counters = processorCounters.get(SessionKey.of(sessionName));
+            if (counters != null && !processors.contains(processor)) {
+                counters.remove(processor);
+            }
             plugin.getLogger().info("Unregistered chat processor from session '" + sessionName + "'");
             // Clean up empty lists
             if (processors.isEmpty()) {
-                sessionProcessors.remove(sessionName);
+                sessionProcessors.remove(sessionName, processors);
+                processorCounters.remove(SessionKey.of(sessionName));
             }
         }
         return removed;
@@ -98,11 +165,12 @@ public class ChatPipelineManager {
      * @param sessionName the session name
      */
     public void clearProcessors(@NotNull String sessionName) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             return;
         }
 
         List<ChatProcessor> removed = sessionProcessors.remove(sessionName);
+        processorCounters.remove(SessionKey.of(sessionName));
         if (removed != null && !removed.isEmpty()) {
             plugin.getLogger().info("Cleared " + removed.size() + " chat processors from session '" + sessionName + "'");
         }
@@ -117,7 +185,7 @@ public class ChatPipelineManager {
      */
     @NotNull
     public List<ChatProcessor> getProcessors(@NotNull String sessionName) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             return Collections.emptyList();
         }
 
@@ -125,6 +193,33 @@ public class ChatPipelineManager {
         return processors != null ? Collections.unmodifiableList(processors) : Collections.emptyList();
     }
 
+    /**
+     * Gets latency counters for every processor registered on a session, in registration order.
+     *
+     * @param sessionName the session name
+     * @return metrics snapshots, empty if the session has no processors
+     */
+    @NotNull
+    public List<ChatProcessorMetrics> getProcessorMetrics(@NotNull String sessionName) {
+        if (sessionName == null || sessionName.isBlank()) {
+            return Collections.emptyList();
+        }
+        SessionKey key = SessionKey.of(sessionName);
+        List<ChatProcessor> processors = sessionProcessors.get(key);
+        Map<ChatProcessor, ProcessorCounters> counters = processorCounters.get(key);
+        if (processors == null || counters == null) {
+            return Collections.emptyList();
+        }
+        List<ChatProcessorMetrics> metrics = new ArrayList<>(processors.size());
+        for (ChatProcessor processor : processors) {
+            ProcessorCounters processorCounter = counters.get(processor);
+            if (processorCounter != null) {
+                metrics.add(processorCounter.snapshot());
+            }
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
     /**
      * Cleans up resources for a session when it ends.
      * Should be called when a game session terminates.
@@ -132,22 +227,24 @@ public class ChatPipelineManager {
      * @param sessionName the session name to clean up
      */
     public void cleanupSession(@NotNull String sessionName) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             return;
         }
 
         clearProcessors(sessionName);
+        sessionHandlers.remove(SessionKey.of(sessionName));
+        rateLimiters.remove(SessionKey.of(sessionName));
         plugin.getLogger().info("Cleaned up chat pipeline for session '" + sessionName + "'");
     }
 
     /**
      * Gets all active session names that have registered processors.
      *
-     * @return set of session names with processors
+     * @return set of session names with processors, spelled as when their first processor was registered
      */
     @NotNull
     public Set<String> getActiveSessions() {
-        return new HashSet<>(sessionProcessors.keySet());
+        return new HashSet<>(sessionProcessors.names());
     }
 
     /**
@@ -159,12 +256,12 @@ public class ChatPipelineManager {
      */
     @NotNull
     public SessionChatHandler getOrCreateSessionHandler(@NotNull String sessionName) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             throw new IllegalArgumentException("Session name cannot be null or empty");
         }
 
-        return sessionHandlers.computeIfAbsent(sessionName, name ->
-            new SessionChatHandler(name, gameManager, plugin));
+        return sessionHandlers.computeIfAbsent(SessionKey.of(sessionName), key ->
+            new SessionChatHandler(sessionName, gameManager, plugin));
     }
 
     /**
@@ -175,10 +272,64 @@ public class ChatPipelineManager {
      */
     @Nullable
     public SessionChatHandler getSessionHandler(@NotNull String sessionName) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             return null;
         }
-        return sessionHandlers.get(sessionName);
+        return sessionHandlers.get(SessionKey.of(sessionName));
+    }
+
+    /**
+     * Flood-control stage of the pipeline. Call this before building a message so that
+     * shed messages cost no formatting, processing, delivery or logging.
+     * Shed messages are counted in the session's {@link com.ohacd.matchbox.api.GameStatistics}.
+     *
+     * @param sessionName the session name
+     * @param senderId the sending player
+     * @param channel the channel the sender's message would go to
+     * @return whether the message may proceed
+     */
+    @NotNull
+    public ChatRateLimiter.Admission admitMessage(@NotNull String sessionName, @NotNull UUID senderId, @NotNull ChatChannel channel) {
+        if (sessionName == null || sessionName.isBlank() || senderId == null || channel == null) {
+            return ChatRateLimiter.Admission.ALLOWED;
+        }
+
+        ChatRateLimiter limiter = rateLimiters.computeIfAbsent(SessionKey.of(sessionName), key -> createRateLimiter());
+        ChatRateLimiter.Admission admission = limiter.tryAcquire(senderId, channel);
+        if (admission != ChatRateLimiter.Admission.ALLOWED && gameManager != null) {
+            gameManager.recordChatRateLimited(sessionName, senderId, admission == ChatRateLimiter.Admission.THROTTLED);
+        }
+        return admission;
+    }
+
+    /**
+     * Forgets a player's flood-control buckets in a session.
+     */
+    public void resetRateLimit(@NotNull String sessionName, @NotNull UUID playerId) {
+        if (sessionName == null || sessionName.isBlank() || playerId == null) {
+            return;
+        }
+        ChatRateLimiter limiter = rateLimiters.get(SessionKey.of(sessionName));
+        if (limiter != null) {
+            limiter.remove(playerId);
+        }
+    }
+
+    /**
+     * Reads the flood-control limits once per session, so admission never touches the config.
+     */
+    private ChatRateLimiter createRateLimiter() {
+        ConfigManager configManager = gameManager != null ? gameManager.getConfigManager() : null;
+        if (configManager == null) {
+            return new ChatRateLimiter(DEFAULT_RATE_LIMIT, DEFAULT_RATE_LIMIT);
+        }
+        if (!configManager.isChatRateLimitEnabled()) {
+            return new ChatRateLimiter(ChatRateLimiter.Limit.UNLIMITED, ChatRateLimiter.Limit.UNLIMITED);
+        }
+        return new ChatRateLimiter(
+            new ChatRateLimiter.Limit(configManager.getChatRateLimitPerSecond("game"), configManager.getChatRateLimitBurst("game")),
+            new ChatRateLimiter.Limit(configManager.getChatRateLimitPerSecond("spectator"), configManager.getChatRateLimitBurst("spectator"))
+        );
     }
 
     /**
@@ -191,54 +342,236 @@ public class ChatPipelineManager {
      */
     @NotNull
     public ChatProcessor.ChatProcessingResult processMessage(@NotNull String sessionName, @NotNull ChatMessage message) {
-        if (sessionName == null || sessionName.trim().isEmpty()) {
+        if (sessionName == null || sessionName.isBlank()) {
             throw new IllegalArgumentException("Session name cannot be null or empty");
         }
         if (message == null) {
             throw new IllegalArgumentException("Message cannot be null");
         }
 
-        // Apply custom processors first
+        // Apply custom processors first; consecutive async processors run as one parallel group
         List<ChatProcessor> processors = getProcessors(sessionName);
+        Map<ChatProcessor, ProcessorCounters> counters = processors.isEmpty()
+            ? Collections.emptyMap()
+            : processorCounters.getOrDefault(SessionKey.of(sessionName), Collections.emptyMap());
         ChatMessage currentMessage = message;
 
-        for (ChatProcessor processor : processors) {
-            try {
-                var result = processor.process(currentMessage);
-                switch (result.result()) {
-                    case DENY -> {
-                        logChat(sessionName, currentMessage, "DENY", "denied by custom processor");
-                        return ChatProcessor.ChatProcessingResult.deny(currentMessage);
-                    }
-                    case CANCEL -> {
-                        logChat(sessionName, currentMessage, "CANCEL", "cancelled by custom processor");
-                        return ChatProcessor.ChatProcessingResult.cancel(currentMessage);
-                    }
-                    case ALLOW -> {
-                        currentMessage = result.message(); // May be modified
-                    }
+        int index = 0;
+        while (index < processors.size()) {
+            ChatProcessor.ChatProcessingResult result;
+            if (processors.get(index) instanceof AsyncChatProcessor) {
+                int end = index + 1;
+                while (end < processors.size() && processors.get(end) instanceof AsyncChatProcessor) {
+                    end++;
+                }
+                result = runAsyncGroup(sessionName, processors.subList(index, end), counters, currentMessage);
+                index = end;
+            } else {
+                result = runProcessor(sessionName, processors.get(index), counters, currentMessage);
+                index++;
+            }
+            if (result == null) {
+                continue; // Processor failed open, continue with other processors
+            }
+
+            switch (result.result()) {
+                case DENY -> {
+                    countRouted(currentMessage, ChatResult.DENY);
+                    logChat(sessionName, currentMessage, "DENY", "denied by custom processor");
+                    return ChatProcessor.ChatProcessingResult.deny(currentMessage);
+                }
+                case CANCEL -> {
+                    countRouted(currentMessage, ChatResult.CANCEL);
+                    logChat(sessionName, currentMessage, "CANCEL", "cancelled by custom processor");
+                    return ChatProcessor.ChatProcessingResult.cancel(currentMessage);
+                }
+                case ALLOW -> {
+                    currentMessage = result.message(); // May be modified
                 }
-            } catch (Exception e) {
-                plugin.getLogger().warning("Error in chat processor for session '" + sessionName + "': " + e.getMessage());
-                // Continue with other processors
             }
         }
 
         // Apply default session handler
         SessionChatHandler handler = getOrCreateSessionHandler(sessionName);
         ChatProcessor.ChatProcessingResult result = handler.process(currentMessage);
+        countRouted(result.message(), result.result());
         logChat(sessionName, result.message(), result.result().name(), "processed by session handler");
         return result;
     }
 
+    /**
+     * Runs a synchronous processor and records its latency.
+     *
+     * @return the result, or null if the processor threw
+     */
+    @Nullable
+    private ChatProcessor.ChatProcessingResult runProcessor(String sessionName, ChatProcessor processor,
+                                                            Map<ChatProcessor, ProcessorCounters> counters,
+                                                            ChatMessage message) {
+        ProcessorCounters counter = counters.get(processor);
+        long start = System.nanoTime();
+        try {
+            ChatProcessor.ChatProcessingResult result = processor.process(message);
+            if (counter != null) {
+                counter.recordCompleted(System.nanoTime() - start);
+            }
+            return result;
+        } catch (Exception e) {
+            if (counter != null) {
+                counter.recordFailure();
+            }
+            plugin.getLogger().warning("Error in chat processor for session '" + sessionName + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Starts a group of independent async processors on the same message and waits for each
+     * within its own budget. The first non-ALLOW result in registration order wins; otherwise
+     * the last modified message is kept, with a warning the first time a processor's edit is
+     * replaced this way.
+     *
+     * @return the combined result, or null if every processor failed open
+     */
+    @Nullable
+    private ChatProcessor.ChatProcessingResult runAsyncGroup(String sessionName, List<ChatProcessor> group,
+                                                             Map<ChatProcessor, ProcessorCounters> counters,
+                                                             ChatMessage message) {
+        int defaultBudgetMillis = DEFAULT_PROCESSOR_BUDGET_MILLIS;
+        AsyncChatProcessor.FailurePolicy defaultPolicy = AsyncChatProcessor.FailurePolicy.FAIL_OPEN;
+        ConfigManager configManager = gameManager != null ? gameManager.getConfigManager() : null;
+        if (configManager != null) {
+            defaultBudgetMillis = configManager.getChatProcessorTimeBudgetMillis();
+            defaultPolicy = configManager.getChatProcessorFailurePolicy();
+        }
+
+        int size = group.size();
+        List<CompletableFuture<ChatProcessor.ChatProcessingResult>> futures = new ArrayList<>(size);
+        long[] starts = new long[size];
+        for (int i = 0; i < size; i++) {
+            AsyncChatProcessor processor = (AsyncChatProcessor) group.get(i);
+            starts[i] = System.nanoTime();
+            CompletableFuture<ChatProcessor.ChatProcessingResult> future;
+            try {
+                future = processor.processAsync(message);
+                if (future == null) {
+                    future = CompletableFuture.failedFuture(new IllegalStateException("processAsync returned null"));
+                }
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future);
+        }
+
+        ChatProcessor.ChatProcessingResult combined = null;
+        int editedBy = -1;
+        for (int i = 0; i < size; i++) {
+            AsyncChatProcessor processor = (AsyncChatProcessor) group.get(i);
+            CompletableFuture<ChatProcessor.ChatProcessingResult> future = futures.get(i);
+            ProcessorCounters counter = counters.get(processor);
+            long budgetMillis = processor.getTimeBudgetMillis() > 0 ? processor.getTimeBudgetMillis() : defaultBudgetMillis;
+            AsyncChatProcessor.FailurePolicy policy = processor.getFailurePolicy() != null ? processor.getFailurePolicy() : defaultPolicy;
+
+            ChatProcessor.ChatProcessingResult result;
+            try {
+                long remaining = starts[i] + TimeUnit.MILLISECONDS.toNanos(budgetMillis) - System.nanoTime();
+                result = future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+                if (counter != null) {
+                    counter.recordCompleted(System.nanoTime() - starts[i]);
+                }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                if (counter != null) {
+                    counter.recordTimeout();
+                }
+                plugin.getLogger().warning("Chat processor for session '" + sessionName + "' exceeded its "
+                    + budgetMillis + "ms budget (" + policy + ")");
+                result = failureResult(policy, message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (counter != null) {
+                    counter.recordFailure();
+                }
+                result = failureResult(policy, message);
+            } catch (ExecutionException | CancellationException e) {
+                if (counter != null) {
+                    counter.recordFailure();
+                }
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                plugin.getLogger().warning("Error in chat processor for session '" + sessionName + "': " + cause.getMessage());
+                result = failureResult(policy, message);
+            }
+
+            if (result == null) {
+                continue;
+            }
+            if (result.result() != ChatResult.ALLOW) {
+                // Decided; the remaining processors' results no longer matter
+                for (int j = i + 1; j < size; j++) {
+                    futures.get(j).cancel(true);
+                }
+                return result;
+            }
+            if (result.message() != message) {
+                // Every processor in the group saw the same input, so edits cannot be chained
+                if (editedBy >= 0) {
+                    warnEditOverridden(sessionName, group.get(editedBy), processor, counters);
+                }
+                combined = result;
+                editedBy = i;
+            } else if (combined == null) {
+                combined = result;
+            }
+        }
+        return combined;
+    }
+
+    private void warnEditOverridden(String sessionName, ChatProcessor overridden, ChatProcessor processor,
+                                    Map<ChatProcessor, ProcessorCounters> counters) {
+        ProcessorCounters counter = counters.get(overridden);
+        if (counter != null && !counter.markEditOverridden()) {
+            return;
+        }
+        plugin.getLogger().warning("Async chat processors " + ProcessorCounters.nameOf(overridden) + " and "
+            + ProcessorCounters.nameOf(processor) + " in session '" + sessionName + "' both modified the same message; only the edit of "
+            + ProcessorCounters.nameOf(processor) + " is kept. Register a synchronous processor between them to apply both in order.");
+    }
+
+    @Nullable
+    private static ChatProcessor.ChatProcessingResult failureResult(AsyncChatProcessor.FailurePolicy policy, ChatMessage message) {
+        return policy == AsyncChatProcessor.FailurePolicy.FAIL_CLOSED
+            ? ChatProcessor.ChatProcessingResult.deny(message)
+            : null;
+    }
+
+    /**
+     * Gets how many messages on a channel left the pipeline with a result, across all sessions.
+     *
+     * @param channel the channel the messages were sent on
+     * @param result the pipeline's final decision
+     * @return message count since the plugin started
+     */
+    public long getRoutedCount(@NotNull ChatChannel channel, @NotNull ChatResult result) {
+        return routedMessages[channel.ordinal()][result.ordinal()].sum();
+    }
+
+    private void countRouted(ChatMessage message, ChatResult result) {
+        if (message != null && message.channel() != null && result != null) {
+            routedMessages[message.channel().ordinal()][result.ordinal()].increment();
+        }
+    }
+
     /**
      * Emergency cleanup - clears all processors for all sessions.
      * Should only be called on plugin disable.
      */
     public void emergencyCleanup() {
+        stopLogWriter();
         int totalProcessors = sessionProcessors.values().stream().mapToInt(List::size).sum();
         sessionProcessors.clear();
+        processorCounters.clear();
         sessionHandlers.clear();
+        rateLimiters.clear();
         plugin.getLogger().info("Emergency cleanup: cleared " + totalProcessors + " chat processors across all sessions");
     }
 
@@ -246,18 +579,20 @@ public class ChatPipelineManager {
         if (gameManager == null || message == null) {
             return;
         }
+        // Rendering and recording happen on the log writer thread
+        chatLogWriter.enqueue(new ChatLogWriter.Entry(sessionName, message, result, note));
+    }
 
-        try {
-            String renderedMessage = PlainTextComponentSerializer.plainText().serialize(message.formattedMessage());
-            gameManager.logChatMessage(
-                sessionName,
-                message.senderId(),
-                message.sender().getName(),
-                message.channel().name(),
-                renderedMessage + " (" + result + ", " + note + ")"
-            );
-        } catch (Exception ignored) {
-            // Logging should not disrupt chat routing
-        }
+    private void writeChatLog(ChatLogWriter.Entry entry) {
+        ChatMessage message = entry.message();
+        String renderedMessage = PlainTextComponentSerializer.plainText().serialize(message.formattedMessage());
+        gameManager.logChatMessage(
+            entry.sessionName(),
+            message.senderId(),
+            message.sender().getName(),
+            message.channel().name(),
+            renderedMessage + " (" + entry.result() + ", " + entry.note() + ")",
+            message.timestamp()
+        );
     }
 }
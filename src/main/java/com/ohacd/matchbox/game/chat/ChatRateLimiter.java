@@ -0,0 +1,130 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatChannel;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-player chat flood control for one session.
+ *
+ * <p>Each player has a token bucket per channel. A bucket holds up to {@code burst} messages
+ * and refills at {@code messagesPerSecond}. The bucket is stored as the single timestamp at
+ * which it would be full again, so taking a token is one compare-and-set with no locking.</p>
+ *
+ * <p>The first message rejected after a player runs dry is {@link Admission#THROTTLED} so the
+ * caller can tell the sender once; further rejections until a message gets through again are
+ * {@link Admission#DROPPED}.</p>
+ */
+public final class ChatRateLimiter {
+
+    /**
+     * Outcome of asking to send one message.
+     */
+    public enum Admission {
+        ALLOWED,
+        THROTTLED,
+        DROPPED
+    }
+
+    /**
+     * Refill rate and capacity of a channel's buckets. A non-positive rate disables the limit.
+     */
+    public record Limit(double messagesPerSecond, int burst) {
+        public static final Limit UNLIMITED = new Limit(0.0, 0);
+
+        public boolean isUnlimited() {
+            return messagesPerSecond <= 0.0 || burst <= 0;
+        }
+    }
+
+    private final Limit gameLimit;
+    private final Limit spectatorLimit;
+    private final LongSupplier clock;
+    private final Map<UUID, Buckets> buckets = new ConcurrentHashMap<>();
+
+    public ChatRateLimiter(@NotNull Limit gameLimit, @NotNull Limit spectatorLimit) {
+        this(gameLimit, spectatorLimit, System::nanoTime);
+    }
+
+    ChatRateLimiter(@NotNull Limit gameLimit, @NotNull Limit spectatorLimit, @NotNull LongSupplier clock) {
+        this.gameLimit = gameLimit;
+        this.spectatorLimit = spectatorLimit;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a token for one message from the player's bucket for the given channel.
+     */
+    @NotNull
+    public Admission tryAcquire(@NotNull UUID playerId, @NotNull ChatChannel channel) {
+        Limit limit = switch (channel) {
+            case GAME -> gameLimit;
+            case SPECTATOR -> spectatorLimit;
+            case GLOBAL -> Limit.UNLIMITED;
+        };
+        if (limit.isUnlimited()) {
+            return Admission.ALLOWED;
+        }
+
+        long now = clock.getAsLong();
+        Buckets playerBuckets = buckets.computeIfAbsent(playerId, id -> new Buckets(now));
+        Bucket bucket = channel == ChatChannel.GAME ? playerBuckets.game : playerBuckets.spectator;
+
+        long interval = (long) (1_000_000_000L / limit.messagesPerSecond());
+        long tolerance = interval * (limit.burst() - 1L);
+        while (true) {
+            long fullAt = bucket.fullAt.get();
+            long start = fullAt - now > 0 ? fullAt : now;
+            if (start - now > tolerance) {
+                return bucket.throttled.compareAndSet(false, true) ? Admission.THROTTLED : Admission.DROPPED;
+            }
+            if (bucket.fullAt.compareAndSet(fullAt, start + interval)) {
+                if (bucket.throttled.get()) {
+                    bucket.throttled.set(false);
+                }
+                return Admission.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * Forgets a player's buckets, e.g. when they leave the session.
+     */
+    public void remove(@NotNull UUID playerId) {
+        buckets.remove(playerId);
+    }
+
+    public Limit getLimit(@NotNull ChatChannel channel) {
+        return switch (channel) {
+            case GAME -> gameLimit;
+            case SPECTATOR -> spectatorLimit;
+            case GLOBAL -> Limit.UNLIMITED;
+        };
+    }
+
+    private static final class Buckets {
+        private final Bucket game;
+        private final Bucket spectator;
+
+        private Buckets(long now) {
+            this.game = new Bucket(now);
+            this.spectator = new Bucket(now);
+        }
+    }
+
+    private static final class Bucket {
+        /** Time at which the bucket is full again; it holds fewer tokens the further this lies ahead of now */
+        private final AtomicLong fullAt;
+        private final AtomicBoolean throttled = new AtomicBoolean();
+
+        private Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+    }
+}
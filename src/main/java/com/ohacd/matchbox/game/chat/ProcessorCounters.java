@@ -0,0 +1,69 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatProcessor;
+import com.ohacd.matchbox.api.ChatProcessorMetrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency counters for one registered chat processor. Updated from chat threads without locking.
+ */
+final class ProcessorCounters {
+    private final String processorName;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicBoolean editOverridden = new AtomicBoolean();
+
+    ProcessorCounters(ChatProcessor processor) {
+        this.processorName = nameOf(processor);
+    }
+
+    static String nameOf(ChatProcessor processor) {
+        String simpleName = processor.getClass().getSimpleName();
+        return simpleName.isEmpty() ? processor.getClass().getName() : simpleName;
+    }
+
+    void recordCompleted(long elapsedNanos) {
+        invocations.increment();
+        totalNanos.add(elapsedNanos);
+        long max;
+        while (elapsedNanos > (max = maxNanos.get())) {
+            if (maxNanos.compareAndSet(max, elapsedNanos)) {
+                break;
+            }
+        }
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Records that another processor in the same async group replaced this processor's edit.
+     *
+     * @return true the first time, so the conflict is only reported once
+     */
+    boolean markEditOverridden() {
+        return editOverridden.compareAndSet(false, true);
+    }
+
+    ChatProcessorMetrics snapshot() {
+        return new ChatProcessorMetrics(
+            processorName,
+            invocations.sum(),
+            timeouts.sum(),
+            failures.sum(),
+            totalNanos.sum(),
+            maxNanos.get()
+        );
+    }
+}
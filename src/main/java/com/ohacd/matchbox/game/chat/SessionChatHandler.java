@@ -8,15 +8,19 @@ import com.ohacd.matchbox.game.GameManager;
 import com.ohacd.matchbox.game.SessionGameContext;
 import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.utils.GamePhase;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Default chat handler for a game session that implements spectator isolation.
@@ -39,6 +43,10 @@ public class SessionChatHandler implements ChatProcessor {
     // Cache for frequently accessed data
     private final Map<UUID, Boolean> aliveStatusCache = new ConcurrentHashMap<>();
 
+    // Channel audiences, reused for every delivery until membership changes
+    private volatile ChannelAudiences audiences;
+    private final AtomicInteger audienceGeneration = new AtomicInteger();
+
     public SessionChatHandler(@NotNull String sessionName, @NotNull GameManager gameManager, @NotNull Plugin plugin) {
         this.sessionName = sessionName;
         this.gameManager = gameManager;
@@ -63,7 +71,7 @@ public class SessionChatHandler implements ChatProcessor {
         GameState gameState = context.getGameState();
 
         // Check if player is in this session
-        if (!gameState.getAllParticipatingPlayerIds().contains(message.senderId())) {
+        if (!gameState.isParticipating(message.senderId())) {
             // Player not in this session, allow normal chat
             return ChatProcessingResult.allow(message.withChannel(ChatChannel.GLOBAL));
         }
@@ -100,61 +108,68 @@ public class SessionChatHandler implements ChatProcessor {
             return; // Session ended
         }
 
-        GameState gameState = context.getGameState();
-        Set<UUID> recipients = getChannelRecipients(message.channel(), gameState);
-
-        // Send to all recipients
-        for (UUID recipientId : recipients) {
-            Player recipient = Bukkit.getPlayer(recipientId);
-            if (recipient != null && recipient.isOnline()) {
-                try {
-                    recipient.sendMessage(message.formattedMessage());
-                } catch (Exception e) {
-                    plugin.getLogger().warning(
-                        "Failed to send chat message to " + recipient.getName() + ": " + e.getMessage());
-                }
-            }
+        Audience audience = getChannelAudience(message.channel(), context.getGameState());
+        if (audience == null) {
+            return;
+        }
+        try {
+            audience.sendMessage(message.formattedMessage());
+        } catch (Exception e) {
+            plugin.getLogger().warning(
+                "Failed to deliver chat message in session '" + sessionName + "': " + e.getMessage());
         }
     }
 
     /**
-     * Gets the recipients for a given chat channel.
+     * Gets the audience for a given chat channel, rebuilding the cached audiences
+     * if membership changed since they were last built.
      *
-     * @param channel the channel to get recipients for
+     * @param channel the channel to get the audience for
      * @param gameState the current game state
-     * @return set of player UUIDs who should receive messages on this channel
+     * @return the channel audience, or null for channels handled by normal chat
+     */
+    @Nullable
+    private Audience getChannelAudience(@NotNull ChatChannel channel, @NotNull GameState gameState) {
+        if (channel == ChatChannel.GLOBAL) {
+            // Global channel: everyone on the server (handled by normal chat)
+            return null;
+        }
+        ChannelAudiences current = audiences;
+        int generation = audienceGeneration.get();
+        if (current == null || current.generation() != generation) {
+            current = buildAudiences(gameState, generation);
+            audiences = current;
+        }
+        return channel == ChatChannel.GAME ? current.game() : current.spectator();
+    }
+
+    /**
+     * Resolves the online participants once and splits them into the two channel audiences.
+     * Game channel: alive players + all spectators. Spectator channel: only spectators.
      */
     @NotNull
-    private Set<UUID> getChannelRecipients(@NotNull ChatChannel channel, @NotNull GameState gameState) {
-        Set<UUID> allParticipants = gameState.getAllParticipatingPlayerIds();
-        Set<UUID> alivePlayers = gameState.getAlivePlayerIds();
-
-        return switch (channel) {
-            case GAME -> {
-                // Game channel: alive players + all spectators
-                Set<UUID> recipients = new HashSet<>(alivePlayers);
-                for (UUID participant : allParticipants) {
-                    if (!alivePlayers.contains(participant)) {
-                        recipients.add(participant); // Add spectators
-                    }
-                }
-                yield recipients;
-            }
-            case SPECTATOR -> {
-                // Spectator channel: only spectators
-                Set<UUID> recipients = new HashSet<>();
-                for (UUID participant : allParticipants) {
-                    if (!alivePlayers.contains(participant)) {
-                        recipients.add(participant); // Add spectators
-                    }
-                }
-                yield recipients;
+    private ChannelAudiences buildAudiences(@NotNull GameState gameState, int generation) {
+        List<Player> everyone = new ArrayList<>();
+        List<Player> spectators = new ArrayList<>();
+        for (UUID participant : gameState.getAllParticipatingPlayerIds()) {
+            Player player = Bukkit.getPlayer(participant);
+            if (player == null || !player.isOnline()) {
+                continue;
             }
-            case GLOBAL -> {
-                // Global channel: everyone on the server (handled by normal chat)
-                yield Collections.emptySet();
+            everyone.add(player);
+            if (!gameState.isAlive(participant)) {
+                spectators.add(player);
             }
-        };
+        }
+        return new ChannelAudiences(generation, Audience.audience(everyone), Audience.audience(spectators));
+    }
+
+    /**
+     * Marks the channel audiences stale so the next delivery rebuilds them.
+     * Should be called when a player joins, is eliminated or quits.
+     */
+    public void invalidateAudiences() {
+        audienceGeneration.incrementAndGet();
     }
 
     /**
@@ -173,6 +188,7 @@ public class SessionChatHandler implements ChatProcessor {
      */
     public void clearCache() {
         aliveStatusCache.clear();
+        audiences = null;
     }
 
     /**
@@ -182,4 +198,7 @@ public class SessionChatHandler implements ChatProcessor {
     public String getSessionName() {
         return sessionName;
     }
+
+    private record ChannelAudiences(int generation, ForwardingAudience game, ForwardingAudience spectator) {
+    }
 }
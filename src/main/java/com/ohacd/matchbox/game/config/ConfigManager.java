@@ -1,8 +1,11 @@
 package com.ohacd.matchbox.game.config;
 
+import com.ohacd.matchbox.api.AsyncChatProcessor;
+import com.ohacd.matchbox.game.logging.SessionEventSink;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
@@ -15,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -25,6 +29,9 @@ public class ConfigManager {
     private final Plugin plugin;
     private FileConfiguration config;
     private File configFile;
+    // Read on every chat message, so parsed once per load/reload
+    private volatile int chatProcessorTimeBudgetMillis = 50;
+    private volatile AsyncChatProcessor.FailurePolicy chatProcessorFailurePolicy = AsyncChatProcessor.FailurePolicy.FAIL_OPEN;
     private static final String WORLD_MAP_CONFIG_FILE = "matchbox-map.yml";
 
     public ConfigManager(Plugin plugin) {
@@ -60,6 +67,7 @@ public class ConfigManager {
         config = YamlConfiguration.loadConfiguration(configFile);
         setDefaults();
         saveConfig();
+        loadChatProcessorSettings();
     }
 
     /**
@@ -139,6 +147,77 @@ public class ConfigManager {
         if (!config.contains("sign-mode.enabled")) {
             config.set("sign-mode.enabled", true);
         }
+
+        // Chat processor settings
+        if (!config.contains("chat.processor-time-budget-ms")) {
+            config.set("chat.processor-time-budget-ms", 50);
+        }
+        if (!config.contains("chat.processor-failure-policy")) {
+            config.set("chat.processor-failure-policy", "open");
+        }
+        if (!config.contains("logging.memory-entries")) {
+            config.set("logging.memory-entries", 2048);
+        }
+        if (!config.contains("logging.spill-files.max-files")) {
+            config.set("logging.spill-files.max-files", 100);
+        }
+        if (!config.contains("logging.spill-files.max-age-days")) {
+            config.set("logging.spill-files.max-age-days", 7);
+        }
+        if (!config.contains("logging.event-files.enabled")) {
+            config.set("logging.event-files.enabled", true);
+        }
+        if (!config.contains("logging.event-files.max-file-kb")) {
+            config.set("logging.event-files.max-file-kb", 1024);
+        }
+        if (!config.contains("logging.event-files.max-files")) {
+            config.set("logging.event-files.max-files", 5);
+        }
+        if (!config.contains("logging.event-files.max-sessions")) {
+            config.set("logging.event-files.max-sessions", 100);
+        }
+        if (!config.contains("logging.event-files.max-age-days")) {
+            config.set("logging.event-files.max-age-days", 7);
+        }
+        if (!config.contains("logging.event-files.queue-capacity")) {
+            config.set("logging.event-files.queue-capacity", 4096);
+        }
+        if (!config.contains("logging.console.enabled")) {
+            config.set("logging.console.enabled", true);
+        }
+        if (!config.contains("logging.console.excluded-categories")) {
+            config.set("logging.console.excluded-categories", List.of("CHAT", "SIGN"));
+        }
+        if (!config.contains("logging.console.sample-every")) {
+            config.set("logging.console.sample-every", 1);
+        }
+        if (!config.contains("profiling.enabled")) {
+            config.set("profiling.enabled", false);
+        }
+        if (!config.contains("metrics.enabled")) {
+            config.set("metrics.enabled", false);
+        }
+        if (!config.contains("metrics.port")) {
+            config.set("metrics.port", 9464);
+        }
+        if (!config.contains("chat.log-queue-capacity")) {
+            config.set("chat.log-queue-capacity", 4096);
+        }
+        if (!config.contains("chat.rate-limit.enabled")) {
+            config.set("chat.rate-limit.enabled", false);
+        }
+        if (!config.contains("chat.rate-limit.game.messages-per-second")) {
+            config.set("chat.rate-limit.game.messages-per-second", 1.0);
+        }
+        if (!config.contains("chat.rate-limit.game.burst")) {
+            config.set("chat.rate-limit.game.burst", 5);
+        }
+        if (!config.contains("chat.rate-limit.spectator.messages-per-second")) {
+            config.set("chat.rate-limit.spectator.messages-per-second", 1.0);
+        }
+        if (!config.contains("chat.rate-limit.spectator.burst")) {
+            config.set("chat.rate-limit.spectator.burst", 5);
+        }
     }
 
     /**
@@ -160,6 +239,7 @@ public class ConfigManager {
         config = YamlConfiguration.loadConfiguration(configFile);
         setDefaults();
         saveConfig();
+        loadChatProcessorSettings();
     }
 
     /**
@@ -932,6 +1012,315 @@ public class ConfigManager {
         return "random";
     }
 
+    /**
+     * Gets the default per-message time budget for asynchronous chat processors.
+     * Read from config on load and reload, clamped to 1-5000 ms.
+     */
+    public int getChatProcessorTimeBudgetMillis() {
+        return chatProcessorTimeBudgetMillis;
+    }
+
+    /**
+     * Gets what happens to a message when an asynchronous chat processor misses its budget or fails.
+     * Read from config on load and reload.
+     */
+    public AsyncChatProcessor.FailurePolicy getChatProcessorFailurePolicy() {
+        return chatProcessorFailurePolicy;
+    }
+
+    /**
+     * Parses and validates the chat processor settings, warning once about invalid values.
+     */
+    private void loadChatProcessorSettings() {
+        int budget = config.getInt("chat.processor-time-budget-ms", 50);
+        if (budget < 1) {
+            plugin.getLogger().warning("Chat processor time budget too low (" + budget + "), using minimum 1");
+            budget = 1;
+        } else if (budget > 5000) {
+            plugin.getLogger().warning("Chat processor time budget too high (" + budget + "), using maximum 5000");
+            budget = 5000;
+        }
+        chatProcessorTimeBudgetMillis = budget;
+
+        // Valid values: "open" (let the message through), "closed" (deny it)
+        String policy = config.getString("chat.processor-failure-policy", "open");
+        String lowerPolicy = policy != null ? policy.toLowerCase().trim() : "open";
+        if (lowerPolicy.equals("closed")) {
+            chatProcessorFailurePolicy = AsyncChatProcessor.FailurePolicy.FAIL_CLOSED;
+        } else {
+            if (!lowerPolicy.equals("open")) {
+                plugin.getLogger().warning("Invalid chat processor failure policy: " + policy + ". Valid options: open, closed. Using default: open");
+            }
+            chatProcessorFailurePolicy = AsyncChatProcessor.FailurePolicy.FAIL_OPEN;
+        }
+    }
+
+    /**
+     * Gets how many log entries each session keeps in memory before spilling older ones to disk.
+     * Validates and clamps to reasonable range (64-65536).
+     */
+    public int getSessionLogMemoryCapacity() {
+        int capacity = config.getInt("logging.memory-entries", 2048);
+        if (capacity < 64) {
+            plugin.getLogger().warning("Session log memory capacity too low (" + capacity + "), using minimum 64");
+            return 64;
+        }
+        if (capacity > 65536) {
+            plugin.getLogger().warning("Session log memory capacity too high (" + capacity + "), using maximum 65536");
+            return 65536;
+        }
+        return capacity;
+    }
+
+    /**
+     * Gets how many spilled session log files are kept, 0 for no limit.
+     * Validates and clamps to reasonable range (0-10000).
+     */
+    public int getSessionLogSpillMaxFiles() {
+        int files = config.getInt("logging.spill-files.max-files", 100);
+        if (files < 0) {
+            plugin.getLogger().warning("Session log spill file count too low (" + files + "), using minimum 0");
+            return 0;
+        }
+        if (files > 10000) {
+            plugin.getLogger().warning("Session log spill file count too high (" + files + "), using maximum 10000");
+            return 10000;
+        }
+        return files;
+    }
+
+    /**
+     * Gets how many days a spilled session log file is kept, 0 for no limit.
+     * Validates and clamps to reasonable range (0-3650).
+     */
+    public int getSessionLogSpillMaxAgeDays() {
+        int days = config.getInt("logging.spill-files.max-age-days", 7);
+        if (days < 0) {
+            plugin.getLogger().warning("Session log spill retention too low (" + days + " days), using minimum 0");
+            return 0;
+        }
+        if (days > 3650) {
+            plugin.getLogger().warning("Session log spill retention too high (" + days + " days), using maximum 3650");
+            return 3650;
+        }
+        return days;
+    }
+
+    /**
+     * Gets whether session events are written to per-session files in the session-events folder.
+     */
+    public boolean isSessionEventFilesEnabled() {
+        return config.getBoolean("logging.event-files.enabled", true);
+    }
+
+    /**
+     * Gets the size in bytes after which a session event file is rotated.
+     * Validates and clamps to reasonable range (16-65536 KB).
+     */
+    public long getSessionEventMaxFileBytes() {
+        int kilobytes = config.getInt("logging.event-files.max-file-kb", 1024);
+        if (kilobytes < 16) {
+            plugin.getLogger().warning("Session event file size too low (" + kilobytes + " KB), using minimum 16 KB");
+            kilobytes = 16;
+        } else if (kilobytes > 65536) {
+            plugin.getLogger().warning("Session event file size too high (" + kilobytes + " KB), using maximum 65536 KB");
+            kilobytes = 65536;
+        }
+        return kilobytes * 1024L;
+    }
+
+    /**
+     * Gets how many rotated event files are kept per session besides the current one.
+     * Validates and clamps to reasonable range (0-50).
+     */
+    public int getSessionEventMaxFiles() {
+        int files = config.getInt("logging.event-files.max-files", 5);
+        if (files < 0) {
+            plugin.getLogger().warning("Session event file count too low (" + files + "), using minimum 0");
+            return 0;
+        }
+        if (files > 50) {
+            plugin.getLogger().warning("Session event file count too high (" + files + "), using maximum 50");
+            return 50;
+        }
+        return files;
+    }
+
+    /**
+     * Gets how many ended sessions keep their event files, 0 for no limit.
+     * Validates and clamps to reasonable range (0-10000).
+     */
+    public int getSessionEventMaxSessions() {
+        int sessions = config.getInt("logging.event-files.max-sessions", 100);
+        if (sessions < 0) {
+            plugin.getLogger().warning("Session event session count too low (" + sessions + "), using minimum 0");
+            return 0;
+        }
+        if (sessions > 10000) {
+            plugin.getLogger().warning("Session event session count too high (" + sessions + "), using maximum 10000");
+            return 10000;
+        }
+        return sessions;
+    }
+
+    /**
+     * Gets how many days an ended session's event files are kept, 0 for no limit.
+     * Validates and clamps to reasonable range (0-3650).
+     */
+    public int getSessionEventMaxAgeDays() {
+        int days = config.getInt("logging.event-files.max-age-days", 7);
+        if (days < 0) {
+            plugin.getLogger().warning("Session event file retention too low (" + days + " days), using minimum 0");
+            return 0;
+        }
+        if (days > 3650) {
+            plugin.getLogger().warning("Session event file retention too high (" + days + " days), using maximum 3650");
+            return 3650;
+        }
+        return days;
+    }
+
+    /**
+     * Gets how many session events may wait for the background writer before new ones are dropped.
+     * Validates and clamps to reasonable range (64-65536).
+     */
+    public int getSessionEventQueueCapacity() {
+        int capacity = config.getInt("logging.event-files.queue-capacity", 4096);
+        if (capacity < 64) {
+            plugin.getLogger().warning("Session event queue capacity too low (" + capacity + "), using minimum 64");
+            return 64;
+        }
+        if (capacity > 65536) {
+            plugin.getLogger().warning("Session event queue capacity too high (" + capacity + "), using maximum 65536");
+            return 65536;
+        }
+        return capacity;
+    }
+
+    /**
+     * Gets which session events are echoed to the server console.
+     * Sample rates are clamped to a reasonable range (1-10000).
+     */
+    public SessionEventSink.ConsoleFilter getSessionEventConsoleFilter() {
+        boolean enabled = config.getBoolean("logging.console.enabled", true);
+        Set<String> excluded = new LinkedHashSet<>();
+        for (String category : config.getStringList("logging.console.excluded-categories")) {
+            if (category != null && !category.trim().isEmpty()) {
+                excluded.add(category.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        int defaultSampleEvery = clampSampleEvery("default", config.getInt("logging.console.sample-every", 1));
+        Map<String, Integer> sampleEvery = new HashMap<>();
+        ConfigurationSection categories = config.getConfigurationSection("logging.console.category-sample-every");
+        if (categories != null) {
+            for (String category : categories.getKeys(false)) {
+                sampleEvery.put(category.trim().toUpperCase(Locale.ROOT), clampSampleEvery(category, categories.getInt(category, 1)));
+            }
+        }
+        return new SessionEventSink.ConsoleFilter(enabled, excluded, defaultSampleEvery, sampleEvery);
+    }
+
+    private int clampSampleEvery(String category, int every) {
+        if (every < 1) {
+            plugin.getLogger().warning("Console sample rate for " + category + " too low (" + every + "), using minimum 1");
+            return 1;
+        }
+        if (every > 10000) {
+            plugin.getLogger().warning("Console sample rate for " + category + " too high (" + every + "), using maximum 10000");
+            return 10000;
+        }
+        return every;
+    }
+
+    /**
+     * Gets whether the tick profiler is on when the plugin starts. It can be toggled later with /matchbox profile.
+     */
+    public boolean isProfilingEnabled() {
+        return config.getBoolean("profiling.enabled", false);
+    }
+
+    /**
+     * Gets whether the Prometheus metrics endpoint is served on localhost.
+     */
+    public boolean isMetricsEnabled() {
+        return config.getBoolean("metrics.enabled", false);
+    }
+
+    /**
+     * Gets the localhost port of the Prometheus metrics endpoint.
+     * Validates and clamps to reasonable range (1024-65535).
+     */
+    public int getMetricsPort() {
+        int port = config.getInt("metrics.port", 9464);
+        if (port < 1024) {
+            plugin.getLogger().warning("Metrics port too low (" + port + "), using minimum 1024");
+            return 1024;
+        }
+        if (port > 65535) {
+            plugin.getLogger().warning("Metrics port too high (" + port + "), using maximum 65535");
+            return 65535;
+        }
+        return port;
+    }
+
+    /**
+     * Gets how many chat lines may wait for the background log writer before new ones are dropped.
+     * Validates and clamps to reasonable range (64-65536).
+     */
+    public int getChatLogQueueCapacity() {
+        int capacity = config.getInt("chat.log-queue-capacity", 4096);
+        if (capacity < 64) {
+            plugin.getLogger().warning("Chat log queue capacity too low (" + capacity + "), using minimum 64");
+            return 64;
+        }
+        if (capacity > 65536) {
+            plugin.getLogger().warning("Chat log queue capacity too high (" + capacity + "), using maximum 65536");
+            return 65536;
+        }
+        return capacity;
+    }
+
+    /**
+     * Gets whether per-player chat flood control is enabled. Off unless configured.
+     */
+    public boolean isChatRateLimitEnabled() {
+        return config.getBoolean("chat.rate-limit.enabled", false);
+    }
+
+    /**
+     * Gets how many chat messages per second a player regains on a channel.
+     * Valid channels: "game", "spectator". Validates and clamps to reasonable range (0.1-20.0).
+     */
+    public double getChatRateLimitPerSecond(String channel) {
+        double rate = config.getDouble("chat.rate-limit." + channel + ".messages-per-second", 1.0);
+        if (rate < 0.1) {
+            plugin.getLogger().warning("Chat rate limit for " + channel + " too low (" + rate + "), using minimum 0.1");
+            return 0.1;
+        }
+        if (rate > 20.0) {
+            plugin.getLogger().warning("Chat rate limit for " + channel + " too high (" + rate + "), using maximum 20.0");
+            return 20.0;
+        }
+        return rate;
+    }
+
+    /**
+     * Gets how many chat messages a player may send back-to-back on a channel.
+     * Valid channels: "game", "spectator". Validates and clamps to reasonable range (1-50).
+     */
+    public int getChatRateLimitBurst(String channel) {
+        int burst = config.getInt("chat.rate-limit." + channel + ".burst", 5);
+        if (burst < 1) {
+            plugin.getLogger().warning("Chat burst for " + channel + " too low (" + burst + "), using minimum 1");
+            return 1;
+        }
+        if (burst > 50) {
+            plugin.getLogger().warning("Chat burst for " + channel + " too high (" + burst + "), using maximum 50");
+            return 50;
+        }
+        return burst;
+    }
+
     /**
      * Loads seat locations from config.
      * Returns a map of seat numbers to locations.
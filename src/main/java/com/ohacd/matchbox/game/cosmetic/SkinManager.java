@@ -33,6 +33,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -74,6 +75,8 @@ public class SkinManager {
     private final Set<UUID> discussionOriginalView = ConcurrentHashMap.newKeySet();
     private final ProtocolManager protocolManager;
     private final boolean packetMode;
+    private final LongAdder packetsRewritten = new LongAdder();
+    private final LongAdder viewRefreshes = new LongAdder();
 
     private volatile boolean preloading = false;
     private volatile boolean loggedOfflineModeFallback = false;
@@ -314,6 +317,21 @@ public class SkinManager {
         return candidate;
     }
 
+    /**
+     * Gets how many outgoing player-info packets had a skin swapped in.
+     */
+    public long getPacketsRewritten() {
+        return packetsRewritten.sum();
+    }
+
+    /**
+     * Gets how many times a viewer was made to re-spawn a player to show a new skin. Each refresh
+     * makes the server resend that player's despawn and spawn packets to the viewer.
+     */
+    public long getViewRefreshes() {
+        return viewRefreshes.sum();
+    }
+
     private void registerPacketListener() {
         PacketType[] packetTypes = resolvePlayerInfoPacketTypes();
         if (packetTypes.length == 0) {
@@ -396,6 +414,7 @@ public class SkinManager {
 
         if (changed) {
             packet.getPlayerInfoDataLists().write(0, rewritten);
+            packetsRewritten.increment();
         }
     }
 
@@ -514,6 +533,7 @@ public class SkinManager {
                 }
                 viewer.hidePlayer(plugin, player);
                 viewer.showPlayer(plugin, player);
+                viewRefreshes.increment();
             }
         };
 
@@ -1,16 +1,18 @@
 package com.ohacd.matchbox.game.hologram;
 
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages short-lived holograms (armor stands) shown above players.
@@ -19,13 +21,14 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class HologramManager {
     private final Plugin plugin;
+    private final GameScheduler scheduler;
 
     // Track both ArmorStand and the task that updates/removes it
     private static class HologramEntry {
         final ArmorStand stand;
-        final BukkitRunnable task;
+        final GameTask task;
 
-        HologramEntry(ArmorStand stand, BukkitRunnable task) {
+        HologramEntry(ArmorStand stand, GameTask task) {
             this.stand = stand;
             this.task = task;
         }
@@ -34,10 +37,19 @@ public class HologramManager {
     private final Map<UUID, HologramEntry> active = new ConcurrentHashMap<>();
 
     public HologramManager(Plugin plugin) {
+        this(plugin, GameScheduler.create(plugin));
+    }
+
+    public HologramManager(Plugin plugin, GameScheduler scheduler) {
         this.plugin = plugin;
+        this.scheduler = scheduler;
     }
 
     public void showTextAbove(Player player, String text, int ticks) {
+        showTextAbove(player, Component.text(text), ticks);
+    }
+
+    public void showTextAbove(Player player, Component text, int ticks) {
         if (player == null || !player.isOnline()) {
             return;
         }
@@ -46,8 +58,8 @@ public class HologramManager {
             return;
         }
 
-        // Run on main thread
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        // Run on the thread owning the player
+        scheduler.run(player, () -> {
             UUID id = player.getUniqueId();
 
             // Remove and cancel any previous hologram for this player
@@ -66,41 +78,42 @@ public class HologramManager {
             stand.setMarker(true);
             stand.setGravity(false);
             stand.setInvisible(true);
-            stand.customName(Component.text(text));
+            stand.customName(text);
             stand.setCustomNameVisible(true);
 
             // Create the updating task and store the entry
-            HologramEntry entry = new HologramEntry(stand, null);
-
-            BukkitRunnable task = new BukkitRunnable() {
-                int remaining = ticks;
-
-                @Override
-                public void run() {
-                    if (remaining <= 0 || stand.isDead() || !player.isOnline()) {
-                        try {
-                            if (!stand.isDead()) stand.remove();
-                        } catch (Exception ignored) {}
-                        // Only remove the map entry if it still maps to this entry (avoid removing newer entries)
-                        active.remove(id, entry);
-                        cancel();
-                        return;
-                    }
-                    Location newLocation = player.getLocation().clone().add(0, 2.2, 0);
+            AtomicInteger remaining = new AtomicInteger(ticks);
+
+            GameTask task = scheduler.runTimer(player, timer -> {
+                if (remaining.get() <= 0 || stand.isDead() || !player.isOnline()) {
                     try {
-                        stand.teleport(newLocation);
+                        if (!stand.isDead()) stand.remove();
                     } catch (Exception ignored) {}
-                    remaining--;
+                    // Only remove the map entry if it still maps to this entry (avoid removing newer entries)
+                    active.computeIfPresent(id, (key, current) -> current.stand == stand ? null : current);
+                    timer.cancel();
+                    return;
                 }
-            };
+                Location newLocation = player.getLocation().clone().add(0, 2.2, 0);
+                try {
+                    stand.teleport(newLocation);
+                } catch (Exception ignored) {}
+                remaining.decrementAndGet();
+            }, 0L, 1L);
 
             // assign task reference and store
             HologramEntry finalEntry = new HologramEntry(stand, task);
             active.put(id, finalEntry);
-            task.runTaskTimer(plugin, 0L, 1L);
         });
     }
 
+    /**
+     * Gets how many hologram armor stands are currently alive.
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
     public void clearAll() {
         Runnable clearTask = () -> {
             for (HologramEntry entry : active.values()) {
@@ -120,7 +133,7 @@ public class HologramManager {
         }
 
         if (plugin.isEnabled()) {
-            plugin.getServer().getScheduler().runTask(plugin, clearTask);
+            scheduler.run(clearTask);
             return;
         }
 
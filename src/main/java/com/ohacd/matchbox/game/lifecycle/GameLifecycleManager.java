@@ -111,9 +111,11 @@ public class GameLifecycleManager {
             return;
         }
 
-        // Add players to alive set
-        gameState.addAlivePlayers(playerList);
-        context.getRoleAssigner().assignRoles(playerList, roleAssignmentStrategy);
+        // Add players to alive set and assign roles, publishing one snapshot for both
+        gameState.batch(() -> {
+            gameState.addAlivePlayers(playerList);
+            context.getRoleAssigner().assignRoles(playerList, roleAssignmentStrategy);
+        });
         
         // Validate state after initialization
         if (!gameState.validateState()) {
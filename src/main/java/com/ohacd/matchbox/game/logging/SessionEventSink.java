@@ -0,0 +1,563 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Writes session events to per-session text files and, selectively, to the server console.
+ *
+ * <p>Recording threads only enqueue the {@link GameLogEntry}; formatting, file writes and console
+ * echo happen on a background writer thread. Each session gets its own file in the event
+ * directory, rotated once it grows past the configured size and keeping a fixed number of older
+ * files. The files of ended sessions are deleted by age and by count of sessions, at startup and
+ * whenever a session is closed. The number of queued entries is bounded and submitting never
+ * blocks: past the capacity an entry is dropped from the files and counted, but stays in the
+ * in-memory session log.</p>
+ *
+ * <p>A session's file exists between {@link #openSession(String)} and
+ * {@link #closeSession(String)}. Both travel through the queue as markers, so every entry
+ * submitted before the close is written before the file is closed. Markers do not count towards
+ * the capacity, so they are never dropped and never make the caller wait. Entries for a session
+ * that is not open are echoed but never reopen its file.</p>
+ *
+ * <p>Console echo goes through a {@link ConsoleFilter}, so high-volume categories such as CHAT
+ * and SIGN can be kept off the console entirely and others can be sampled.</p>
+ *
+ * <p>Until {@link #start(int)} is called entries are written inline on the caller thread.</p>
+ */
+public final class SessionEventSink {
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final long DEFAULT_MAX_FILE_BYTES = 1024L * 1024L;
+    public static final int DEFAULT_MAX_FILES = 5;
+    public static final int DEFAULT_MAX_SESSIONS = 100;
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(7);
+    static final String FILE_EXTENSION = ".log";
+
+    /** A session's current event file or one of its rotations */
+    private static final Pattern EVENT_FILE = Pattern.compile(".*" + Pattern.quote(FILE_EXTENSION) + "(\\.\\d+)?");
+
+    /**
+     * Decides which entries are echoed to the server console.
+     *
+     * @param enabled whether anything is echoed at all
+     * @param excludedCategories categories that are never echoed (upper case)
+     * @param defaultSampleEvery echo one in this many entries of a category
+     * @param sampleEvery per-category overrides of {@code defaultSampleEvery} (upper-case keys)
+     */
+    public record ConsoleFilter(
+        boolean enabled,
+        @NotNull Set<String> excludedCategories,
+        int defaultSampleEvery,
+        @NotNull Map<String, Integer> sampleEvery
+    ) {
+        public ConsoleFilter {
+            excludedCategories = Set.copyOf(excludedCategories);
+            defaultSampleEvery = Math.max(1, defaultSampleEvery);
+            sampleEvery = Map.copyOf(sampleEvery);
+        }
+
+        /**
+         * Echoes everything except CHAT and SIGN.
+         */
+        @NotNull
+        public static ConsoleFilter defaults() {
+            return new ConsoleFilter(true, Set.of("CHAT", "SIGN"), 1, Collections.emptyMap());
+        }
+
+        /**
+         * Echoes nothing.
+         */
+        @NotNull
+        public static ConsoleFilter disabled() {
+            return new ConsoleFilter(false, Collections.emptySet(), 1, Collections.emptyMap());
+        }
+
+        int sampleEveryFor(@NotNull String category) {
+            Integer every = sampleEvery.get(category);
+            return every != null ? Math.max(1, every) : defaultSampleEvery;
+        }
+    }
+
+    private final Plugin plugin;
+    private final File directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final int maxSessions;
+    private final Duration maxAge;
+    private final ConsoleFilter consoleFilter;
+
+    /** Opens or closes a session's file in queue order */
+    private record SessionMarker(@NotNull String sessionName, boolean open) {
+    }
+
+    // Holds GameLogEntry and SessionMarker items; only entries count towards the capacity
+    private volatile BlockingQueue<Object> queue;
+    private final AtomicInteger queuedEntries = new AtomicInteger();
+    private volatile boolean running;
+    private Thread writerThread;
+    private int capacity;
+
+    // Guarded by this; only the writer thread touches them once started
+    private final Map<String, SessionFile> files = new HashMap<>();
+    private final Map<String, long[]> consoleCounters = new HashMap<>();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder echoed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Creates a sink that keeps the files of the last {@link #DEFAULT_MAX_SESSIONS} sessions for
+     * at most {@link #DEFAULT_MAX_AGE}.
+     *
+     * @param directory folder for the per-session files, or null to only echo to the console
+     * @param maxFileBytes size after which a session file is rotated
+     * @param maxFiles rotated files kept per session, besides the current one
+     */
+    public SessionEventSink(
+        @NotNull Plugin plugin,
+        @Nullable File directory,
+        long maxFileBytes,
+        int maxFiles,
+        @NotNull ConsoleFilter consoleFilter
+    ) {
+        this(plugin, directory, maxFileBytes, maxFiles, DEFAULT_MAX_SESSIONS, DEFAULT_MAX_AGE, consoleFilter);
+    }
+
+    /**
+     * @param directory folder for the per-session files, or null to only echo to the console
+     * @param maxFileBytes size after which a session file is rotated
+     * @param maxFiles rotated files kept per session, besides the current one
+     * @param maxSessions ended sessions whose files are kept, or 0 for no limit
+     * @param maxAge age after which an ended session's files are deleted, or zero for no limit
+     */
+    public SessionEventSink(
+        @NotNull Plugin plugin,
+        @Nullable File directory,
+        long maxFileBytes,
+        int maxFiles,
+        int maxSessions,
+        @NotNull Duration maxAge,
+        @NotNull ConsoleFilter consoleFilter
+    ) {
+        this.plugin = plugin;
+        this.directory = directory;
+        this.maxFileBytes = Math.max(1024L, maxFileBytes);
+        this.maxFiles = Math.max(0, maxFiles);
+        this.maxSessions = Math.max(0, maxSessions);
+        this.maxAge = maxAge != null && !maxAge.isNegative() ? maxAge : Duration.ZERO;
+        this.consoleFilter = consoleFilter;
+        // Clear out what earlier runs left behind
+        pruneFiles();
+    }
+
+    /**
+     * Starts the background writer, queueing up to the given number of entries.
+     */
+    public synchronized void start(int capacity) {
+        if (running) {
+            return;
+        }
+        this.capacity = Math.max(1, capacity);
+        this.queue = new LinkedBlockingQueue<>();
+        queuedEntries.set(0);
+        this.running = true;
+        writerThread = new Thread(this::drainLoop, "Matchbox-SessionEvents");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the writer, writes whatever is still queued and closes the session files.
+     */
+    public void stop() {
+        Thread thread;
+        BlockingQueue<Object> remaining;
+        synchronized (this) {
+            if (!running) {
+                closeFiles();
+                return;
+            }
+            running = false;
+            thread = writerThread;
+            writerThread = null;
+            remaining = queue;
+        }
+        try {
+            thread.join(2000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Object item;
+        while ((item = remaining.poll()) != null) {
+            handle(item);
+        }
+        closeFiles();
+    }
+
+    /**
+     * Queues an entry for the session files and console. Never blocks.
+     *
+     * @return false if the queue was full and the entry was dropped
+     */
+    public boolean submit(@NotNull GameLogEntry entry) {
+        BlockingQueue<Object> current = queue;
+        if (!running || current == null) {
+            write(entry);
+            flush();
+            return true;
+        }
+        if (queuedEntries.incrementAndGet() > capacity) {
+            queuedEntries.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        current.offer(entry);
+        return true;
+    }
+
+    /**
+     * Starts writing a session's entries to its file, appending to what an earlier game left.
+     */
+    public void openSession(@NotNull String sessionName) {
+        mark(new SessionMarker(sessionName, true));
+    }
+
+    /**
+     * Closes the file of a finished session once the entries submitted before this call are
+     * written, then deletes event files past their retention. Later entries for the session are
+     * not written until it is opened again. Never blocks.
+     */
+    public void closeSession(@NotNull String sessionName) {
+        mark(new SessionMarker(sessionName, false));
+    }
+
+    private void mark(SessionMarker marker) {
+        BlockingQueue<Object> current = queue;
+        if (running && current != null) {
+            // The queue itself is unbounded, so a marker always fits
+            current.offer(marker);
+            return;
+        }
+        apply(marker);
+    }
+
+    private synchronized void apply(SessionMarker marker) {
+        if (marker.open()) {
+            if (directory != null) {
+                files.computeIfAbsent(marker.sessionName(), SessionFile::new);
+            }
+            return;
+        }
+        SessionFile file = files.remove(marker.sessionName());
+        if (file != null) {
+            file.close();
+        }
+        consoleCounters.keySet().removeIf(key -> key.startsWith(marker.sessionName() + '\u0000'));
+        pruneFiles();
+    }
+
+    /**
+     * Deletes the event files of sessions that are not open once their newest file is older than
+     * the configured age, or once they fall beyond the configured number of sessions, newest first.
+     *
+     * @return the number of files deleted
+     */
+    synchronized int pruneFiles() {
+        if (directory == null || (maxSessions == 0 && maxAge.isZero())) {
+            return 0;
+        }
+        File[] candidates = directory.listFiles((dir, name) -> EVENT_FILE.matcher(name).matches());
+        if (candidates == null || candidates.length == 0) {
+            return 0;
+        }
+        // A session's current file and its rotations go together
+        Map<String, List<File>> bySession = new HashMap<>();
+        for (File candidate : candidates) {
+            String name = candidate.getName();
+            String base = name.endsWith(FILE_EXTENSION) ? name : name.substring(0, name.lastIndexOf('.'));
+            bySession.computeIfAbsent(base, ignored -> new ArrayList<>()).add(candidate);
+        }
+        Set<String> open = new HashSet<>();
+        for (String sessionName : files.keySet()) {
+            open.add(fileName(sessionName));
+        }
+        List<Map.Entry<String, List<File>>> sessions = new ArrayList<>(bySession.entrySet());
+        sessions.sort(Comparator.comparingLong((Map.Entry<String, List<File>> session) -> newest(session.getValue())).reversed());
+        long oldest = maxAge.isZero() ? Long.MIN_VALUE : System.currentTimeMillis() - maxAge.toMillis();
+        int kept = 0;
+        int deleted = 0;
+        for (Map.Entry<String, List<File>> session : sessions) {
+            boolean expired = newest(session.getValue()) < oldest || (maxSessions > 0 && kept >= maxSessions);
+            if (!expired || open.contains(session.getKey())) {
+                kept++;
+                continue;
+            }
+            for (File file : session.getValue()) {
+                if (file.delete()) {
+                    deleted++;
+                } else {
+                    plugin.getLogger().warning("Failed to delete old session event file " + file.getName());
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private static long newest(List<File> files) {
+        long newest = Long.MIN_VALUE;
+        for (File file : files) {
+            newest = Math.max(newest, file.lastModified());
+        }
+        return newest;
+    }
+
+    private void drainLoop() {
+        BlockingQueue<Object> current = queue;
+        while (running) {
+            try {
+                Object item = current.poll(250L, TimeUnit.MILLISECONDS);
+                if (item == null) {
+                    continue;
+                }
+                handle(item);
+                // Write whatever else is already queued before paying for a flush
+                while ((item = current.poll()) != null) {
+                    handle(item);
+                }
+                flush();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Object item) {
+        if (item instanceof SessionMarker marker) {
+            apply(marker);
+        } else {
+            queuedEntries.decrementAndGet();
+            write((GameLogEntry) item);
+        }
+    }
+
+    private synchronized void write(GameLogEntry entry) {
+        if (shouldEcho(entry)) {
+            plugin.getLogger().info("[session=" + entry.sessionName() + "] [" + entry.category() + "] " + entry.message());
+            echoed.increment();
+        }
+        // Only open sessions have a file; a closed one is never reopened by a late entry
+        SessionFile file = files.get(entry.sessionName());
+        if (file != null && file.append(format(entry))) {
+            written.increment();
+        }
+    }
+
+    private boolean shouldEcho(GameLogEntry entry) {
+        if (!consoleFilter.enabled()) {
+            return false;
+        }
+        String category = entry.category().toUpperCase(Locale.ROOT);
+        if (consoleFilter.excludedCategories().contains(category)) {
+            return false;
+        }
+        int every = consoleFilter.sampleEveryFor(category);
+        if (every == 1) {
+            return true;
+        }
+        long[] counter = consoleCounters.computeIfAbsent(entry.sessionName() + '\u0000' + category, ignored -> new long[1]);
+        return counter[0]++ % every == 0;
+    }
+
+    private synchronized void flush() {
+        for (SessionFile file : files.values()) {
+            file.flush();
+        }
+    }
+
+    private synchronized void closeFiles() {
+        for (SessionFile file : files.values()) {
+            file.close();
+        }
+        files.clear();
+        consoleCounters.clear();
+    }
+
+    private static String format(GameLogEntry entry) {
+        StringBuilder line = new StringBuilder(96 + entry.message().length());
+        line.append(entry.timestamp()).append(" [").append(entry.category()).append("] ").append(entry.message());
+        if (entry.actorId() != null) {
+            line.append(" actor=").append(entry.actorId());
+        }
+        if (entry.targetId() != null) {
+            line.append(" target=").append(entry.targetId());
+        }
+        for (Map.Entry<String, String> attribute : entry.attributes().entrySet()) {
+            line.append(' ').append(attribute.getKey()).append('=').append(attribute.getValue());
+        }
+        return line.append('\n').toString();
+    }
+
+    static String fileName(@NotNull String sessionName) {
+        return sessionName.replaceAll("[^A-Za-z0-9_-]", "_") + FILE_EXTENSION;
+    }
+
+    /**
+     * Gets how many entries have been written to session files.
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Gets how many entries have been echoed to the console.
+     */
+    public long getEchoedCount() {
+        return echoed.sum();
+    }
+
+    /**
+     * Gets how many entries were dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of entries waiting to be written.
+     */
+    public int getQueueDepth() {
+        return queue != null ? Math.max(0, queuedEntries.get()) : 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * The current event file of one session, rotated by size.
+     */
+    private final class SessionFile {
+        private final String sessionName;
+        private final File file;
+        private BufferedWriter writer;
+        private long size;
+        private boolean failed;
+
+        SessionFile(String sessionName) {
+            this.sessionName = sessionName;
+            this.file = new File(directory, fileName(sessionName));
+        }
+
+        boolean append(String line) {
+            if (failed) {
+                return false;
+            }
+            try {
+                if (writer == null) {
+                    open();
+                }
+                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                if (size > 0 && size + bytes.length > maxFileBytes) {
+                    rotate();
+                }
+                writer.write(line);
+                size += bytes.length;
+                return true;
+            } catch (IOException e) {
+                failed = true;
+                close();
+                plugin.getLogger().warning("Failed to write session events for '" + sessionName + "', giving up on its event file: " + e.getMessage());
+                return false;
+            }
+        }
+
+        private void open() throws IOException {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("could not create " + directory);
+            }
+            size = file.length();
+            writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+        }
+
+        private void rotate() throws IOException {
+            writer.close();
+            writer = null;
+            if (maxFiles == 0) {
+                if (!file.delete()) {
+                    throw new IOException("could not delete " + file);
+                }
+            } else {
+                File oldest = rotated(maxFiles);
+                if (oldest.exists() && !oldest.delete()) {
+                    throw new IOException("could not delete " + oldest);
+                }
+                for (int i = maxFiles - 1; i >= 1; i--) {
+                    File older = rotated(i);
+                    if (older.exists() && !older.renameTo(rotated(i + 1))) {
+                        throw new IOException("could not rename " + older);
+                    }
+                }
+                if (!file.renameTo(rotated(1))) {
+                    throw new IOException("could not rename " + file);
+                }
+            }
+            open();
+        }
+
+        private File rotated(int index) {
+            return new File(directory, file.getName() + "." + index);
+        }
+
+        void flush() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to flush session events for '" + sessionName + "': " + e.getMessage());
+            }
+        }
+
+        void close() {
+            if (writer == null) {
+                return;
+            }
+            try {
+                writer.close();
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to close session events for '" + sessionName + "': " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+}
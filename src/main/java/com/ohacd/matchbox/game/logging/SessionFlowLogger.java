@@ -7,37 +7,162 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Centralized structured logging and stats collection per session.
+ *
+ * <p>Each session keeps its most recent entries in a bounded in-memory ring. Older entries are
+ * spilled to an append-only file in the spill directory and paged back in when a
+ * {@link GameSessionLog} is read. When a session ends the rest of its ring is written to the
+ * spill file, so the file holds the complete timeline, and the ring is dropped. The logs of the
+ * last {@link #CLOSED_SESSIONS_KEPT} ended sessions stay readable while their files exist; spill
+ * files are deleted by age and count.</p>
+ *
+ * <p>Once {@link #incrementRound(String)} has started a round, every entry is stamped with the
+ * session's current round in its {@code round} attribute, unless it names a round itself.</p>
+ *
+ * <p>A session is logged between {@link #openSession(String)} and {@link #closeSession(String)}.
+ * Entries recorded outside that window are dropped, so a late entry never brings back the
+ * buffer or files of a session that has ended. Statistics are counted either way. Opening a
+ * session starts its statistics from zero; those of the last {@link #CLOSED_SESSIONS_KEPT} ended
+ * sessions stay readable, while the server-wide totals keep counting across every game.</p>
+ *
+ * <p>Entries are also handed to a {@link SessionEventSink}, which writes the per-session event
+ * files and echoes selected categories to the server console off the recording thread.</p>
  */
 public final class SessionFlowLogger {
+    public static final int DEFAULT_MEMORY_CAPACITY = 2048;
+    public static final int DEFAULT_SPILL_MAX_FILES = 100;
+    public static final Duration DEFAULT_SPILL_MAX_AGE = Duration.ofDays(7);
+    /** Attribute holding the round an entry was recorded in */
+    public static final String ROUND_ATTRIBUTE = "round";
+    /** Ended sessions whose logs stay readable, most recently used first */
+    public static final int CLOSED_SESSIONS_KEPT = 16;
 
     private final Plugin plugin;
-    private final Map<String, List<GameLogEntry>> sessionEntries = new ConcurrentHashMap<>();
-    private final Map<String, Map<UUID, GameStatistics.PlayerStats>> sessionStats = new ConcurrentHashMap<>();
-    private final Map<String, Integer> roundsPlayed = new ConcurrentHashMap<>();
+    private final int memoryCapacity;
+    private final File spillDirectory;
+    private final int spillMaxFiles;
+    private final Duration spillMaxAge;
+    private final SessionEventSink eventSink;
+    private final Map<String, SessionLogBuffer> sessionEntries = new ConcurrentHashMap<>();
+    private final Map<String, SessionLogView> closedSessions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SessionLogView> eldest) {
+            return size() > CLOSED_SESSIONS_KEPT;
+        }
+    };
+    private final Map<String, SessionStatsCounters> sessionStats = new ConcurrentHashMap<>();
+    // Statistics of ended sessions, guarded by closedSessions like the views
+    private final Map<String, SessionStatsCounters> closedStats = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SessionStatsCounters> eldest) {
+            return size() > CLOSED_SESSIONS_KEPT;
+        }
+    };
+    /** Server-wide totals across every session, indexed by {@link SessionStatsCounters.Stat} */
+    private final LongAdder[] totals = SessionStatsCounters.newAdders();
+    private final LongAdder totalRounds = new LongAdder();
 
+    /**
+     * Creates a logger that keeps {@link #DEFAULT_MEMORY_CAPACITY} entries per session and
+     * discards older ones.
+     */
     public SessionFlowLogger(@NotNull Plugin plugin) {
+        this(plugin, DEFAULT_MEMORY_CAPACITY, null);
+    }
+
+    /**
+     * @param memoryCapacity entries kept in memory per session
+     * @param spillDirectory folder for older entries, or null to discard them
+     */
+    public SessionFlowLogger(@NotNull Plugin plugin, int memoryCapacity, @Nullable File spillDirectory) {
+        this(plugin, memoryCapacity, spillDirectory, new SessionEventSink(plugin, null,
+            SessionEventSink.DEFAULT_MAX_FILE_BYTES, SessionEventSink.DEFAULT_MAX_FILES, SessionEventSink.ConsoleFilter.defaults()));
+    }
+
+    /**
+     * @param memoryCapacity entries kept in memory per session
+     * @param spillDirectory folder for older entries, or null to discard them
+     * @param eventSink receives every recorded entry for the event files and console
+     */
+    public SessionFlowLogger(@NotNull Plugin plugin, int memoryCapacity, @Nullable File spillDirectory, @NotNull SessionEventSink eventSink) {
+        this(plugin, memoryCapacity, spillDirectory, DEFAULT_SPILL_MAX_FILES, DEFAULT_SPILL_MAX_AGE, eventSink);
+    }
+
+    /**
+     * @param memoryCapacity entries kept in memory per session
+     * @param spillDirectory folder for older entries, or null to discard them
+     * @param spillMaxFiles spill files kept in the folder, or 0 for no limit
+     * @param spillMaxAge age after which a spill file is deleted, or zero for no limit
+     * @param eventSink receives every recorded entry for the event files and console
+     */
+    public SessionFlowLogger(
+        @NotNull Plugin plugin,
+        int memoryCapacity,
+        @Nullable File spillDirectory,
+        int spillMaxFiles,
+        @NotNull Duration spillMaxAge,
+        @NotNull SessionEventSink eventSink
+    ) {
         if (plugin == null) {
             throw new IllegalArgumentException("plugin cannot be null");
         }
+        if (eventSink == null) {
+            throw new IllegalArgumentException("eventSink cannot be null");
+        }
         this.plugin = plugin;
+        this.memoryCapacity = memoryCapacity;
+        this.spillDirectory = spillDirectory;
+        this.spillMaxFiles = Math.max(0, spillMaxFiles);
+        this.spillMaxAge = spillMaxAge != null && !spillMaxAge.isNegative() ? spillMaxAge : Duration.ZERO;
+        this.eventSink = eventSink;
+        // Clear out what earlier runs left behind
+        pruneSpillFiles();
+    }
+
+    /**
+     * Starts writing session events from a background thread. Until then they are written on the
+     * recording thread.
+     */
+    public void startEventSink(int queueCapacity) {
+        eventSink.start(queueCapacity);
+    }
+
+    /**
+     * Gets the event sink, for its queue metrics.
+     */
+    @NotNull
+    public SessionEventSink getEventSink() {
+        return eventSink;
     }
 
     public void incrementRound(@NotNull String sessionName) {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        roundsPlayed.merge(sessionName, 1, Integer::sum);
+        stats(sessionName).incrementRound();
+        totalRounds.increment();
+        SessionLogBuffer buffer = sessionEntries.get(sessionName);
+        if (buffer != null) {
+            buffer.startRound();
+        }
     }
 
     public void record(
@@ -47,23 +172,43 @@ public final class SessionFlowLogger {
         @Nullable UUID actorId,
         @Nullable UUID targetId,
         @Nullable Map<String, String> attributes
+    ) {
+        record(sessionName, category, message, actorId, targetId, attributes, Instant.now());
+    }
+
+    /**
+     * Records an entry that happened at {@code timestamp}, e.g. when it is written after a queue.
+     */
+    public void record(
+        @NotNull String sessionName,
+        @NotNull String category,
+        @NotNull String message,
+        @Nullable UUID actorId,
+        @Nullable UUID targetId,
+        @Nullable Map<String, String> attributes,
+        @NotNull Instant timestamp
     ) {
         if (!isValidSessionName(sessionName) || category == null || category.trim().isEmpty() || message == null || message.trim().isEmpty()) {
             return;
         }
 
+        SessionLogBuffer buffer = sessionEntries.get(sessionName);
+        if (buffer == null) {
+            // Not open yet, or already ended
+            return;
+        }
+
         GameLogEntry entry = new GameLogEntry(
-            Instant.now(),
+            timestamp != null ? timestamp : Instant.now(),
             sessionName,
             category,
             message,
             actorId,
             targetId,
-            attributes == null ? Collections.emptyMap() : attributes
+            withRound(attributes, buffer.getRound())
         );
-
-        sessionEntries.computeIfAbsent(sessionName, ignored -> Collections.synchronizedList(new ArrayList<>())).add(entry);
-        plugin.getLogger().info("[session=" + sessionName + "] [" + category + "] " + message);
+        buffer.add(entry);
+        eventSink.submit(entry);
     }
 
     public void recordVote(
@@ -76,8 +221,9 @@ public final class SessionFlowLogger {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        updateStats(sessionName, voterId, s -> s.withVotesCast(1));
-        updateStats(sessionName, targetId, s -> s.withVotesReceived(1));
+        SessionStatsCounters stats = stats(sessionName);
+        stats.increment(voterId, SessionStatsCounters.Stat.VOTES_CAST);
+        stats.increment(targetId, SessionStatsCounters.Stat.VOTES_RECEIVED);
         record(sessionName, "VOTE", voterName + " voted for " + targetName, voterId, targetId, Collections.emptyMap());
     }
 
@@ -91,7 +237,7 @@ public final class SessionFlowLogger {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        updateStats(sessionName, sparkId, s -> s.withSwipes(1));
+        stats(sessionName).increment(sparkId, SessionStatsCounters.Stat.SWIPES);
         record(sessionName, "SWIPE", sparkName + " swiped " + targetName, sparkId, targetId, Collections.emptyMap());
     }
 
@@ -105,7 +251,7 @@ public final class SessionFlowLogger {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        updateStats(sessionName, medicId, s -> s.withCures(1));
+        stats(sessionName).increment(medicId, SessionStatsCounters.Stat.CURES);
         record(sessionName, "CURE", medicName + " cured " + targetName, medicId, targetId, Collections.emptyMap());
     }
 
@@ -113,7 +259,7 @@ public final class SessionFlowLogger {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        updateStats(sessionName, targetId, s -> s.withEliminations(1));
+        stats(sessionName).increment(targetId, SessionStatsCounters.Stat.ELIMINATIONS);
         record(sessionName, "ELIMINATION", targetName + " eliminated", null, targetId, Collections.emptyMap());
     }
 
@@ -123,12 +269,39 @@ public final class SessionFlowLogger {
         @NotNull String senderName,
         @NotNull String channel,
         @NotNull String message
+    ) {
+        recordChat(sessionName, senderId, senderName, channel, message, Instant.now());
+    }
+
+    public void recordChat(
+        @NotNull String sessionName,
+        @NotNull UUID senderId,
+        @NotNull String senderName,
+        @NotNull String channel,
+        @NotNull String message,
+        @NotNull Instant sentAt
     ) {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        updateStats(sessionName, senderId, s -> s.withChatsSent(1));
-        record(sessionName, "CHAT", senderName + " [" + channel + "]: " + message, senderId, null, Map.of("channel", channel));
+        stats(sessionName).increment(senderId, SessionStatsCounters.Stat.CHATS_SENT);
+        record(sessionName, "CHAT", senderName + " [" + channel + "]: " + message, senderId, null, Map.of("channel", channel), sentAt);
+    }
+
+    /**
+     * Counts a chat message shed by flood control. Nothing is logged, so spam stays out of the log.
+     *
+     * @param throttled whether this was the first message shed since the sender last got through
+     */
+    public void recordChatRateLimited(@NotNull String sessionName, @NotNull UUID senderId, boolean throttled) {
+        if (!isValidSessionName(sessionName)) {
+            return;
+        }
+        SessionStatsCounters stats = stats(sessionName);
+        stats.increment(senderId, SessionStatsCounters.Stat.CHATS_DROPPED);
+        if (throttled) {
+            stats.increment(senderId, SessionStatsCounters.Stat.CHATS_THROTTLED);
+        }
     }
 
     public void recordSignMessage(
@@ -140,7 +313,7 @@ public final class SessionFlowLogger {
         if (!isValidSessionName(sessionName)) {
             return;
         }
-        updateStats(sessionName, senderId, s -> s.withSignMessages(1));
+        stats(sessionName).increment(senderId, SessionStatsCounters.Stat.SIGN_MESSAGES);
         record(sessionName, "SIGN", senderName + ": " + message, senderId, null, Collections.emptyMap());
     }
 
@@ -149,10 +322,170 @@ public final class SessionFlowLogger {
         if (!isValidSessionName(sessionName)) {
             return new GameSessionLog("unknown", Collections.emptyList());
         }
-        List<GameLogEntry> entries = sessionEntries.getOrDefault(sessionName, Collections.emptyList());
-        synchronized (entries) {
-            return new GameSessionLog(sessionName, List.copyOf(entries));
+        SessionLogBuffer buffer = sessionEntries.get(sessionName);
+        SessionLogView view;
+        if (buffer != null) {
+            view = buffer.snapshot();
+        } else {
+            synchronized (closedSessions) {
+                view = closedSessions.get(sessionName);
+            }
+        }
+        if (view == null) {
+            return new GameSessionLog(sessionName, Collections.emptyList());
+        }
+        return GameSessionLog.ofView(sessionName, view, view);
+    }
+
+    /**
+     * Starts logging a session. Does nothing if it is already open.
+     */
+    public void openSession(@NotNull String sessionName) {
+        if (!isValidSessionName(sessionName) || sessionEntries.containsKey(sessionName)) {
+            return;
+        }
+        synchronized (closedSessions) {
+            // A new game under the same name starts a new log and new statistics
+            closedSessions.remove(sessionName);
+            closedStats.remove(sessionName);
+            sessionStats.remove(sessionName);
         }
+        // Open the event file first so it is ready for the first entry in the queue
+        eventSink.openSession(sessionName);
+        sessionEntries.computeIfAbsent(sessionName, this::createBuffer);
+    }
+
+    /**
+     * Ends the log of a session: writes its in-memory entries to the spill file, closes its
+     * event and spill files, then deletes spill files past their retention. The log stays
+     * readable while it is among the last {@link #CLOSED_SESSIONS_KEPT} ended and its file
+     * exists; entries recorded afterwards are dropped until the session is opened again.
+     */
+    public void closeSession(@NotNull String sessionName) {
+        if (!isValidSessionName(sessionName)) {
+            return;
+        }
+        closeBuffer(sessionName);
+        closeStats(sessionName);
+        eventSink.closeSession(sessionName);
+        pruneSpillFiles();
+    }
+
+    /**
+     * Writes out queued session events and ends every session's log as
+     * {@link #closeSession(String)} does. Sessions have to be opened again to be logged.
+     */
+    public void close() {
+        eventSink.stop();
+        for (String sessionName : sessionEntries.keySet()) {
+            closeBuffer(sessionName);
+            closeStats(sessionName);
+        }
+    }
+
+    private void closeBuffer(String sessionName) {
+        SessionLogBuffer buffer = sessionEntries.remove(sessionName);
+        if (buffer == null) {
+            return;
+        }
+        SessionLogView view = buffer.close();
+        synchronized (closedSessions) {
+            closedSessions.put(sessionName, view);
+        }
+    }
+
+    private void closeStats(String sessionName) {
+        synchronized (closedSessions) {
+            SessionStatsCounters stats = sessionStats.remove(sessionName);
+            if (stats != null) {
+                closedStats.put(sessionName, stats);
+            }
+        }
+    }
+
+    /**
+     * Deletes spill files older than the configured age and beyond the configured count,
+     * keeping those of sessions still recording.
+     */
+    private void pruneSpillFiles() {
+        if (spillDirectory == null || (spillMaxFiles == 0 && spillMaxAge.isZero()) || !spillDirectory.isDirectory()) {
+            return;
+        }
+        Set<File> inUse = sessionEntries.values().stream()
+            .map(SessionLogBuffer::getSpillFile)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        SessionLogSpill.prune(plugin, spillDirectory, spillMaxFiles, spillMaxAge, inUse);
+        synchronized (closedSessions) {
+            // An ended session whose file was deleted can no longer be read in full
+            closedSessions.values().removeIf(view -> !view.isReadable());
+        }
+    }
+
+    /**
+     * Converts the spill files of ended sessions to JSON Lines, one {@code .jsonl} file per game
+     * in {@code outputDirectory}. Files of sessions still recording are skipped, since they do not
+     * hold the whole game yet. Reads and writes files, so call it off the server thread.
+     *
+     * @param sessionName only export this session's games, or null for every session
+     * @return number of games exported, 0 if spilling is disabled
+     */
+    public int exportSessionLogs(@Nullable String sessionName, @NotNull Path outputDirectory) throws IOException {
+        if (spillDirectory == null || !spillDirectory.isDirectory()) {
+            return 0;
+        }
+        Set<Path> inUse = sessionEntries.values().stream()
+            .map(SessionLogBuffer::getSpillFile)
+            .filter(Objects::nonNull)
+            .map(File::toPath)
+            .collect(Collectors.toSet());
+        Pattern name = isValidSessionName(sessionName)
+            ? Pattern.compile(Pattern.quote(SessionLogSpill.fileNamePrefix(sessionName)) + "\\d+" + Pattern.quote(SessionLogSpill.FILE_EXTENSION))
+            : null;
+        return SessionLogExporter.exportDirectory(spillDirectory.toPath(), outputDirectory,
+            file -> !inUse.contains(file) && (name == null || name.matcher(file.getFileName().toString()).matches()));
+    }
+
+    /**
+     * Gets the votes cast in every session since the plugin started.
+     */
+    public long getTotalVotes() {
+        return totals[SessionStatsCounters.Stat.VOTES_CAST.ordinal()].sum();
+    }
+
+    /**
+     * Gets the swipes made in every session since the plugin started.
+     */
+    public long getTotalSwipes() {
+        return totals[SessionStatsCounters.Stat.SWIPES.ordinal()].sum();
+    }
+
+    /**
+     * Gets the cures made in every session since the plugin started.
+     */
+    public long getTotalCures() {
+        return totals[SessionStatsCounters.Stat.CURES.ordinal()].sum();
+    }
+
+    /**
+     * Gets the players eliminated in every session since the plugin started.
+     */
+    public long getTotalEliminations() {
+        return totals[SessionStatsCounters.Stat.ELIMINATIONS.ordinal()].sum();
+    }
+
+    /**
+     * Gets the chat messages shed by flood control in every session since the plugin started.
+     */
+    public long getTotalChatsDropped() {
+        return totals[SessionStatsCounters.Stat.CHATS_DROPPED.ordinal()].sum();
+    }
+
+    /**
+     * Gets the rounds started in every session since the plugin started.
+     */
+    public long getTotalRounds() {
+        return totalRounds.sum();
     }
 
     @NotNull
@@ -161,25 +494,48 @@ public final class SessionFlowLogger {
             return new GameStatistics("unknown", 0, Collections.emptyMap());
         }
 
-        Map<UUID, GameStatistics.PlayerStats> stats = sessionStats.getOrDefault(sessionName, Collections.emptyMap());
-        return new GameStatistics(
-            sessionName,
-            roundsPlayed.getOrDefault(sessionName, 0),
-            new ConcurrentHashMap<>(stats)
-        );
+        SessionStatsCounters stats = sessionStats.get(sessionName);
+        if (stats == null) {
+            synchronized (closedSessions) {
+                stats = closedStats.get(sessionName);
+            }
+        }
+        if (stats == null) {
+            return new GameStatistics(sessionName, 0, Collections.emptyMap());
+        }
+        return new GameStatistics(sessionName, stats.getRoundsPlayed(), stats.snapshot());
     }
 
-    private void updateStats(
-        @NotNull String sessionName,
-        @NotNull UUID playerId,
-        @NotNull Function<GameStatistics.PlayerStats, GameStatistics.PlayerStats> updater
-    ) {
-        sessionStats
-            .computeIfAbsent(sessionName, ignored -> new ConcurrentHashMap<>())
-            .compute(playerId, (ignored, current) -> {
-                GameStatistics.PlayerStats base = current == null ? GameStatistics.PlayerStats.empty() : current;
-                return updater.apply(base);
-            });
+    /**
+     * Stamps the session's current round on an entry that does not name its round itself, so
+     * every entry can be queried by round.
+     */
+    private static Map<String, String> withRound(@Nullable Map<String, String> attributes, @Nullable String round) {
+        if (attributes == null || attributes.isEmpty()) {
+            return round != null ? Map.of(ROUND_ATTRIBUTE, round) : Collections.emptyMap();
+        }
+        if (round == null || attributes.containsKey(ROUND_ATTRIBUTE)) {
+            return attributes;
+        }
+        Map<String, String> stamped = new HashMap<>(attributes);
+        stamped.put(ROUND_ATTRIBUTE, round);
+        return stamped;
+    }
+
+    private SessionStatsCounters stats(String sessionName) {
+        SessionStatsCounters stats = sessionStats.get(sessionName);
+        if (stats != null) {
+            return stats;
+        }
+        synchronized (closedSessions) {
+            // A late update to an ended game still counts towards that game
+            stats = closedStats.get(sessionName);
+            return stats != null ? stats : sessionStats.computeIfAbsent(sessionName, ignored -> new SessionStatsCounters(totals));
+        }
+    }
+
+    private SessionLogBuffer createBuffer(String sessionName) {
+        return new SessionLogBuffer(memoryCapacity, new SessionLogSpill(plugin, sessionName, spillDirectory));
     }
 
     private boolean isValidSessionName(String sessionName) {
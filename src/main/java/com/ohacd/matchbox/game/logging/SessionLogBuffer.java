@@ -0,0 +1,134 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the most recent log entries of one session in a fixed-size ring.
+ *
+ * <p>Recording claims a sequence number and swaps the entry into its slot, with no locking.
+ * Once the ring has wrapped, the entry that was in the slot is handed to the
+ * {@link SessionLogSpill} so the session's full timeline stays readable. Every entry is also
+ * added to the session's {@link SessionLogIndex} under its sequence number. When the spill is
+ * not keeping entries, the index is trimmed to the ring once per time block.</p>
+ *
+ * <p>When the session ends, the entries still in the ring are written to the spill as well, so
+ * the spill file holds the complete timeline.</p>
+ */
+final class SessionLogBuffer {
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final SessionLogSpill spill;
+    private final SessionLogIndex index = new SessionLogIndex();
+    private int rounds;
+    private volatile String round;
+
+    /**
+     * @param capacity entries kept in memory, rounded up to a power of two
+     */
+    SessionLogBuffer(int capacity, @NotNull SessionLogSpill spill) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.spill = spill;
+    }
+
+    /**
+     * Moves the session on to its next round, numbered from 1.
+     */
+    synchronized void startRound() {
+        round = String.valueOf(++rounds);
+    }
+
+    /**
+     * Gets the number of the session's current round, or null before the first round starts.
+     */
+    @Nullable
+    String getRound() {
+        return round;
+    }
+
+    void add(@NotNull GameLogEntry entry) {
+        long sequence = nextSequence.getAndIncrement();
+        Slot displaced = slots.getAndSet((int) (sequence & mask), new Slot(sequence, entry));
+        if (displaced != null) {
+            spill.append(displaced.sequence(), displaced.entry());
+        }
+        index.add(sequence, entry);
+        if (displaced != null && (sequence & (SessionLogIndex.TIME_BLOCK - 1)) == 0 && !spill.isRetaining()) {
+            // Entries below the ring are gone for good; stop indexing them
+            index.trimBelow(sequence - mask);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the whole timeline: spilled entries are read from disk on demand,
+     * the in-memory part is copied. A snapshot taken while entries are being recorded is weakly
+     * consistent; an entry moving from memory to disk at that moment may be missing from it.
+     */
+    @NotNull
+    SessionLogView snapshot() {
+        long spilled = spill.count();
+        List<Slot> live = liveSlots();
+        List<GameLogEntry> memory = new ArrayList<>(live.size());
+        long[] sequences = new long[live.size()];
+        for (Slot slot : live) {
+            // Skip entries that are already in the spill file
+            if (slot.sequence() >= spilled) {
+                sequences[memory.size()] = slot.sequence();
+                memory.add(slot.entry());
+            }
+        }
+        return new SessionLogView(spill, spilled, memory, Arrays.copyOf(sequences, memory.size()), index);
+    }
+
+    int getCapacity() {
+        return slots.length();
+    }
+
+    @Nullable
+    File getSpillFile() {
+        return spill.getFile();
+    }
+
+    /**
+     * Ends the session's log: moves the entries still in memory to the spill file, closes it and
+     * returns the finished timeline. If the spill is not keeping entries, the timeline holds them
+     * in memory instead. Snapshots taken earlier stay readable.
+     */
+    @NotNull
+    SessionLogView close() {
+        if (spill.isRetaining()) {
+            for (Slot slot : liveSlots()) {
+                spill.append(slot.sequence(), slot.entry());
+            }
+        }
+        spill.close();
+        return snapshot();
+    }
+
+    private List<Slot> liveSlots() {
+        List<Slot> live = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot != null) {
+                live.add(slot);
+            }
+        }
+        live.sort(Comparator.comparingLong(Slot::sequence));
+        return live;
+    }
+
+    private record Slot(long sequence, GameLogEntry entry) {
+    }
+}
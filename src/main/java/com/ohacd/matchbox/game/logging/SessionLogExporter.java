@@ -0,0 +1,140 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Converts binary session logs to JSON Lines, one object per entry:
+ * {@code {"timestamp":"...","session":"...","category":"...","message":"...","actor":...,"target":...,"attributes":{...}}}.
+ */
+public final class SessionLogExporter {
+
+    private SessionLogExporter() {
+    }
+
+    /**
+     * Writes every entry of one log file to {@code out}.
+     *
+     * @return number of entries written
+     */
+    public static long exportJsonl(@NotNull Path logFile, @NotNull Writer out) throws IOException {
+        SessionLogReader reader = SessionLogReader.open(logFile);
+        long written = 0;
+        StringBuilder line = new StringBuilder(256);
+        try (Stream<GameLogEntry> entries = reader.entries()) {
+            Iterator<GameLogEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                line.setLength(0);
+                appendJson(line, iterator.next());
+                out.write(line.append('\n').toString());
+                written++;
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    /**
+     * Exports every session log in a folder to a {@code .jsonl} file of the same name.
+     *
+     * @return number of files exported
+     */
+    public static int exportDirectory(@NotNull Path logDirectory, @NotNull Path outputDirectory) throws IOException {
+        return exportDirectory(logDirectory, outputDirectory, file -> true);
+    }
+
+    /**
+     * Exports the session logs in a folder that {@code include} accepts, each to a {@code .jsonl}
+     * file of the same name.
+     *
+     * @return number of files exported
+     */
+    public static int exportDirectory(@NotNull Path logDirectory, @NotNull Path outputDirectory, @NotNull Predicate<Path> include) throws IOException {
+        Files.createDirectories(outputDirectory);
+        int exported = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(logDirectory, "*" + SessionLogSpill.FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!include.test(file)) {
+                    continue;
+                }
+                String name = file.getFileName().toString();
+                Path target = outputDirectory.resolve(name.substring(0, name.length() - SessionLogSpill.FILE_EXTENSION.length()) + ".jsonl");
+                try (BufferedWriter out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                    exportJsonl(file, out);
+                }
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    static void appendJson(StringBuilder out, GameLogEntry entry) {
+        out.append("{\"timestamp\":");
+        appendString(out, entry.timestamp().toString());
+        out.append(",\"session\":");
+        appendString(out, entry.sessionName());
+        out.append(",\"category\":");
+        appendString(out, entry.category());
+        out.append(",\"message\":");
+        appendString(out, entry.message());
+        out.append(",\"actor\":");
+        appendUuid(out, entry.actorId());
+        out.append(",\"target\":");
+        appendUuid(out, entry.targetId());
+        out.append(",\"attributes\":{");
+        boolean first = true;
+        for (Map.Entry<String, String> attribute : entry.attributes().entrySet()) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            appendString(out, attribute.getKey());
+            out.append(':');
+            appendString(out, attribute.getValue());
+        }
+        out.append("}}");
+    }
+
+    private static void appendUuid(StringBuilder out, UUID id) {
+        if (id == null) {
+            out.append("null");
+        } else {
+            out.append('"').append(id).append('"');
+        }
+    }
+
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,226 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary layout of session log files.
+ *
+ * <p>A file starts with a header ({@code MBXL}, a version byte and the session name) followed
+ * by records. Every record is a tag byte, a varint body length and the body:</p>
+ * <ul>
+ *   <li>{@link #TAG_STRING} adds the next entry to the file's string table. Categories,
+ *   attribute keys and attribute values are written once and then referred to by id.</li>
+ *   <li>{@link #TAG_ENTRY} is one log entry: epoch nanos, category id, a flags byte, actor and
+ *   target as two longs each when present, the message inline, and attribute id pairs.</li>
+ * </ul>
+ * <p>The length prefix lets readers skip unknown tags and stop cleanly at a record that was
+ * cut short.</p>
+ */
+final class SessionLogFormat {
+    static final int MAGIC = 0x4D42584C;
+    static final byte VERSION = 1;
+    static final byte TAG_STRING = 1;
+    static final byte TAG_ENTRY = 2;
+
+    private static final int HAS_ACTOR = 1;
+    private static final int HAS_TARGET = 2;
+
+    private SessionLogFormat() {
+    }
+
+    /**
+     * Assigns string table ids on the writing side.
+     */
+    static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> strings;
+
+        StringTable(@NotNull List<String> strings) {
+            this.strings = strings;
+        }
+
+        /**
+         * Gets the id of a string, appending its definition record to {@code out} on first use.
+         */
+        void intern(String value, ByteBuffer[] out) {
+            Integer id = ids.get(value);
+            if (id != null) {
+                out[1] = putVarInt(out[1], id);
+                return;
+            }
+            id = strings.size();
+            ids.put(value, id);
+            strings.add(value);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out[0] = ensure(out[0], 1 + 5 + bytes.length);
+            out[0].put(TAG_STRING);
+            out[0] = putVarInt(out[0], bytes.length);
+            out[0].put(bytes);
+            out[1] = putVarInt(out[1], id);
+        }
+    }
+
+    static ByteBuffer writeHeader(ByteBuffer out, String sessionName) {
+        byte[] name = sessionName.getBytes(StandardCharsets.UTF_8);
+        out = ensure(out, 4 + 1 + 5 + name.length);
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out = putVarInt(out, name.length);
+        out.put(name);
+        return out;
+    }
+
+    /**
+     * Reads the header and returns the session name, leaving the buffer at the first record.
+     */
+    static String readHeader(ByteBuffer in) throws IOException {
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a Matchbox session log");
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported session log version " + version);
+            }
+            return readString(in, getVarInt(in));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated session log header");
+        }
+    }
+
+    /**
+     * Encodes an entry. {@code out[0]} receives any new string definitions followed by the entry
+     * record; {@code out[1]} is scratch space for the entry body.
+     */
+    static void encode(GameLogEntry entry, StringTable table, ByteBuffer[] out) {
+        out[1].clear();
+        Instant timestamp = entry.timestamp();
+        out[1] = ensure(out[1], 8 + 1 + 32);
+        out[1].putLong(timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano());
+        table.intern(entry.category(), out);
+        int flags = (entry.actorId() != null ? HAS_ACTOR : 0) | (entry.targetId() != null ? HAS_TARGET : 0);
+        out[1] = ensure(out[1], 1 + 32);
+        out[1].put((byte) flags);
+        putUuid(out[1], entry.actorId());
+        putUuid(out[1], entry.targetId());
+        byte[] message = entry.message().getBytes(StandardCharsets.UTF_8);
+        out[1] = putVarInt(out[1], message.length);
+        out[1] = ensure(out[1], message.length);
+        out[1].put(message);
+        out[1] = putVarInt(out[1], entry.attributes().size());
+        for (Map.Entry<String, String> attribute : entry.attributes().entrySet()) {
+            table.intern(attribute.getKey(), out);
+            table.intern(attribute.getValue(), out);
+        }
+
+        out[1].flip();
+        out[0] = ensure(out[0], 1 + 5 + out[1].remaining());
+        out[0].put(TAG_ENTRY);
+        out[0] = putVarInt(out[0], out[1].remaining());
+        out[0].put(out[1]);
+    }
+
+    /**
+     * Reads the next record. A string definition is appended to {@code strings} when reading a
+     * file from the start, and skipped when {@code strings} is already the writer's full table.
+     *
+     * @return the entry, or null if the record was not an entry
+     * @throws BufferUnderflowException if the record was cut short
+     */
+    @Nullable
+    static GameLogEntry decode(ByteBuffer in, String sessionName, List<String> strings, boolean collectStrings) {
+        byte tag = in.get();
+        int length = getVarInt(in);
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int end = in.position() + length;
+        if (tag == TAG_STRING) {
+            if (collectStrings) {
+                strings.add(readString(in, length));
+            }
+            in.position(end);
+            return null;
+        }
+        if (tag != TAG_ENTRY) {
+            in.position(end);
+            return null;
+        }
+
+        long nanos = in.getLong();
+        String category = strings.get(getVarInt(in));
+        int flags = in.get();
+        UUID actorId = (flags & HAS_ACTOR) != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+        UUID targetId = (flags & HAS_TARGET) != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+        String message = readString(in, getVarInt(in));
+        int attributeCount = getVarInt(in);
+        Map<String, String> attributes = new HashMap<>(attributeCount * 2);
+        for (int i = 0; i < attributeCount; i++) {
+            attributes.put(strings.get(getVarInt(in)), strings.get(getVarInt(in)));
+        }
+        in.position(end);
+        return new GameLogEntry(
+            Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L)),
+            sessionName, category, message, actorId, targetId, attributes);
+    }
+
+    private static void putUuid(ByteBuffer out, UUID id) {
+        if (id != null) {
+            out.putLong(id.getMostSignificantBits());
+            out.putLong(id.getLeastSignificantBits());
+        }
+    }
+
+    private static String readString(ByteBuffer in, int length) {
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static ByteBuffer putVarInt(ByteBuffer out, int value) {
+        out = ensure(out, 5);
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+        return out;
+    }
+
+    static int getVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in session log");
+    }
+
+    /**
+     * Returns {@code buffer}, or a larger copy of it, with room for {@code bytes} more bytes.
+     */
+    static ByteBuffer ensure(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
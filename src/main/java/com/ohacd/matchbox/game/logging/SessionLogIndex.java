@@ -0,0 +1,212 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import com.ohacd.matchbox.api.SessionLogQuery;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * Secondary indexes over one session's log, updated as each entry is recorded.
+ *
+ * <p>Indexes hold sequence numbers only, so they stay valid when entries move from memory to
+ * disk. Categories, actors, targets and {@code round} attribute values each map to a sorted
+ * sequence list. Time is indexed per block of {@link #TIME_BLOCK} sequences with the block's
+ * earliest and latest timestamp, since chat entries may carry a slightly earlier timestamp than
+ * their neighbours.</p>
+ *
+ * <p>When older entries are discarded rather than spilled, {@link #trimBelow(long)} drops their
+ * sequences so the index only grows with what can still be read. The index lives as long as the
+ * session's log can be read, including for a while after the session ends.</p>
+ */
+final class SessionLogIndex {
+    static final int TIME_BLOCK = 256;
+
+    private final Map<String, SequenceList> byCategory = new HashMap<>();
+    private final Map<UUID, SequenceList> byActor = new HashMap<>();
+    private final Map<UUID, SequenceList> byTarget = new HashMap<>();
+    private final Map<String, SequenceList> byRound = new HashMap<>();
+    private long[] blockEarliest = new long[16];
+    private long[] blockLatest = new long[16];
+    // Time block stored at index 0 of the block arrays, and how many blocks follow from there
+    private long firstBlock;
+    private int blocks;
+
+    synchronized void add(long sequence, @NotNull GameLogEntry entry) {
+        byCategory.computeIfAbsent(entry.category(), ignored -> new SequenceList()).add(sequence);
+        if (entry.actorId() != null) {
+            byActor.computeIfAbsent(entry.actorId(), ignored -> new SequenceList()).add(sequence);
+        }
+        if (entry.targetId() != null) {
+            byTarget.computeIfAbsent(entry.targetId(), ignored -> new SequenceList()).add(sequence);
+        }
+        String round = entry.attributes().get("round");
+        if (round != null) {
+            byRound.computeIfAbsent(round, ignored -> new SequenceList()).add(sequence);
+        }
+        indexTime(sequence, toNanos(entry.timestamp()));
+    }
+
+    /**
+     * Gets the candidate sequences for a query, ascending, or null if no filter is indexed and
+     * every entry is a candidate. Candidates match every category, player and round filter;
+     * the time range is only narrowed to blocks. Trimmed sequences are never returned.
+     */
+    @Nullable
+    synchronized LongStream candidates(@NotNull SessionLogQuery query) {
+        List<long[]> filters = new ArrayList<>(4);
+        if (!query.getCategories().isEmpty()) {
+            filters.add(query.getCategories().stream()
+                .map(byCategory::get)
+                .flatMapToLong(list -> list != null ? LongStream.of(list.copy()) : LongStream.empty())
+                .sorted()
+                .toArray());
+        }
+        if (query.getActorId() != null) {
+            filters.add(sequences(byActor.get(query.getActorId())));
+        }
+        if (query.getTargetId() != null) {
+            filters.add(sequences(byTarget.get(query.getTargetId())));
+        }
+        if (query.getRound() != null) {
+            filters.add(sequences(byRound.get(String.valueOf(query.getRound()))));
+        }
+
+        if (filters.isEmpty()) {
+            return query.getFrom() != null && query.getTo() != null
+                ? timeCandidates(toNanos(query.getFrom()), toNanos(query.getTo()))
+                : null;
+        }
+        // Walk the shortest list and keep what every other list contains
+        filters.sort(Comparator.comparingInt(list -> list.length));
+        long[] shortest = filters.get(0);
+        List<long[]> others = filters.subList(1, filters.size());
+        return LongStream.of(shortest)
+            .filter(sequence -> others.stream().allMatch(list -> Arrays.binarySearch(list, sequence) >= 0));
+    }
+
+    /**
+     * Forgets every sequence below {@code sequence}, for entries that were discarded. Time blocks
+     * are dropped once all of their sequences are gone.
+     */
+    synchronized void trimBelow(long sequence) {
+        trim(byCategory, sequence);
+        trim(byActor, sequence);
+        trim(byTarget, sequence);
+        trim(byRound, sequence);
+
+        int dropped = (int) Math.min(blocks, Math.max(0L, sequence / TIME_BLOCK - firstBlock));
+        if (dropped > 0) {
+            System.arraycopy(blockEarliest, dropped, blockEarliest, 0, blocks - dropped);
+            System.arraycopy(blockLatest, dropped, blockLatest, 0, blocks - dropped);
+            blocks -= dropped;
+            firstBlock += dropped;
+        }
+    }
+
+    private static <K> void trim(Map<K, SequenceList> lists, long sequence) {
+        Iterator<SequenceList> iterator = lists.values().iterator();
+        while (iterator.hasNext()) {
+            SequenceList list = iterator.next();
+            list.trimBelow(sequence);
+            if (list.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private LongStream timeCandidates(long from, long to) {
+        LongStream.Builder matching = LongStream.builder();
+        for (int block = 0; block < blocks; block++) {
+            if (blockLatest[block] >= from && blockEarliest[block] < to) {
+                matching.add(firstBlock + block);
+            }
+        }
+        return matching.build().flatMap(block -> LongStream.range(block * TIME_BLOCK, (block + 1) * TIME_BLOCK));
+    }
+
+    private void indexTime(long sequence, long nanos) {
+        long absolute = sequence / TIME_BLOCK;
+        if (absolute < firstBlock) {
+            // Arrived after its block was trimmed
+            return;
+        }
+        int block = (int) (absolute - firstBlock);
+        if (block >= blockEarliest.length) {
+            int length = Math.max(blockEarliest.length * 2, block + 1);
+            blockEarliest = Arrays.copyOf(blockEarliest, length);
+            blockLatest = Arrays.copyOf(blockLatest, length);
+        }
+        if (block >= blocks) {
+            for (int i = blocks; i <= block; i++) {
+                blockEarliest[i] = Long.MAX_VALUE;
+                blockLatest[i] = Long.MIN_VALUE;
+            }
+            blocks = block + 1;
+        }
+        blockEarliest[block] = Math.min(blockEarliest[block], nanos);
+        blockLatest[block] = Math.max(blockLatest[block], nanos);
+    }
+
+    private static long[] sequences(SequenceList list) {
+        return list != null ? list.copy() : new long[0];
+    }
+
+    private static long toNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * Append-mostly list of sequence numbers kept in ascending order. Entries recorded from two
+     * threads at once can arrive a position or two out of order and are slotted back into place.
+     */
+    private static final class SequenceList {
+        private long[] values = new long[8];
+        private int size;
+
+        void add(long sequence) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int position = size;
+            while (position > 0 && values[position - 1] > sequence) {
+                values[position] = values[position - 1];
+                position--;
+            }
+            values[position] = sequence;
+            size++;
+        }
+
+        long[] copy() {
+            return Arrays.copyOf(values, size);
+        }
+
+        void trimBelow(long sequence) {
+            int found = Arrays.binarySearch(values, 0, size, sequence);
+            int keepFrom = found >= 0 ? found : -found - 1;
+            if (keepFrom == 0) {
+                return;
+            }
+            size -= keepFrom;
+            System.arraycopy(values, keepFrom, values, 0, size);
+            // Give back space once most of the list has been trimmed
+            if (values.length > 8 && size < values.length / 4) {
+                values = Arrays.copyOf(values, Math.max(8, size * 2));
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
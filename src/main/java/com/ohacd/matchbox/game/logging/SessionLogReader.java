@@ -0,0 +1,103 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a spilled session log file through a memory map.
+ *
+ * <p>Entries are decoded one at a time as the stream is consumed, so a file is never loaded
+ * onto the heap as a whole; only its string table is kept. A record cut short by a crash ends
+ * the stream instead of failing it.</p>
+ */
+public final class SessionLogReader {
+    private final Path file;
+    private final MappedByteBuffer mapped;
+    private final int firstRecord;
+    private final String sessionName;
+
+    private SessionLogReader(Path file, MappedByteBuffer mapped, String sessionName) {
+        this.file = file;
+        this.mapped = mapped;
+        this.firstRecord = mapped.position();
+        this.sessionName = sessionName;
+    }
+
+    /**
+     * Maps a session log file and reads its header.
+     *
+     * @throws IOException if the file cannot be read or is not a session log
+     */
+    @NotNull
+    public static SessionLogReader open(@NotNull Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Session log too large to map: " + file);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new SessionLogReader(file, mapped, SessionLogFormat.readHeader(mapped));
+    }
+
+    /**
+     * Gets the session the file belongs to.
+     */
+    @NotNull
+    public String getSessionName() {
+        return sessionName;
+    }
+
+    @NotNull
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Streams the entries in the order they were written. Each call starts from the beginning.
+     */
+    @NotNull
+    public Stream<GameLogEntry> entries() {
+        return StreamSupport.stream(new EntrySpliterator(), false);
+    }
+
+    private final class EntrySpliterator extends Spliterators.AbstractSpliterator<GameLogEntry> {
+        private final MappedByteBuffer buffer = mapped.duplicate();
+        private final List<String> strings = new ArrayList<>();
+
+        private EntrySpliterator() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            buffer.position(firstRecord);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super GameLogEntry> action) {
+            try {
+                while (buffer.hasRemaining()) {
+                    GameLogEntry entry = SessionLogFormat.decode(buffer, sessionName, strings, true);
+                    if (entry != null) {
+                        action.accept(entry);
+                        return true;
+                    }
+                }
+            } catch (BufferUnderflowException e) {
+                buffer.position(buffer.limit());
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Append-only file holding the log entries a session has pushed out of memory.
+ *
+ * <p>Entries are written in the {@link SessionLogFormat} binary layout through a
+ * {@link FileChannel}, staged in a direct buffer so most spills cost a memory copy. The file is
+ * created on the first spill, so sessions that never fill their buffer never touch the disk.
+ * Entries are read back a page at a time by mapping just that page's bytes; the byte offset of
+ * every page is kept in memory so any page can be mapped directly.</p>
+ *
+ * <p>Entries are stored in sequence order, so the entry with sequence {@code n} is entry
+ * {@code n} of the file for every {@code n < count()}. An entry that arrives ahead of its turn,
+ * because two threads displaced entries at once, waits until the gap before it is filled.</p>
+ *
+ * <p>Readers decode pages outside the monitor, against a copy of the string table, so a slow
+ * read never holds up recording. Once {@link #close()} is called the file is never reopened.</p>
+ */
+final class SessionLogSpill {
+    static final int PAGE_SIZE = 256;
+    static final String FILE_EXTENSION = ".mblog";
+
+    private static final int STAGING_BYTES = 64 * 1024;
+
+    private final Plugin plugin;
+    private final String sessionName;
+    private final File file;
+    private final List<String> strings = new ArrayList<>();
+    private final SessionLogFormat.StringTable stringTable = new SessionLogFormat.StringTable(strings);
+    private final ByteBuffer[] encoded = {ByteBuffer.allocate(512), ByteBuffer.allocate(256)};
+    private final Map<Long, GameLogEntry> early = new HashMap<>();
+    private List<String> readerStrings = Collections.emptyList();
+    private long nextSequence;
+
+    private FileChannel channel;
+    private ByteBuffer staging;
+    private long position;
+    private long count;
+    private long[] pageOffsets = new long[16];
+    private long discarded;
+    private boolean failed;
+    private boolean closed;
+
+    /**
+     * @param directory folder for the spill file, or null to discard spilled entries
+     */
+    SessionLogSpill(@NotNull Plugin plugin, @NotNull String sessionName, @Nullable File directory) {
+        this.plugin = plugin;
+        this.sessionName = sessionName;
+        this.file = directory == null ? null
+            : new File(directory, fileNamePrefix(sessionName) + System.currentTimeMillis() + FILE_EXTENSION);
+        this.failed = directory == null;
+    }
+
+    synchronized void append(long sequence, @NotNull GameLogEntry entry) {
+        if (sequence != nextSequence) {
+            early.put(sequence, entry);
+            return;
+        }
+        write(entry);
+        nextSequence++;
+        GameLogEntry next;
+        while (!early.isEmpty() && (next = early.remove(nextSequence)) != null) {
+            write(next);
+            nextSequence++;
+        }
+    }
+
+    private void write(GameLogEntry entry) {
+        if (failed || closed || !ensureOpen()) {
+            discarded++;
+            return;
+        }
+        try {
+            encoded[0].clear();
+            SessionLogFormat.encode(entry, stringTable, encoded);
+            ByteBuffer record = encoded[0].flip();
+            if (count % PAGE_SIZE == 0) {
+                int page = (int) (count / PAGE_SIZE);
+                if (page == pageOffsets.length) {
+                    pageOffsets = Arrays.copyOf(pageOffsets, page * 2);
+                }
+                pageOffsets[page] = position;
+            }
+            position += record.remaining();
+            if (record.remaining() > staging.remaining()) {
+                flushStaging();
+            }
+            if (record.remaining() > staging.remaining()) {
+                writeFully(record);
+            } else {
+                staging.put(record);
+            }
+            count++;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to spill log for session '" + sessionName + "', older entries will be discarded: " + e.getMessage());
+            failed = true;
+            discarded++;
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Gets how many entries are stored in the file.
+     */
+    synchronized long count() {
+        return count;
+    }
+
+    /**
+     * Gets how many entries were dropped because the file could not be written.
+     */
+    synchronized long getDiscardedCount() {
+        return discarded;
+    }
+
+    /**
+     * Gets whether spilled entries are being kept, rather than discarded because spilling is
+     * disabled, failed or the spill was closed.
+     */
+    synchronized boolean isRetaining() {
+        return !failed && !closed;
+    }
+
+    /**
+     * Gets the spill file, or null if spilling is disabled.
+     */
+    @Nullable
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Reads one page of entries, in the order they were spilled.
+     */
+    @NotNull
+    List<GameLogEntry> readPage(int page) throws IOException {
+        long first = (long) page * PAGE_SIZE;
+        long start;
+        long end;
+        int entries;
+        List<String> table;
+        synchronized (this) {
+            if (file == null || page < 0 || first >= count) {
+                return List.of();
+            }
+            start = pageOffsets[page];
+            end = first + PAGE_SIZE < count ? pageOffsets[page + 1] : position;
+            // Only a page reaching into the staged tail needs it written out first
+            if (channel != null && end > position - staging.position()) {
+                flushStaging();
+            }
+            entries = (int) Math.min(PAGE_SIZE, count - first);
+            if (readerStrings.size() != strings.size()) {
+                readerStrings = Collections.unmodifiableList(new ArrayList<>(strings));
+            }
+            table = readerStrings;
+        }
+
+        MappedByteBuffer bytes;
+        try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            bytes = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        }
+        List<GameLogEntry> result = new ArrayList<>(entries);
+        try {
+            while (result.size() < entries) {
+                GameLogEntry entry = SessionLogFormat.decode(bytes, sessionName, table, false);
+                if (entry != null) {
+                    result.add(entry);
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt spilled log page " + page + " for session '" + sessionName + "'");
+        }
+        return result;
+    }
+
+    /**
+     * Writes staged bytes and closes the file for good. Pages already written stay readable
+     * while the file exists; later spills are discarded.
+     */
+    synchronized void close() {
+        closed = true;
+        early.clear();
+        if (channel == null) {
+            return;
+        }
+        try {
+            flushStaging();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to flush log spill for session '" + sessionName + "': " + e.getMessage());
+        }
+        closeQuietly();
+        staging = null;
+    }
+
+    /**
+     * Deletes spill files older than {@code maxAge} and, of the rest, all but the newest
+     * {@code maxFiles}. Files in {@code inUse} are never deleted but count towards the limit.
+     *
+     * @param maxFiles files to keep, or 0 for no limit
+     * @param maxAge age after which a file is deleted, or zero for no limit
+     * @return the number of files deleted
+     */
+    static int prune(@NotNull Plugin plugin, @NotNull File directory, int maxFiles, @NotNull Duration maxAge, @NotNull Set<File> inUse) {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+        if (files == null || files.length == 0) {
+            return 0;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified).reversed());
+        long oldest = maxAge.isZero() ? Long.MIN_VALUE : System.currentTimeMillis() - maxAge.toMillis();
+        int kept = 0;
+        int deleted = 0;
+        for (File candidate : files) {
+            boolean expired = candidate.lastModified() < oldest || (maxFiles > 0 && kept >= maxFiles);
+            if (!expired || inUse.contains(candidate)) {
+                kept++;
+            } else if (candidate.delete()) {
+                deleted++;
+            } else {
+                plugin.getLogger().warning("Failed to delete old session log spill " + candidate.getName());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Gets the start of the spill file names of a session; the rest is the creation time in
+     * milliseconds and the extension.
+     */
+    @NotNull
+    static String fileNamePrefix(@NotNull String sessionName) {
+        return sessionName.replaceAll("[^A-Za-z0-9_-]", "_") + "-";
+    }
+
+    private boolean ensureOpen() {
+        if (channel != null) {
+            return true;
+        }
+        try {
+            File directory = file.getParentFile();
+            if (directory != null && !directory.exists() && !directory.mkdirs()) {
+                throw new IOException("could not create " + directory);
+            }
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            if (staging == null) {
+                staging = ByteBuffer.allocateDirect(STAGING_BYTES);
+            }
+            if (channel.size() == 0) {
+                ByteBuffer header = SessionLogFormat.writeHeader(ByteBuffer.allocate(64), sessionName).flip();
+                position = header.remaining();
+                writeFully(header);
+            }
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to open log spill for session '" + sessionName + "', older entries will be discarded: " + e.getMessage());
+            failed = true;
+            closeQuietly();
+            return false;
+        }
+    }
+
+    private void flushStaging() throws IOException {
+        staging.flip();
+        writeFully(staging);
+        staging.clear();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private void closeQuietly() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing left to do with a channel that will not close
+        }
+        channel = null;
+    }
+}
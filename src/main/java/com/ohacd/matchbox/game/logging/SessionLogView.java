@@ -0,0 +1,101 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import com.ohacd.matchbox.api.SessionLogQuery;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable list over a session timeline: the spilled head is paged in from disk, the tail is
+ * the in-memory copy taken with the snapshot. Only the most recently read page is cached.
+ *
+ * <p>Queries resolve the sequence numbers found in the session's index to positions in this
+ * list. Spilled entries sit at the position equal to their sequence; in-memory entries are
+ * found by binary search. Entries recorded after the snapshot are skipped.</p>
+ */
+final class SessionLogView extends AbstractList<GameLogEntry> implements RandomAccess, SessionLogQuery.Index {
+    private final SessionLogSpill spill;
+    private final int spilled;
+    private final List<GameLogEntry> memory;
+    private final long[] memorySequences;
+    private final SessionLogIndex index;
+    private volatile Page page;
+
+    SessionLogView(
+        @NotNull SessionLogSpill spill,
+        long spilled,
+        @NotNull List<GameLogEntry> memory,
+        long[] memorySequences,
+        @NotNull SessionLogIndex index
+    ) {
+        this.spill = spill;
+        this.spilled = (int) Math.min(spilled, Integer.MAX_VALUE - memory.size());
+        this.memory = memory;
+        this.memorySequences = memorySequences;
+        this.index = index;
+    }
+
+    @Override
+    @NotNull
+    public IntStream candidates(@NotNull SessionLogQuery query) {
+        LongStream sequences = index.candidates(query);
+        if (sequences == null) {
+            return IntStream.range(0, size());
+        }
+        return sequences.mapToInt(this::positionOf).filter(position -> position >= 0);
+    }
+
+    private int positionOf(long sequence) {
+        if (sequence < spilled) {
+            return (int) sequence;
+        }
+        int found = Arrays.binarySearch(memorySequences, sequence);
+        return found >= 0 ? spilled + found : -1;
+    }
+
+    @Override
+    public GameLogEntry get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        if (index >= spilled) {
+            return memory.get(index - spilled);
+        }
+        int pageIndex = index / SessionLogSpill.PAGE_SIZE;
+        Page current = page;
+        if (current == null || current.index() != pageIndex) {
+            try {
+                current = new Page(pageIndex, spill.readPage(pageIndex));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read spilled session log", e);
+            }
+            page = current;
+        }
+        return current.entries().get(index % SessionLogSpill.PAGE_SIZE);
+    }
+
+    /**
+     * Gets whether every entry can still be read: the spilled part needs its file to exist.
+     */
+    boolean isReadable() {
+        File file = spill.getFile();
+        return spilled == 0 || (file != null && file.exists());
+    }
+
+    @Override
+    public int size() {
+        return spilled + memory.size();
+    }
+
+    private record Page(int index, List<GameLogEntry> entries) {
+    }
+}
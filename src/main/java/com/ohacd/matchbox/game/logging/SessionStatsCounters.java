@@ -0,0 +1,110 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameStatistics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live statistics of one session.
+ *
+ * <p>Each player has one {@link LongAdder} per counter, so recording a vote or a chat line is an
+ * add on an existing adder and allocates nothing once the player has been seen. Immutable
+ * {@link GameStatistics.PlayerStats} are built only when {@link #snapshot()} is called.
+ * Every increment is also added to a server-wide totals array shared by all sessions.</p>
+ */
+final class SessionStatsCounters {
+    enum Stat {
+        VOTES_CAST,
+        VOTES_RECEIVED,
+        SWIPES,
+        CURES,
+        ELIMINATIONS,
+        CHATS_SENT,
+        SIGN_MESSAGES,
+        CHATS_DROPPED,
+        CHATS_THROTTLED;
+
+        private static final Stat[] VALUES = values();
+    }
+
+    private final Map<UUID, LongAdder[]> players = new ConcurrentHashMap<>();
+    private final LongAdder roundsPlayed = new LongAdder();
+    private final LongAdder[] totals;
+
+    /**
+     * @param totals server-wide counters, indexed by {@link Stat}, that every increment also adds to
+     */
+    SessionStatsCounters(@NotNull LongAdder[] totals) {
+        this.totals = totals;
+    }
+
+    /**
+     * Creates one zeroed adder per {@link Stat}.
+     */
+    @NotNull
+    static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[Stat.VALUES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    void increment(@NotNull UUID playerId, @NotNull Stat stat) {
+        counters(playerId)[stat.ordinal()].increment();
+        totals[stat.ordinal()].increment();
+    }
+
+    void incrementRound() {
+        roundsPlayed.increment();
+    }
+
+    int getRoundsPlayed() {
+        return saturate(roundsPlayed.sum());
+    }
+
+    /**
+     * Reads every counter into immutable per-player stats. Counters updated while this runs may
+     * or may not be included.
+     */
+    @NotNull
+    Map<UUID, GameStatistics.PlayerStats> snapshot() {
+        Map<UUID, GameStatistics.PlayerStats> stats = new HashMap<>(Math.max(16, players.size() * 2));
+        for (Map.Entry<UUID, LongAdder[]> player : players.entrySet()) {
+            LongAdder[] counters = player.getValue();
+            stats.put(player.getKey(), new GameStatistics.PlayerStats(
+                read(counters, Stat.VOTES_CAST),
+                read(counters, Stat.VOTES_RECEIVED),
+                read(counters, Stat.SWIPES),
+                read(counters, Stat.CURES),
+                read(counters, Stat.ELIMINATIONS),
+                read(counters, Stat.CHATS_SENT),
+                read(counters, Stat.SIGN_MESSAGES),
+                read(counters, Stat.CHATS_DROPPED),
+                read(counters, Stat.CHATS_THROTTLED)
+            ));
+        }
+        return stats;
+    }
+
+    private LongAdder[] counters(UUID playerId) {
+        LongAdder[] counters = players.get(playerId);
+        if (counters != null) {
+            return counters;
+        }
+        return players.computeIfAbsent(playerId, ignored -> newAdders());
+    }
+
+    private static int read(LongAdder[] counters, Stat stat) {
+        return saturate(counters[stat.ordinal()].sum());
+    }
+
+    private static int saturate(long value) {
+        return value > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ohacd.matchbox.game.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Optional HTTP endpoint serving {@link MetricsExporter#scrape()} at {@code /metrics} for Prometheus.
+ *
+ * <p>The server listens on the loopback interface only and answers from a single daemon thread,
+ * so a scrape never touches the server thread.</p>
+ */
+public final class MetricsEndpoint {
+    public static final String PATH = "/metrics";
+
+    private final Plugin plugin;
+    private final MetricsExporter exporter;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MetricsEndpoint(@NotNull Plugin plugin, @NotNull MetricsExporter exporter) {
+        if (plugin == null) {
+            throw new IllegalArgumentException("plugin cannot be null");
+        }
+        if (exporter == null) {
+            throw new IllegalArgumentException("exporter cannot be null");
+        }
+        this.plugin = plugin;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Starts listening on {@code 127.0.0.1:port}; port 0 picks a free one.
+     *
+     * @return true if the endpoint is running, false if the port could not be bound
+     */
+    public synchronized boolean start(int port) {
+        if (server != null) {
+            return true;
+        }
+        HttpServer created;
+        try {
+            created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not start metrics endpoint on port " + port + ": " + e.getMessage());
+            return false;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Matchbox-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        created.setExecutor(executor);
+        // Handle every path so unknown ones get a plain 404 instead of the server closing the connection
+        created.createContext("/", this::handle);
+        created.start();
+        server = created;
+        plugin.getLogger().info("Serving metrics at http://" + getAddress().getHostString() + ":" + getAddress().getPort() + PATH);
+        return true;
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+    }
+
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Gets the bound address, or null when stopped.
+     */
+    @Nullable
+    public synchronized InetSocketAddress getAddress() {
+        return server != null ? server.getAddress() : null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // An unread request body stops the connection from being reused
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            if (!PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String method = exchange.getRequestMethod();
+            boolean head = "HEAD".equals(method);
+            if (!head && !"GET".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body;
+            try {
+                body = exporter.scrape().getBytes(StandardCharsets.UTF_8);
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Metrics scrape failed: " + e.getMessage());
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", PrometheusWriter.CONTENT_TYPE);
+            if (head) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream response = exchange.getResponseBody()) {
+                response.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ohacd.matchbox.game.metrics;
+
+import com.ohacd.matchbox.api.ChatChannel;
+import com.ohacd.matchbox.api.ChatResult;
+import com.ohacd.matchbox.api.TimingSnapshot;
+import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.ability.HunterVisionAdapter;
+import com.ohacd.matchbox.game.chat.ChatLogWriter;
+import com.ohacd.matchbox.game.chat.ChatPipelineManager;
+import com.ohacd.matchbox.game.cosmetic.SkinManager;
+import com.ohacd.matchbox.game.hologram.HologramManager;
+import com.ohacd.matchbox.game.logging.SessionEventSink;
+import com.ohacd.matchbox.game.logging.SessionFlowLogger;
+import com.ohacd.matchbox.game.phase.PhaseManager;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import com.ohacd.matchbox.game.scheduler.TickDriver;
+import com.ohacd.matchbox.game.utils.GamePhase;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Collects Matchbox's counters, gauges and timings and renders them in the Prometheus text format.
+ *
+ * <p>Scrapes run on the HTTP thread and never lock: counters are {@code LongAdder}s owned by their
+ * subsystems and timings come from lock-free histograms. Gauges that need game state, which is only
+ * safe to read on the server thread, are sampled there once a second into an immutable snapshot
+ * that scrapes read through a volatile field.</p>
+ */
+public final class MetricsExporter {
+    /** Ticks between gauge samples on the server thread */
+    static final long SAMPLE_PERIOD_TICKS = 20L;
+
+    private static final GamePhase[] PHASES = GamePhase.values();
+
+    private final GameManager gameManager;
+    private final HologramManager hologramManager;
+
+    private volatile GaugeSample gauges = GaugeSample.EMPTY;
+    private GameTask samplerTask;
+
+    public MetricsExporter(@NotNull GameManager gameManager, @Nullable HologramManager hologramManager) {
+        if (gameManager == null) {
+            throw new IllegalArgumentException("gameManager cannot be null");
+        }
+        this.gameManager = gameManager;
+        this.hologramManager = hologramManager;
+    }
+
+    /**
+     * Starts sampling game-state gauges once a second on the given scheduler's thread.
+     */
+    public synchronized void startSampling(@NotNull GameScheduler scheduler) {
+        if (samplerTask != null) {
+            return;
+        }
+        samplerTask = scheduler.runTimer(timer -> sample(), 0L, SAMPLE_PERIOD_TICKS);
+    }
+
+    public synchronized void stopSampling() {
+        if (samplerTask != null) {
+            samplerTask.cancel();
+            samplerTask = null;
+        }
+    }
+
+    /**
+     * Reads session and player gauges. Must run on the server thread.
+     */
+    void sample() {
+        int sessions = 0;
+        int[] sessionsByPhase = new int[PHASES.length];
+        int[] playersByPhase = new int[PHASES.length];
+        for (SessionGameContext context : gameManager.getActiveContexts()) {
+            PhaseManager phaseManager = context.getPhaseManager();
+            GamePhase phase = phaseManager != null ? phaseManager.getCurrentPhase() : null;
+            int index = (phase != null ? phase : GamePhase.WAITING).ordinal();
+            sessions++;
+            sessionsByPhase[index]++;
+            playersByPhase[index] += context.getGameState().getAlivePlayerCount();
+        }
+        gauges = new GaugeSample(sessions, sessionsByPhase, playersByPhase);
+    }
+
+    /**
+     * Renders every metric. Safe to call from any thread.
+     */
+    @NotNull
+    public String scrape() {
+        PrometheusWriter out = new PrometheusWriter();
+        writeSessions(out);
+        writeGameplay(out);
+        writeChat(out);
+        writePackets(out);
+        writeServer(out);
+        writeTimings(out);
+        return out.toString();
+    }
+
+    private void writeSessions(PrometheusWriter out) {
+        GaugeSample sample = gauges;
+        out.gauge("matchbox_sessions_active", "Game sessions currently running", sample.sessions());
+        out.header("matchbox_sessions", "gauge", "Running game sessions by current phase");
+        for (GamePhase phase : PHASES) {
+            out.sample("matchbox_sessions", sample.sessionsByPhase()[phase.ordinal()], "phase", phase.name());
+        }
+        out.header("matchbox_players_alive", "gauge", "Alive players in running sessions, by the session's current phase");
+        for (GamePhase phase : PHASES) {
+            out.sample("matchbox_players_alive", sample.playersByPhase()[phase.ordinal()], "phase", phase.name());
+        }
+    }
+
+    private void writeGameplay(PrometheusWriter out) {
+        SessionFlowLogger flowLogger = gameManager.getSessionFlowLogger();
+        if (flowLogger == null) {
+            return;
+        }
+        out.counter("matchbox_rounds_total", "Rounds started in all sessions", flowLogger.getTotalRounds());
+        out.counter("matchbox_votes_total", "Votes cast in all sessions", flowLogger.getTotalVotes());
+        out.counter("matchbox_swipes_total", "Swipes made in all sessions", flowLogger.getTotalSwipes());
+        out.counter("matchbox_cures_total", "Cures made in all sessions", flowLogger.getTotalCures());
+        out.counter("matchbox_eliminations_total", "Players eliminated in all sessions", flowLogger.getTotalEliminations());
+
+        SessionEventSink eventSink = flowLogger.getEventSink();
+        out.header("matchbox_log_queue_depth", "gauge", "Entries waiting for a background log writer");
+        out.sample("matchbox_log_queue_depth", eventSink.getQueueDepth(), "queue", "session-events");
+        ChatLogWriter chatLogWriter = gameManager.getChatPipelineManager() != null
+            ? gameManager.getChatPipelineManager().getChatLogWriter()
+            : null;
+        if (chatLogWriter != null) {
+            out.sample("matchbox_log_queue_depth", chatLogWriter.getQueueDepth(), "queue", "chat");
+        }
+        out.header("matchbox_log_queue_dropped_total", "counter", "Entries dropped because a background log writer's queue was full");
+        out.sample("matchbox_log_queue_dropped_total", eventSink.getDroppedCount(), "queue", "session-events");
+        if (chatLogWriter != null) {
+            out.sample("matchbox_log_queue_dropped_total", chatLogWriter.getDroppedCount(), "queue", "chat");
+        }
+    }
+
+    private void writeChat(PrometheusWriter out) {
+        ChatPipelineManager pipeline = gameManager.getChatPipelineManager();
+        if (pipeline != null) {
+            out.header("matchbox_chat_messages_total", "counter", "Chat messages that left the session chat pipeline, by channel and result");
+            for (ChatChannel channel : ChatChannel.values()) {
+                for (ChatResult result : ChatResult.values()) {
+                    out.sample("matchbox_chat_messages_total", pipeline.getRoutedCount(channel, result),
+                        "channel", channel.name(), "result", result.name());
+                }
+            }
+        }
+        SessionFlowLogger flowLogger = gameManager.getSessionFlowLogger();
+        if (flowLogger != null) {
+            out.counter("matchbox_chat_rate_limited_total", "Chat messages shed by flood control", flowLogger.getTotalChatsDropped());
+        }
+    }
+
+    private void writePackets(PrometheusWriter out) {
+        HunterVisionAdapter hunterVision = gameManager.getHunterVisionAdapter();
+        if (hunterVision != null) {
+            out.counter("matchbox_hunter_vision_packets_total", "Glow metadata packets sent for Hunter Vision", hunterVision.getPacketsSent());
+        }
+        SkinManager skinManager = gameManager.getSkinManager();
+        if (skinManager != null) {
+            out.counter("matchbox_skin_packets_rewritten_total", "Outgoing player-info packets rewritten with a game skin", skinManager.getPacketsRewritten());
+            out.counter("matchbox_skin_view_refreshes_total", "Player re-spawns sent to viewers to show a new skin", skinManager.getViewRefreshes());
+        }
+    }
+
+    private void writeServer(PrometheusWriter out) {
+        if (hologramManager != null) {
+            out.gauge("matchbox_holograms_active", "Hologram armor stands currently alive", hologramManager.getActiveCount());
+        }
+        TickDriver tickDriver = gameManager.getTickDriver();
+        if (tickDriver != null) {
+            out.gauge("matchbox_scheduler_tasks", "Timers scheduled on the Matchbox tick driver", tickDriver.getScheduledTaskCount());
+            out.header("matchbox_tick_driver_seconds", "gauge", "Time the tick driver spent running timers in one tick");
+            out.sample("matchbox_tick_driver_seconds", PrometheusWriter.seconds(tickDriver.getLastTickNanos()), "stat", "last");
+            out.sample("matchbox_tick_driver_seconds", PrometheusWriter.seconds(tickDriver.getAverageTickNanos()), "stat", "average");
+            out.sample("matchbox_tick_driver_seconds", PrometheusWriter.seconds(tickDriver.getMaxTickNanos()), "stat", "max");
+        }
+    }
+
+    private void writeTimings(PrometheusWriter out) {
+        List<TimingSnapshot> latencies = gameManager.getLatencyMetrics().snapshot();
+        writeSummary(out, "matchbox_latency_seconds", "operation", latencies,
+            "Latency of phase transitions and player actions");
+
+        if (gameManager.getTickProfiler() != null) {
+            writeSummary(out, "matchbox_profile_seconds", "path", gameManager.getTickProfiler().snapshot(),
+                "Time spent in event handlers, abilities and timers while the profiler is on");
+        }
+    }
+
+    private static void writeSummary(PrometheusWriter out, String name, String labelName, List<TimingSnapshot> timings, String help) {
+        if (timings.isEmpty()) {
+            return;
+        }
+        out.header(name, "summary", help);
+        for (TimingSnapshot timing : timings) {
+            out.summary(name, timing, labelName);
+        }
+        String maxName = name.substring(0, name.length() - "_seconds".length()) + "_max_seconds";
+        out.header(maxName, "gauge", help + ", slowest recorded");
+        for (TimingSnapshot timing : timings) {
+            out.sample(maxName, PrometheusWriter.seconds(timing.getMaxNanos()), labelName, timing.getName());
+        }
+    }
+
+    private record GaugeSample(int sessions, int[] sessionsByPhase, int[] playersByPhase) {
+        static final GaugeSample EMPTY = new GaugeSample(0, new int[PHASES.length], new int[PHASES.length]);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ohacd.matchbox.game.metrics;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Renders metric families in the Prometheus text exposition format (version 0.0.4).
+ *
+ * <p>Callers write a family's {@link #header} once and then its samples. Label values are escaped;
+ * metric and label names are trusted to be valid.</p>
+ */
+final class PrometheusWriter {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final StringBuilder out = new StringBuilder(4096);
+
+    PrometheusWriter header(@NotNull String name, @NotNull String type, @NotNull String help) {
+        out.append("# HELP ").append(name).append(' ');
+        appendEscaped(help, false);
+        out.append('\n').append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    PrometheusWriter counter(@NotNull String name, @NotNull String help, long value) {
+        return header(name, "counter", help).sample(name, value);
+    }
+
+    PrometheusWriter gauge(@NotNull String name, @NotNull String help, long value) {
+        return header(name, "gauge", help).sample(name, value);
+    }
+
+    PrometheusWriter sample(@NotNull String name, long value, String... labels) {
+        appendName(name, labels);
+        out.append(value).append('\n');
+        return this;
+    }
+
+    PrometheusWriter sample(@NotNull String name, double value, String... labels) {
+        appendName(name, labels);
+        appendDouble(value);
+        out.append('\n');
+        return this;
+    }
+
+    /**
+     * Writes a timing as the samples of a summary family in seconds: p50, p90 and p99 quantiles,
+     * {@code _sum} and {@code _count}. The family's header must already be written.
+     */
+    PrometheusWriter summary(@NotNull String name, @NotNull TimingSnapshot timing, @NotNull String labelName) {
+        String label = timing.getName();
+        sample(name, seconds(timing.getP50Nanos()), labelName, label, "quantile", "0.5");
+        sample(name, seconds(timing.getP90Nanos()), labelName, label, "quantile", "0.9");
+        sample(name, seconds(timing.getP99Nanos()), labelName, label, "quantile", "0.99");
+        sample(name + "_sum", seconds(timing.getTotalNanos()), labelName, label);
+        sample(name + "_count", timing.getCount(), labelName, label);
+        return this;
+    }
+
+    static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+
+    private void appendName(String name, String[] labels) {
+        out.append(name);
+        if (labels.length > 0) {
+            out.append('{');
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append(labels[i]).append("=\"");
+                appendEscaped(labels[i + 1], true);
+                out.append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ');
+    }
+
+    private void appendDouble(double value) {
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else {
+            out.append(value);
+        }
+    }
+
+    private void appendEscaped(String value, boolean escapeQuotes) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                out.append("\\\\");
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '"' && escapeQuotes) {
+                out.append("\\\"");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+}
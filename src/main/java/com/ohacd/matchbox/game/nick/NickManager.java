@@ -1,5 +1,6 @@
 package com.ohacd.matchbox.game.nick;
 
+import com.ohacd.matchbox.game.utils.PlayerNameUtils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -121,6 +122,7 @@ public final class NickManager {
         nicks.put(uuid, nick);
         nickConfig.set(uuid.toString(), nick);
         save();
+        PlayerNameUtils.invalidate(uuid);
         return NickResult.SUCCESS;
     }
 
@@ -131,6 +133,7 @@ public final class NickManager {
         nicks.remove(uuid);
         nickConfig.set(uuid.toString(), null);
         save();
+        PlayerNameUtils.invalidate(uuid);
     }
 
     /**
@@ -185,6 +188,7 @@ public final class NickManager {
         // Above-head custom name — visible while the real nametag is hidden by the scoreboard team
         player.customName(component);
         player.setCustomNameVisible(true);
+        PlayerNameUtils.invalidate(player.getUniqueId());
 
         return true;
     }
@@ -199,5 +203,6 @@ public final class NickManager {
         player.playerListName(baseName);
         player.customName(null);
         player.setCustomNameVisible(false);
+        PlayerNameUtils.invalidate(player.getUniqueId());
     }
 }
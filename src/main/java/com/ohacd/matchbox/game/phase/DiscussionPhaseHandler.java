@@ -1,17 +1,20 @@
 package com.ohacd.matchbox.game.phase;
 
 import com.ohacd.matchbox.game.config.ConfigManager;
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import com.ohacd.matchbox.game.session.SessionKey;
 import com.ohacd.matchbox.game.utils.MessageUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,8 +25,10 @@ public class DiscussionPhaseHandler {
     private final Plugin plugin;
     private final MessageUtils messageUtils;
     private final ConfigManager configManager;
-    private final Map<String, BukkitRunnable> discussionTasks = new ConcurrentHashMap<>();
-    private final Map<String, Collection<UUID>> currentPlayerIds = new ConcurrentHashMap<>();
+    private final GameScheduler scheduler;
+    private final Function<String, Location> sessionRegions;
+    private final Map<SessionKey, GameTask> discussionTasks = new ConcurrentHashMap<>();
+    private final Map<SessionKey, Collection<UUID>> currentPlayerIds = new ConcurrentHashMap<>();
     private final int DEFAULT_DISCUSSION_SECONDS = 30; // 30 seconds discussion
 
     /**
@@ -34,9 +39,25 @@ public class DiscussionPhaseHandler {
      * @param configManager configuration provider
      */
     public DiscussionPhaseHandler(Plugin plugin, MessageUtils messageUtils, ConfigManager configManager) {
+        this(plugin, messageUtils, configManager, GameScheduler.create(plugin), sessionName -> null);
+    }
+
+    /**
+     * Creates a handler for discussion phase logic that schedules its timer through the given scheduler.
+     *
+     * @param plugin Bukkit plugin instance
+     * @param messageUtils helper used to send messages and titles
+     * @param configManager configuration provider
+     * @param scheduler scheduler used for the phase timer
+     * @param sessionRegions resolves a session to a location in its arena so the timer runs on that region's thread (may return null)
+     */
+    public DiscussionPhaseHandler(Plugin plugin, MessageUtils messageUtils, ConfigManager configManager,
+                                  GameScheduler scheduler, Function<String, Location> sessionRegions) {
         this.plugin = plugin;
         this.messageUtils = messageUtils;
         this.configManager = configManager;
+        this.scheduler = scheduler;
+        this.sessionRegions = sessionRegions;
     }
 
     /**
@@ -79,8 +100,9 @@ public class DiscussionPhaseHandler {
         }
         
         cancelDiscussionTask(sessionName);
+        final SessionKey sessionKey = SessionKey.of(sessionName);
 
-        this.currentPlayerIds.put(sessionName, alivePlayerIds);
+        this.currentPlayerIds.put(sessionKey, alivePlayerIds);
 
         plugin.getLogger().info("Starting discussion phase for " + alivePlayerIds.size() + " players (" + seconds + "s)");
         messageUtils.sendPlainMessage("§aDiscussion phase started! You have " + seconds + " seconds to discuss.");
@@ -102,55 +124,50 @@ public class DiscussionPhaseHandler {
         }
 
         AtomicInteger remaining = new AtomicInteger(seconds);
-        final String sessionKey = sessionName;
 
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                int secs = remaining.getAndDecrement();
-                if (secs <= 0) {
-                    cancel();
-                    discussionTasks.remove(sessionKey);
-                    currentPlayerIds.remove(sessionKey);
-                    plugin.getLogger().info("Discussion phase ended naturally for session: " + sessionKey);
-                    clearActionBars(sessionKey);
-                    onPhaseEnd.run();
-                    return;
-                }
-                // Updates actionbar for all alive players in this session
-                Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
-                if (playerIds != null) {
-                    Collection<Player> alivePlayers = getAlivePlayerObjects(playerIds);
-                    if (alivePlayers != null) {
-                        for (Player player : alivePlayers) {
-                            if (player != null && player.isOnline()) {
-                                try {
-                                    messageUtils.sendActionBar(player, "§eDiscussion: " + secs + "s");
-                                } catch (Exception e) {
-                                    // Ignore individual player errors
-                                }
+        GameTask task = scheduler.forSession(sessionName).runTimer(sessionRegions.apply(sessionName), timer -> {
+            int secs = remaining.getAndDecrement();
+            if (secs <= 0) {
+                timer.cancel();
+                discussionTasks.remove(sessionKey);
+                currentPlayerIds.remove(sessionKey);
+                plugin.getLogger().info("Discussion phase ended naturally for session: " + sessionName);
+                clearActionBars(sessionKey);
+                onPhaseEnd.run();
+                return;
+            }
+            // Updates actionbar for all alive players in this session
+            Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
+            if (playerIds != null) {
+                Collection<Player> alivePlayers = getAlivePlayerObjects(playerIds);
+                if (alivePlayers != null) {
+                    for (Player player : alivePlayers) {
+                        if (player != null && player.isOnline()) {
+                            try {
+                                messageUtils.sendActionBar(player, "§eDiscussion: " + secs + "s");
+                            } catch (Exception e) {
+                                // Ignore individual player errors
                             }
                         }
                     }
                 }
-                // Broadcast at specific times (only to players in this session)
-                if (secs == 20 || secs == 10 || secs == 5 || secs <= 3) {
-                    Collection<UUID> playerIdsForMsg = currentPlayerIds.get(sessionKey);
-                    if (playerIdsForMsg != null) {
-                        Collection<Player> players = getAlivePlayerObjects(playerIdsForMsg);
-                        if (players != null && !players.isEmpty()) {
-                            for (Player p : players) {
-                                if (p != null && p.isOnline()) {
-                                    p.sendMessage("§eDiscussion phase ends in " + secs + " seconds!");
-                                }
+            }
+            // Broadcast at specific times (only to players in this session)
+            if (secs == 20 || secs == 10 || secs == 5 || secs <= 3) {
+                Collection<UUID> playerIdsForMsg = currentPlayerIds.get(sessionKey);
+                if (playerIdsForMsg != null) {
+                    Collection<Player> players = getAlivePlayerObjects(playerIdsForMsg);
+                    if (players != null && !players.isEmpty()) {
+                        for (Player p : players) {
+                            if (p != null && p.isOnline()) {
+                                p.sendMessage("§eDiscussion phase ends in " + secs + " seconds!");
                             }
                         }
                     }
                 }
             }
-        };
-        discussionTasks.put(sessionName, task);
-        task.runTaskTimer(plugin, 0L, 20L);
+        }, 0L, 20L);
+        discussionTasks.put(sessionKey, task);
     }
 
     /**
@@ -166,34 +183,35 @@ public class DiscussionPhaseHandler {
      * @param sessionName the session name whose task should be cancelled
      */
     public void cancelDiscussionTask(String sessionName) {
-        if (sessionName == null) {
+        SessionKey sessionKey = SessionKey.of(sessionName);
+        if (sessionKey == null) {
             return;
         }
-        BukkitRunnable task = discussionTasks.remove(sessionName);
+        GameTask task = discussionTasks.remove(sessionKey);
         if (task != null) {
             try {
                 plugin.getLogger().info("Cancelling discussion phase task for session: " + sessionName);
                 task.cancel();
-                clearActionBars(sessionName);
+                clearActionBars(sessionKey);
             } catch (IllegalStateException ignored) {}
         }
-        currentPlayerIds.remove(sessionName);
+        currentPlayerIds.remove(sessionKey);
     }
     
     /**
      * Cancels all discussion phase tasks (for cleanup).
      */
     public void cancelAllDiscussionTasks() {
-        for (String sessionName : new HashSet<>(discussionTasks.keySet())) {
-            cancelDiscussionTask(sessionName);
+        for (SessionKey sessionKey : new HashSet<>(discussionTasks.keySet())) {
+            cancelDiscussionTask(sessionKey.getCanonicalName());
         }
     }
 
     /**
      * Clears action bars for all tracked players in a session.
      */
-    private void clearActionBars(String sessionName) {
-        Collection<UUID> playerIds = currentPlayerIds.get(sessionName);
+    private void clearActionBars(SessionKey sessionKey) {
+        Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
         if (playerIds != null) {
             Collection<Player> players = getAlivePlayerObjects(playerIds);
             if (players != null) {
@@ -217,7 +235,8 @@ public class DiscussionPhaseHandler {
      * @return true if a discussion task exists for the session
      */
     public boolean isActive(String sessionName) {
-        return discussionTasks.containsKey(sessionName);
+        SessionKey sessionKey = SessionKey.of(sessionName);
+        return sessionKey != null && discussionTasks.containsKey(sessionKey);
     }
 
     /**
@@ -1,19 +1,30 @@
 package com.ohacd.matchbox.game.phase;
 
+import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.utils.GamePhase;
 import org.bukkit.plugin.Plugin;
 
 /**
  * Manages game phase transitions and current phase state.
+ * The current phase is volatile so the async chat thread can read it without locking.
  */
 public class PhaseManager {
     private final Plugin plugin;
-    private GamePhase currentPhase = GamePhase.WAITING;
+    private final GameState gameState;
+    private volatile GamePhase currentPhase = GamePhase.WAITING;
     private GamePhase previousPhase = null;
     private long phaseStartTime = 0;
 
     public PhaseManager(Plugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * Creates a phase manager that mirrors every transition into the given game state's snapshot.
+     */
+    public PhaseManager(Plugin plugin, GameState gameState) {
         this.plugin = plugin;
+        this.gameState = gameState;
     }
 
     /**
@@ -53,6 +64,9 @@ public class PhaseManager {
         this.previousPhase = this.currentPhase;
         this.currentPhase = phase;
         this.phaseStartTime = System.currentTimeMillis();
+        if (gameState != null) {
+            gameState.setPhase(phase);
+        }
     }
 
     /**
@@ -70,6 +84,9 @@ public class PhaseManager {
         this.previousPhase = this.currentPhase;
         this.currentPhase = GamePhase.WAITING;
         this.phaseStartTime = System.currentTimeMillis();
+        if (gameState != null) {
+            gameState.setPhase(GamePhase.WAITING);
+        }
     }
 
     /**
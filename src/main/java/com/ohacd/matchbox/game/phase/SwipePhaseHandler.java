@@ -1,10 +1,13 @@
 package com.ohacd.matchbox.game.phase;
 
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import com.ohacd.matchbox.game.session.SessionKey;
 import com.ohacd.matchbox.game.utils.MessageUtils;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -13,6 +16,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,13 +26,27 @@ import java.util.stream.Collectors;
 public class SwipePhaseHandler {
     private final Plugin plugin;
     private final MessageUtils messageUtils;
-    private final Map<String, BukkitRunnable> swipeTasks = new ConcurrentHashMap<>();
-    private final Map<String, Collection<UUID>> currentPlayerIds = new ConcurrentHashMap<>();
+    private final GameScheduler scheduler;
+    private final Function<String, Location> sessionRegions;
+    private final Map<SessionKey, GameTask> swipeTasks = new ConcurrentHashMap<>();
+    private final Map<SessionKey, Collection<UUID>> currentPlayerIds = new ConcurrentHashMap<>();
     private final int DEFAULT_SWIPE_SECONDS = 60 * 3; // 3 minutes
 
     public SwipePhaseHandler(Plugin plugin, MessageUtils messageUtils) {
+        this(plugin, messageUtils, GameScheduler.create(plugin), sessionName -> null);
+    }
+
+    /**
+     * Creates a handler whose phase timer runs through the given scheduler.
+     *
+     * @param scheduler scheduler used for the phase timer
+     * @param sessionRegions resolves a session to a location in its arena so the timer runs on that region's thread (may return null)
+     */
+    public SwipePhaseHandler(Plugin plugin, MessageUtils messageUtils, GameScheduler scheduler, Function<String, Location> sessionRegions) {
         this.plugin = plugin;
         this.messageUtils = messageUtils;
+        this.scheduler = scheduler;
+        this.sessionRegions = sessionRegions;
     }
 
     /**
@@ -53,62 +71,58 @@ public class SwipePhaseHandler {
         }
         
         cancelSwipeTask(sessionName);
+        final SessionKey sessionKey = SessionKey.of(sessionName);
 
-        this.currentPlayerIds.put(sessionName, alivePlayerIds);
+        this.currentPlayerIds.put(sessionKey, alivePlayerIds);
 
         plugin.getLogger().info("Starting swipe phase for " + alivePlayerIds.size() + " players (" + seconds + "s)");
         messageUtils.sendPlainMessage("§6Swipe phase started! You have " + seconds + " seconds to swipe.");
 
         AtomicInteger remaining = new AtomicInteger(seconds);
-        final String sessionKey = sessionName;
 
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                int secs = remaining.getAndDecrement();
-                if (secs <= 0) {
-                    cancel();
-                    swipeTasks.remove(sessionKey);
-                    currentPlayerIds.remove(sessionKey);
-                    plugin.getLogger().info("Swipe phase ended naturally for session: " + sessionKey);
-                    clearActionBars(sessionKey); // Clear action bars before ending
-                    onPhaseEnd.run();
-                    return;
-                }
-                // Updates actionbar for all alive players in this session
-                Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
-                if (playerIds != null) {
-                    Collection<Player> alivePlayers = getAlivePlayerObjects(playerIds);
-                    if (alivePlayers != null) {
-                        for (Player player : alivePlayers) {
-                            if (player != null && player.isOnline()) {
-                                try {
-                                    messageUtils.sendActionBar(player, "§6Swipe: " + secs + "s");
-                                } catch (Exception e) {
-                                    // Ignore individual player errors
-                                }
+        GameTask task = scheduler.forSession(sessionName).runTimer(sessionRegions.apply(sessionName), timer -> {
+            int secs = remaining.getAndDecrement();
+            if (secs <= 0) {
+                timer.cancel();
+                swipeTasks.remove(sessionKey);
+                currentPlayerIds.remove(sessionKey);
+                plugin.getLogger().info("Swipe phase ended naturally for session: " + sessionName);
+                clearActionBars(sessionKey); // Clear action bars before ending
+                onPhaseEnd.run();
+                return;
+            }
+            // Updates actionbar for all alive players in this session
+            Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
+            if (playerIds != null) {
+                Collection<Player> alivePlayers = getAlivePlayerObjects(playerIds);
+                if (alivePlayers != null) {
+                    for (Player player : alivePlayers) {
+                        if (player != null && player.isOnline()) {
+                            try {
+                                messageUtils.sendActionBar(player, "§6Swipe: " + secs + "s");
+                            } catch (Exception e) {
+                                // Ignore individual player errors
                             }
                         }
                     }
                 }
-                // Broadcast at specific times (only to players in this session)
-                if (secs == 120 || secs == 60 || secs == 30 || secs == 10 || secs == 5 || secs <= 3) {
-                    Collection<UUID> playerIdsForMsg = currentPlayerIds.get(sessionKey);
-                    if (playerIdsForMsg != null) {
-                        Collection<Player> players = getAlivePlayerObjects(playerIdsForMsg);
-                        if (players != null && !players.isEmpty()) {
-                            for (Player p : players) {
-                                if (p != null && p.isOnline()) {
-                                    p.sendMessage("§eSwipe phase ends in " + secs + " seconds!");
-                                }
+            }
+            // Broadcast at specific times (only to players in this session)
+            if (secs == 120 || secs == 60 || secs == 30 || secs == 10 || secs == 5 || secs <= 3) {
+                Collection<UUID> playerIdsForMsg = currentPlayerIds.get(sessionKey);
+                if (playerIdsForMsg != null) {
+                    Collection<Player> players = getAlivePlayerObjects(playerIdsForMsg);
+                    if (players != null && !players.isEmpty()) {
+                        for (Player p : players) {
+                            if (p != null && p.isOnline()) {
+                                p.sendMessage("§eSwipe phase ends in " + secs + " seconds!");
                             }
                         }
                     }
                 }
             }
-        };
-        swipeTasks.put(sessionName, task);
-        task.runTaskTimer(plugin, 0L, 20L);
+        }, 0L, 20L);
+        swipeTasks.put(sessionKey, task);
     }
 
     /**
@@ -122,34 +136,35 @@ public class SwipePhaseHandler {
      * Cancels the swipe phase task for a specific session.
      */
     public void cancelSwipeTask(String sessionName) {
-        if (sessionName == null) {
+        SessionKey sessionKey = SessionKey.of(sessionName);
+        if (sessionKey == null) {
             return;
         }
-        BukkitRunnable task = swipeTasks.remove(sessionName);
+        GameTask task = swipeTasks.remove(sessionKey);
         if (task != null) {
             try {
                 plugin.getLogger().info("Cancelling swipe phase task for session: " + sessionName);
                 task.cancel();
-                clearActionBars(sessionName);
+                clearActionBars(sessionKey);
             } catch (IllegalStateException ignored) {}
         }
-        currentPlayerIds.remove(sessionName);
+        currentPlayerIds.remove(sessionKey);
     }
     
     /**
      * Cancels all swipe phase tasks (for cleanup).
      */
     public void cancelAllSwipeTasks() {
-        for (String sessionName : new HashSet<>(swipeTasks.keySet())) {
-            cancelSwipeTask(sessionName);
+        for (SessionKey sessionKey : new HashSet<>(swipeTasks.keySet())) {
+            cancelSwipeTask(sessionKey.getCanonicalName());
         }
     }
 
     /**
      * Clears action bars for all tracked players in a session.
      */
-    private void clearActionBars(String sessionName) {
-        Collection<UUID> playerIds = currentPlayerIds.get(sessionName);
+    private void clearActionBars(SessionKey sessionKey) {
+        Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
         if (playerIds != null) {
             Collection<Player> players = getAlivePlayerObjects(playerIds);
             if (players != null) {
@@ -170,7 +185,8 @@ public class SwipePhaseHandler {
      * Checks if swipe phase is currently active for a session.
      */
     public boolean isActive(String sessionName) {
-        return swipeTasks.containsKey(sessionName);
+        SessionKey sessionKey = SessionKey.of(sessionName);
+        return sessionKey != null && swipeTasks.containsKey(sessionKey);
     }
 
     public Collection<Player> getAlivePlayerObjects(Collection<UUID> playerIds) {
@@ -1,10 +1,13 @@
 package com.ohacd.matchbox.game.phase;
 
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import com.ohacd.matchbox.game.session.SessionKey;
 import com.ohacd.matchbox.game.utils.MessageUtils;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -13,6 +16,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,15 +26,29 @@ import java.util.stream.Collectors;
 public class VotingPhaseHandler {
     private final Plugin plugin;
     private final MessageUtils messageUtils;
-    private final Map<String, BukkitRunnable> votingTasks = new ConcurrentHashMap<>();
-    private final Map<String, Collection<UUID>> currentPlayerIds = new ConcurrentHashMap<>();
-    private final Map<String, Integer> requiredVotesMap = new ConcurrentHashMap<>();
-    private final Map<String, Integer> alivePlayerCountMap = new ConcurrentHashMap<>();
+    private final GameScheduler scheduler;
+    private final Function<String, Location> sessionRegions;
+    private final Map<SessionKey, GameTask> votingTasks = new ConcurrentHashMap<>();
+    private final Map<SessionKey, Collection<UUID>> currentPlayerIds = new ConcurrentHashMap<>();
+    private final Map<SessionKey, Integer> requiredVotesMap = new ConcurrentHashMap<>();
+    private final Map<SessionKey, Integer> alivePlayerCountMap = new ConcurrentHashMap<>();
     private final int DEFAULT_VOTING_SECONDS = 15; // 15 seconds for voting
 
     public VotingPhaseHandler(Plugin plugin, MessageUtils messageUtils) {
+        this(plugin, messageUtils, GameScheduler.create(plugin), sessionName -> null);
+    }
+
+    /**
+     * Creates a handler whose phase timer runs through the given scheduler.
+     *
+     * @param scheduler scheduler used for the phase timer
+     * @param sessionRegions resolves a session to a location in its arena so the timer runs on that region's thread (may return null)
+     */
+    public VotingPhaseHandler(Plugin plugin, MessageUtils messageUtils, GameScheduler scheduler, Function<String, Location> sessionRegions) {
         this.plugin = plugin;
         this.messageUtils = messageUtils;
+        this.scheduler = scheduler;
+        this.sessionRegions = sessionRegions;
     }
 
     /**
@@ -62,10 +80,11 @@ public class VotingPhaseHandler {
         }
         
         cancelVotingTask(sessionName);
+        final SessionKey sessionKey = SessionKey.of(sessionName);
 
-        this.currentPlayerIds.put(sessionName, alivePlayerIds);
-        this.requiredVotesMap.put(sessionName, requiredVotes);
-        this.alivePlayerCountMap.put(sessionName, alivePlayerCount);
+        this.currentPlayerIds.put(sessionKey, alivePlayerIds);
+        this.requiredVotesMap.put(sessionKey, requiredVotes);
+        this.alivePlayerCountMap.put(sessionKey, alivePlayerCount);
 
         plugin.getLogger().info("Starting voting phase for " + alivePlayerIds.size() + " players (" + seconds + "s)");
         messageUtils.sendPlainMessage("§c§lVOTING PHASE! Vote for who you think is the Spark!");
@@ -102,66 +121,61 @@ public class VotingPhaseHandler {
         }
 
         AtomicInteger remaining = new AtomicInteger(seconds);
-        final String sessionKey = sessionName;
-
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                int secs = remaining.getAndDecrement();
-                if (secs <= 0) {
-                    cancel();
-                    votingTasks.remove(sessionKey);
-                    currentPlayerIds.remove(sessionKey);
-                    requiredVotesMap.remove(sessionKey);
-                    alivePlayerCountMap.remove(sessionKey);
-                    plugin.getLogger().info("Voting phase ended naturally for session: " + sessionKey);
-                    clearActionBars(sessionKey);
-                    onPhaseEnd.run();
-                    return;
-                }
-                // Updates actionbar for all alive players in this session
-                Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
-                Integer requiredVotes = requiredVotesMap.get(sessionKey);
-                Integer aliveCount = alivePlayerCountMap.get(sessionKey);
-                if (playerIds != null) {
-                    Collection<Player> alivePlayers = getAlivePlayerObjects(playerIds);
-                    if (alivePlayers != null) {
-                        for (Player player : alivePlayers) {
-                            if (player != null && player.isOnline()) {
-                                try {
-                                    // Build actionbar message with timer and threshold
-                                    String actionBarMessage;
-                                    if (requiredVotes != null && aliveCount != null && requiredVotes > 0 && aliveCount > 0) {
-                                        actionBarMessage = "§cVoting: " + secs + "s §8| §eThreshold: " + requiredVotes + "/" + aliveCount;
-                                    } else {
-                                        actionBarMessage = "§cVoting: " + secs + "s";
-                                    }
-                                    messageUtils.sendActionBar(player, actionBarMessage);
-                                } catch (Exception e) {
-                                    // Ignore individual player errors
+
+        GameTask task = scheduler.forSession(sessionName).runTimer(sessionRegions.apply(sessionName), timer -> {
+            int secs = remaining.getAndDecrement();
+            if (secs <= 0) {
+                timer.cancel();
+                votingTasks.remove(sessionKey);
+                currentPlayerIds.remove(sessionKey);
+                requiredVotesMap.remove(sessionKey);
+                alivePlayerCountMap.remove(sessionKey);
+                plugin.getLogger().info("Voting phase ended naturally for session: " + sessionName);
+                clearActionBars(sessionKey);
+                onPhaseEnd.run();
+                return;
+            }
+            // Updates actionbar for all alive players in this session
+            Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
+            Integer requiredVotes = requiredVotesMap.get(sessionKey);
+            Integer aliveCount = alivePlayerCountMap.get(sessionKey);
+            if (playerIds != null) {
+                Collection<Player> alivePlayers = getAlivePlayerObjects(playerIds);
+                if (alivePlayers != null) {
+                    for (Player player : alivePlayers) {
+                        if (player != null && player.isOnline()) {
+                            try {
+                                // Build actionbar message with timer and threshold
+                                String actionBarMessage;
+                                if (requiredVotes != null && aliveCount != null && requiredVotes > 0 && aliveCount > 0) {
+                                    actionBarMessage = "§cVoting: " + secs + "s §8| §eThreshold: " + requiredVotes + "/" + aliveCount;
+                                } else {
+                                    actionBarMessage = "§cVoting: " + secs + "s";
                                 }
+                                messageUtils.sendActionBar(player, actionBarMessage);
+                            } catch (Exception e) {
+                                // Ignore individual player errors
                             }
                         }
                     }
                 }
-                // Broadcast at specific times (only to players in this session)
-                if (secs == 10 || secs == 5 || secs <= 3) {
-                    Collection<UUID> playerIdsForMsg = currentPlayerIds.get(sessionKey);
-                    if (playerIdsForMsg != null) {
-                        Collection<Player> players = getAlivePlayerObjects(playerIdsForMsg);
-                        if (players != null && !players.isEmpty()) {
-                            for (Player p : players) {
-                                if (p != null && p.isOnline()) {
-                                    p.sendMessage("§eVoting ends in " + secs + " seconds!");
-                                }
+            }
+            // Broadcast at specific times (only to players in this session)
+            if (secs == 10 || secs == 5 || secs <= 3) {
+                Collection<UUID> playerIdsForMsg = currentPlayerIds.get(sessionKey);
+                if (playerIdsForMsg != null) {
+                    Collection<Player> players = getAlivePlayerObjects(playerIdsForMsg);
+                    if (players != null && !players.isEmpty()) {
+                        for (Player p : players) {
+                            if (p != null && p.isOnline()) {
+                                p.sendMessage("§eVoting ends in " + secs + " seconds!");
                             }
                         }
                     }
                 }
             }
-        };
-        votingTasks.put(sessionName, task);
-        task.runTaskTimer(plugin, 0L, 20L);
+        }, 0L, 20L);
+        votingTasks.put(sessionKey, task);
     }
 
     /**
@@ -175,36 +189,37 @@ public class VotingPhaseHandler {
      * Cancels the voting phase task for a specific session.
      */
     public void cancelVotingTask(String sessionName) {
-        if (sessionName == null) {
+        SessionKey sessionKey = SessionKey.of(sessionName);
+        if (sessionKey == null) {
             return;
         }
-        BukkitRunnable task = votingTasks.remove(sessionName);
+        GameTask task = votingTasks.remove(sessionKey);
         if (task != null) {
             try {
                 plugin.getLogger().info("Cancelling voting phase task for session: " + sessionName);
                 task.cancel();
-                clearActionBars(sessionName);
+                clearActionBars(sessionKey);
             } catch (IllegalStateException ignored) {}
         }
-        currentPlayerIds.remove(sessionName);
-        requiredVotesMap.remove(sessionName);
-        alivePlayerCountMap.remove(sessionName);
+        currentPlayerIds.remove(sessionKey);
+        requiredVotesMap.remove(sessionKey);
+        alivePlayerCountMap.remove(sessionKey);
     }
     
     /**
      * Cancels all voting phase tasks (for cleanup).
      */
     public void cancelAllVotingTasks() {
-        for (String sessionName : new HashSet<>(votingTasks.keySet())) {
-            cancelVotingTask(sessionName);
+        for (SessionKey sessionKey : new HashSet<>(votingTasks.keySet())) {
+            cancelVotingTask(sessionKey.getCanonicalName());
         }
     }
 
     /**
      * Clears action bars for all tracked players in a session.
      */
-    private void clearActionBars(String sessionName) {
-        Collection<UUID> playerIds = currentPlayerIds.get(sessionName);
+    private void clearActionBars(SessionKey sessionKey) {
+        Collection<UUID> playerIds = currentPlayerIds.get(sessionKey);
         if (playerIds != null) {
             Collection<Player> players = getAlivePlayerObjects(playerIds);
             if (players != null) {
@@ -225,7 +240,8 @@ public class VotingPhaseHandler {
      * Checks if voting phase is currently active for a session.
      */
     public boolean isActive(String sessionName) {
-        return votingTasks.containsKey(sessionName);
+        SessionKey sessionKey = SessionKey.of(sessionName);
+        return sessionKey != null && votingTasks.containsKey(sessionKey);
     }
 
     public Collection<Player> getAlivePlayerObjects(Collection<UUID> playerIds) {
@@ -0,0 +1,134 @@
+package com.ohacd.matchbox.game.profiling;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import com.ohacd.matchbox.game.session.SessionKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Always-on latency histograms for phase transitions and player actions, overall and per session.
+ *
+ * <p>Unlike the {@link TickProfiler} these are never switched off: each operation happens a few
+ * times per round, so recording costs nothing measurable. Timings are inclusive, so ending the
+ * swipe phase also counts the discussion start it triggers. Per-session histograms are kept for
+ * the {@value #MAX_SESSIONS} most recently active sessions.</p>
+ */
+public final class LatencyMetrics {
+    static final int MAX_SESSIONS = 64;
+
+    /**
+     * A measured operation. Names are the ones shown by /matchbox metrics and the API.
+     */
+    public enum Operation {
+        START_GAME("phase.start-game"),
+        START_ROUND("phase.start-round"),
+        START_SWIPE("phase.start-swipe"),
+        END_SWIPE("phase.end-swipe"),
+        START_DISCUSSION("phase.start-discussion"),
+        END_DISCUSSION("phase.end-discussion"),
+        START_VOTING("phase.start-voting"),
+        END_VOTING("phase.end-voting"),
+        RESOLVE_VOTES("phase.resolve-votes"),
+        END_GAME("phase.end-game"),
+        SWIPE("action.swipe"),
+        CURE("action.cure"),
+        VOTE("action.vote"),
+        SPARK_SWAP("action.spark-swap");
+
+        private static final Operation[] VALUES = values();
+
+        private final String metricName;
+
+        Operation(String metricName) {
+            this.metricName = metricName;
+        }
+
+        @NotNull
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private final TimingHistogram[] overall = newHistograms();
+    private final Map<SessionKey, TimingHistogram[]> sessions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SessionKey, TimingHistogram[]> eldest) {
+            return size() > MAX_SESSIONS;
+        }
+    };
+
+    /**
+     * Records how long an operation took. A null or blank session only counts towards the overall histograms.
+     */
+    public void record(String sessionName, @NotNull Operation operation, long nanos) {
+        overall[operation.ordinal()].record(nanos);
+        SessionKey key = SessionKey.of(sessionName);
+        if (key == null) {
+            return;
+        }
+        TimingHistogram[] histograms;
+        synchronized (sessions) {
+            histograms = sessions.computeIfAbsent(key, ignored -> newHistograms());
+        }
+        histograms[operation.ordinal()].record(nanos);
+    }
+
+    /**
+     * Takes a snapshot of every operation recorded at least once, across all sessions.
+     */
+    @NotNull
+    public List<TimingSnapshot> snapshot() {
+        return snapshot(overall);
+    }
+
+    /**
+     * Takes a snapshot of every operation a session recorded at least once.
+     */
+    @NotNull
+    public List<TimingSnapshot> snapshot(String sessionName) {
+        SessionKey key = SessionKey.of(sessionName);
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        TimingHistogram[] histograms;
+        synchronized (sessions) {
+            histograms = sessions.get(key);
+        }
+        return histograms == null ? Collections.emptyList() : snapshot(histograms);
+    }
+
+    /**
+     * Clears the overall histograms and forgets every session.
+     */
+    public void reset() {
+        for (TimingHistogram histogram : overall) {
+            histogram.reset();
+        }
+        synchronized (sessions) {
+            sessions.clear();
+        }
+    }
+
+    private static List<TimingSnapshot> snapshot(TimingHistogram[] histograms) {
+        List<TimingSnapshot> snapshots = new ArrayList<>();
+        for (TimingHistogram histogram : histograms) {
+            if (histogram.getCount() > 0) {
+                snapshots.add(histogram.snapshot());
+            }
+        }
+        return snapshots;
+    }
+
+    private static TimingHistogram[] newHistograms() {
+        TimingHistogram[] histograms = new TimingHistogram[Operation.VALUES.length];
+        for (Operation operation : Operation.VALUES) {
+            histograms[operation.ordinal()] = new TimingHistogram(operation.getMetricName());
+        }
+        return histograms;
+    }
+}
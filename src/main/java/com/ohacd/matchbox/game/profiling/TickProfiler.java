@@ -0,0 +1,186 @@
+package com.ohacd.matchbox.game.profiling;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Built-in profiler for the time Matchbox spends on the server thread.
+ *
+ * <p>Each measured code path (an event handler, an ability, a scheduled task) owns a
+ * {@link TimingHistogram} that callers look up once and keep. While the profiler is disabled,
+ * instrumented code only reads one volatile flag; it can be switched on and off at runtime.</p>
+ */
+public final class TickProfiler {
+    /** Server ticks per second, for turning total time into time per tick */
+    private static final double TICKS_PER_SECOND = 20.0;
+
+    private final Map<String, TimingHistogram> histograms = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+    private volatile long windowStartNanos = System.nanoTime();
+    private volatile long windowNanos;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns profiling on or off. Timings recorded so far are kept; the profiled window only
+     * grows while the profiler is on.
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (enabled) {
+            windowStartNanos = now;
+        } else {
+            windowNanos += now - windowStartNanos;
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Clears every histogram and restarts the profiled window.
+     */
+    public synchronized void reset() {
+        for (TimingHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        windowNanos = 0L;
+        windowStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the histogram for a code path, creating it on first use.
+     */
+    @NotNull
+    public TimingHistogram histogram(@NotNull String name) {
+        TimingHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, TimingHistogram::new);
+    }
+
+    /**
+     * Gets how long the profiler has been on since the last reset, in nanoseconds.
+     */
+    public synchronized long getProfiledNanos() {
+        return windowNanos + (enabled ? System.nanoTime() - windowStartNanos : 0L);
+    }
+
+    /**
+     * Gets the server ticks covered by the profiled window, assuming 20 ticks per second.
+     */
+    public double getProfiledTicks() {
+        return getProfiledNanos() / 1_000_000_000.0 * TICKS_PER_SECOND;
+    }
+
+    /**
+     * Takes a snapshot of every code path that recorded at least one timing, costliest first.
+     */
+    @NotNull
+    public List<TimingSnapshot> snapshot() {
+        List<TimingSnapshot> snapshots = new ArrayList<>(histograms.size());
+        for (TimingHistogram histogram : histograms.values()) {
+            if (histogram.getCount() > 0) {
+                snapshots.add(histogram.snapshot());
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(TimingSnapshot::getTotalNanos).reversed());
+        return snapshots;
+    }
+
+    /**
+     * Registers a listener's {@link EventHandler} methods like
+     * {@link PluginManager#registerEvents(Listener, Plugin)}, timing each handler as
+     * {@code listener:<Class>#<method>}.
+     */
+    public void registerEvents(@NotNull Plugin plugin, @NotNull Listener listener) {
+        PluginManager pluginManager = plugin.getServer().getPluginManager();
+        List<Method> handlers = new ArrayList<>();
+        List<EventExecutor> executors = new ArrayList<>();
+        try {
+            for (Method method : findHandlers(listener.getClass())) {
+                handlers.add(method);
+                executors.add(EventExecutor.create(method, method.getParameterTypes()[0].asSubclass(Event.class)));
+            }
+        } catch (RuntimeException | LinkageError e) {
+            plugin.getLogger().warning("Cannot profile " + listener.getClass().getName() + " (" + e.getMessage() + "), registering it unprofiled");
+            pluginManager.registerEvents(listener, plugin);
+            return;
+        }
+
+        for (int i = 0; i < handlers.size(); i++) {
+            Method method = handlers.get(i);
+            EventExecutor executor = executors.get(i);
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            TimingHistogram histogram = histogram("listener:" + simpleName(listener.getClass()) + "#" + method.getName());
+            EventExecutor timed = (target, event) -> {
+                if (!enabled) {
+                    executor.execute(target, event);
+                    return;
+                }
+                long start = System.nanoTime();
+                try {
+                    executor.execute(target, event);
+                } finally {
+                    histogram.record(System.nanoTime() - start);
+                }
+            };
+            pluginManager.registerEvent(method.getParameterTypes()[0].asSubclass(Event.class), listener,
+                annotation.priority(), timed, plugin, annotation.ignoreCancelled());
+        }
+    }
+
+    /**
+     * Gets a readable name for a class, lambda or anonymous class included, e.g.
+     * {@code SwipePhaseHandler} for a lambda declared in it.
+     */
+    @NotNull
+    public static String simpleName(@NotNull Class<?> type) {
+        String name = type.getName();
+        int lambda = name.indexOf("$$Lambda");
+        if (lambda >= 0) {
+            name = name.substring(0, lambda);
+        }
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static List<Method> findHandlers(Class<?> listenerClass) {
+        // Same lookup as Bukkit: public methods, inherited ones included, plus the class's own non-public ones
+        Set<Method> methods = new LinkedHashSet<>();
+        for (Method method : listenerClass.getMethods()) {
+            methods.add(method);
+        }
+        for (Method method : listenerClass.getDeclaredMethods()) {
+            methods.add(method);
+        }
+        List<Method> handlers = new ArrayList<>();
+        for (Method method : methods) {
+            if (method.isBridge() || method.isSynthetic() || method.getAnnotation(EventHandler.class) == null) {
+                continue;
+            }
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length != 1 || !Event.class.isAssignableFrom(parameters[0])) {
+                continue;
+            }
+            handlers.add(method);
+        }
+        return handlers;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ohacd.matchbox.game.profiling;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of nanosecond timings.
+ *
+ * <p>Values are counted in log-linear buckets: every power of two is split into eight equal
+ * buckets, so a percentile read back from the histogram is within 12.5% of the true value.
+ * Recording is one atomic increment plus two adder updates and allocates nothing; the bucket
+ * array is fixed at {@value #BUCKET_COUNT} longs whatever the range of recorded values.</p>
+ */
+public final class TimingHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public TimingHistogram(@NotNull String name) {
+        this.name = name;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one timing. Negative values, from a clock that stepped back, count as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        long max;
+        while (value > (max = maxNanos.get())) {
+            if (maxNanos.compareAndSet(max, value)) {
+                break;
+            }
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Clears every bucket and counter. Timings recorded while this runs may survive the reset.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0L);
+    }
+
+    /**
+     * Reads the histogram into an immutable snapshot with its 50th, 90th and 99th percentiles.
+     */
+    @NotNull
+    public TimingSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long max = maxNanos.get();
+        return new TimingSnapshot(
+            name,
+            total,
+            totalNanos.sum(),
+            max,
+            percentile(counts, total, 0.50, max),
+            percentile(counts, total, 0.90, max),
+            percentile(counts, total, 0.99, max)
+        );
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = bucket % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long upper = ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
@@ -50,20 +50,23 @@ public class RoleAssigner {
 
         List<Player> orderedPlayers = resolveOrderedPlayers(validPlayers, strategy);
 
-        // Assign Spark to first player (if exists)
-        if (!orderedPlayers.isEmpty()) {
-            gameState.setRole(orderedPlayers.get(0).getUniqueId(), Role.SPARK);
-        }
+        // One snapshot for the whole lobby rather than one per role
+        gameState.batch(() -> {
+            // Assign Spark to first player (if exists)
+            if (!orderedPlayers.isEmpty()) {
+                gameState.setRole(orderedPlayers.get(0).getUniqueId(), Role.SPARK);
+            }
 
-        // Assign Medic to second player (if exists)
-        if (orderedPlayers.size() > 1) {
-            gameState.setRole(orderedPlayers.get(1).getUniqueId(), Role.MEDIC);
-        }
+            // Assign Medic to second player (if exists)
+            if (orderedPlayers.size() > 1) {
+                gameState.setRole(orderedPlayers.get(1).getUniqueId(), Role.MEDIC);
+            }
 
-        // Assign INNOCENT to all remaining players (ensures every player has a role)
-        for (int i = 2; i < orderedPlayers.size(); i++) {
-            gameState.setRole(orderedPlayers.get(i).getUniqueId(), Role.INNOCENT);
-        }
+            // Assign INNOCENT to all remaining players (ensures every player has a role)
+            for (int i = 2; i < orderedPlayers.size(); i++) {
+                gameState.setRole(orderedPlayers.get(i).getUniqueId(), Role.INNOCENT);
+            }
+        });
     }
 
     private List<Player> resolveOrderedPlayers(List<Player> validPlayers, RoleAssignmentStrategy strategy) {
@@ -0,0 +1,87 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link GameScheduler} backed by the Bukkit scheduler; every task runs on the main thread.
+ */
+public class BukkitGameScheduler implements GameScheduler {
+    private final Plugin plugin;
+
+    public BukkitGameScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public GameTask run(Runnable task) {
+        BukkitGameTask gameTask = new BukkitGameTask(ignored -> task.run());
+        gameTask.handle = Bukkit.getScheduler().runTask(plugin, gameTask);
+        return gameTask;
+    }
+
+    @Override
+    public GameTask run(Entity entity, Runnable task) {
+        return run(task);
+    }
+
+    @Override
+    public GameTask runLater(Runnable task, long delayTicks) {
+        BukkitGameTask gameTask = new BukkitGameTask(ignored -> task.run());
+        gameTask.handle = Bukkit.getScheduler().runTaskLater(plugin, gameTask, delayTicks);
+        return gameTask;
+    }
+
+    @Override
+    public GameTask runTimer(Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        BukkitGameTask gameTask = new BukkitGameTask(task);
+        gameTask.handle = Bukkit.getScheduler().runTaskTimer(plugin, gameTask, delayTicks, periodTicks);
+        return gameTask;
+    }
+
+    @Override
+    public GameTask runTimer(Location region, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        return runTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public GameTask runTimer(Entity entity, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        return runTimer(task, delayTicks, periodTicks);
+    }
+
+    private static final class BukkitGameTask implements GameTask, Runnable {
+        private final Consumer<GameTask> body;
+        private volatile BukkitTask handle;
+        private volatile boolean cancelled;
+
+        private BukkitGameTask(Consumer<GameTask> body) {
+            this.body = body;
+        }
+
+        @Override
+        public void run() {
+            if (!cancelled) {
+                body.accept(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            BukkitTask current = handle;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
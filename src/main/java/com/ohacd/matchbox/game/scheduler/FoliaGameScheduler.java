@@ -0,0 +1,116 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+/**
+ * {@link GameScheduler} backed by Folia's region, entity and global region schedulers.
+ * Folia rejects delays below one tick, so zero delays are rounded up.
+ */
+public class FoliaGameScheduler implements GameScheduler {
+    private final Plugin plugin;
+
+    public FoliaGameScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public GameTask run(Runnable task) {
+        FoliaGameTask gameTask = new FoliaGameTask(ignored -> task.run());
+        gameTask.handle = Bukkit.getGlobalRegionScheduler().run(plugin, gameTask::tick);
+        return gameTask;
+    }
+
+    @Override
+    public GameTask run(Entity entity, Runnable task) {
+        FoliaGameTask gameTask = new FoliaGameTask(ignored -> task.run());
+        gameTask.handle = entity.getScheduler().run(plugin, gameTask::tick, gameTask::retire);
+        if (gameTask.handle == null) {
+            gameTask.retire();
+        }
+        return gameTask;
+    }
+
+    @Override
+    public GameTask runLater(Runnable task, long delayTicks) {
+        FoliaGameTask gameTask = new FoliaGameTask(ignored -> task.run());
+        gameTask.handle = Bukkit.getGlobalRegionScheduler().runDelayed(plugin, gameTask::tick, atLeastOneTick(delayTicks));
+        return gameTask;
+    }
+
+    @Override
+    public GameTask runTimer(Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        FoliaGameTask gameTask = new FoliaGameTask(task);
+        gameTask.handle = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, gameTask::tick,
+                atLeastOneTick(delayTicks), atLeastOneTick(periodTicks));
+        return gameTask;
+    }
+
+    @Override
+    public GameTask runTimer(Location region, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        if (region == null || region.getWorld() == null) {
+            return runTimer(task, delayTicks, periodTicks);
+        }
+        FoliaGameTask gameTask = new FoliaGameTask(task);
+        gameTask.handle = Bukkit.getRegionScheduler().runAtFixedRate(plugin, region, gameTask::tick,
+                atLeastOneTick(delayTicks), atLeastOneTick(periodTicks));
+        return gameTask;
+    }
+
+    @Override
+    public GameTask runTimer(Entity entity, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        FoliaGameTask gameTask = new FoliaGameTask(task);
+        gameTask.handle = entity.getScheduler().runAtFixedRate(plugin, gameTask::tick, gameTask::retire,
+                atLeastOneTick(delayTicks), atLeastOneTick(periodTicks));
+        if (gameTask.handle == null) {
+            // Entity was already removed
+            gameTask.retire();
+        }
+        return gameTask;
+    }
+
+    private static long atLeastOneTick(long ticks) {
+        return Math.max(1L, ticks);
+    }
+
+    private static final class FoliaGameTask implements GameTask {
+        private final Consumer<GameTask> body;
+        private volatile ScheduledTask handle;
+        private volatile boolean cancelled;
+
+        private FoliaGameTask(Consumer<GameTask> body) {
+            this.body = body;
+        }
+
+        private void tick(ScheduledTask scheduled) {
+            if (cancelled) {
+                scheduled.cancel();
+                return;
+            }
+            body.accept(this);
+        }
+
+        private void retire() {
+            cancelled = true;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            ScheduledTask current = handle;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+/**
+ * Schedules game work on the thread that owns it.
+ * On Paper/Spigot everything runs on the main thread; on Folia, region tasks run on the
+ * thread owning the given location and entity tasks follow the entity between regions,
+ * so separate arenas can tick on separate cores.
+ * <p>
+ * Timer bodies receive their own {@link GameTask} so they can cancel themselves,
+ * replacing the {@code BukkitRunnable#cancel()} pattern.
+ */
+public interface GameScheduler {
+
+    /**
+     * Runs a task on the next tick on the global (main) thread.
+     */
+    GameTask run(Runnable task);
+
+    /**
+     * Runs a task on the next tick on the thread owning the entity.
+     */
+    GameTask run(Entity entity, Runnable task);
+
+    /**
+     * Runs a task once after the given delay on the global (main) thread.
+     */
+    GameTask runLater(Runnable task, long delayTicks);
+
+    /**
+     * Runs a repeating task on the global (main) thread.
+     */
+    GameTask runTimer(Consumer<GameTask> task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a repeating task on the thread owning the region at the given location.
+     * A null location falls back to the global thread.
+     */
+    GameTask runTimer(Location region, Consumer<GameTask> task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a repeating task on the thread owning the entity; the task is cancelled if the entity is removed.
+     */
+    GameTask runTimer(Entity entity, Consumer<GameTask> task, long delayTicks, long periodTicks);
+
+    /**
+     * Gets a scheduler whose tasks belong to the given session, so they can be dropped together
+     * when it ends. Schedulers without per-session bookkeeping return themselves.
+     */
+    default GameScheduler forSession(String sessionName) {
+        return this;
+    }
+
+    /**
+     * Creates the scheduler matching the running server.
+     */
+    static GameScheduler create(Plugin plugin) {
+        if (plugin == null) {
+            throw new IllegalArgumentException("Plugin cannot be null");
+        }
+        return isFolia() ? new FoliaGameScheduler(plugin) : new BukkitGameScheduler(plugin);
+    }
+
+    /**
+     * Checks whether the server runs Folia's regionised threading.
+     */
+    static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ohacd.matchbox.game.scheduler;
+
+/**
+ * Handle to a task scheduled through a {@link GameScheduler}.
+ */
+public interface GameTask {
+
+    /**
+     * Cancels the task. Safe to call more than once and from inside the task itself.
+     */
+    void cancel();
+
+    boolean isCancelled();
+}
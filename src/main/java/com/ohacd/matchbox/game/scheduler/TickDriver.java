@@ -0,0 +1,425 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import com.ohacd.matchbox.game.profiling.TickProfiler;
+import com.ohacd.matchbox.game.profiling.TimingHistogram;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Plugin-wide tick driver that multiplexes Matchbox timers onto a single repeating task.
+ * <p>
+ * Timers are kept in per-session deadline queues (plus a shared lane for work not tied to a
+ * session), and each tick only the entries that are due are run. Ending a session cancels its
+ * whole lane with {@link #cancelSession(String)}. The driver also measures how much tick time
+ * its work consumed, overall and per session.
+ * <p>
+ * The plugin creates one driver on enable and passes it to the components that schedule timers.
+ * <p>
+ * On Folia, region and entity timers cannot share one thread, so they are handed to the
+ * backing scheduler directly; only global work is multiplexed.
+ */
+public final class TickDriver implements GameScheduler {
+    /** Lane for timers that do not belong to a session */
+    private static final String SHARED_LANE = "";
+
+    /** Weight of the latest tick in the moving average */
+    private static final double AVERAGE_WEIGHT = 0.05;
+
+    private final Plugin plugin;
+    private final GameScheduler backend;
+    private final boolean delegateRegionTasks;
+
+    /** Tasks scheduled since the last tick; moved into their lanes by the driver thread */
+    private final Queue<DrivenTask> incoming = new ConcurrentLinkedQueue<>();
+    private final Queue<String> cancelledLanes = new ConcurrentLinkedQueue<>();
+    private final Map<String, Lane> lanes = new HashMap<>();
+    /** Current generation of each session lane; cancelling a session retires its generation at once */
+    private final Map<String, LaneGeneration> generations = new ConcurrentHashMap<>();
+    private final AtomicInteger scheduledCount = new AtomicInteger();
+
+    private volatile GameTask driverTask;
+    private volatile TickProfiler profiler;
+    private long currentTick = 0;
+
+    private volatile long lastTickNanos = 0;
+    private volatile long maxTickNanos = 0;
+    private volatile double averageTickNanos = 0;
+    private volatile Map<String, Long> sessionTickNanos = Collections.emptyMap();
+
+    public TickDriver(Plugin plugin, GameScheduler backend) {
+        if (plugin == null || backend == null) {
+            throw new IllegalArgumentException("Plugin and backend scheduler cannot be null");
+        }
+        this.plugin = plugin;
+        this.backend = backend;
+        this.delegateRegionTasks = backend instanceof FoliaGameScheduler;
+    }
+
+    @Override
+    public GameTask run(Runnable task) {
+        return schedule(SHARED_LANE, task, ignored -> task.run(), 0L, -1L);
+    }
+
+    @Override
+    public GameTask run(Entity entity, Runnable task) {
+        if (delegateRegionTasks) {
+            return backend.run(entity, task);
+        }
+        return run(task);
+    }
+
+    @Override
+    public GameTask runLater(Runnable task, long delayTicks) {
+        return schedule(SHARED_LANE, task, ignored -> task.run(), delayTicks, -1L);
+    }
+
+    @Override
+    public GameTask runTimer(Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        return schedule(SHARED_LANE, task, task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public GameTask runTimer(Location region, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        if (delegateRegionTasks && region != null) {
+            return backend.runTimer(region, task, delayTicks, periodTicks);
+        }
+        return runTimer(task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public GameTask runTimer(Entity entity, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        if (delegateRegionTasks) {
+            return backend.runTimer(entity, task, delayTicks, periodTicks);
+        }
+        return runTimer(task, delayTicks, periodTicks);
+    }
+
+    /**
+     * Gets a view of this driver that schedules into the given session's lane.
+     */
+    @Override
+    public GameScheduler forSession(String sessionName) {
+        if (sessionName == null || sessionName.isEmpty()) {
+            return this;
+        }
+        return new SessionLaneScheduler(sessionName);
+    }
+
+    /**
+     * Cancels every timer scheduled so far in a session's lane. Safe to call from any thread.
+     * The timers stop at once, including any due later in the current tick; they are removed
+     * from the lane on the next tick. Timers scheduled for the session afterwards are unaffected.
+     */
+    public void cancelSession(String sessionName) {
+        if (sessionName == null || sessionName.isEmpty()) {
+            return;
+        }
+        LaneGeneration generation = generations.remove(sessionName);
+        if (generation != null) {
+            generation.cancelled = true;
+            cancelledLanes.add(sessionName);
+        }
+    }
+
+    /**
+     * Gets how long the last tick's Matchbox work took, in nanoseconds.
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the moving average of Matchbox work per tick, in nanoseconds.
+     */
+    public long getAverageTickNanos() {
+        return (long) averageTickNanos;
+    }
+
+    /**
+     * Gets the slowest tick seen since the driver started, in nanoseconds.
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Gets the time each session's timers took during the last tick, in nanoseconds.
+     */
+    public Map<String, Long> getSessionTickNanos() {
+        return sessionTickNanos;
+    }
+
+    /**
+     * Gets the number of timers currently scheduled on the driver.
+     */
+    public int getScheduledTaskCount() {
+        return scheduledCount.get();
+    }
+
+    /**
+     * Times every timer body in the given profiler while it is enabled, as {@code task:<Class>}
+     * named after the class that scheduled the timer.
+     */
+    public void setProfiler(TickProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    private DrivenTask schedule(String lane, Object source, Consumer<GameTask> body, long delayTicks, long periodTicks) {
+        if (source == null || body == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        LaneGeneration generation = lane.equals(SHARED_LANE)
+            ? null
+            : generations.computeIfAbsent(lane, ignored -> new LaneGeneration());
+        DrivenTask task = new DrivenTask(lane, generation, source, body, Math.max(1L, delayTicks), periodTicks);
+        scheduledCount.incrementAndGet();
+        incoming.add(task);
+        ensureRunning();
+        return task;
+    }
+
+    private void ensureRunning() {
+        if (driverTask != null) {
+            return;
+        }
+        synchronized (this) {
+            if (driverTask == null) {
+                driverTask = backend.runTimer(ignored -> tick(), 1L, 1L);
+            }
+        }
+    }
+
+    /**
+     * Stops the driver and drops every timer. Called on disable.
+     */
+    public synchronized void shutdown() {
+        if (driverTask != null) {
+            driverTask.cancel();
+            driverTask = null;
+        }
+        for (LaneGeneration generation : generations.values()) {
+            generation.cancelled = true;
+        }
+        generations.clear();
+        incoming.clear();
+        cancelledLanes.clear();
+        lanes.clear();
+        scheduledCount.set(0);
+    }
+
+    /**
+     * Runs one tick: drops cancelled lanes, admits newly scheduled timers and runs everything that is due.
+     */
+    private void tick() {
+        long tickStart = System.nanoTime();
+        currentTick++;
+
+        String cancelledLane;
+        while ((cancelledLane = cancelledLanes.poll()) != null) {
+            Lane lane = lanes.get(cancelledLane);
+            if (lane != null) {
+                // Only the retired generation goes; the session may already have scheduled new timers
+                lane.deadlines.removeIf(task -> {
+                    if (task.isCancelled()) {
+                        task.cancelled = true;
+                        scheduledCount.decrementAndGet();
+                        return true;
+                    }
+                    return false;
+                });
+                if (lane.deadlines.isEmpty()) {
+                    lanes.remove(cancelledLane);
+                }
+            }
+        }
+
+        DrivenTask admitted;
+        while ((admitted = incoming.poll()) != null) {
+            if (admitted.isCancelled()) {
+                scheduledCount.decrementAndGet();
+                continue;
+            }
+            admitted.nextRunTick = currentTick - 1 + admitted.delayTicks;
+            lanes.computeIfAbsent(admitted.lane, Lane::new).deadlines.add(admitted);
+        }
+
+        Map<String, Long> laneNanos = new HashMap<>();
+        List<String> emptyLanes = new ArrayList<>();
+        for (Lane lane : lanes.values()) {
+            long laneStart = System.nanoTime();
+            runDue(lane);
+            if (!lane.name.equals(SHARED_LANE)) {
+                laneNanos.put(lane.name, System.nanoTime() - laneStart);
+            }
+            if (lane.deadlines.isEmpty()) {
+                emptyLanes.add(lane.name);
+            }
+        }
+        for (String name : emptyLanes) {
+            lanes.remove(name);
+        }
+
+        long elapsed = System.nanoTime() - tickStart;
+        lastTickNanos = elapsed;
+        if (elapsed > maxTickNanos) {
+            maxTickNanos = elapsed;
+        }
+        averageTickNanos = averageTickNanos == 0
+                ? elapsed
+                : averageTickNanos + AVERAGE_WEIGHT * (elapsed - averageTickNanos);
+        sessionTickNanos = Collections.unmodifiableMap(laneNanos);
+    }
+
+    private void runDue(Lane lane) {
+        PriorityQueue<DrivenTask> deadlines = lane.deadlines;
+        DrivenTask task;
+        while ((task = deadlines.peek()) != null && task.nextRunTick <= currentTick) {
+            deadlines.poll();
+            // Checked per task, so a session ended by an earlier task this tick runs nothing more
+            if (!task.isCancelled()) {
+                TickProfiler activeProfiler = profiler;
+                boolean profiled = activeProfiler != null && activeProfiler.isEnabled();
+                long start = profiled ? System.nanoTime() : 0L;
+                try {
+                    task.body.accept(task);
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Scheduled task failed" +
+                        (lane.name.equals(SHARED_LANE) ? "" : " in session '" + lane.name + "'") + ": " + e.getMessage());
+                }
+                if (profiled) {
+                    task.timing(activeProfiler).record(System.nanoTime() - start);
+                }
+            }
+            if (!task.isCancelled() && task.periodTicks > 0) {
+                task.nextRunTick = currentTick + task.periodTicks;
+                deadlines.add(task);
+            } else {
+                task.cancelled = true;
+                scheduledCount.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final String name;
+        private final PriorityQueue<DrivenTask> deadlines =
+            new PriorityQueue<>((a, b) -> Long.compare(a.nextRunTick, b.nextRunTick));
+
+        private Lane(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Marks which timers belong to one run of a session lane.
+     */
+    private static final class LaneGeneration {
+        private volatile boolean cancelled;
+    }
+
+    private static final class DrivenTask implements GameTask {
+        private final String lane;
+        private final LaneGeneration generation;
+        private final Object source;
+        private final Consumer<GameTask> body;
+        private final long delayTicks;
+        private final long periodTicks;
+        private long nextRunTick;
+        private volatile boolean cancelled;
+        private TimingHistogram timing;
+
+        private DrivenTask(String lane, LaneGeneration generation, Object source, Consumer<GameTask> body,
+                           long delayTicks, long periodTicks) {
+            this.lane = lane;
+            this.generation = generation;
+            this.source = source;
+            this.body = body;
+            this.delayTicks = delayTicks;
+            this.periodTicks = periodTicks;
+        }
+
+        /**
+         * Gets this timer's histogram; only called from the driver thread.
+         */
+        private TimingHistogram timing(TickProfiler profiler) {
+            if (timing == null) {
+                timing = profiler.histogram("task:" + TickProfiler.simpleName(source.getClass()));
+            }
+            return timing;
+        }
+
+        @Override
+        public void cancel() {
+            // Removed from its lane when it next comes due
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled || (generation != null && generation.cancelled);
+        }
+    }
+
+    /**
+     * Schedules into one session's lane so the session's timers can be dropped together.
+     */
+    private final class SessionLaneScheduler implements GameScheduler {
+        private final String sessionName;
+
+        private SessionLaneScheduler(String sessionName) {
+            this.sessionName = sessionName;
+        }
+
+        @Override
+        public GameTask run(Runnable task) {
+            return schedule(sessionName, task, ignored -> task.run(), 0L, -1L);
+        }
+
+        @Override
+        public GameTask run(Entity entity, Runnable task) {
+            if (delegateRegionTasks) {
+                return backend.run(entity, task);
+            }
+            return run(task);
+        }
+
+        @Override
+        public GameTask runLater(Runnable task, long delayTicks) {
+            return schedule(sessionName, task, ignored -> task.run(), delayTicks, -1L);
+        }
+
+        @Override
+        public GameTask runTimer(Consumer<GameTask> task, long delayTicks, long periodTicks) {
+            return schedule(sessionName, task, task, delayTicks, periodTicks);
+        }
+
+        @Override
+        public GameTask runTimer(Location region, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+            if (delegateRegionTasks && region != null) {
+                return backend.runTimer(region, task, delayTicks, periodTicks);
+            }
+            return runTimer(task, delayTicks, periodTicks);
+        }
+
+        @Override
+        public GameTask runTimer(Entity entity, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+            if (delegateRegionTasks) {
+                return backend.runTimer(entity, task, delayTicks, periodTicks);
+            }
+            return runTimer(task, delayTicks, periodTicks);
+        }
+    }
+}
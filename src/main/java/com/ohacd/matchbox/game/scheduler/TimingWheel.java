@@ -0,0 +1,255 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel measured in ticks.
+ * <p>
+ * Scheduling and cancelling are O(1): each timeout is linked into the bucket covering its
+ * deadline, on the finest level whose range still reaches it. Advancing one tick fires only
+ * the bucket that is due, and every 64 ticks the next coarser bucket is cascaded down.
+ * Four levels of 64 buckets cover roughly 16.7 million ticks; longer delays are clamped.
+ * <p>
+ * Not thread-safe; callers confine a wheel to one thread or guard it themselves.
+ *
+ * @param <T> payload handed to the expiry callback
+ */
+public final class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /** Longest delay the wheel can represent */
+    public static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Consumer<T> onExpire;
+    private final Bucket<T>[][] buckets;
+    private long currentTick = 0;
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Consumer<T> onExpire) {
+        if (onExpire == null) {
+            throw new IllegalArgumentException("Expiry callback cannot be null");
+        }
+        this.onExpire = onExpire;
+        this.buckets = new Bucket[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                buckets[level][slot] = new Bucket<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules a payload to expire after the given number of ticks (at least one).
+     */
+    public Timeout<T> schedule(long delayTicks, T payload) {
+        long delay = Math.min(MAX_DELAY_TICKS, Math.max(1L, delayTicks));
+        Timeout<T> timeout = new Timeout<>(this, currentTick + delay, payload);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel by one tick and fires every timeout that became due.
+     *
+     * @return the number of timeouts fired
+     */
+    public int advance() {
+        currentTick++;
+
+        // Cascade coarser levels whose bucket boundary was just crossed, coarsest first
+        int level = 1;
+        while (level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+        for (int cascade = level - 1; cascade >= 1; cascade--) {
+            Bucket<T> bucket = buckets[cascade][slotIndex(currentTick, cascade)];
+            Timeout<T> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                place(timeout);
+            }
+        }
+
+        Bucket<T> due = buckets[0][slotIndex(currentTick, 0)];
+        if (due.head == null) {
+            return 0;
+        }
+        List<T> fired = new ArrayList<>();
+        Timeout<T> timeout;
+        while ((timeout = due.poll()) != null) {
+            timeout.state = Timeout.EXPIRED;
+            size--;
+            fired.add(timeout.payload);
+        }
+        // Fire after unlinking so callbacks may schedule or cancel freely
+        for (T payload : fired) {
+            onExpire.accept(payload);
+        }
+        return fired.size();
+    }
+
+    /**
+     * Gets the number of ticks the wheel has advanced.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the number of pending timeouts.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Drops every pending timeout without firing it.
+     */
+    public void clear() {
+        for (Bucket<T>[] levelBuckets : buckets) {
+            for (Bucket<T> bucket : levelBuckets) {
+                Timeout<T> timeout;
+                while ((timeout = bucket.poll()) != null) {
+                    timeout.state = Timeout.CANCELLED;
+                }
+            }
+        }
+        size = 0;
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadline - currentTick;
+        int level = 0;
+        if (delta > 0) {
+            while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+                level++;
+            }
+        }
+        // Anything already due lands in the bucket fired this tick
+        long tick = delta > 0 ? timeout.deadline : currentTick;
+        buckets[level][slotIndex(tick, level)].add(timeout);
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private boolean cancel(Timeout<T> timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        timeout.state = Timeout.CANCELLED;
+        size--;
+        return true;
+    }
+
+    /**
+     * Handle for a scheduled expiry.
+     */
+    public static final class Timeout<T> {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final TimingWheel<T> wheel;
+        private final long deadline;
+        private final T payload;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int state = PENDING;
+
+        private Timeout(TimingWheel<T> wheel, long deadline, T payload) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        /**
+         * Cancels the timeout if it has not fired yet.
+         *
+         * @return true if this call cancelled it
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public boolean isPending() {
+            return state == PENDING;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Gets the wheel tick at which this timeout fires.
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list of timeouts sharing a bucket.
+     */
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private Timeout<T> poll() {
+            Timeout<T> first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+    }
+}
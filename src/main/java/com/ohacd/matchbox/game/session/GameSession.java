@@ -10,6 +10,7 @@ import java.util.*;
  */
 public class GameSession {
     private final String name;
+    private final SessionKey key;
     private final Set<UUID> players = new HashSet<>();
     private final List<Location> spawnLocations = new ArrayList<>();
     private final Map<Integer, Location> seatLocations = new HashMap<>();
@@ -21,6 +22,7 @@ public class GameSession {
             throw new IllegalArgumentException("Session name cannot be null or empty");
         }
         this.name = name;
+        this.key = SessionKey.of(name);
     }
 
     /**
@@ -30,6 +32,13 @@ public class GameSession {
         return name;
     }
 
+    /**
+     * Gets the case-insensitive key identifying this session.
+     */
+    public SessionKey getKey() {
+        return key;
+    }
+
     /**
      * Adds a player to the session.
      */
@@ -0,0 +1,92 @@
+package com.ohacd.matchbox.game.session;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical, case-insensitive identity of a session name.
+ * <p>
+ * Every registry that is keyed by session (sessions, game contexts, chat handlers, phase timers)
+ * uses this key so they always agree on which spelling refers to which session. Keys are interned:
+ * looking up a spelling that has been seen before returns the cached key without allocating.
+ * Two keys are equal when their lower-cased names are equal, so an uninterned key still works.
+ */
+public final class SessionKey {
+    /** Bound on the intern tables so arbitrary user input cannot grow them without limit */
+    private static final int MAX_INTERNED = 4096;
+
+    private static final Map<String, SessionKey> BY_SPELLING = new ConcurrentHashMap<>();
+    private static final Map<String, SessionKey> BY_CANONICAL = new ConcurrentHashMap<>();
+
+    private final String canonical;
+    private final int hash;
+
+    private SessionKey(String canonical) {
+        this.canonical = canonical;
+        this.hash = canonical.hashCode();
+    }
+
+    /**
+     * Gets the key for a session name, or null if the name is null or blank.
+     */
+    public static SessionKey of(String name) {
+        if (name == null) {
+            return null;
+        }
+        SessionKey key = BY_SPELLING.get(name);
+        if (key != null) {
+            return key;
+        }
+        if (name.isBlank()) {
+            return null;
+        }
+        String canonical = name.toLowerCase(Locale.ROOT);
+        key = BY_CANONICAL.get(canonical);
+        if (key == null) {
+            key = new SessionKey(canonical);
+            if (BY_CANONICAL.size() < MAX_INTERNED) {
+                SessionKey raced = BY_CANONICAL.putIfAbsent(canonical, key);
+                if (raced != null) {
+                    key = raced;
+                }
+            }
+        }
+        if (BY_SPELLING.size() < MAX_INTERNED) {
+            BY_SPELLING.putIfAbsent(name, key);
+        }
+        return key;
+    }
+
+    /**
+     * Gets the lower-cased session name this key stands for.
+     */
+    public String getCanonicalName() {
+        return canonical;
+    }
+
+    /**
+     * Checks whether a name refers to this session, ignoring case.
+     */
+    public boolean matches(String name) {
+        return name != null && name.equalsIgnoreCase(canonical);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof SessionKey && ((SessionKey) other).canonical.equals(canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return canonical;
+    }
+}
@@ -2,29 +2,26 @@ package com.ohacd.matchbox.game.session;
 
 import java.util.*;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Manages all game sessions.
+ * Sessions live in a {@link SessionRegistry} keyed case-insensitively by {@link SessionKey}.
  */
 public class SessionManager {
-    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final SessionRegistry registry = new SessionRegistry();
 
     /**
      * Creates a new game session.
      */
     public GameSession createSession(String name) {
-        if (name == null || name.trim().isEmpty()) {
+        if (name == null || name.isBlank()) {
             return null;
         }
-        String key = name.toLowerCase();
-        if (sessions.containsKey(key)) {
+        if (registry.contains(name)) {
             return null; // Session already exists
         }
         try {
             GameSession session = new GameSession(name);
-            sessions.put(key, session);
-            return session;
+            return registry.register(session) ? session : null;
         } catch (IllegalArgumentException e) {
             return null; // Invalid session name
         }
@@ -34,49 +31,43 @@ public class SessionManager {
      * Gets a session by name (case-insensitive).
      */
     public GameSession getSession(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return null;
-        }
-        return sessions.get(name.toLowerCase());
+        return registry.get(name);
     }
 
     /**
      * Removes a session.
      */
     public boolean removeSession(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return false;
-        }
-        return sessions.remove(name.toLowerCase()) != null;
+        return registry.remove(name) != null;
     }
 
     /**
      * Gets all session names (case-preserved, not lowercase keys).
+     * The returned set is a live, read-only view.
      */
     public Set<String> getAllSessionNames() {
-        Set<String> names = new HashSet<>();
-        for (GameSession session : sessions.values()) {
-            if (session != null) {
-                names.add(session.getName());
-            }
-        }
-        return names;
+        return registry.names();
     }
 
     /**
      * Checks if a session exists.
      */
     public boolean sessionExists(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return false;
-        }
-        return sessions.containsKey(name.toLowerCase());
+        return registry.contains(name);
     }
 
     /**
      * Gets all sessions.
+     * The returned collection is a live, read-only view.
      */
     public Collection<GameSession> getAllSessions() {
-        return new ArrayList<>(sessions.values());
+        return registry.sessions();
+    }
+
+    /**
+     * Gets the registry shared by everything that keys state by session.
+     */
+    public SessionRegistry getRegistry() {
+        return registry;
     }
 }
@@ -0,0 +1,70 @@
+package com.ohacd.matchbox.game.session;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Single source of truth for which sessions exist, keyed by {@link SessionKey}.
+ * <p>
+ * Lookups by name resolve the interned key and read one concurrent map, so they do not allocate
+ * for names that have been seen before. {@link #sessions()} and {@link #names()} are live,
+ * read-only views that reflect later registrations and removals without copying.
+ */
+public final class SessionRegistry {
+    private final SessionTable<GameSession> sessions = new SessionTable<>();
+
+    /**
+     * Registers a session unless one with the same name (ignoring case) already exists.
+     *
+     * @return true if the session was added
+     */
+    public boolean register(GameSession session) {
+        if (session == null) {
+            return false;
+        }
+        return sessions.putIfAbsent(session.getName(), session);
+    }
+
+    /**
+     * Gets a session by name, ignoring case.
+     */
+    public GameSession get(String name) {
+        return sessions.get(name);
+    }
+
+    public GameSession get(SessionKey key) {
+        return sessions.get(key);
+    }
+
+    public boolean contains(String name) {
+        return sessions.contains(name);
+    }
+
+    /**
+     * Removes a session by name, ignoring case.
+     *
+     * @return the removed session, or null if none was registered
+     */
+    public GameSession remove(String name) {
+        return sessions.remove(name);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets a live, read-only view of all registered sessions.
+     */
+    public Collection<GameSession> sessions() {
+        return sessions.values();
+    }
+
+    /**
+     * Gets a live, read-only view of the registered session names, as originally spelled.
+     * {@code contains} on this view ignores case.
+     */
+    public Set<String> names() {
+        return sessions.names();
+    }
+}
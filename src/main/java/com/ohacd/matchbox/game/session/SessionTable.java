@@ -0,0 +1,173 @@
+package com.ohacd.matchbox.game.session;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-session values keyed case-insensitively by {@link SessionKey}, remembering the spelling
+ * each session was first added with.
+ * <p>
+ * Every manager that tracks something per session (registered sessions, game contexts, chat
+ * processors) keeps it in one of these, so they resolve names the same way and report the same
+ * display names. {@link #values()} and {@link #names()} are live, read-only views.
+ */
+public final class SessionTable<V> {
+    private final Map<SessionKey, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Collection<V> valueView = new ValueView();
+    private final Set<String> nameView = new NameView();
+
+    private record Entry<V>(String name, V value) {
+    }
+
+    /**
+     * Gets the value for a session name, ignoring case.
+     */
+    public V get(String name) {
+        return get(SessionKey.of(name));
+    }
+
+    public V get(SessionKey key) {
+        Entry<V> entry = key != null ? entries.get(key) : null;
+        return entry != null ? entry.value() : null;
+    }
+
+    public boolean contains(String name) {
+        SessionKey key = SessionKey.of(name);
+        return key != null && entries.containsKey(key);
+    }
+
+    /**
+     * Adds a value unless the session (ignoring case) already has one.
+     *
+     * @return true if the value was added
+     */
+    public boolean putIfAbsent(String name, V value) {
+        SessionKey key = requireKey(name);
+        return entries.putIfAbsent(key, new Entry<>(name, value)) == null;
+    }
+
+    /**
+     * Gets the session's value, creating it from the given spelling if the session has none.
+     */
+    public V computeIfAbsent(String name, Function<String, V> factory) {
+        SessionKey key = requireKey(name);
+        return entries.computeIfAbsent(key, ignored -> new Entry<>(name, factory.apply(name))).value();
+    }
+
+    /**
+     * Removes a session's value, ignoring case.
+     *
+     * @return the removed value, or null if there was none
+     */
+    public V remove(String name) {
+        SessionKey key = SessionKey.of(name);
+        Entry<V> removed = key != null ? entries.remove(key) : null;
+        return removed != null ? removed.value() : null;
+    }
+
+    /**
+     * Removes a session's value only if it is still the given one.
+     *
+     * @return true if it was removed
+     */
+    public boolean remove(String name, V value) {
+        SessionKey key = SessionKey.of(name);
+        if (key == null) {
+            return false;
+        }
+        Entry<V> entry = entries.get(key);
+        return entry != null && entry.value() == value && entries.remove(key, entry);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Gets a live, read-only view of the values.
+     */
+    public Collection<V> values() {
+        return valueView;
+    }
+
+    /**
+     * Gets a live, read-only view of the session names, as first spelled.
+     * {@code contains} on this view ignores case.
+     */
+    public Set<String> names() {
+        return nameView;
+    }
+
+    private static SessionKey requireKey(String name) {
+        SessionKey key = SessionKey.of(name);
+        if (key == null) {
+            throw new IllegalArgumentException("Session name cannot be null or empty");
+        }
+        return key;
+    }
+
+    private final class ValueView extends AbstractCollection<V> {
+        @Override
+        public Iterator<V> iterator() {
+            Iterator<Entry<V>> delegate = entries.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public V next() {
+                    return delegate.next().value();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private final class NameView extends AbstractSet<String> {
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<Entry<V>> delegate = entries.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return delegate.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return delegate.next().name();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean contains(Object name) {
+            return name instanceof String && SessionTable.this.contains((String) name);
+        }
+    }
+}
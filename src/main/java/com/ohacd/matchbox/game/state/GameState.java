@@ -2,6 +2,7 @@ package com.ohacd.matchbox.game.state;
 
 import com.ohacd.matchbox.game.ability.MedicSecondaryAbility;
 import com.ohacd.matchbox.game.ability.SparkSecondaryAbility;
+import com.ohacd.matchbox.game.utils.GamePhase;
 import com.ohacd.matchbox.game.utils.Role;
 import org.bukkit.entity.Player;
 
@@ -9,47 +10,113 @@ import java.util.*;
 
 /**
  * Manages the current game state including player roles, alive players, and round-specific tracking.
+ * All mutations happen on the main thread. Phase, round, alive players, participants and roles are
+ * also published as an immutable {@link GameStateSnapshot} after each change, or once at the end of a
+ * {@link #batch(Runnable)}; the alive/participant getters read from that snapshot and are safe to call
+ * from any thread.
  */
 public class GameState {
-    private final Map<UUID, Role> roles = new HashMap<>();
+    private static final Role[] ROLE_VALUES = Role.values();
+    private static final long NO_PENDING_DEATH = Long.MIN_VALUE;
+    private static final int INITIAL_SLOT_CAPACITY = 16;
+
+    // Every player seen by this game gets a small dense slot; per-player data lives in slot-indexed arrays
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private UUID[] slotPlayers = new UUID[INITIAL_SLOT_CAPACITY];
+    private int slotCount = 0;
+    // Role ordinal + 1 per slot, 0 means unassigned
+    private byte[] roles = new byte[INITIAL_SLOT_CAPACITY];
+    private int assignedRoleCount = 0;
+    // Alive players per role, kept in step with roles and alivePlayers so win checks never scan
+    private final int[] aliveRoleCounts = new int[ROLE_VALUES.length];
+    // Lowest slot holding the Spark role, or -1
+    private int sparkSlot = -1;
+    // Name each player had when they joined the game, for messages about players who have since left
+    private String[] slotNames = new String[INITIAL_SLOT_CAPACITY];
+    private long[] pendingDeathTime = newPendingDeathArray(INITIAL_SLOT_CAPACITY);
+    private int pendingDeathCount = 0;
+
     private final Set<UUID> alivePlayers = new HashSet<>();
-    private final Set<UUID> swipedThisRound = new HashSet<>();
-    private final Set<UUID> curedThisRound = new HashSet<>();
-    // NEW: 0.8.7 - Tracks players who have been cured this round, but not yet removed from alive players list
-    private final Set<UUID> beenCuredThisRound = new HashSet<>();
-    private final Set<UUID> usedHealingSightThisRound = new HashSet<>();
-    private final Set<UUID> usedHunterVisionThisRound = new HashSet<>();
-    private final Set<UUID> usedSparkSwapThisRound = new HashSet<>();
-    private final Set<UUID> usedDelusionThisRound = new HashSet<>();
-    private final Set<UUID> infectedThisRound = new HashSet<>();
-    private final Set<UUID> delusionInfectedThisRound = new HashSet<>();
-    private final Map<UUID, Long> pendingDeathTime = new HashMap<>();
     private final Set<UUID> allParticipatingPlayers = new HashSet<>();
+
+    // Per-round flags, one bit per slot
+    private final BitSet swipedThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet curedThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    // NEW: 0.8.7 - Tracks players who have been cured this round, but not yet removed from alive players list
+    private final BitSet beenCuredThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet usedHealingSightThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet usedHunterVisionThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet usedSparkSwapThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet usedDelusionThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet infectedThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+    private final BitSet delusionInfectedThisRound = new BitSet(INITIAL_SLOT_CAPACITY);
+
     private SparkSecondaryAbility sparkSecondaryAbility = SparkSecondaryAbility.HUNTER_VISION;
     private MedicSecondaryAbility medicSecondaryAbility = MedicSecondaryAbility.HEALING_SIGHT;
     private String activeSessionName = null;
     private int currentRound = 0;
+    private GamePhase phase = GamePhase.WAITING;
+    private long snapshotVersion = 0L;
+    private volatile GameStateSnapshot snapshot = GameStateSnapshot.EMPTY;
+    private int batchDepth = 0;
+    private boolean snapshotDirty = false;
+    private ParticipantListener participantListener;
+
+    /**
+     * Receives participant membership changes so owners can maintain reverse lookups.
+     */
+    public interface ParticipantListener {
+        /**
+         * Called when a player joins the participant set.
+         */
+        void onParticipantAdded(UUID playerId);
+
+        /**
+         * Called when a player is dropped from the participant set.
+         */
+        void onParticipantRemoved(UUID playerId);
+
+        /**
+         * Called when a living player is removed from the alive set.
+         */
+        default void onPlayerEliminated(UUID playerId) {
+        }
+    }
+
+    /**
+     * Sets the listener notified when participants are added or cleared.
+     */
+    public void setParticipantListener(ParticipantListener participantListener) {
+        this.participantListener = participantListener;
+    }
 
     /**
      * Clears all state for a new game (not just round).
      * This should only be called when starting a brand new game or ending a game.
      */
     public void clearGameState() {
-        roles.clear();
+        if (participantListener != null) {
+            for (UUID playerId : allParticipatingPlayers) {
+                participantListener.onParticipantRemoved(playerId);
+            }
+        }
+        // Keep the arrays at their current size so the next game reuses them
+        slots.clear();
+        Arrays.fill(slotPlayers, 0, slotCount, null);
+        Arrays.fill(roles, 0, slotCount, (byte) 0);
+        Arrays.fill(slotNames, 0, slotCount, null);
+        Arrays.fill(aliveRoleCounts, 0);
+        sparkSlot = -1;
+        Arrays.fill(pendingDeathTime, 0, slotCount, NO_PENDING_DEATH);
+        slotCount = 0;
+        assignedRoleCount = 0;
+        pendingDeathCount = 0;
         alivePlayers.clear();
-        swipedThisRound.clear();
-        curedThisRound.clear();
-        beenCuredThisRound.clear();
-        infectedThisRound.clear();
-        usedHealingSightThisRound.clear();
-        usedHunterVisionThisRound.clear();
-        usedSparkSwapThisRound.clear();
-        usedDelusionThisRound.clear();
-        delusionInfectedThisRound.clear();
-        pendingDeathTime.clear();
         allParticipatingPlayers.clear();
+        clearRoundFlags();
         activeSessionName = null;
         currentRound = 0;
+        snapshotChanged();
     }
 
     /**
@@ -58,6 +125,12 @@ public class GameState {
      * This should be called at the start of each new round.
      */
     public void clearRoundState() {
+        clearRoundFlags();
+        sparkSecondaryAbility = SparkSecondaryAbility.HUNTER_VISION;
+        medicSecondaryAbility = MedicSecondaryAbility.HEALING_SIGHT;
+    }
+
+    private void clearRoundFlags() {
         swipedThisRound.clear();
         curedThisRound.clear();
         beenCuredThisRound.clear();
@@ -67,8 +140,64 @@ public class GameState {
         usedSparkSwapThisRound.clear();
         usedDelusionThisRound.clear();
         delusionInfectedThisRound.clear();
-        sparkSecondaryAbility = SparkSecondaryAbility.HUNTER_VISION;
-        medicSecondaryAbility = MedicSecondaryAbility.HEALING_SIGHT;
+    }
+
+    /**
+     * Gets the slot of a player, or -1 if the player has not been seen by this game.
+     */
+    private int slotOf(UUID playerId) {
+        if (playerId == null) {
+            return -1;
+        }
+        Integer slot = slots.get(playerId);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Gets the slot of a player, assigning the next free slot if needed.
+     */
+    private int slotFor(UUID playerId) {
+        Integer existing = slots.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int slot = slotCount++;
+        if (slot == slotPlayers.length) {
+            int capacity = slotPlayers.length * 2;
+            slotPlayers = Arrays.copyOf(slotPlayers, capacity);
+            roles = Arrays.copyOf(roles, capacity);
+            slotNames = Arrays.copyOf(slotNames, capacity);
+            long[] grownPending = newPendingDeathArray(capacity);
+            System.arraycopy(pendingDeathTime, 0, grownPending, 0, slot);
+            pendingDeathTime = grownPending;
+        }
+        slotPlayers[slot] = playerId;
+        slots.put(playerId, slot);
+        return slot;
+    }
+
+    private static long[] newPendingDeathArray(int capacity) {
+        long[] array = new long[capacity];
+        Arrays.fill(array, NO_PENDING_DEATH);
+        return array;
+    }
+
+    private void setFlag(BitSet flags, UUID playerId) {
+        if (playerId != null) {
+            flags.set(slotFor(playerId));
+        }
+    }
+
+    private void clearFlag(BitSet flags, UUID playerId) {
+        int slot = slotOf(playerId);
+        if (slot >= 0) {
+            flags.clear(slot);
+        }
+    }
+
+    private boolean hasFlag(BitSet flags, UUID playerId) {
+        int slot = slotOf(playerId);
+        return slot >= 0 && flags.get(slot);
     }
 
     /**
@@ -76,6 +205,7 @@ public class GameState {
      */
     public void incrementRound() {
         currentRound++;
+        snapshotChanged();
     }
 
     /**
@@ -89,14 +219,32 @@ public class GameState {
      * Adds a player to the alive players set.
      */
     public void addAlivePlayer(Player player) {
+        if (addAlivePlayerInternal(player)) {
+            snapshotChanged();
+        }
+    }
+
+    private boolean addAlivePlayerInternal(Player player) {
         if (player == null) {
-            return;
+            return false;
         }
         UUID uuid = player.getUniqueId();
-        if (uuid != null) {
-            alivePlayers.add(uuid);
-            allParticipatingPlayers.add(uuid);
+        if (uuid == null) {
+            return false;
+        }
+        int slot = slotFor(uuid);
+        slotNames[slot] = player.getName();
+        boolean changed = alivePlayers.add(uuid);
+        if (changed && roles[slot] != 0) {
+            aliveRoleCounts[roles[slot] - 1]++;
+        }
+        if (allParticipatingPlayers.add(uuid)) {
+            changed = true;
+            if (participantListener != null) {
+                participantListener.onParticipantAdded(uuid);
+            }
         }
+        return changed;
     }
 
     /**
@@ -106,11 +254,15 @@ public class GameState {
         if (players == null) {
             return;
         }
+        boolean changed = false;
         for (Player player : players) {
             if (player != null) {
-                addAlivePlayer(player);
+                changed |= addAlivePlayerInternal(player);
             }
         }
+        if (changed) {
+            snapshotChanged();
+        }
     }
 
     /**
@@ -121,30 +273,44 @@ public class GameState {
         if (playerId == null) {
             return;
         }
-        alivePlayers.remove(playerId);
+        boolean wasAlive = alivePlayers.remove(playerId);
         // If they had pending death or infected flags, keep pending handling separate.
-        infectedThisRound.remove(playerId);
-        pendingDeathTime.remove(playerId);
-        swipedThisRound.remove(playerId);
-        curedThisRound.remove(playerId);
-        beenCuredThisRound.remove(playerId);
+        int slot = slotOf(playerId);
+        if (slot >= 0) {
+            if (wasAlive && roles[slot] != 0) {
+                aliveRoleCounts[roles[slot] - 1]--;
+            }
+            infectedThisRound.clear(slot);
+            swipedThisRound.clear(slot);
+            curedThisRound.clear(slot);
+            beenCuredThisRound.clear(slot);
+            clearPendingDeath(slot);
+        }
+        if (wasAlive) {
+            snapshotChanged();
+            if (participantListener != null) {
+                participantListener.onPlayerEliminated(playerId);
+            }
+        }
     }
 
     /**
-     * Checks if a player is alive.
+     * Checks if a player is alive. Safe to call from any thread.
      */
     public boolean isAlive(UUID playerId) {
-        if (playerId == null) {
-            return false;
-        }
-        return alivePlayers.contains(playerId);
+        return snapshot.isAlive(playerId);
     }
 
     /**
      * Gets the role of a player.
+     * Main-thread only; off-thread readers should use {@link #getSnapshot()}.
      */
     public Role getRole(UUID playerId) {
-        return roles.get(playerId);
+        int slot = slotOf(playerId);
+        if (slot < 0 || roles[slot] == 0) {
+            return null;
+        }
+        return ROLE_VALUES[roles[slot] - 1];
     }
 
     /**
@@ -154,74 +320,97 @@ public class GameState {
         if (playerId == null || role == null) {
             return;
         }
-        roles.put(playerId, role);
+        int slot = slotFor(playerId);
+        if (roles[slot] == 0) {
+            assignedRoleCount++;
+        }
+        byte encoded = (byte) (role.ordinal() + 1);
+        if (roles[slot] != encoded) {
+            byte previous = roles[slot];
+            roles[slot] = encoded;
+            if (alivePlayers.contains(playerId)) {
+                if (previous != 0) {
+                    aliveRoleCounts[previous - 1]--;
+                }
+                aliveRoleCounts[role.ordinal()]++;
+            }
+            if (role == Role.SPARK) {
+                if (sparkSlot < 0 || slot < sparkSlot) {
+                    sparkSlot = slot;
+                }
+            } else if (slot == sparkSlot) {
+                sparkSlot = findSparkSlot();
+            }
+            snapshotChanged();
+        }
     }
 
     /**
      * Gets all alive player UUIDs.
+     * The returned set is an immutable snapshot and does not change when players are eliminated.
      */
     public Set<UUID> getAlivePlayerIds() {
-        return new HashSet<>(alivePlayers); // Defensive copy
+        return snapshot.getAlivePlayerIds();
     }
 
     /**
      * Gets the count of alive players.
      */
     public int getAlivePlayerCount() {
-        return alivePlayers.size();
+        return snapshot.getAlivePlayerIds().size();
     }
 
     /**
      * Marks that a player has swiped this round.
      */
     public void markSwiped(UUID playerId) {
-        swipedThisRound.add(playerId);
+        setFlag(swipedThisRound, playerId);
     }
 
     /**
      * Checks if a player has swiped this round.
      */
     public boolean hasSwipedThisRound(UUID playerId) {
-        return swipedThisRound.contains(playerId);
+        return hasFlag(swipedThisRound, playerId);
     }
 
     /**
      * Marks that a player has cured this round.
      */
     public void markCured(UUID playerId) {
-        curedThisRound.add(playerId);
+        setFlag(curedThisRound, playerId);
     }
 
     /**
      * Checks if a player has cured this round.
      */
     public boolean hasCuredThisRound(UUID playerId) {
-        return curedThisRound.contains(playerId);
+        return hasFlag(curedThisRound, playerId);
     }
 
     /**
      * NEW: 0.8.7 - Marks that a player has been cured this round, but not yet removed from an alive players list.
      */
     public void markBeenCured(UUID playerId) {
-        beenCuredThisRound.add(playerId);
+        setFlag(beenCuredThisRound, playerId);
     }
     /**
      * NEW: 0.8.7 - Checks if a player has been cured this round.
      */
-    public boolean hasBeenCuredThisRound(UUID playerId) { return beenCuredThisRound.contains(playerId); }
+    public boolean hasBeenCuredThisRound(UUID playerId) { return hasFlag(beenCuredThisRound, playerId); }
 
     /**
      * Marks that a player was infected (swiped successfully) this round.
      */
     public void markInfected(UUID playerId) {
-        infectedThisRound.add(playerId);
+        setFlag(infectedThisRound, playerId);
     }
 
     /**
      * Checks if a player was infected this round.
      */
     public boolean wasInfectedThisRound(UUID playerId) {
-        return infectedThisRound.contains(playerId);
+        return hasFlag(infectedThisRound, playerId);
     }
 
     /**
@@ -235,77 +424,77 @@ public class GameState {
      * Marks that a player has used healing sight this round.
      */
     public void markUsedHealingSight(UUID playerId) {
-        usedHealingSightThisRound.add(playerId);
+        setFlag(usedHealingSightThisRound, playerId);
     }
 
     /**
      * Checks if a player has used healing sight this round.
      */
     public boolean hasUsedHealingSightThisRound(UUID playerId) {
-        return usedHealingSightThisRound.contains(playerId);
+        return hasFlag(usedHealingSightThisRound, playerId);
     }
 
     /**
      * Marks that a player has used hunter vision this round.
      */
     public void markUsedHunterVision(UUID playerId) {
-        usedHunterVisionThisRound.add(playerId);
+        setFlag(usedHunterVisionThisRound, playerId);
     }
 
     /**
      * Checks if a player has used hunter vision this round.
      */
     public boolean hasUsedHunterVisionThisRound(UUID playerId) {
-        return usedHunterVisionThisRound.contains(playerId);
+        return hasFlag(usedHunterVisionThisRound, playerId);
     }
 
     /**
      * Marks that a player has used the Spark Swap ability this round.
      */
     public void markUsedSparkSwap(UUID playerId) {
-        usedSparkSwapThisRound.add(playerId);
+        setFlag(usedSparkSwapThisRound, playerId);
     }
 
     /**
      * Checks if a player has already used Spark Swap this round.
      */
     public boolean hasUsedSparkSwapThisRound(UUID playerId) {
-        return usedSparkSwapThisRound.contains(playerId);
+        return hasFlag(usedSparkSwapThisRound, playerId);
     }
 
     /**
      * Marks that a player has used the Delusion ability this round.
      */
     public void markUsedDelusion(UUID playerId) {
-        usedDelusionThisRound.add(playerId);
+        setFlag(usedDelusionThisRound, playerId);
     }
 
     /**
      * Checks if a player has already used Delusion this round.
      */
     public boolean hasUsedDelusionThisRound(UUID playerId) {
-        return usedDelusionThisRound.contains(playerId);
+        return hasFlag(usedDelusionThisRound, playerId);
     }
 
     /**
      * Marks that a player was infected with delusion (fake infection) this round.
      */
     public void markDelusionInfected(UUID playerId) {
-        delusionInfectedThisRound.add(playerId);
+        setFlag(delusionInfectedThisRound, playerId);
     }
 
     /**
      * Checks if a player was infected with delusion this round.
      */
     public boolean isDelusionInfected(UUID playerId) {
-        return delusionInfectedThisRound.contains(playerId);
+        return hasFlag(delusionInfectedThisRound, playerId);
     }
 
     /**
      * Removes delusion infection from a player (when cured).
      */
     public void removeDelusionInfection(UUID playerId) {
-        delusionInfectedThisRound.remove(playerId);
+        clearFlag(delusionInfectedThisRound, playerId);
     }
 
     public SparkSecondaryAbility getSparkSecondaryAbility() {
@@ -333,33 +522,55 @@ public class GameState {
      * Use removePendingDeath to cancel (e.g. cured).
      */
     public void setPendingDeath(UUID playerId, long epochMillis) {
-        pendingDeathTime.put(playerId, epochMillis);
+        if (playerId == null) {
+            return;
+        }
+        int slot = slotFor(playerId);
+        if (pendingDeathTime[slot] == NO_PENDING_DEATH) {
+            pendingDeathCount++;
+        }
+        pendingDeathTime[slot] = epochMillis;
     }
 
     /**
      * Removes pending death for a player (e.g. cured).
      */
     public void removePendingDeath(UUID playerId) {
-        pendingDeathTime.remove(playerId);
+        int slot = slotOf(playerId);
+        if (slot >= 0) {
+            clearPendingDeath(slot);
+        }
+    }
+
+    private void clearPendingDeath(int slot) {
+        if (pendingDeathTime[slot] != NO_PENDING_DEATH) {
+            pendingDeathTime[slot] = NO_PENDING_DEATH;
+            pendingDeathCount--;
+        }
     }
 
     /**
      * Removes a player from the beenCuredThisRound list
      */
-    public void removeBeenCuredThisRound(UUID victimId) { beenCuredThisRound.remove(victimId);}
+    public void removeBeenCuredThisRound(UUID victimId) { clearFlag(beenCuredThisRound, victimId); }
 
     /**
      * Checks if a player currently has a pending death scheduled.
      */
     public boolean hasPendingDeath(UUID playerId) {
-        return pendingDeathTime.containsKey(playerId);
+        int slot = slotOf(playerId);
+        return slot >= 0 && pendingDeathTime[slot] != NO_PENDING_DEATH;
     }
 
     /**
      * Gets the scheduled pending death time for a player (epoch millis), or null if none.
      */
     public Long getPendingDeathTime(UUID playerId) {
-        return pendingDeathTime.get(playerId);
+        int slot = slotOf(playerId);
+        if (slot < 0 || pendingDeathTime[slot] == NO_PENDING_DEATH) {
+            return null;
+        }
+        return pendingDeathTime[slot];
     }
 
     /**
@@ -368,9 +579,15 @@ public class GameState {
      */
     public Set<UUID> getPendingDeathsDueAt(long epochMillis) {
         Set<UUID> due = new HashSet<>();
-        for (Map.Entry<UUID, Long> e : pendingDeathTime.entrySet()) {
-            if (e.getValue() <= epochMillis) {
-                due.add(e.getKey());
+        // Stop once every pending death has been seen; most rounds have none or one
+        int remaining = pendingDeathCount;
+        for (int slot = 0; slot < slotCount && remaining > 0; slot++) {
+            long deathTime = pendingDeathTime[slot];
+            if (deathTime != NO_PENDING_DEATH) {
+                remaining--;
+                if (deathTime <= epochMillis) {
+                    due.add(slotPlayers[slot]);
+                }
             }
         }
         return due;
@@ -380,27 +597,117 @@ public class GameState {
      * Gets the UUID of the Spark player.
      */
     public UUID getSparkUUID() {
-        return roles.entrySet().stream()
-                .filter(entry -> entry.getValue() == Role.SPARK)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+        return sparkSlot >= 0 ? slotPlayers[sparkSlot] : null;
+    }
+
+    private int findSparkSlot() {
+        byte spark = (byte) (Role.SPARK.ordinal() + 1);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (roles[slot] == spark) {
+                return slot;
+            }
+        }
+        return -1;
     }
 
     /**
      * Counts the number of alive innocents.
      */
     public long countAliveInnocents() {
-        return alivePlayers.stream()
-                .filter(uuid -> roles.get(uuid) == Role.INNOCENT)
-                .count();
+        return aliveRoleCounts[Role.INNOCENT.ordinal()];
+    }
+
+    /**
+     * Gets the number of alive players holding the given role.
+     */
+    public int getAliveRoleCount(Role role) {
+        return role != null ? aliveRoleCounts[role.ordinal()] : 0;
+    }
+
+    /**
+     * Gets the name a player had when they joined this game, or null if they never joined.
+     * Avoids offline-player lookups for players who have since disconnected.
+     */
+    public String getPlayerName(UUID playerId) {
+        int slot = slotOf(playerId);
+        return slot >= 0 ? slotNames[slot] : null;
     }
 
     /**
      * Gets all participating player UUIDs (including eliminated ones).
+     * The returned set is an immutable snapshot.
      */
     public Set<UUID> getAllParticipatingPlayerIds() {
-        return new HashSet<>(allParticipatingPlayers);
+        return snapshot.getParticipantIds();
+    }
+
+    /**
+     * Checks if a player is participating in this game (alive or eliminated). Safe to call from any thread.
+     */
+    public boolean isParticipating(UUID playerId) {
+        return snapshot.isParticipating(playerId);
+    }
+
+    /**
+     * Records the current phase so it is included in published snapshots.
+     * Called by {@link com.ohacd.matchbox.game.phase.PhaseManager} on every transition.
+     */
+    public void setPhase(GamePhase phase) {
+        if (phase != null && this.phase != phase) {
+            this.phase = phase;
+            snapshotChanged();
+        }
+    }
+
+    /**
+     * Gets the latest published snapshot. Safe to call from any thread without locking.
+     */
+    public GameStateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Runs several mutations and publishes one snapshot at the end instead of one per change,
+     * e.g. when assigning roles to a whole lobby. Nested batches publish when the outermost ends.
+     * Snapshot-backed getters keep returning the pre-batch state until then.
+     */
+    public void batch(Runnable mutations) {
+        batchDepth++;
+        try {
+            mutations.run();
+        } finally {
+            if (--batchDepth == 0 && snapshotDirty) {
+                publishSnapshot();
+            }
+        }
+    }
+
+    private void snapshotChanged() {
+        snapshotDirty = true;
+        if (batchDepth == 0) {
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Publishes a new immutable snapshot. Only called from the mutating (main) thread.
+     */
+    private void publishSnapshot() {
+        snapshotDirty = false;
+        Map<UUID, Role> roleView = new HashMap<>(slotCount * 2);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (roles[slot] != 0) {
+                roleView.put(slotPlayers[slot], ROLE_VALUES[roles[slot] - 1]);
+            }
+        }
+        snapshot = new GameStateSnapshot(
+                ++snapshotVersion,
+                phase,
+                currentRound,
+                Set.copyOf(alivePlayers),
+                Set.copyOf(allParticipatingPlayers),
+                Map.copyOf(roleView)
+        );
     }
 
     /**
@@ -421,7 +728,7 @@ public class GameState {
      * Checks if there's an active game.
      */
     public boolean isGameActive() {
-        return !allParticipatingPlayers.isEmpty();
+        return !snapshot.getParticipantIds().isEmpty();
     }
 
     /**
@@ -429,7 +736,7 @@ public class GameState {
      * Returns true if state is valid, false otherwise.
      */
     public boolean validateState() {
-        if (alivePlayers == null || allParticipatingPlayers == null || roles == null) {
+        if (alivePlayers == null || allParticipatingPlayers == null || roles == null || pendingDeathTime == null) {
             return false; // Null collections indicate corruption
         }
         
@@ -444,7 +751,11 @@ public class GameState {
         }
 
         // All players with roles must be in participating players
-        for (UUID playerWithRole : roles.keySet()) {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (roles[slot] == 0) {
+                continue;
+            }
+            UUID playerWithRole = slotPlayers[slot];
             if (playerWithRole == null) {
                 return false; // Null UUIDs indicate corruption
             }
@@ -454,7 +765,7 @@ public class GameState {
         }
 
         // If there are participating players, there must be at least one role assigned
-        if (!allParticipatingPlayers.isEmpty() && roles.isEmpty()) {
+        if (!allParticipatingPlayers.isEmpty() && assignedRoleCount == 0) {
             return false;
         }
 
@@ -471,13 +782,13 @@ public class GameState {
                 activeSessionName != null ? activeSessionName : "none",
                 allParticipatingPlayers.size(),
                 alivePlayers.size(),
-                roles.size(),
-                swipedThisRound.size(),
-                curedThisRound.size(),
-                infectedThisRound.size(),
-                delusionInfectedThisRound.size(),
-                pendingDeathTime.size(),
-                beenCuredThisRound.size()
+                assignedRoleCount,
+                swipedThisRound.cardinality(),
+                curedThisRound.cardinality(),
+                infectedThisRound.cardinality(),
+                delusionInfectedThisRound.cardinality(),
+                pendingDeathCount,
+                beenCuredThisRound.cardinality()
         );
     }
 }
\ No newline at end of file
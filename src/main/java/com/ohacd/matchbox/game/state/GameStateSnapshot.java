@@ -0,0 +1,98 @@
+package com.ohacd.matchbox.game.state;
+
+import com.ohacd.matchbox.game.utils.GamePhase;
+import com.ohacd.matchbox.game.utils.Role;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable view of the shared parts of a {@link GameState} (phase, round, alive players,
+ * participants and roles).
+ * A new snapshot is published by the main thread after every mutation, so readers on other
+ * threads (async chat, API callers, metrics) can use it without locking or copying.
+ */
+public final class GameStateSnapshot {
+    static final GameStateSnapshot EMPTY = new GameStateSnapshot(0L, GamePhase.WAITING, 0, Set.of(), Set.of(), Map.of());
+
+    private final long version;
+    private final GamePhase phase;
+    private final int round;
+    private final Set<UUID> alivePlayers;
+    private final Set<UUID> participants;
+    private final Map<UUID, Role> roles;
+
+    GameStateSnapshot(long version, GamePhase phase, int round, Set<UUID> alivePlayers,
+                      Set<UUID> participants, Map<UUID, Role> roles) {
+        this.version = version;
+        this.phase = phase;
+        this.round = round;
+        this.alivePlayers = alivePlayers;
+        this.participants = participants;
+        this.roles = roles;
+    }
+
+    /**
+     * Gets the version of this snapshot. Versions increase with every publication.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the phase at the time of publication.
+     */
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the round number at the time of publication.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the alive player UUIDs. The returned set is immutable.
+     */
+    public Set<UUID> getAlivePlayerIds() {
+        return alivePlayers;
+    }
+
+    /**
+     * Gets all participating player UUIDs (including eliminated ones). The returned set is immutable.
+     */
+    public Set<UUID> getParticipantIds() {
+        return participants;
+    }
+
+    /**
+     * Gets the assigned roles. The returned map is immutable.
+     */
+    public Map<UUID, Role> getRoles() {
+        return roles;
+    }
+
+    /**
+     * Checks if a player was alive at the time of publication.
+     */
+    public boolean isAlive(UUID playerId) {
+        return playerId != null && alivePlayers.contains(playerId);
+    }
+
+    /**
+     * Checks if a player was participating at the time of publication.
+     */
+    public boolean isParticipating(UUID playerId) {
+        return playerId != null && participants.contains(playerId);
+    }
+
+    /**
+     * Gets the role of a player, or null if none was assigned.
+     */
+    public Role getRole(UUID playerId) {
+        return playerId != null ? roles.get(playerId) : null;
+    }
+}
@@ -4,11 +4,22 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.entity.Player;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Utility helpers for resolving player-facing names with nickname support.
  * Prefers the Bukkit display name while safely falling back to the real name.
+ *
+ * <p>Rendered names are cached per player, as both the legacy string and the component
+ * parsed from it, so chat, holograms, papers and game messages do not re-serialize the
+ * display name each time. {@link com.ohacd.matchbox.game.nick.NickManager} invalidates
+ * an entry whenever it changes that player's nick or display name.</p>
  */
 public final class PlayerNameUtils {
+    private static final Map<UUID, CachedName> CACHE = new ConcurrentHashMap<>();
+
     private PlayerNameUtils() {}
 
     /**
@@ -18,17 +29,58 @@ public final class PlayerNameUtils {
         if (player == null) {
             return "Unknown";
         }
+        return cached(player).legacy();
+    }
+
+    /**
+     * Returns {@link #displayName(Player)} as a component, keeping legacy colour codes in nicks.
+     */
+    public static Component displayNameComponent(Player player) {
+        if (player == null) {
+            return Component.text("Unknown");
+        }
+        return cached(player).component();
+    }
+
+    /**
+     * Drops the cached name for a player so the next lookup renders it again.
+     */
+    public static void invalidate(UUID playerId) {
+        if (playerId != null) {
+            CACHE.remove(playerId);
+        }
+    }
+
+    /**
+     * Drops every cached name.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    private static CachedName cached(Player player) {
+        UUID id = player.getUniqueId();
+        if (id == null) {
+            return render(player);
+        }
+        // Rendering inside computeIfAbsent keeps a concurrent invalidate from being overwritten by a stale name
+        return CACHE.computeIfAbsent(id, key -> render(player));
+    }
+
+    private static CachedName render(Player player) {
         Component displayComponent = player.displayName();
         String display = safeTrim(displayComponent == null ? "" : LegacyComponentSerializer.legacySection().serialize(displayComponent));
-        if (!display.isEmpty()) {
-            return display;
+        if (display.isEmpty()) {
+            String name = safeTrim(player.getName());
+            display = name.isEmpty() ? "Unknown" : name;
         }
-        String name = safeTrim(player.getName());
-        return name.isEmpty() ? "Unknown" : name;
+        return new CachedName(LegacyComponentSerializer.legacySection().deserialize(display), display);
     }
 
     private static String safeTrim(String input) {
         return input == null ? "" : input.trim();
     }
-}
 
+    private record CachedName(Component component, String legacy) {
+    }
+}
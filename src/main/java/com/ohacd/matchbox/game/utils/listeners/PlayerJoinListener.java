@@ -1,6 +1,7 @@
 package com.ohacd.matchbox.game.utils.listeners;
 
 import com.ohacd.matchbox.Matchbox;
+import com.ohacd.matchbox.game.SessionGameContext;
 import com.ohacd.matchbox.game.utils.CheckProjectVersion;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.title.Title;
@@ -31,6 +32,14 @@ public class PlayerJoinListener implements Listener {
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
+        // A returning participant has a new connection, so their session's chat audiences are stale
+        SessionGameContext context = plugin.getGameManager() != null
+            ? plugin.getGameManager().getContextForPlayer(player.getUniqueId())
+            : null;
+        if (context != null) {
+            plugin.getGameManager().invalidateChatAudiences(context.getSessionName());
+        }
+
         boolean joinMessageEnabled = plugin.getConfig().getBoolean("join-message.enabled", false);
 
         if (joinMessageEnabled) {
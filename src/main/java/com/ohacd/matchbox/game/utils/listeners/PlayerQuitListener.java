@@ -7,6 +7,7 @@ import com.ohacd.matchbox.game.session.GameSession;
 import com.ohacd.matchbox.game.session.SessionManager;
 import com.ohacd.matchbox.game.state.GameState;
 import com.ohacd.matchbox.game.utils.Managers.NameTagManager;
+import com.ohacd.matchbox.game.utils.PlayerNameUtils;
 
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -29,6 +30,7 @@ public class PlayerQuitListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
         UUID playerId = player.getUniqueId();
+        PlayerNameUtils.invalidate(playerId);
 
         SessionGameContext context = gameManager.getContextForPlayer(playerId);
         if (context == null) {
@@ -47,6 +49,8 @@ public class PlayerQuitListener implements Listener {
             gameState.removePendingDeath(playerId);
         }
         gameState.removeAlivePlayer(playerId);
+        // Spectators stay participants, so drop the departing connection from the chat audiences
+        gameManager.invalidateChatAudiences(sessionName);
 
         if (!gameState.isGameActive()) {
             return;
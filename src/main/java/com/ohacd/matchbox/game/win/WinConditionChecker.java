@@ -1,6 +1,7 @@
 package com.ohacd.matchbox.game.win;
 
 import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.PlayerNameUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
@@ -18,6 +19,7 @@ public class WinConditionChecker {
 
     /**
      * Gets the spark's player name from UUID.
+     * Falls back to the name cached when the game started, so a disconnected spark never triggers an offline-player lookup.
      */
     private String getSparkName(UUID sparkUUID) {
         if (sparkUUID == null) {
@@ -25,25 +27,18 @@ public class WinConditionChecker {
         }
         Player sparkPlayer = Bukkit.getPlayer(sparkUUID);
         if (sparkPlayer != null && sparkPlayer.isOnline()) {
-            return sparkPlayer.getName();
+            return PlayerNameUtils.displayName(sparkPlayer);
         }
-        // Fallback: use last-known name from offline player data
-        try {
-            org.bukkit.OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(sparkUUID);
-            if (offlinePlayer != null) {
-                String offlineName = offlinePlayer.getName();
-                if (offlineName != null) {
-                    return offlineName;
-                }
-            }
-        } catch (Exception ignored) {
-            // If offline player lookup fails, fall through to UUID string
+        String cachedName = gameState.getPlayerName(sparkUUID);
+        if (cachedName != null) {
+            return cachedName;
         }
         return sparkUUID.toString();
     }
 
     /**
      * Checks if a win condition has been met.
+     * Reads the live role counters kept by {@link GameState}, so this is O(1) regardless of player count.
      * @return WinResult containing the winner type, or null if no win condition met
      */
     public WinResult checkWinConditions() {
@@ -53,24 +48,23 @@ public class WinConditionChecker {
             return null; // No spark assigned, game not ready
         }
 
-        String sparkName = getSparkName(sparkUUID);
         boolean sparkAlive = gameState.isAlive(sparkUUID);
         long aliveInnocents = gameState.countAliveInnocents();
         int aliveCount = gameState.getAlivePlayerCount();
 
         // Condition 1: Spark is dead → Innocents win
         if (!sparkAlive) {
-            return new WinResult(Winner.INNOCENTS, "§aInnocents win! The Spark (" + sparkName + ") has been eliminated.");
+            return new WinResult(Winner.INNOCENTS, "§aInnocents win! The Spark (" + getSparkName(sparkUUID) + ") has been eliminated.");
         }
 
         // Condition 2: No innocents alive → Spark wins
         if (aliveInnocents == 0) {
-            return new WinResult(Winner.SPARK, "§c" + sparkName + " (Spark) wins! All innocents have been eliminated.");
+            return new WinResult(Winner.SPARK, "§c" + getSparkName(sparkUUID) + " (Spark) wins! All innocents have been eliminated.");
         }
 
         // Condition 3: Spark is alone with 1 other player → Spark wins
         if (aliveCount == 2) {
-            return new WinResult(Winner.SPARK, "§c" + sparkName + " (Spark) wins! Only one other player remains.");
+            return new WinResult(Winner.SPARK, "§c" + getSparkName(sparkUUID) + " (Spark) wins! Only one other player remains.");
         }
 
         return null; // No win condition met
@@ -0,0 +1,89 @@
+package com.ohacd.matchbox.game;
+
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionCommandQueueTest {
+
+    private SessionCommandQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        queue = new SessionCommandQueue(plugin, "test-session");
+    }
+
+    @Test
+    @DisplayName("Should run commands inline when the drain check allows it")
+    void shouldRunInlineByDefault() {
+        CompletableFuture<Integer> result = queue.submit(() -> 42);
+
+        assertThat(result).isCompletedWithValue(42);
+        assertThat(queue.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drain queued commands in submission order and respect batch size")
+    void shouldDrainInOrderWithBatchLimit() {
+        queue.setInlineDrainCheck(() -> false);
+        List<Integer> executed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            queue.execute(() -> executed.add(value));
+        }
+
+        assertThat(queue.getPendingCount()).isEqualTo(5);
+        assertThat(queue.drain(3)).isEqualTo(3);
+        assertThat(executed).containsExactly(0, 1, 2);
+        assertThat(queue.drain(10)).isEqualTo(2);
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Should queue commands submitted from a running command behind it")
+    void shouldNotRunNestedCommandsReentrantly() {
+        List<String> executed = new ArrayList<>();
+        queue.execute(() -> {
+            queue.execute(() -> executed.add("nested"));
+            executed.add("outer");
+        });
+
+        assertThat(executed).containsExactly("outer", "nested");
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally when a command throws")
+    void shouldCompleteExceptionallyOnFailure() {
+        CompletableFuture<Object> result = queue.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(queue.submit(() -> "next")).isCompletedWithValue("next");
+    }
+
+    @Test
+    @DisplayName("Should cancel pending commands and reject new ones once closed")
+    void shouldRejectAfterClose() {
+        queue.setInlineDrainCheck(() -> false);
+        CompletableFuture<Void> pending = queue.execute(() -> { });
+
+        queue.close();
+
+        assertThat(pending).isCancelled();
+        assertThat(queue.getPendingCount()).isZero();
+        assertThat(queue.submit(() -> 1)).isCompletedExceptionally();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ohacd.matchbox.game;
+
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.GamePhase;
+import com.ohacd.matchbox.game.utils.Role;
+import com.ohacd.matchbox.utils.FakeGameScheduler;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionContextPoolTest {
+
+    private FakeGameScheduler scheduler;
+    private SessionContextPool pool;
+
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        scheduler = new FakeGameScheduler();
+        pool = new SessionContextPool(plugin, 2);
+    }
+
+    private static Player player(UUID id) {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(id);
+        when(player.isOnline()).thenReturn(true);
+        return player;
+    }
+
+    @Test
+    @DisplayName("Should construct on a miss and reuse released contexts on a hit")
+    void shouldCountHitsAndMisses() {
+        SessionGameContext first = pool.acquire("arena-1", scheduler);
+        assertThat(pool.getMisses()).isEqualTo(1);
+        assertThat(pool.getHits()).isZero();
+
+        first.cleanup();
+        assertThat(pool.release(first)).isTrue();
+        assertThat(pool.release(first)).isFalse();
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        SessionGameContext second = pool.acquire("arena-2", scheduler);
+        assertThat(second).isSameAs(first);
+        assertThat(second.getSessionName()).isEqualTo("arena-2");
+        assertThat(pool.getHits()).isEqualTo(1);
+        assertThat(pool.getIdleCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop contexts released into a full pool")
+    void shouldRespectCapacity() {
+        SessionGameContext a = pool.acquire("a", scheduler);
+        SessionGameContext b = pool.acquire("b", scheduler);
+        SessionGameContext c = pool.acquire("c", scheduler);
+
+        assertThat(pool.release(a)).isTrue();
+        assertThat(pool.release(b)).isTrue();
+        assertThat(pool.release(c)).isFalse();
+        assertThat(pool.getIdleCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reset a used context to the state of a fresh one")
+    void shouldResetToFreshState() {
+        SessionGameContext context = pool.acquire("old-session", scheduler);
+        GameState gameState = context.getGameState();
+        UUID spark = UUID.randomUUID();
+        UUID innocent = UUID.randomUUID();
+        AtomicInteger staleListenerCalls = new AtomicInteger();
+        gameState.setParticipantListener(new GameState.ParticipantListener() {
+            @Override
+            public void onParticipantAdded(UUID playerId) {
+                staleListenerCalls.incrementAndGet();
+            }
+
+            @Override
+            public void onParticipantRemoved(UUID playerId) {
+            }
+        });
+        gameState.addAlivePlayers(List.of(player(spark), player(innocent)));
+        gameState.setRole(spark, Role.SPARK);
+        gameState.markSwiped(spark);
+        context.getPhaseManager().setPhase(GamePhase.VOTING);
+        context.getVoteManager().registerVote(spark, innocent);
+        context.getActiveSwipeWindow().put(spark, Long.MAX_VALUE);
+        context.getExpiryService().schedule(ExpiryService.Kind.SWIPE_WINDOW, spark, 100L, () -> { });
+        context.incrementNoEliminationPhases();
+        context.getCommandQueue().setInlineDrainCheck(() -> false);
+        int callsBeforeReset = staleListenerCalls.get();
+
+        context.cleanup();
+        pool.release(context);
+        SessionGameContext reused = pool.acquire("new-session", scheduler);
+
+        assertThat(reused).isSameAs(context);
+        assertThat(reused.getSessionName()).isEqualTo("new-session");
+        assertThat(reused.getPhaseManager().getCurrentPhase()).isEqualTo(GamePhase.WAITING);
+        assertThat(reused.getGameState().isGameActive()).isFalse();
+        assertThat(reused.getGameState().getSparkUUID()).isNull();
+        assertThat(reused.getGameState().hasSwipedThisRound(spark)).isFalse();
+        assertThat(reused.getVoteManager().getVoters()).isEmpty();
+        assertThat(reused.getActiveSwipeWindow()).isEmpty();
+        assertThat(reused.getExpiryService().getPendingCount()).isZero();
+        assertThat(reused.getConsecutiveNoEliminationPhases()).isZero();
+        assertThat(reused.getCommandQueue().isClosed()).isFalse();
+        assertThat(reused.getCommandQueue().submit(() -> "ran")).isCompletedWithValue("ran");
+
+        // The previous owner's listener must not see the next game's players
+        reused.getGameState().addAlivePlayer(player(UUID.randomUUID()));
+        assertThat(staleListenerCalls.get()).isEqualTo(callsBeforeReset);
+    }
+
+    @Test
+    @DisplayName("Should not run expiries that came due alongside the one that ended the session")
+    void shouldDropExpiriesFiredWithSessionEnd() {
+        SessionGameContext context = pool.acquire("arena", scheduler);
+        AtomicInteger runs = new AtomicInteger();
+        Runnable endSession = () -> {
+            runs.incrementAndGet();
+            context.cleanup();
+        };
+        context.getExpiryService().schedule(ExpiryService.Kind.SWIPE_WINDOW, UUID.randomUUID(), 3L, endSession);
+        context.getExpiryService().schedule(ExpiryService.Kind.CURE_WINDOW, UUID.randomUUID(), 3L, endSession);
+
+        scheduler.advance(5);
+
+        assertThat(runs).hasValue(1);
+        assertThat(context.getExpiryService().getPendingCount()).isZero();
+    }
+}
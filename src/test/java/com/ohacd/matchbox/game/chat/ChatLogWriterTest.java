@@ -0,0 +1,110 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatChannel;
+import com.ohacd.matchbox.api.ChatMessage;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatLogWriterTest {
+
+    @Test
+    @DisplayName("Should write inline until started and drain everything queued on stop")
+    void shouldWriteInlineThenDrainOnStop() {
+        List<ChatLogWriter.Entry> written = new CopyOnWriteArrayList<>();
+        ChatLogWriter writer = new ChatLogWriter(plugin(), written::add);
+
+        assertThat(writer.enqueue(entry("before"))).isTrue();
+        assertThat(written).hasSize(1);
+
+        writer.start(64);
+        for (int i = 0; i < 20; i++) {
+            writer.enqueue(entry("line " + i));
+        }
+        writer.stop();
+
+        assertThat(written).hasSize(21);
+        assertThat(writer.getWrittenCount()).isEqualTo(21);
+        assertThat(writer.getDroppedCount()).isZero();
+        assertThat(writer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop and count lines when the queue is full instead of blocking")
+    void shouldDropWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatLogWriter writer = new ChatLogWriter(plugin(), entry -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        writer.start(2);
+        writer.enqueue(entry("held by the writer"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(writer.enqueue(entry("queued 1"))).isTrue();
+        assertThat(writer.enqueue(entry("queued 2"))).isTrue();
+        assertThat(writer.enqueue(entry("overflow"))).isFalse();
+
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        assertThat(writer.getHighWaterMark()).isEqualTo(2);
+
+        release.countDown();
+        writer.stop();
+        assertThat(writer.getWrittenCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject lines enqueued after stop instead of stranding them in the queue")
+    void shouldRejectEnqueueAfterStop() throws InterruptedException {
+        List<ChatLogWriter.Entry> written = new CopyOnWriteArrayList<>();
+        ChatLogWriter writer = new ChatLogWriter(plugin(), written::add);
+        writer.start(1024);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 500; i++) {
+                writer.enqueue(entry("line " + i));
+            }
+        });
+        producer.start();
+        writer.stop();
+        producer.join(5000L);
+
+        assertThat(writer.enqueue(entry("late"))).isFalse();
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(writer.getWrittenCount()).isEqualTo(writer.getEnqueuedCount());
+        assertThat(writer.getWrittenCount() + writer.getDroppedCount()).isEqualTo(501);
+        assertThat(written).hasSize((int) writer.getWrittenCount());
+    }
+
+    private static Plugin plugin() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        return plugin;
+    }
+
+    private static ChatLogWriter.Entry entry(String text) {
+        Player sender = mock(Player.class);
+        when(sender.getUniqueId()).thenReturn(UUID.randomUUID());
+        ChatMessage message = new ChatMessage(Component.text(text), Component.text(text), sender, ChatChannel.GAME, "s1", true);
+        return new ChatLogWriter.Entry("s1", message, "ALLOW", "test");
+    }
+}
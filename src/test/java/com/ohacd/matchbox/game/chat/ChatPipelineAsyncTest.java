@@ -0,0 +1,170 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.AsyncChatProcessor;
+import com.ohacd.matchbox.api.ChatChannel;
+import com.ohacd.matchbox.api.ChatMessage;
+import com.ohacd.matchbox.api.ChatProcessor;
+import com.ohacd.matchbox.api.ChatProcessorMetrics;
+import com.ohacd.matchbox.api.ChatResult;
+import com.ohacd.matchbox.game.GameManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatPipelineAsyncTest {
+
+    private ChatPipelineManager manager;
+    private ChatMessage message;
+    private final List<String> warnings = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getLevel() == Level.WARNING) {
+                    warnings.add(record.getMessage());
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(logger);
+        manager = new ChatPipelineManager(plugin, mock(GameManager.class));
+
+        Player sender = mock(Player.class);
+        when(sender.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(sender.getName()).thenReturn("Sender");
+        message = new ChatMessage(Component.text("hello"), Component.text("<Sender> hello"),
+            sender, ChatChannel.GAME, "s1", true);
+    }
+
+    private static AsyncChatProcessor processor(long budgetMillis, AsyncChatProcessor.FailurePolicy policy,
+                                                java.util.function.Function<ChatMessage, CompletableFuture<ChatProcessor.ChatProcessingResult>> body) {
+        return new AsyncChatProcessor() {
+            @Override
+            public CompletableFuture<ChatProcessingResult> processAsync(ChatMessage message) {
+                return body.apply(message);
+            }
+
+            @Override
+            public long getTimeBudgetMillis() {
+                return budgetMillis;
+            }
+
+            @Override
+            public FailurePolicy getFailurePolicy() {
+                return policy;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should start independent async processors before waiting on any of them")
+    void shouldRunAsyncProcessorsInParallel() {
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        // The first processor only completes once the second has been started
+        manager.registerProcessor("s1", processor(2_000, null, msg -> CompletableFuture.supplyAsync(() -> {
+            try {
+                secondStarted.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ChatProcessor.ChatProcessingResult.allow(msg);
+        })));
+        manager.registerProcessor("s1", processor(2_000, null, msg -> {
+            secondStarted.countDown();
+            return CompletableFuture.completedFuture(ChatProcessor.ChatProcessingResult.allow(msg));
+        }));
+
+        var result = manager.processMessage("s1", message);
+
+        assertThat(result.result()).isEqualTo(ChatResult.ALLOW);
+        List<ChatProcessorMetrics> metrics = manager.getProcessorMetrics("s1");
+        assertThat(metrics).hasSize(2);
+        assertThat(metrics).allSatisfy(m -> {
+            assertThat(m.getInvocations()).isEqualTo(1);
+            assertThat(m.getTimeouts()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should deny a message when a fail-closed processor misses its budget")
+    void shouldFailClosedOnTimeout() {
+        manager.registerProcessor("s1", processor(20, AsyncChatProcessor.FailurePolicy.FAIL_CLOSED,
+            msg -> new CompletableFuture<>()));
+
+        var result = manager.processMessage("s1", message);
+
+        assertThat(result.result()).isEqualTo(ChatResult.DENY);
+        assertThat(manager.getProcessorMetrics("s1").get(0).getTimeouts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let a message through when a fail-open processor fails")
+    void shouldFailOpenOnError() {
+        manager.registerProcessor("s1", processor(20, AsyncChatProcessor.FailurePolicy.FAIL_OPEN,
+            msg -> CompletableFuture.failedFuture(new IllegalStateException("moderation service down"))));
+
+        var result = manager.processMessage("s1", message);
+
+        assertThat(result.result()).isNotEqualTo(ChatResult.DENY);
+        assertThat(manager.getProcessorMetrics("s1").get(0).getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the last edit in an async group and warn once that an earlier edit was replaced")
+    void shouldWarnWhenAsyncEditsConflict() {
+        manager.registerProcessor("s1", processor(2_000, null, msg -> CompletableFuture.completedFuture(
+            ChatProcessor.ChatProcessingResult.allowModified(msg.withFormattedMessage(Component.text("first"))))));
+        manager.registerProcessor("s1", processor(2_000, null, msg -> CompletableFuture.completedFuture(
+            ChatProcessor.ChatProcessingResult.allowModified(msg.withFormattedMessage(Component.text("second"))))));
+
+        var first = manager.processMessage("s1", message);
+        manager.processMessage("s1", message);
+
+        assertThat(first.message().formattedMessage()).isEqualTo(Component.text("second"));
+        assertThat(warnings).hasSize(1);
+        assertThat(warnings.get(0)).contains("session 's1'", "both modified the same message");
+    }
+
+    @Test
+    @DisplayName("Should apply the budget and failure policy when an async processor is called directly")
+    void shouldBoundBlockingProcess() {
+        AsyncChatProcessor processor = processor(20, AsyncChatProcessor.FailurePolicy.FAIL_CLOSED,
+            msg -> new CompletableFuture<>());
+
+        long start = System.nanoTime();
+        var result = processor.process(message);
+
+        assertThat(result.result()).isEqualTo(ChatResult.DENY);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+    }
+}
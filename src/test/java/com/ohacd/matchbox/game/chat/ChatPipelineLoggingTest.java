@@ -11,10 +11,12 @@ import org.bukkit.plugin.Plugin;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.UUID;
 import java.util.logging.Logger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -49,6 +51,8 @@ class ChatPipelineLoggingTest {
         var result = manager.processMessage("s1", message);
 
         assertThat(result.result()).isEqualTo(ChatResult.DENY);
-        verify(gameManager).logChatMessage(anyString(), org.mockito.ArgumentMatchers.eq(senderId), org.mockito.ArgumentMatchers.eq("Sender"), org.mockito.ArgumentMatchers.eq("GAME"), anyString());
+        assertThat(manager.getRoutedCount(ChatChannel.GAME, ChatResult.DENY)).isEqualTo(1);
+        assertThat(manager.getRoutedCount(ChatChannel.GAME, ChatResult.ALLOW)).isZero();
+        verify(gameManager).logChatMessage(anyString(), org.mockito.ArgumentMatchers.eq(senderId), org.mockito.ArgumentMatchers.eq("Sender"), org.mockito.ArgumentMatchers.eq("GAME"), anyString(), any(Instant.class));
     }
 }
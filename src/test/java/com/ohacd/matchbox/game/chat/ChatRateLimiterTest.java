@@ -0,0 +1,66 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Should allow a burst, throttle once, then drop until the bucket refills")
+    void shouldThrottleThenDrop() {
+        AtomicLong clock = new AtomicLong(42L);
+        ChatRateLimiter limiter = new ChatRateLimiter(new ChatRateLimiter.Limit(1.0, 3), ChatRateLimiter.Limit.UNLIMITED, clock::get);
+        UUID player = UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(player, ChatChannel.GAME)).isEqualTo(ChatRateLimiter.Admission.ALLOWED);
+        }
+        assertThat(limiter.tryAcquire(player, ChatChannel.GAME)).isEqualTo(ChatRateLimiter.Admission.THROTTLED);
+        assertThat(limiter.tryAcquire(player, ChatChannel.GAME)).isEqualTo(ChatRateLimiter.Admission.DROPPED);
+
+        clock.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire(player, ChatChannel.GAME)).isEqualTo(ChatRateLimiter.Admission.ALLOWED);
+        assertThat(limiter.tryAcquire(player, ChatChannel.GAME)).isEqualTo(ChatRateLimiter.Admission.THROTTLED);
+
+        // Other channels and players have their own buckets
+        assertThat(limiter.tryAcquire(player, ChatChannel.SPECTATOR)).isEqualTo(ChatRateLimiter.Admission.ALLOWED);
+        assertThat(limiter.tryAcquire(UUID.randomUUID(), ChatChannel.GAME)).isEqualTo(ChatRateLimiter.Admission.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the burst when many threads race for one bucket")
+    void shouldNotOverAdmitUnderContention() throws InterruptedException {
+        ChatRateLimiter limiter = new ChatRateLimiter(new ChatRateLimiter.Limit(1.0, 10), ChatRateLimiter.Limit.UNLIMITED, () -> 0L);
+        UUID player = UUID.randomUUID();
+        AtomicInteger allowed = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire(player, ChatChannel.GAME) == ChatRateLimiter.Admission.ALLOWED) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(allowed.get()).isEqualTo(10);
+    }
+}
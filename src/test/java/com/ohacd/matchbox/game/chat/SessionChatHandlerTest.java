@@ -0,0 +1,98 @@
+package com.ohacd.matchbox.game.chat;
+
+import com.ohacd.matchbox.api.ChatChannel;
+import com.ohacd.matchbox.api.ChatMessage;
+import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.utils.MockBukkitFactory;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionChatHandlerTest {
+
+    private static final String SESSION = "audience-test";
+
+    private List<Player> players;
+    private GameState gameState;
+    private SessionChatHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitFactory.setUpBukkitMocks();
+        players = MockBukkitFactory.createMockPlayers(3);
+        players.forEach(MockBukkitFactory::registerMockPlayer);
+
+        gameState = new GameState();
+        gameState.addAlivePlayers(players);
+
+        SessionGameContext context = mock(SessionGameContext.class);
+        when(context.getGameState()).thenReturn(gameState);
+        GameManager gameManager = mock(GameManager.class);
+        when(gameManager.getContext(SESSION)).thenReturn(context);
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+
+        handler = new SessionChatHandler(SESSION, gameManager, plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitFactory.tearDownBukkitMocks();
+    }
+
+    private ChatMessage message(ChatChannel channel, Component text) {
+        return new ChatMessage(text, text, players.get(0), channel, SESSION, true);
+    }
+
+    @Test
+    @DisplayName("Should resolve recipients once and reuse the game audience")
+    void shouldReuseAudienceBetweenMessages() {
+        Component first = Component.text("first");
+        Component second = Component.text("second");
+
+        handler.deliverMessage(message(ChatChannel.GAME, first));
+        handler.deliverMessage(message(ChatChannel.GAME, second));
+
+        for (Player player : players) {
+            verify(player).sendMessage(first);
+            verify(player).sendMessage(second);
+        }
+        verify(Bukkit.getServer(), times(players.size())).getPlayer(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the spectator audience after an elimination")
+    void shouldRebuildAfterElimination() {
+        Component before = Component.text("before");
+        Component after = Component.text("after");
+        Player eliminated = players.get(1);
+
+        handler.deliverMessage(message(ChatChannel.SPECTATOR, before));
+        gameState.removeAlivePlayer(eliminated.getUniqueId());
+        handler.invalidateAudiences();
+        handler.deliverMessage(message(ChatChannel.SPECTATOR, after));
+
+        verify(eliminated, never()).sendMessage(before);
+        verify(eliminated).sendMessage(after);
+        verify(players.get(0), never()).sendMessage(after);
+        verify(players.get(2), never()).sendMessage(after);
+    }
+}
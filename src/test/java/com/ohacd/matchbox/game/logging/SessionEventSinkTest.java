@@ -0,0 +1,159 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionEventSinkTest {
+
+    @Test
+    @DisplayName("Should keep excluded categories off the console and sample the rest")
+    void shouldFilterAndSampleConsoleEcho() {
+        List<String> console = new CopyOnWriteArrayList<>();
+        SessionEventSink sink = new SessionEventSink(plugin(console), null, SessionEventSink.DEFAULT_MAX_FILE_BYTES, 0,
+            new SessionEventSink.ConsoleFilter(true, Set.of("CHAT", "SIGN"), 1, Map.of("VOTE", 3)));
+
+        for (int i = 0; i < 6; i++) {
+            sink.submit(entry("arena", "CHAT", "hello " + i));
+            sink.submit(entry("arena", "VOTE", "vote " + i));
+        }
+        sink.submit(entry("arena", "SIGN", "line one"));
+        sink.submit(entry("arena", "PHASE", "Swipe phase started"));
+
+        assertThat(console).containsExactly(
+            "[session=arena] [VOTE] vote 0",
+            "[session=arena] [VOTE] vote 3",
+            "[session=arena] [PHASE] Swipe phase started"
+        );
+        assertThat(sink.getEchoedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should write every category to the session file from the background writer and rotate by size")
+    void shouldWriteAndRotateSessionFiles(@TempDir Path tempDir) throws IOException {
+        List<String> console = new CopyOnWriteArrayList<>();
+        File directory = tempDir.resolve("session-events").toFile();
+        SessionEventSink sink = new SessionEventSink(plugin(console), directory, 1024L, 2, SessionEventSink.ConsoleFilter.disabled());
+
+        sink.start(1024);
+        sink.openSession("long arena");
+        for (int i = 0; i < 100; i++) {
+            sink.submit(entry("long arena", i % 2 == 0 ? "CHAT" : "SIGN", "message number " + i));
+        }
+        sink.stop();
+
+        assertThat(console).isEmpty();
+        assertThat(sink.getWrittenCount()).isEqualTo(100);
+        assertThat(sink.getDroppedCount()).isZero();
+
+        File current = new File(directory, "long_arena.log");
+        assertThat(current).exists();
+        assertThat(new File(directory, "long_arena.log.1")).exists();
+        assertThat(new File(directory, "long_arena.log.2")).exists();
+        assertThat(new File(directory, "long_arena.log.3")).doesNotExist();
+        assertThat(current.length()).isLessThanOrEqualTo(1024L);
+
+        List<String> lines = Files.readAllLines(current.toPath(), StandardCharsets.UTF_8);
+        assertThat(lines.get(lines.size() - 1)).endsWith("[SIGN] message number 99");
+    }
+
+    @Test
+    @DisplayName("Should close a session file after the entries queued before it and never reopen it")
+    void shouldCloseSessionFileInQueueOrder(@TempDir Path tempDir) throws IOException {
+        List<String> console = new CopyOnWriteArrayList<>();
+        File directory = tempDir.resolve("session-events").toFile();
+        SessionEventSink sink = new SessionEventSink(plugin(console), directory, SessionEventSink.DEFAULT_MAX_FILE_BYTES, 0,
+            SessionEventSink.ConsoleFilter.disabled());
+
+        sink.start(1024);
+        sink.openSession("arena");
+        for (int i = 0; i < 50; i++) {
+            sink.submit(entry("arena", "CHAT", "message " + i));
+        }
+        sink.closeSession("arena");
+        sink.submit(entry("arena", "CHAT", "late message"));
+        sink.submit(entry("never-opened", "CHAT", "stray message"));
+        sink.stop();
+
+        assertThat(sink.getWrittenCount()).isEqualTo(50);
+        List<String> lines = Files.readAllLines(new File(directory, "arena.log").toPath(), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(50);
+        assertThat(lines.get(49)).endsWith("[CHAT] message 49");
+        assertThat(new File(directory, "never-opened.log")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should delete the files of ended sessions by age and count but keep open sessions")
+    void shouldPruneEndedSessionFiles(@TempDir Path tempDir) throws IOException {
+        File directory = tempDir.resolve("session-events").toFile();
+        assertThat(directory.mkdirs()).isTrue();
+        long tenDaysAgo = System.currentTimeMillis() - Duration.ofDays(10).toMillis();
+        for (String name : List.of("stale.log", "stale.log.1", "recent.log")) {
+            File file = new File(directory, name);
+            Files.writeString(file.toPath(), "old game\n");
+            assertThat(file.setLastModified(name.startsWith("stale") ? tenDaysAgo : System.currentTimeMillis() - 60_000L)).isTrue();
+        }
+
+        SessionEventSink sink = new SessionEventSink(plugin(new CopyOnWriteArrayList<>()), directory,
+            SessionEventSink.DEFAULT_MAX_FILE_BYTES, 0, 2, Duration.ofDays(7), SessionEventSink.ConsoleFilter.disabled());
+        assertThat(directory.list()).containsExactly("recent.log");
+
+        sink.start(1024);
+        sink.openSession("arena-1");
+        sink.submit(entry("arena-1", "CHAT", "first game"));
+        sink.openSession("arena-2");
+        sink.submit(entry("arena-2", "CHAT", "second game"));
+        sink.closeSession("arena-1");
+        sink.stop();
+
+        // arena-2 is still open, so it is kept even though only two sessions fit
+        assertThat(directory.list()).containsExactlyInAnyOrder("arena-1.log", "arena-2.log");
+    }
+
+    private static GameLogEntry entry(String session, String category, String message) {
+        return new GameLogEntry(Instant.now(), session, category, message, null, null, Map.of());
+    }
+
+    private static Plugin plugin(List<String> console) {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                console.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(logger);
+        return plugin;
+    }
+}
@@ -1,12 +1,20 @@
 package com.ohacd.matchbox.game.logging;
 
+import com.ohacd.matchbox.api.GameLogEntry;
 import com.ohacd.matchbox.api.GameSessionLog;
 import com.ohacd.matchbox.api.GameStatistics;
 import org.bukkit.plugin.Plugin;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.logging.Logger;
 
@@ -16,11 +24,12 @@ import static org.mockito.Mockito.when;
 
 class SessionFlowLoggerTest {
 
+    private Plugin plugin;
     private SessionFlowLogger logger;
 
     @BeforeEach
     void setUp() {
-        Plugin plugin = mock(Plugin.class);
+        plugin = mock(Plugin.class);
         when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
         logger = new SessionFlowLogger(plugin);
     }
@@ -31,6 +40,7 @@ class SessionFlowLoggerTest {
         String session = "logger-session";
         UUID playerId = UUID.randomUUID();
 
+        logger.openSession(session);
         logger.recordChat(session, playerId, "PlayerA", "GAME", "hello world");
         logger.recordSignMessage(session, playerId, "PlayerA", "line one | line two");
 
@@ -61,5 +71,275 @@ class SessionFlowLoggerTest {
         assertThat(stats.getStats(medic).cures()).isEqualTo(1);
         assertThat(stats.getStats(target).votesReceived()).isEqualTo(1);
         assertThat(stats.getStats(target).eliminations()).isEqualTo(1);
+
+        logger.recordVote("other-session", target, spark, "Target", "Spark");
+        assertThat(logger.getTotalVotes()).isEqualTo(2);
+        assertThat(logger.getTotalSwipes()).isEqualTo(1);
+        assertThat(logger.getTotalCures()).isEqualTo(1);
+        assertThat(logger.getTotalEliminations()).isEqualTo(1);
+        assertThat(logger.getTotalRounds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should start a reused session's statistics from zero but keep the server-wide totals")
+    void shouldResetStatsWhenSessionIsReused() {
+        String session = "reused-session";
+        UUID spark = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        logger.openSession(session);
+        logger.incrementRound(session);
+        logger.recordVote(session, spark, target, "Spark", "Target");
+        logger.closeSession(session);
+
+        GameStatistics ended = logger.getSessionStatistics(session);
+        assertThat(ended.getRoundsPlayed()).isEqualTo(1);
+        assertThat(ended.getStats(spark).votesCast()).isEqualTo(1);
+
+        logger.openSession(session);
+        assertThat(logger.getSessionStatistics(session).getPerPlayer()).isEmpty();
+        logger.incrementRound(session);
+        logger.recordSwipe(session, spark, target, "Spark", "Target");
+
+        GameStatistics next = logger.getSessionStatistics(session);
+        assertThat(next.getRoundsPlayed()).isEqualTo(1);
+        assertThat(next.getStats(spark).votesCast()).isZero();
+        assertThat(next.getStats(spark).swipes()).isEqualTo(1);
+        assertThat(logger.getTotalVotes()).isEqualTo(1);
+        assertThat(logger.getTotalRounds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count every stat update made concurrently and keep snapshots fixed")
+    void shouldCountConcurrentStatUpdates() throws InterruptedException {
+        String session = "busy-session";
+        UUID sender = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        GameStatistics before = logger.getSessionStatistics(session);
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    logger.recordChatRateLimited(session, sender, i % 5 == 0);
+                    logger.recordVote(session, sender, target, "Sender", "Target");
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        GameStatistics stats = logger.getSessionStatistics(session);
+        assertThat(stats.getStats(sender).chatsDropped()).isEqualTo(2000);
+        assertThat(stats.getStats(sender).chatsThrottled()).isEqualTo(400);
+        assertThat(stats.getStats(sender).votesCast()).isEqualTo(2000);
+        assertThat(stats.getStats(target).votesReceived()).isEqualTo(2000);
+        assertThat(before.getPerPlayer()).isEmpty();
+
+        logger.recordVote(session, sender, target, "Sender", "Target");
+        assertThat(stats.getStats(sender).votesCast()).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("Should page spilled entries back from disk in timeline order")
+    void shouldPageSpilledEntriesBackFromDisk(@TempDir Path tempDir) {
+        File spillDirectory = tempDir.resolve("session-logs").toFile();
+        SessionFlowLogger spillingLogger = new SessionFlowLogger(plugin, 16, spillDirectory);
+        String session = "long-arena";
+        UUID actor = UUID.randomUUID();
+
+        spillingLogger.openSession(session);
+        for (int i = 0; i < 1000; i++) {
+            spillingLogger.record(session, "ROUND", "entry " + i, actor, null, Map.of("index", String.valueOf(i)));
+        }
+
+        GameSessionLog snapshot = spillingLogger.getSessionLog(session);
+        assertThat(snapshot.size()).isEqualTo(1000);
+        assertThat(spillDirectory.listFiles()).hasSize(1);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(snapshot.getEntries().get(i).message()).isEqualTo("entry " + i);
+        }
+        assertThat(snapshot.getEntries().get(3).actorId()).isEqualTo(actor);
+        assertThat(snapshot.getEntries().get(3).attributes()).containsEntry("index", "3");
+
+        spillingLogger.close();
+        spillingLogger.record(session, "ROUND", "after close", null, null, null);
+        assertThat(snapshot.getEntries().get(0).message()).isEqualTo("entry 0");
+        GameSessionLog ended = spillingLogger.getSessionLog(session);
+        assertThat(ended.size()).isEqualTo(1000);
+        assertThat(ended.getEntries().get(999).message()).isEqualTo("entry 999");
+    }
+
+    @Test
+    @DisplayName("Should keep ended sessions readable from their spill files until retention deletes them")
+    void shouldKeepEndedSessionsUntilSpillFilesArePruned(@TempDir Path tempDir) {
+        File spillDirectory = tempDir.resolve("session-logs").toFile();
+        SessionFlowLogger spillingLogger = new SessionFlowLogger(plugin, 16, spillDirectory, 2, Duration.ZERO,
+            new SessionEventSink(plugin, null, SessionEventSink.DEFAULT_MAX_FILE_BYTES, 0, SessionEventSink.ConsoleFilter.disabled()));
+
+        for (int game = 0; game < 4; game++) {
+            String session = "arena-" + game;
+            spillingLogger.openSession(session);
+            for (int i = 0; i < 100; i++) {
+                spillingLogger.record(session, "ROUND", "entry " + i, null, null, null);
+            }
+            File[] files = spillDirectory.listFiles();
+            // Make every new spill file strictly newer than the previous ones
+            for (File file : files) {
+                file.setLastModified(file.lastModified() - 10_000L);
+            }
+            spillingLogger.closeSession(session);
+            assertThat(spillingLogger.getSessionLog(session).size()).isEqualTo(100);
+        }
+
+        assertThat(spillDirectory.listFiles()).hasSize(2)
+            .allSatisfy(file -> assertThat(file.getName()).matches("arena-[23]-.*\\.mblog"));
+        assertThat(spillingLogger.getSessionLog("arena-0").size()).isZero();
+        GameSessionLog last = spillingLogger.getSessionLog("arena-3");
+        assertThat(last.getEntries().get(0).message()).isEqualTo("entry 0");
+        assertThat(last.getEntries().get(99).message()).isEqualTo("entry 99");
+    }
+
+    @Test
+    @DisplayName("Should export every entry of ended games and skip sessions still recording")
+    void shouldExportEndedGames(@TempDir Path tempDir) throws Exception {
+        File spillDirectory = tempDir.resolve("session-logs").toFile();
+        SessionFlowLogger spillingLogger = new SessionFlowLogger(plugin, 16, spillDirectory);
+        for (String session : List.of("arena", "arena-2", "running")) {
+            spillingLogger.openSession(session);
+            for (int i = 0; i < 40; i++) {
+                spillingLogger.record(session, "ROUND", "entry " + i, null, null, null);
+            }
+        }
+        spillingLogger.closeSession("arena");
+        spillingLogger.closeSession("arena-2");
+
+        Path exported = tempDir.resolve("export");
+        assertThat(spillingLogger.exportSessionLogs("arena", exported)).isEqualTo(1);
+        File[] files = exported.toFile().listFiles();
+        assertThat(files).hasSize(1);
+        List<String> lines = Files.readAllLines(files[0].toPath());
+        assertThat(lines).hasSize(40);
+        assertThat(lines.get(39)).contains("\"session\":\"arena\"", "\"message\":\"entry 39\"");
+
+        assertThat(spillingLogger.exportSessionLogs(null, tempDir.resolve("all"))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should only log a session between open and close")
+    void shouldOnlyLogOpenSessions(@TempDir Path tempDir) throws Exception {
+        File eventDirectory = tempDir.resolve("session-events").toFile();
+        SessionEventSink sink = new SessionEventSink(plugin, eventDirectory, SessionEventSink.DEFAULT_MAX_FILE_BYTES, 0,
+            SessionEventSink.ConsoleFilter.disabled());
+        SessionFlowLogger lifecycleLogger = new SessionFlowLogger(plugin, 16, null, sink);
+        lifecycleLogger.startEventSink(64);
+        String session = "lifecycle";
+
+        lifecycleLogger.record(session, "SESSION", "before open", null, null, null);
+        lifecycleLogger.openSession(session);
+        lifecycleLogger.record(session, "SESSION", "Game start requested", null, null, null);
+        lifecycleLogger.record(session, "SESSION", "Session ended successfully", null, null, null);
+        assertThat(lifecycleLogger.getSessionLog(session).size()).isEqualTo(2);
+
+        lifecycleLogger.closeSession(session);
+        lifecycleLogger.record(session, "CHAT", "late chat", null, null, null);
+        lifecycleLogger.close();
+
+        // The ended session stays readable, without the entries recorded outside it
+        assertThat(lifecycleLogger.getSessionLog(session).getEntries())
+            .extracting(entry -> entry.message())
+            .containsExactly("Game start requested", "Session ended successfully");
+        List<String> lines = Files.readAllLines(new File(eventDirectory, "lifecycle.log").toPath());
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).endsWith("[SESSION] Session ended successfully");
+        assertThat(sink.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent entries when spilling is disabled")
+    void shouldKeepMostRecentEntriesWithoutSpillDirectory() {
+        SessionFlowLogger boundedLogger = new SessionFlowLogger(plugin, 16, null);
+        boundedLogger.openSession("bounded");
+        for (int i = 0; i < 100; i++) {
+            boundedLogger.record("bounded", "ROUND", "entry " + i, null, null, null);
+        }
+
+        List<String> messages = boundedLogger.getSessionLog("bounded").getEntries().stream()
+            .map(entry -> entry.message())
+            .toList();
+        assertThat(messages).hasSize(16).first().isEqualTo("entry 84");
+        assertThat(messages).last().isEqualTo("entry 99");
+    }
+
+    @Test
+    @DisplayName("Should answer indexed queries across spilled and in-memory entries")
+    void shouldAnswerIndexedQueries(@TempDir Path tempDir) {
+        SessionFlowLogger spillingLogger = new SessionFlowLogger(plugin, 16, tempDir.toFile());
+        String session = "query-session";
+        UUID voter = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        spillingLogger.openSession(session);
+        for (int game = 0; game < 2; game++) {
+            spillingLogger.record(session, "SESSION", "Game start requested", null, null, null);
+            for (int round = 1; round <= 3; round++) {
+                spillingLogger.record(session, "ROUND", "Round " + round + " started", null, null, Map.of("round", String.valueOf(round)));
+                for (int i = 0; i < 20; i++) {
+                    spillingLogger.recordChat(session, voter, "Voter", "GAME", "chat " + i);
+                }
+                spillingLogger.recordVote(session, voter, target, "Voter", "Target");
+            }
+            spillingLogger.recordElimination(session, target, "Target");
+        }
+
+        GameSessionLog log = spillingLogger.getSessionLog(session);
+        assertThat(log.query().category("VOTE").actor(voter).stream().count()).isEqualTo(6);
+        // No round was started through incrementRound, so only entries naming their round match
+        assertThat(log.query().category("VOTE").round(3).stream().count()).isZero();
+        assertThat(log.query().round(3).stream().map(entry -> entry.message()).toList())
+            .containsExactly("Round 3 started", "Round 3 started");
+        assertThat(log.query().round(3).stream().toList())
+            .isEqualTo(new GameSessionLog(session, log.getEntries()).query().round(3).stream().toList());
+        assertThat(log.query().category("ELIMINATION", "ROUND").stream().map(entry -> entry.category()).toList())
+            .containsExactly("ROUND", "ROUND", "ROUND", "ELIMINATION", "ROUND", "ROUND", "ROUND", "ELIMINATION");
+        assertThat(log.query().target(target).round(0).stream().count()).isEqualTo(0);
+
+        GameLogEntry first = log.getEntries().get(0);
+        GameLogEntry tenth = log.getEntries().get(10);
+        assertThat(log.query().between(first.timestamp(), tenth.timestamp().plusNanos(1)).stream().count())
+            .isEqualTo(log.getEntries().stream().filter(entry -> !entry.timestamp().isAfter(tenth.timestamp())).count());
+        assertThat(log.query().stream().count()).isEqualTo(log.size());
+    }
+
+    @Test
+    @DisplayName("Should stamp the current round on every entry so actions can be queried by round")
+    void shouldQueryEliminationsByRound() {
+        String session = "round-session";
+        UUID voter = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+
+        logger.openSession(session);
+        logger.record(session, "SESSION", "Game start requested", null, null, null);
+        for (int round = 1; round <= 4; round++) {
+            logger.incrementRound(session);
+            logger.recordChat(session, voter, "Voter", "GAME", "chat in round " + round);
+            logger.recordVote(session, voter, target, "Voter", "Target");
+            if (round == 3) {
+                logger.recordElimination(session, target, "Target");
+            }
+        }
+
+        GameSessionLog log = logger.getSessionLog(session);
+        assertThat(log.query().category("ELIMINATION").round(3).stream().map(entry -> entry.message()).toList())
+            .containsExactly("Target eliminated");
+        assertThat(log.query().category("ELIMINATION").round(2).stream().count()).isZero();
+        assertThat(log.query().category("VOTE").round(4).stream().count()).isEqualTo(1);
+        assertThat(log.query().category("CHAT").round(2).stream().findFirst().orElseThrow().attributes())
+            .containsEntry("channel", "GAME")
+            .containsEntry("round", "2");
+        // Entries from before the first round carry no round
+        assertThat(log.getEntries().get(0).attributes()).doesNotContainKey("round");
     }
 }
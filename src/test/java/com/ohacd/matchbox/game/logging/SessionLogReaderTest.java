@@ -0,0 +1,83 @@
+package com.ohacd.matchbox.game.logging;
+
+import com.ohacd.matchbox.api.GameLogEntry;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionLogReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SessionLogSpill spill;
+
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        spill = new SessionLogSpill(plugin, "arena", tempDir.toFile());
+    }
+
+    @Test
+    @DisplayName("Should read back entries written in the binary format and stop at a cut-off record")
+    void shouldRoundTripEntriesAndTolerateTruncation() throws IOException {
+        UUID actor = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        Instant timestamp = Instant.ofEpochSecond(1_700_000_000L, 123_456_789L);
+        for (int i = 0; i < 3; i++) {
+            spill.append(i, new GameLogEntry(timestamp.plusNanos(i), "arena", "VOTE", "vote " + i, actor, i == 0 ? null : target,
+                Map.of("round", "2")));
+        }
+        spill.close();
+
+        File file = spill.getFile();
+        List<GameLogEntry> entries = SessionLogReader.open(file.toPath()).entries().toList();
+        assertThat(entries).hasSize(3);
+        assertThat(entries.get(0).timestamp()).isEqualTo(timestamp);
+        assertThat(entries.get(0).targetId()).isNull();
+        assertThat(entries.get(2).actorId()).isEqualTo(actor);
+        assertThat(entries.get(2).targetId()).isEqualTo(target);
+        assertThat(entries.get(2).attributes()).containsEntry("round", "2");
+        assertThat(entries.get(2).sessionName()).isEqualTo("arena");
+        assertThat(spill.readPage(0)).isEqualTo(entries);
+
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.setLength(raw.length() - 3);
+        }
+        assertThat(SessionLogReader.open(file.toPath()).entries().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should export session logs as one JSON object per line")
+    void shouldExportJsonLines() throws IOException {
+        spill.append(0, new GameLogEntry(Instant.EPOCH, "arena", "CHAT", "say \"hi\"\n", null, null, Map.of()));
+        spill.close();
+
+        StringWriter out = new StringWriter();
+        assertThat(SessionLogExporter.exportJsonl(spill.getFile().toPath(), out)).isEqualTo(1);
+        assertThat(out.toString()).isEqualTo("{\"timestamp\":\"1970-01-01T00:00:00Z\",\"session\":\"arena\",\"category\":\"CHAT\","
+            + "\"message\":\"say \\\"hi\\\"\\n\",\"actor\":null,\"target\":null,\"attributes\":{}}\n");
+
+        Path exported = tempDir.resolve("export");
+        assertThat(SessionLogExporter.exportDirectory(tempDir, exported)).isEqualTo(1);
+        assertThat(exported.toFile().listFiles()).hasSize(1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ohacd.matchbox.game.metrics;
+
+import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.phase.PhaseManager;
+import com.ohacd.matchbox.game.profiling.LatencyMetrics;
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.GamePhase;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsExporterTest {
+
+    @Test
+    @DisplayName("Should export sampled sessions per phase and latency summaries")
+    void shouldExportSampledGaugesAndLatencies() {
+        GameManager gameManager = mock(GameManager.class);
+        LatencyMetrics latencyMetrics = new LatencyMetrics();
+        latencyMetrics.record("arena", LatencyMetrics.Operation.END_SWIPE, 2_000_000L);
+        when(gameManager.getLatencyMetrics()).thenReturn(latencyMetrics);
+        when(gameManager.getActiveContexts()).thenReturn(List.of(
+            context(GamePhase.SWIPE, 5),
+            context(GamePhase.SWIPE, 3),
+            context(GamePhase.VOTING, 4)
+        ));
+
+        MetricsExporter exporter = new MetricsExporter(gameManager, null);
+        assertThat(exporter.scrape()).contains("matchbox_sessions_active 0\n");
+
+        exporter.sample();
+        String body = exporter.scrape();
+
+        assertThat(body).contains("# TYPE matchbox_sessions_active gauge\n");
+        assertThat(body).contains("matchbox_sessions_active 3\n");
+        assertThat(body).contains("matchbox_sessions{phase=\"SWIPE\"} 2\n");
+        assertThat(body).contains("matchbox_players_alive{phase=\"SWIPE\"} 8\n");
+        assertThat(body).contains("matchbox_players_alive{phase=\"VOTING\"} 4\n");
+        assertThat(body).contains("# TYPE matchbox_latency_seconds summary\n");
+        assertThat(body).contains("matchbox_latency_seconds_count{operation=\"phase.end-swipe\"} 1\n");
+        assertThat(body).contains("matchbox_latency_max_seconds{operation=\"phase.end-swipe\"} 0.002\n");
+    }
+
+    @Test
+    @DisplayName("Should escape label values")
+    void shouldEscapeLabelValues() {
+        String body = new PrometheusWriter()
+            .sample("matchbox_test", 1L, "name", "a\"b\\c\nd")
+            .toString();
+
+        assertThat(body).isEqualTo("matchbox_test{name=\"a\\\"b\\\\c\\nd\"} 1\n");
+    }
+
+    @Test
+    @DisplayName("Should serve metrics over HTTP on localhost only at the metrics path")
+    void shouldServeMetricsOnLoopback() throws Exception {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        GameManager gameManager = mock(GameManager.class);
+        when(gameManager.getLatencyMetrics()).thenReturn(new LatencyMetrics());
+        MetricsEndpoint endpoint = new MetricsEndpoint(plugin, new MetricsExporter(gameManager, null));
+
+        assertThat(endpoint.start(0)).isTrue();
+        try {
+            InetSocketAddress address = endpoint.getAddress();
+            assertThat(address.getAddress().isLoopbackAddress()).isTrue();
+
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://127.0.0.1:" + address.getPort();
+            HttpResponse<String> metrics = client.send(
+                HttpRequest.newBuilder(URI.create(base + MetricsEndpoint.PATH)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertThat(metrics.statusCode()).isEqualTo(200);
+            assertThat(metrics.headers().firstValue("Content-Type")).hasValue(PrometheusWriter.CONTENT_TYPE);
+            assertThat(metrics.body()).contains("matchbox_sessions_active 0");
+
+            HttpResponse<String> missing = client.send(
+                HttpRequest.newBuilder(URI.create(base + "/other")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            assertThat(missing.statusCode()).isEqualTo(404);
+        } finally {
+            endpoint.stop();
+        }
+        assertThat(endpoint.isRunning()).isFalse();
+    }
+
+    private static SessionGameContext context(GamePhase phase, int alivePlayers) {
+        SessionGameContext context = mock(SessionGameContext.class);
+        PhaseManager phaseManager = mock(PhaseManager.class);
+        GameState gameState = mock(GameState.class);
+        when(phaseManager.getCurrentPhase()).thenReturn(phase);
+        when(gameState.getAlivePlayerCount()).thenReturn(alivePlayers);
+        when(context.getPhaseManager()).thenReturn(phaseManager);
+        when(context.getGameState()).thenReturn(gameState);
+        return context;
+    }
+}
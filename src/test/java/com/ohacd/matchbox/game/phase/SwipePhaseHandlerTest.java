@@ -0,0 +1,77 @@
+package com.ohacd.matchbox.game.phase;
+
+import com.ohacd.matchbox.game.utils.MessageUtils;
+import com.ohacd.matchbox.utils.FakeGameScheduler;
+import com.ohacd.matchbox.utils.MockBukkitFactory;
+import org.bukkit.Location;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SwipePhaseHandlerTest {
+
+    private FakeGameScheduler scheduler;
+    private Location arena;
+    private SwipePhaseHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkitFactory.setUpBukkitMocks();
+        Plugin plugin = MockBukkitFactory.createMockPlugin();
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        scheduler = new FakeGameScheduler();
+        arena = MockBukkitFactory.createMockLocation();
+        handler = new SwipePhaseHandler(plugin, mock(MessageUtils.class), scheduler,
+                sessionName -> "arena".equals(sessionName) ? arena : null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkitFactory.tearDownBukkitMocks();
+    }
+
+    @Test
+    @DisplayName("Should pin the swipe timer to the session's region and end after the countdown")
+    void shouldRunTimerOnSessionRegionUntilCountdownEnds() {
+        AtomicInteger ended = new AtomicInteger();
+
+        handler.startSwipePhase("arena", 3, List.of(UUID.randomUUID()), ended::incrementAndGet);
+
+        assertThat(scheduler.getScheduledRegions()).containsExactly(arena);
+        assertThat(handler.isActive("arena")).isTrue();
+
+        // Runs once per second: 3, 2, 1, then ends on the fourth run
+        scheduler.advance(60);
+        assertThat(ended).hasValue(0);
+
+        scheduler.tick();
+        assertThat(ended).hasValue(1);
+        assertThat(handler.isActive("arena")).isFalse();
+        assertThat(scheduler.getPendingTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop the timer without ending the phase when cancelled")
+    void shouldNotInvokeCallbackAfterCancel() {
+        AtomicInteger ended = new AtomicInteger();
+        handler.startSwipePhase("other", 2, List.of(UUID.randomUUID()), ended::incrementAndGet);
+
+        scheduler.advance(20);
+        handler.cancelSwipeTask("other");
+        scheduler.advance(100);
+
+        assertThat(ended).hasValue(0);
+        assertThat(scheduler.getPendingTaskCount()).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ohacd.matchbox.game.profiling;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyMetricsTest {
+
+    @Test
+    @DisplayName("Should record operations overall and per session, case-insensitively")
+    void shouldRecordOverallAndPerSession() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        metrics.record("Arena", LatencyMetrics.Operation.END_SWIPE, 2_000_000L);
+        metrics.record("arena", LatencyMetrics.Operation.SWIPE, 50_000L);
+        metrics.record("other", LatencyMetrics.Operation.SWIPE, 70_000L);
+        metrics.record(null, LatencyMetrics.Operation.VOTE, 10_000L);
+
+        List<TimingSnapshot> overall = metrics.snapshot();
+        assertThat(overall).extracting(TimingSnapshot::getName)
+            .containsExactly("phase.end-swipe", "action.swipe", "action.vote");
+        assertThat(overall.get(1).getCount()).isEqualTo(2);
+        assertThat(overall.get(1).getMaxNanos()).isEqualTo(70_000L);
+
+        List<TimingSnapshot> arena = metrics.snapshot("ARENA");
+        assertThat(arena).extracting(TimingSnapshot::getName).containsExactly("phase.end-swipe", "action.swipe");
+        assertThat(arena.get(1).getCount()).isEqualTo(1);
+        assertThat(metrics.snapshot("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recently active sessions and clear everything on reset")
+    void shouldBoundSessionsAndReset() {
+        LatencyMetrics metrics = new LatencyMetrics();
+        for (int i = 0; i <= LatencyMetrics.MAX_SESSIONS; i++) {
+            metrics.record("session-" + i, LatencyMetrics.Operation.START_GAME, 1_000L);
+        }
+
+        assertThat(metrics.snapshot("session-0")).isEmpty();
+        assertThat(metrics.snapshot("session-" + LatencyMetrics.MAX_SESSIONS)).hasSize(1);
+        assertThat(metrics.snapshot().get(0).getCount()).isEqualTo(LatencyMetrics.MAX_SESSIONS + 1L);
+
+        metrics.reset();
+        assertThat(metrics.snapshot()).isEmpty();
+        assertThat(metrics.snapshot("session-1")).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ohacd.matchbox.game.profiling;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import com.ohacd.matchbox.game.scheduler.TickDriver;
+import com.ohacd.matchbox.utils.FakeGameScheduler;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TickProfilerTest {
+
+    @Test
+    @DisplayName("Should report percentiles within one sub-bucket of the recorded values")
+    void shouldReportPercentiles() {
+        TimingHistogram histogram = new TimingHistogram("listener:Test#onEvent");
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        TimingSnapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(1000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(1_000_000L);
+        assertThat(snapshot.getTotalNanos()).isEqualTo(500_500_000L);
+        assertThat((double) snapshot.getP50Nanos()).isCloseTo(500_000.0, within(500_000.0 * 0.125));
+        assertThat((double) snapshot.getP90Nanos()).isCloseTo(900_000.0, within(900_000.0 * 0.125));
+        assertThat((double) snapshot.getP99Nanos()).isCloseTo(990_000.0, within(990_000.0 * 0.125));
+
+        histogram.reset();
+        assertThat(histogram.snapshot().getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should place every value in a bucket whose upper bound covers it")
+    void shouldBucketValuesConsistently() {
+        long[] values = {0L, 7L, 8L, 15L, 16L, 17L, 1_000L, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = TimingHistogram.bucketOf(value);
+            assertThat(bucket).isBetween(0, TimingHistogram.BUCKET_COUNT - 1);
+            assertThat(TimingHistogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(TimingHistogram.upperBoundOf(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should time driver timers only while enabled, named after the scheduling class")
+    void shouldTimeTickDriverTasksWhileEnabled() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        FakeGameScheduler backend = new FakeGameScheduler();
+        TickDriver driver = new TickDriver(plugin, backend);
+        TickProfiler profiler = new TickProfiler();
+        driver.setProfiler(profiler);
+
+        driver.forSession("alpha").runTimer(timer -> { }, 0L, 1L);
+        backend.advance(5);
+        assertThat(profiler.snapshot()).isEmpty();
+
+        profiler.setEnabled(true);
+        backend.advance(10);
+        profiler.setEnabled(false);
+        backend.advance(5);
+
+        List<TimingSnapshot> timings = profiler.snapshot();
+        assertThat(timings).hasSize(1);
+        assertThat(timings.get(0).getName()).isEqualTo("task:TickProfilerTest");
+        assertThat(timings.get(0).getCount()).isEqualTo(10);
+        assertThat(profiler.getProfiledNanos()).isPositive();
+
+        profiler.reset();
+        assertThat(profiler.snapshot()).isEmpty();
+        assertThat(profiler.getProfiledNanos()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import com.ohacd.matchbox.utils.FakeGameScheduler;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TickDriverTest {
+
+    private FakeGameScheduler backend;
+    private TickDriver driver;
+
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        backend = new FakeGameScheduler();
+        driver = new TickDriver(plugin, backend);
+    }
+
+    @Test
+    @DisplayName("Should multiplex all timers onto a single backend task")
+    void shouldUseOneBackendTask() {
+        driver.runTimer(timer -> { }, 0L, 20L);
+        driver.forSession("alpha").runTimer(timer -> { }, 0L, 20L);
+        driver.forSession("beta").runLater(() -> { }, 40L);
+
+        assertThat(backend.getPendingTaskCount()).isEqualTo(1);
+        assertThat(driver.getScheduledTaskCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should run timers when their deadline comes due and reschedule repeating ones")
+    void shouldRunDueTimersInDeadlineOrder() {
+        List<String> runs = new ArrayList<>();
+        driver.forSession("alpha").runLater(() -> runs.add("late@" + backend.getCurrentTick()), 10L);
+        driver.forSession("alpha").runTimer(timer -> {
+            runs.add("timer@" + backend.getCurrentTick());
+            if (runs.size() >= 3) {
+                timer.cancel();
+            }
+        }, 0L, 4L);
+
+        backend.advance(20);
+
+        assertThat(runs).containsExactly("timer@1", "timer@5", "timer@9", "late@10");
+        assertThat(driver.getScheduledTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop only the ended session's timers")
+    void shouldCancelSessionLane() {
+        List<String> runs = new ArrayList<>();
+        driver.forSession("alpha").runTimer(timer -> runs.add("alpha"), 0L, 1L);
+        driver.forSession("beta").runTimer(timer -> runs.add("beta"), 0L, 1L);
+        backend.tick();
+
+        driver.cancelSession("alpha");
+        runs.clear();
+        backend.advance(3);
+
+        assertThat(runs).containsExactly("beta", "beta", "beta");
+        assertThat(driver.getScheduledTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip a session's timers due later in the same tick once it is cancelled")
+    void shouldCancelSessionImmediately() {
+        // Both come due on the same tick; whichever runs first ends the session
+        List<String> runs = new ArrayList<>();
+        Runnable endSession = () -> {
+            runs.add("ran");
+            driver.cancelSession("alpha");
+        };
+        driver.forSession("alpha").runLater(endSession, 5L);
+        driver.forSession("alpha").runLater(endSession, 5L);
+
+        backend.advance(5);
+
+        assertThat(runs).hasSize(1);
+        assertThat(driver.getScheduledTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep timers scheduled for a session after its previous run was cancelled")
+    void shouldKeepTimersScheduledAfterCancel() {
+        List<String> runs = new ArrayList<>();
+        GameTask old = driver.forSession("alpha").runTimer(timer -> runs.add("old"), 0L, 1L);
+        backend.tick();
+
+        driver.cancelSession("alpha");
+        driver.forSession("alpha").runTimer(timer -> runs.add("new"), 0L, 1L);
+        runs.clear();
+        backend.advance(2);
+
+        assertThat(old.isCancelled()).isTrue();
+        assertThat(runs).containsExactly("new", "new");
+        assertThat(driver.getScheduledTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop every timer on shutdown")
+    void shouldDropTimersOnShutdown() {
+        GameTask timer = driver.forSession("alpha").runTimer(task -> { }, 0L, 1L);
+
+        driver.shutdown();
+
+        assertThat(timer.isCancelled()).isTrue();
+        assertThat(driver.getScheduledTaskCount()).isZero();
+        assertThat(backend.getPendingTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report tick time overall and per session")
+    void shouldReportTickTime() {
+        driver.forSession("alpha").runTimer(timer -> {
+            long until = System.nanoTime() + 200_000;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+        }, 0L, 1L);
+
+        backend.advance(2);
+
+        assertThat(driver.getLastTickNanos()).isGreaterThanOrEqualTo(200_000);
+        assertThat(driver.getMaxTickNanos()).isGreaterThanOrEqualTo(driver.getLastTickNanos());
+        assertThat(driver.getAverageTickNanos()).isPositive();
+        assertThat(driver.getSessionTickNanos()).containsKey("alpha");
+    }
+}
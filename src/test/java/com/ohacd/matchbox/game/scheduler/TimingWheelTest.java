@@ -0,0 +1,117 @@
+package com.ohacd.matchbox.game.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private List<String> fired;
+    private List<Long> firedAt;
+    private TimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        fired = new ArrayList<>();
+        firedAt = new ArrayList<>();
+        wheel = new TimingWheel<>(payload -> {
+            fired.add(payload);
+            firedAt.add(wheel.getCurrentTick());
+        });
+    }
+
+    private void advance(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fire each timeout exactly on its deadline across all levels")
+    void shouldFireOnDeadlineAcrossLevels() {
+        long[] delays = {1, 63, 64, 65, 160, 600, 4095, 4096, 5000, 300_000};
+        for (long delay : delays) {
+            wheel.schedule(delay, "t" + delay);
+        }
+
+        advance(300_000);
+
+        assertThat(fired).hasSize(delays.length);
+        for (int i = 0; i < delays.length; i++) {
+            assertThat(firedAt.get(fired.indexOf("t" + delays[i]))).isEqualTo(delays[i]);
+        }
+        assertThat(wheel.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should honour deadlines for timeouts scheduled mid-rotation")
+    void shouldFireOnDeadlineWhenScheduledLater() {
+        advance(37);
+        wheel.schedule(100, "late");
+
+        advance(99);
+        assertThat(fired).isEmpty();
+        advance(1);
+        assertThat(fired).containsExactly("late");
+        assertThat(firedAt).containsExactly(137L);
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled timeouts")
+    void shouldNotFireCancelledTimeouts() {
+        TimingWheel.Timeout<String> cancelled = wheel.schedule(160, "cancelled");
+        wheel.schedule(160, "kept");
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        advance(200);
+
+        assertThat(fired).containsExactly("kept");
+        assertThat(cancelled.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should allow callbacks to schedule follow-up timeouts")
+    void shouldAllowSchedulingFromCallback() {
+        AtomicReference<TimingWheel<String>> repeating = new AtomicReference<>();
+        List<Long> ticks = new ArrayList<>();
+        repeating.set(new TimingWheel<>(payload -> {
+            ticks.add(repeating.get().getCurrentTick());
+            if (ticks.size() < 3) {
+                repeating.get().schedule(20, payload);
+            }
+        }));
+        repeating.get().schedule(20, "repeat");
+
+        for (int i = 0; i < 100; i++) {
+            repeating.get().advance();
+        }
+
+        assertThat(ticks).containsExactly(20L, 40L, 60L);
+    }
+
+    @Test
+    @DisplayName("Should treat non-positive delays as one tick and clear without firing")
+    void shouldClampDelaysAndClear() {
+        TimingWheel.Timeout<String> immediate = wheel.schedule(0, "now");
+        wheel.schedule(10, "dropped");
+
+        assertThat(immediate.getDeadline()).isEqualTo(1L);
+        wheel.advance();
+        assertThat(fired).containsExactly("now");
+        assertThat(immediate.isExpired()).isTrue();
+
+        wheel.clear();
+        advance(20);
+        assertThat(fired).containsExactly("now");
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ohacd.matchbox.game.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionRegistryTest {
+
+    private SessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SessionRegistry();
+    }
+
+    @Test
+    @DisplayName("Should resolve every spelling of a name to the same interned key")
+    void shouldInternKeys() {
+        SessionKey key = SessionKey.of("Arena");
+
+        assertThat(SessionKey.of("Arena")).isSameAs(key);
+        assertThat(SessionKey.of("ARENA")).isSameAs(key);
+        assertThat(key.getCanonicalName()).isEqualTo("arena");
+        assertThat(key.matches("aReNa")).isTrue();
+        assertThat(SessionKey.of("  ")).isNull();
+        assertThat(SessionKey.of(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should look up and remove sessions ignoring case")
+    void shouldIgnoreCase() {
+        GameSession session = new GameSession("Arena");
+
+        assertThat(registry.register(session)).isTrue();
+        assertThat(registry.register(new GameSession("ARENA"))).isFalse();
+
+        assertThat(registry.get("arena")).isSameAs(session);
+        assertThat(registry.contains("ARENA")).isTrue();
+        assertThat(registry.remove("aRENA")).isSameAs(session);
+        assertThat(registry.get("Arena")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expose live read-only views of sessions and names")
+    void shouldExposeLiveViews() {
+        Collection<GameSession> sessions = registry.sessions();
+        Set<String> names = registry.names();
+
+        registry.register(new GameSession("Arena"));
+        registry.register(new GameSession("Lobby"));
+
+        assertThat(sessions).hasSize(2);
+        assertThat(names).containsExactlyInAnyOrder("Arena", "Lobby");
+        assertThat(names.contains("LOBBY")).isTrue();
+
+        registry.remove("lobby");
+        assertThat(sessions).hasSize(1);
+        assertThat(names).containsExactly("Arena");
+
+        assertThatThrownBy(() -> names.add("Other")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> sessions.clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should report per-session values under the spelling they were first added with")
+    void shouldKeepFirstSpellingInSessionTable() {
+        SessionTable<String> table = new SessionTable<>();
+
+        assertThat(table.computeIfAbsent("Arena", name -> "first")).isEqualTo("first");
+        assertThat(table.computeIfAbsent("ARENA", name -> "second")).isEqualTo("first");
+
+        assertThat(table.names()).containsExactly("Arena");
+        assertThat(table.get("arena")).isEqualTo("first");
+        assertThat(table.remove("arena", "other")).isFalse();
+        assertThat(table.remove("arena", "first")).isTrue();
+        assertThat(table.isEmpty()).isTrue();
+    }
+}
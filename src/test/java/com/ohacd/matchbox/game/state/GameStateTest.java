@@ -0,0 +1,220 @@
+package com.ohacd.matchbox.game.state;
+
+import com.ohacd.matchbox.game.utils.GamePhase;
+import com.ohacd.matchbox.game.utils.Role;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameStateTest {
+
+    private static Player player(UUID id) {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(id);
+        when(player.isOnline()).thenReturn(true);
+        return player;
+    }
+
+    @Test
+    @DisplayName("Should notify participant listener on join and on game clear")
+    void shouldNotifyParticipantListenerOnJoinAndClear() {
+        GameState gameState = new GameState();
+        List<UUID> added = new ArrayList<>();
+        List<UUID> removed = new ArrayList<>();
+        gameState.setParticipantListener(new GameState.ParticipantListener() {
+            @Override
+            public void onParticipantAdded(UUID playerId) {
+                added.add(playerId);
+            }
+
+            @Override
+            public void onParticipantRemoved(UUID playerId) {
+                removed.add(playerId);
+            }
+        });
+
+        UUID id = UUID.randomUUID();
+        gameState.addAlivePlayer(player(id));
+        gameState.addAlivePlayer(player(id));
+
+        assertThat(added).containsExactly(id);
+        assertThat(gameState.isParticipating(id)).isTrue();
+
+        gameState.removeAlivePlayer(id);
+        assertThat(removed).isEmpty();
+        assertThat(gameState.isParticipating(id)).isTrue();
+
+        gameState.clearGameState();
+        assertThat(removed).containsExactly(id);
+        assertThat(gameState.isParticipating(id)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should track round flags per player and clear them on round reset")
+    void shouldTrackRoundFlagsAndClearOnRoundReset() {
+        GameState gameState = new GameState();
+        UUID spark = UUID.randomUUID();
+        UUID medic = UUID.randomUUID();
+        gameState.addAlivePlayer(player(spark));
+        gameState.addAlivePlayer(player(medic));
+
+        gameState.markSwiped(spark);
+        gameState.markUsedHunterVision(spark);
+        gameState.markCured(medic);
+        gameState.markDelusionInfected(medic);
+
+        assertThat(gameState.hasSwipedThisRound(spark)).isTrue();
+        assertThat(gameState.hasSwipedThisRound(medic)).isFalse();
+        assertThat(gameState.hasUsedHunterVisionThisRound(spark)).isTrue();
+        assertThat(gameState.hasCuredThisRound(medic)).isTrue();
+        assertThat(gameState.isDelusionInfected(medic)).isTrue();
+        assertThat(gameState.hasSwipedThisRound(UUID.randomUUID())).isFalse();
+
+        gameState.clearRoundState();
+
+        assertThat(gameState.hasSwipedThisRound(spark)).isFalse();
+        assertThat(gameState.hasUsedHunterVisionThisRound(spark)).isFalse();
+        assertThat(gameState.hasCuredThisRound(medic)).isFalse();
+        assertThat(gameState.isDelusionInfected(medic)).isFalse();
+        assertThat(gameState.isAlive(spark)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep roles and pending deaths per slot beyond initial capacity")
+    void shouldKeepRolesAndPendingDeathsBeyondInitialCapacity() {
+        GameState gameState = new GameState();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            gameState.addAlivePlayer(player(id));
+            gameState.setRole(id, i == 0 ? Role.SPARK : Role.INNOCENT);
+        }
+        gameState.setPendingDeath(ids.get(39), 500L);
+        gameState.setPendingDeath(ids.get(5), 2_000L);
+
+        assertThat(gameState.getSparkUUID()).isEqualTo(ids.get(0));
+        assertThat(gameState.getRole(ids.get(39))).isEqualTo(Role.INNOCENT);
+        assertThat(gameState.countAliveInnocents()).isEqualTo(39);
+        assertThat(gameState.getPendingDeathTime(ids.get(39))).isEqualTo(500L);
+        assertThat(gameState.getPendingDeathsDueAt(1_000L)).containsExactly(ids.get(39));
+        assertThat(gameState.validateState()).isTrue();
+
+        gameState.removeAlivePlayer(ids.get(5));
+        assertThat(gameState.hasPendingDeath(ids.get(5))).isFalse();
+        assertThat(gameState.getRole(ids.get(5))).isEqualTo(Role.INNOCENT);
+
+        gameState.clearGameState();
+        assertThat(gameState.getRole(ids.get(0))).isNull();
+        assertThat(gameState.hasPendingDeath(ids.get(39))).isFalse();
+        assertThat(gameState.getSparkUUID()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should publish a new immutable snapshot after each mutation")
+    void shouldPublishImmutableSnapshotAfterEachMutation() {
+        GameState gameState = new GameState();
+        UUID spark = UUID.randomUUID();
+        UUID innocent = UUID.randomUUID();
+        gameState.addAlivePlayers(List.of(player(spark), player(innocent)));
+        gameState.setRole(spark, Role.SPARK);
+        gameState.setPhase(GamePhase.SWIPE);
+
+        GameStateSnapshot before = gameState.getSnapshot();
+        assertThat(before.getPhase()).isEqualTo(GamePhase.SWIPE);
+        assertThat(before.getRole(spark)).isEqualTo(Role.SPARK);
+        assertThat(before.getAlivePlayerIds()).containsExactlyInAnyOrder(spark, innocent);
+        assertThat(gameState.getAlivePlayerIds()).isSameAs(before.getAlivePlayerIds());
+
+        gameState.removeAlivePlayer(innocent);
+
+        GameStateSnapshot after = gameState.getSnapshot();
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(before.isAlive(innocent)).isTrue();
+        assertThat(after.isAlive(innocent)).isFalse();
+        assertThat(after.isParticipating(innocent)).isTrue();
+        assertThat(gameState.isAlive(innocent)).isFalse();
+
+        Set<UUID> alive = after.getAlivePlayerIds();
+        assertThatThrownBy(() -> alive.add(innocent)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should publish one snapshot for a whole batch of mutations")
+    void shouldPublishOneSnapshotPerBatch() {
+        GameState gameState = new GameState();
+        List<UUID> ids = new ArrayList<>();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            players.add(player(id));
+        }
+        long before = gameState.getSnapshot().getVersion();
+
+        gameState.batch(() -> {
+            gameState.addAlivePlayers(players);
+            gameState.batch(() -> gameState.setRole(ids.get(0), Role.SPARK));
+            for (int i = 1; i < ids.size(); i++) {
+                gameState.setRole(ids.get(i), Role.INNOCENT);
+            }
+            assertThat(gameState.getSnapshot().getVersion()).isEqualTo(before);
+        });
+
+        GameStateSnapshot after = gameState.getSnapshot();
+        assertThat(after.getVersion()).isEqualTo(before + 1);
+        assertThat(after.getAlivePlayerIds()).hasSize(12);
+        assertThat(after.getRole(ids.get(0))).isEqualTo(Role.SPARK);
+        assertThat(after.getRoles()).hasSize(12);
+    }
+
+    @Test
+    @DisplayName("Should keep alive role counters, cached spark and names in step with mutations")
+    void shouldKeepRoleCountersInStep() {
+        GameState gameState = new GameState();
+        UUID spark = UUID.randomUUID();
+        UUID medic = UUID.randomUUID();
+        UUID innocent = UUID.randomUUID();
+        Player sparkPlayer = player(spark);
+        when(sparkPlayer.getName()).thenReturn("SparkPlayer");
+        gameState.addAlivePlayers(List.of(sparkPlayer, player(medic), player(innocent)));
+        gameState.setRole(spark, Role.SPARK);
+        gameState.setRole(medic, Role.MEDIC);
+        gameState.setRole(innocent, Role.INNOCENT);
+
+        assertThat(gameState.getSparkUUID()).isEqualTo(spark);
+        assertThat(gameState.getAliveRoleCount(Role.SPARK)).isEqualTo(1);
+        assertThat(gameState.getAliveRoleCount(Role.MEDIC)).isEqualTo(1);
+        assertThat(gameState.countAliveInnocents()).isEqualTo(1);
+        assertThat(gameState.getPlayerName(spark)).isEqualTo("SparkPlayer");
+
+        // Reassigning a living player's role moves them between counters
+        gameState.setRole(medic, Role.INNOCENT);
+        assertThat(gameState.getAliveRoleCount(Role.MEDIC)).isZero();
+        assertThat(gameState.countAliveInnocents()).isEqualTo(2);
+
+        gameState.removeAlivePlayer(innocent);
+        gameState.removeAlivePlayer(innocent);
+        assertThat(gameState.countAliveInnocents()).isEqualTo(1);
+
+        gameState.setRole(spark, Role.INNOCENT);
+        assertThat(gameState.getSparkUUID()).isNull();
+        gameState.setRole(innocent, Role.SPARK);
+        assertThat(gameState.getSparkUUID()).isEqualTo(innocent);
+        assertThat(gameState.getAliveRoleCount(Role.SPARK)).isZero();
+
+        gameState.clearGameState();
+        assertThat(gameState.countAliveInnocents()).isZero();
+        assertThat(gameState.getPlayerName(spark)).isNull();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ohacd.matchbox.game.utils;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlayerNameUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        PlayerNameUtils.invalidateAll();
+    }
+
+    private static Player player(String legacyDisplayName) {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getName()).thenReturn("RealName");
+        when(player.displayName()).thenReturn(LegacyComponentSerializer.legacySection().deserialize(legacyDisplayName));
+        return player;
+    }
+
+    @Test
+    @DisplayName("Should render a player's display name once and reuse it")
+    void shouldCacheRenderedName() {
+        Player player = player("§aGreenNick");
+
+        String legacy = PlayerNameUtils.displayName(player);
+        Component component = PlayerNameUtils.displayNameComponent(player);
+
+        assertThat(legacy).isEqualTo("§aGreenNick");
+        assertThat(LegacyComponentSerializer.legacySection().serialize(component)).isEqualTo("§aGreenNick");
+        assertThat(PlayerNameUtils.displayNameComponent(player)).isSameAs(component);
+        verify(player, times(1)).displayName();
+    }
+
+    @Test
+    @DisplayName("Should render again after the name is invalidated")
+    void shouldRenderAgainAfterInvalidate() {
+        Player player = player("§aGreenNick");
+        assertThat(PlayerNameUtils.displayName(player)).isEqualTo("§aGreenNick");
+
+        when(player.displayName()).thenReturn(Component.text("RealName"));
+        assertThat(PlayerNameUtils.displayName(player)).isEqualTo("§aGreenNick");
+
+        PlayerNameUtils.invalidate(player.getUniqueId());
+        assertThat(PlayerNameUtils.displayName(player)).isEqualTo("RealName");
+    }
+}
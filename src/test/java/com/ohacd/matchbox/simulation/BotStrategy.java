@@ -0,0 +1,48 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.game.state.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Decides what a simulated player does at each point of a round.
+ * Every method may return null to skip the action; the defaults skip everything.
+ */
+public interface BotStrategy {
+
+    /**
+     * Picks who the Spark swipes this round. Only called for the Spark.
+     */
+    default UUID chooseSwipeTarget(UUID self, GameState state, Random random) {
+        return null;
+    }
+
+    /**
+     * Picks who the Medic cures this round. Only called for the Medic, after the Spark has swiped.
+     */
+    default UUID chooseCureTarget(UUID self, GameState state, Random random) {
+        return null;
+    }
+
+    /**
+     * Picks who an alive player votes for.
+     */
+    default UUID chooseVoteTarget(UUID self, GameState state, Random random) {
+        return null;
+    }
+
+    /**
+     * Picks a random alive player other than the given one, or null if there is none.
+     */
+    static UUID randomOtherAlive(UUID self, GameState state, Random random) {
+        List<UUID> candidates = new ArrayList<>(state.getAlivePlayerIds());
+        candidates.remove(self);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.game.win.WinConditionChecker;
+
+/**
+ * Result of one simulated game.
+ *
+ * @param sessionName session the game ran in
+ * @param winner winning side, or null if the game hit the tick limit
+ * @param rounds rounds started
+ * @param ticks virtual ticks the game took
+ * @param nanos time spent on the worker thread from game start to the last tick
+ * @param allocatedBytes bytes the worker thread allocated over the same span, or -1 if the JVM cannot tell
+ */
+public record GameOutcome(
+    String sessionName,
+    WinConditionChecker.Winner winner,
+    int rounds,
+    long ticks,
+    long nanos,
+    long allocatedBytes
+) {
+    public boolean isFinished() {
+        return winner != null;
+    }
+}
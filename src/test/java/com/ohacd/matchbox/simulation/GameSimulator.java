@@ -0,0 +1,135 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.utils.MockBukkitFactory;
+import com.ohacd.matchbox.utils.TestPluginFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays many bot games through the real {@code GameManager} in parallel, each worker on its own
+ * virtual clock, and reports throughput, per-phase cost and allocation per game.
+ * <p>
+ * The static test plugin and Bukkit server must be set up first, normally with
+ * {@link TestPluginFactory#setUpMockPlugin()} followed by {@link MockBukkitFactory#setUpHeadlessBukkitMocks()}.
+ */
+public final class GameSimulator {
+    private final SimulationConfig config;
+
+    public GameSimulator(SimulationConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    /**
+     * Plays the warmup games, then the measured games.
+     */
+    public SimulationReport run() {
+        if (config.warmupGames() > 0) {
+            runGames("warmup", config.warmupGames());
+        }
+        return runGames("sim", config.games());
+    }
+
+    private SimulationReport runGames(String prefix, int games) {
+        GameOutcome[] outcomes = new GameOutcome[games];
+        AtomicInteger nextGame = new AtomicInteger();
+        Map<String, SimulationReport.PhaseCost> phaseCosts = new TreeMap<>();
+        int threads = Math.min(config.threads(), games);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String workerName = prefix + "-w" + i;
+                workers.add(executor.submit(() -> {
+                    runWorker(workerName, games, nextGame, outcomes, phaseCosts);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        long wallNanos = System.nanoTime() - started;
+        return new SimulationReport(config, Arrays.asList(outcomes), wallNanos, phaseCosts);
+    }
+
+    /**
+     * Takes games off the shared counter until none are left, replacing the world every
+     * {@link SimulationConfig#gamesPerWorld()} games.
+     */
+    private void runWorker(String workerName, int games, AtomicInteger nextGame, GameOutcome[] outcomes,
+                           Map<String, SimulationReport.PhaseCost> phaseCosts) throws IOException {
+        SimulationWorld world = null;
+        int worlds = 0;
+        try {
+            int game;
+            while ((game = nextGame.getAndIncrement()) < games) {
+                if (world == null || world.getGamesPlayed() >= config.gamesPerWorld()) {
+                    if (world != null) {
+                        retire(world, phaseCosts);
+                    }
+                    world = new SimulationWorld(workerName + "-" + worlds++, config);
+                }
+                outcomes[game] = world.playGame(game, config);
+            }
+        } finally {
+            if (world != null) {
+                retire(world, phaseCosts);
+            }
+        }
+    }
+
+    private static void retire(SimulationWorld world, Map<String, SimulationReport.PhaseCost> phaseCosts) throws IOException {
+        synchronized (phaseCosts) {
+            SimulationReport.PhaseCost.mergeInto(phaseCosts, world.getPhaseCosts());
+        }
+        world.close();
+    }
+
+    /**
+     * Runs a simulation from the command line and prints the report.
+     * Arguments, all optional: games, players per game, threads, bot accuracy (0 plays at random).
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        double accuracy = args.length > 3 ? Double.parseDouble(args[3]) : 0.0;
+        BotStrategy strategy = accuracy > 0.0 ? new InformedBotStrategy(accuracy) : new RandomBotStrategy();
+
+        SimulationConfig config = SimulationConfig.builder(strategy)
+            .games(games)
+            .warmupGames(Math.min(games, 500))
+            .playersPerGame(players)
+            .threads(threads)
+            .build();
+
+        TestPluginFactory.setUpMockPlugin();
+        MockBukkitFactory.setUpHeadlessBukkitMocks();
+        try {
+            System.out.print(new GameSimulator(config).run().format());
+        } finally {
+            TestPluginFactory.tearDownMockPlugin();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.Role;
+import com.ohacd.matchbox.game.win.WinConditionChecker;
+import com.ohacd.matchbox.utils.MockBukkitFactory;
+import com.ohacd.matchbox.utils.TestPluginFactory;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plays bot games headlessly through the real game manager. The scripted cases pin how the
+ * voting threshold and win conditions resolve, so a balance change that shifts them shows up here.
+ */
+class GameSimulatorTest {
+
+    @BeforeEach
+    void setUp() {
+        TestPluginFactory.setUpMockPlugin();
+        MockBukkitFactory.setUpHeadlessBukkitMocks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestPluginFactory.tearDownMockPlugin();
+    }
+
+    @Test
+    @DisplayName("Should play every random game to a winner across several workers")
+    void shouldPlayRandomGamesToAWinner() {
+        SimulationReport report = simulate(SimulationConfig.builder(new RandomBotStrategy())
+            .games(24)
+            .threads(3)
+            .gamesPerWorld(5)
+            .playersPerGame(7));
+
+        assertThat(report.getOutcomes()).hasSize(24);
+        assertThat(report.getFinishedGames()).isEqualTo(24);
+        assertThat(report.getWins(WinConditionChecker.Winner.SPARK) + report.getWins(WinConditionChecker.Winner.INNOCENTS))
+            .isEqualTo(24);
+        assertThat(report.getGamesPerSecond()).isPositive();
+        assertThat(report.getPhaseCosts().get("phase.start-game").count()).isEqualTo(24);
+        assertThat(report.getPhaseCosts().get("phase.resolve-votes").count()).isGreaterThanOrEqualTo(24);
+        assertThat(report.format()).contains("games/s", "phase.end-swipe");
+    }
+
+    @Test
+    @DisplayName("Should vote the Spark out in the first round when every bot reads the game correctly")
+    void shouldVoteSparkOutWhenBotsAreFullyInformed() {
+        SimulationReport report = simulate(SimulationConfig.builder(new InformedBotStrategy(1.0))
+            .games(12)
+            .threads(2)
+            .playersPerGame(6));
+
+        assertThat(report.getWins(WinConditionChecker.Winner.INNOCENTS)).isEqualTo(12);
+        assertThat(report.getOutcomes()).allSatisfy(outcome -> assertThat(outcome.rounds()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Should let an unopposed Spark win once too few players remain")
+    void shouldLetUnopposedSparkWin() {
+        BotStrategy sparkOnly = new BotStrategy() {
+            @Override
+            public UUID chooseSwipeTarget(UUID self, GameState state, Random random) {
+                return BotStrategy.randomOtherAlive(self, state, random);
+            }
+        };
+
+        SimulationReport report = simulate(SimulationConfig.builder(sparkOnly)
+            .games(8)
+            .threads(2)
+            .playersPerGame(6));
+
+        assertThat(report.getWins(WinConditionChecker.Winner.SPARK)).isEqualTo(8);
+        // One swipe lands per round and nobody is voted out, so two players are left after players - 2 rounds
+        assertThat(report.getOutcomes()).allSatisfy(outcome -> assertThat(outcome.rounds()).isEqualTo(4));
+    }
+
+    @Test
+    @DisplayName("Should never eliminate on a single vote in a 7-player lobby, even with the full penalty")
+    void shouldNotEliminateOnSingleVote() {
+        SimulationReport report = simulate(SimulationConfig.builder(accusers(1))
+            .games(4)
+            .threads(2)
+            .playersPerGame(7)
+            // About six rounds at the shortest phase lengths, past the three penalty phases
+            .maxTicksPerGame(20L * 60 * 5));
+
+        assertThat(report.getFinishedGames()).isZero();
+        assertThat(report.getOutcomes()).allSatisfy(outcome -> assertThat(outcome.rounds()).isGreaterThanOrEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("Should eliminate on two votes in a 7-player lobby once one phase passed without elimination")
+    void shouldEliminateOnTwoVotesAfterPenalty() {
+        SimulationReport report = simulate(SimulationConfig.builder(accusers(2))
+            .games(4)
+            .threads(2)
+            .playersPerGame(7));
+
+        // 2 of 7 misses the 30% threshold in round 1; the 3.33% penalty brings it within reach in round 2
+        assertThat(report.getWins(WinConditionChecker.Winner.INNOCENTS)).isEqualTo(4);
+        assertThat(report.getOutcomes()).allSatisfy(outcome -> assertThat(outcome.rounds()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should not time phases or actions for a session that is not running")
+    void shouldNotTimeSessionsThatAreNotRunning() throws IOException {
+        try (SimulationWorld world = new SimulationWorld("idle", SimulationConfig.builder(new RandomBotStrategy()).build())) {
+            GameManager gameManager = world.getGameManager();
+            Player outsider = MockBukkitFactory.createMockPlayer(UUID.randomUUID(), "outsider");
+            Player target = MockBukkitFactory.createMockPlayer(UUID.randomUUID(), "target");
+
+            gameManager.startSwipePhase("ghost");
+            gameManager.endSwipePhase("ghost");
+            gameManager.endDiscussionPhase("ghost");
+            gameManager.endVotingPhase("ghost");
+            gameManager.endGame("ghost");
+            assertThat(gameManager.handleVote(outsider, target)).isFalse();
+            gameManager.handleCure(outsider, target);
+            gameManager.handleSwipe(outsider, target);
+
+            assertThat(world.getPhaseCosts()).isEmpty();
+            assertThat(gameManager.getLatencyMetrics().snapshot("ghost")).isEmpty();
+        }
+    }
+
+    private static SimulationReport simulate(SimulationConfig.Builder builder) {
+        return new GameSimulator(builder.seed(7L).phaseSeconds(30, 5, 5).build()).run();
+    }
+
+    /**
+     * Nobody swipes or cures; the given number of non-Sparks, always the same ones, vote for the Spark and the rest abstain.
+     */
+    private static BotStrategy accusers(int count) {
+        return new BotStrategy() {
+            @Override
+            public UUID chooseVoteTarget(UUID self, GameState state, Random random) {
+                boolean accuser = state.getAlivePlayerIds().stream()
+                    .filter(playerId -> state.getRole(playerId) != Role.SPARK)
+                    .sorted()
+                    .limit(count)
+                    .anyMatch(self::equals);
+                return accuser ? state.getSparkUUID() : null;
+            }
+        };
+    }
+}
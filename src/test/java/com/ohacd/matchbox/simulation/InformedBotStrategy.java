@@ -0,0 +1,52 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.Role;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Bots that read the truth with a given accuracy, standing in for how well a lobby plays.
+ * <p>
+ * With probability {@code accuracy} the Medic cures the player the Spark swiped and every
+ * non-Spark votes for the Spark; otherwise they pick a random alive player. The Spark swipes
+ * and votes at random. An accuracy of 1 is fully scripted: the Spark is voted out in the
+ * first round whenever the threshold allows it.
+ */
+public class InformedBotStrategy implements BotStrategy {
+    private final double accuracy;
+
+    public InformedBotStrategy(double accuracy) {
+        if (accuracy < 0.0 || accuracy > 1.0) {
+            throw new IllegalArgumentException("Accuracy must be between 0 and 1");
+        }
+        this.accuracy = accuracy;
+    }
+
+    @Override
+    public UUID chooseSwipeTarget(UUID self, GameState state, Random random) {
+        return BotStrategy.randomOtherAlive(self, state, random);
+    }
+
+    @Override
+    public UUID chooseCureTarget(UUID self, GameState state, Random random) {
+        if (random.nextDouble() < accuracy) {
+            for (UUID playerId : state.getAlivePlayerIds()) {
+                if (state.hasPendingDeath(playerId)) {
+                    return playerId;
+                }
+            }
+        }
+        return BotStrategy.randomOtherAlive(self, state, random);
+    }
+
+    @Override
+    public UUID chooseVoteTarget(UUID self, GameState state, Random random) {
+        UUID sparkId = state.getSparkUUID();
+        if (state.getRole(self) != Role.SPARK && sparkId != null && state.isAlive(sparkId) && random.nextDouble() < accuracy) {
+            return sparkId;
+        }
+        return BotStrategy.randomOtherAlive(self, state, random);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.game.state.GameState;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Bots that know nothing: every swipe, cure and vote goes to a random alive player.
+ */
+public class RandomBotStrategy implements BotStrategy {
+
+    @Override
+    public UUID chooseSwipeTarget(UUID self, GameState state, Random random) {
+        return BotStrategy.randomOtherAlive(self, state, random);
+    }
+
+    @Override
+    public UUID chooseCureTarget(UUID self, GameState state, Random random) {
+        return BotStrategy.randomOtherAlive(self, state, random);
+    }
+
+    @Override
+    public UUID chooseVoteTarget(UUID self, GameState state, Random random) {
+        return BotStrategy.randomOtherAlive(self, state, random);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ohacd.matchbox.simulation;
+
+/**
+ * Settings for a {@link GameSimulator} run.
+ *
+ * @param games games to play and measure
+ * @param warmupGames games played first and discarded, so the measured games run on compiled code
+ * @param playersPerGame bots in each game
+ * @param threads worker threads, each with its own game manager and virtual clock
+ * @param gamesPerWorld games a worker plays before replacing its game manager, bounding the session logs it keeps
+ * @param seed seed for bot decisions; game {@code n} always uses the same bot random stream
+ * @param strategy how the bots play
+ * @param swipeSeconds swipe phase length written to the simulated config
+ * @param discussionSeconds discussion phase length written to the simulated config
+ * @param votingSeconds voting phase length written to the simulated config
+ * @param maxTicksPerGame virtual ticks after which a game is ended and counted as unfinished
+ */
+public record SimulationConfig(
+    int games,
+    int warmupGames,
+    int playersPerGame,
+    int threads,
+    int gamesPerWorld,
+    long seed,
+    BotStrategy strategy,
+    int swipeSeconds,
+    int discussionSeconds,
+    int votingSeconds,
+    long maxTicksPerGame
+) {
+    public SimulationConfig {
+        if (games < 1 || warmupGames < 0) {
+            throw new IllegalArgumentException("Need at least one game and no negative warmup");
+        }
+        if (playersPerGame < 3) {
+            throw new IllegalArgumentException("A game needs at least 3 players");
+        }
+        if (threads < 1 || gamesPerWorld < 1 || maxTicksPerGame < 1) {
+            throw new IllegalArgumentException("Threads, games per world and max ticks must be positive");
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+    }
+
+    public static Builder builder(BotStrategy strategy) {
+        return new Builder(strategy);
+    }
+
+    /**
+     * Builder starting from the shipped phase lengths and one thread per core.
+     */
+    public static final class Builder {
+        private final BotStrategy strategy;
+        private int games = 1000;
+        private int warmupGames = 0;
+        private int playersPerGame = 7;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int gamesPerWorld = 256;
+        private long seed = 42L;
+        private int swipeSeconds = 180;
+        private int discussionSeconds = 60;
+        private int votingSeconds = 30;
+        private long maxTicksPerGame = 20L * 60 * 60 * 4;
+
+        private Builder(BotStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        public Builder games(int games) {
+            this.games = games;
+            return this;
+        }
+
+        public Builder warmupGames(int warmupGames) {
+            this.warmupGames = warmupGames;
+            return this;
+        }
+
+        public Builder playersPerGame(int playersPerGame) {
+            this.playersPerGame = playersPerGame;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder gamesPerWorld(int gamesPerWorld) {
+            this.gamesPerWorld = gamesPerWorld;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the phase lengths in seconds. The config clamps them to at least 30, 5 and 5.
+         */
+        public Builder phaseSeconds(int swipe, int discussion, int voting) {
+            this.swipeSeconds = swipe;
+            this.discussionSeconds = discussion;
+            this.votingSeconds = voting;
+            return this;
+        }
+
+        public Builder maxTicksPerGame(long maxTicksPerGame) {
+            this.maxTicksPerGame = maxTicksPerGame;
+            return this;
+        }
+
+        public SimulationConfig build() {
+            return new SimulationConfig(games, warmupGames, playersPerGame, threads, gamesPerWorld, seed, strategy,
+                swipeSeconds, discussionSeconds, votingSeconds, maxTicksPerGame);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.api.TimingSnapshot;
+import com.ohacd.matchbox.game.win.WinConditionChecker;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Results of a {@link GameSimulator} run: outcomes, throughput, per-phase cost and allocation per game.
+ */
+public final class SimulationReport {
+    private final SimulationConfig config;
+    private final List<GameOutcome> outcomes;
+    private final long wallNanos;
+    private final Map<String, PhaseCost> phaseCosts;
+
+    SimulationReport(SimulationConfig config, List<GameOutcome> outcomes, long wallNanos, Map<String, PhaseCost> phaseCosts) {
+        this.config = config;
+        this.outcomes = List.copyOf(outcomes);
+        this.wallNanos = wallNanos;
+        this.phaseCosts = new TreeMap<>(phaseCosts);
+    }
+
+    public List<GameOutcome> getOutcomes() {
+        return outcomes;
+    }
+
+    public int getFinishedGames() {
+        return (int) outcomes.stream().filter(GameOutcome::isFinished).count();
+    }
+
+    public int getWins(WinConditionChecker.Winner winner) {
+        return (int) outcomes.stream().filter(outcome -> outcome.winner() == winner).count();
+    }
+
+    /**
+     * Share of finished games the given side won, between 0 and 1.
+     */
+    public double getWinRate(WinConditionChecker.Winner winner) {
+        int finished = getFinishedGames();
+        return finished == 0 ? 0.0 : (double) getWins(winner) / finished;
+    }
+
+    public double getAverageRounds() {
+        return outcomes.stream().mapToInt(GameOutcome::rounds).average().orElse(0.0);
+    }
+
+    /**
+     * Games completed per wall-clock second across all workers, including world setup.
+     */
+    public double getGamesPerSecond() {
+        return wallNanos == 0 ? 0.0 : outcomes.size() * 1_000_000_000.0 / wallNanos;
+    }
+
+    /**
+     * Average time a worker spent on one game, from start to the last tick.
+     */
+    public double getAverageGameNanos() {
+        return outcomes.stream().mapToLong(GameOutcome::nanos).average().orElse(0.0);
+    }
+
+    /**
+     * Average bytes allocated per game, or -1 if the JVM does not measure thread allocation.
+     */
+    public double getAverageAllocatedBytes() {
+        return outcomes.stream()
+            .mapToLong(GameOutcome::allocatedBytes)
+            .filter(bytes -> bytes >= 0)
+            .average()
+            .orElse(-1.0);
+    }
+
+    /**
+     * Latency of each game phase and action over all measured games, keyed by metric name.
+     */
+    public Map<String, PhaseCost> getPhaseCosts() {
+        return phaseCosts;
+    }
+
+    /**
+     * Formats the report for the console.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Simulated %d games of %d bots on %d threads in %.2f s: %.1f games/s%n",
+            outcomes.size(), config.playersPerGame(), config.threads(), wallNanos / 1e9, getGamesPerSecond()));
+        out.append(String.format(Locale.ROOT, "Finished %d, Spark won %.1f%%, Innocents won %.1f%%, %.2f rounds on average%n",
+            getFinishedGames(), getWinRate(WinConditionChecker.Winner.SPARK) * 100,
+            getWinRate(WinConditionChecker.Winner.INNOCENTS) * 100, getAverageRounds()));
+        out.append(String.format(Locale.ROOT, "Per game: %.3f ms on its thread, %.0f virtual ticks, %.1f KiB allocated%n",
+            getAverageGameNanos() / 1e6, outcomes.stream().mapToLong(GameOutcome::ticks).average().orElse(0.0),
+            getAverageAllocatedBytes() / 1024));
+        out.append(String.format(Locale.ROOT, "%-26s %10s %12s %12s%n", "Phase", "Count", "Mean (us)", "Max (us)"));
+        for (PhaseCost cost : phaseCosts.values()) {
+            out.append(String.format(Locale.ROOT, "%-26s %10d %12.1f %12.1f%n",
+                cost.name(), cost.count(), cost.getAverageNanos() / 1e3, cost.maxNanos() / 1e3));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Latency totals for one measured operation, merged over every worker.
+     *
+     * @param name metric name, as shown by /matchbox metrics
+     * @param count times the operation ran
+     * @param totalNanos summed duration
+     * @param maxNanos longest single run
+     */
+    public record PhaseCost(String name, long count, long totalNanos, long maxNanos) {
+
+        public double getAverageNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        PhaseCost merge(PhaseCost other) {
+            return new PhaseCost(name, count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+        }
+
+        /**
+         * Adds a world's latency snapshots to the running totals.
+         */
+        static void mergeInto(Map<String, PhaseCost> totals, Collection<TimingSnapshot> snapshots) {
+            for (TimingSnapshot snapshot : snapshots) {
+                PhaseCost cost = new PhaseCost(snapshot.getName(), snapshot.getCount(), snapshot.getTotalNanos(), snapshot.getMaxNanos());
+                totals.merge(cost.name(), cost, PhaseCost::merge);
+            }
+        }
+    }
+}
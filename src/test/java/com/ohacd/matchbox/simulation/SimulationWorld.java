@@ -0,0 +1,235 @@
+package com.ohacd.matchbox.simulation;
+
+import com.ohacd.matchbox.Matchbox;
+import com.ohacd.matchbox.api.GameLogEntry;
+import com.ohacd.matchbox.api.GameSessionLog;
+import com.ohacd.matchbox.api.TimingSnapshot;
+import com.ohacd.matchbox.game.GameManager;
+import com.ohacd.matchbox.game.SessionGameContext;
+import com.ohacd.matchbox.game.hologram.HologramManager;
+import com.ohacd.matchbox.game.scheduler.TickDriver;
+import com.ohacd.matchbox.game.session.GameSession;
+import com.ohacd.matchbox.game.session.SessionManager;
+import com.ohacd.matchbox.game.state.GameState;
+import com.ohacd.matchbox.game.utils.GamePhase;
+import com.ohacd.matchbox.game.utils.Role;
+import com.ohacd.matchbox.game.win.WinConditionChecker;
+import com.ohacd.matchbox.utils.FakeGameScheduler;
+import com.ohacd.matchbox.utils.MockBukkitFactory;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * One worker's private server: a plugin, session manager and game manager whose timers run on
+ * a virtual clock, plus a fixed set of bots that play every game.
+ * <p>
+ * Bots are not known to the Bukkit server, so the game manager treats them as remote players:
+ * roles, swipes, cures, votes, thresholds and win checks run as in a real game, while titles,
+ * inventories, particles and teleports, which only touch online player objects, are skipped.
+ * A world is used by one thread at a time.
+ */
+final class SimulationWorld implements AutoCloseable {
+    /** Seconds an ability window stays open; bots act straight away, so this only has to outlast the action */
+    private static final int ABILITY_WINDOW_SECONDS = 8;
+
+    private final String name;
+    private final Path dataFolder;
+    private final FakeGameScheduler clock = new FakeGameScheduler();
+    private final SessionManager sessionManager = new SessionManager();
+    private final GameManager gameManager;
+    private final Map<UUID, Player> bots = new LinkedHashMap<>();
+    private final Location arena = MockBukkitFactory.createMockLocation();
+    private int gamesPlayed;
+
+    SimulationWorld(String name, SimulationConfig config) throws IOException {
+        this.name = name;
+        this.dataFolder = Files.createTempDirectory("matchbox-sim");
+        writeConfig(config);
+
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.OFF);
+        Matchbox plugin = mock(Matchbox.class, withSettings().stubOnly());
+        when(plugin.getLogger()).thenReturn(logger);
+        when(plugin.getName()).thenReturn("matchbox");
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getDataFolder()).thenReturn(dataFolder.toFile());
+        when(plugin.getSessionManager()).thenReturn(sessionManager);
+
+        TickDriver tickDriver = new TickDriver(plugin, clock);
+        this.gameManager = new GameManager(plugin, mock(HologramManager.class, withSettings().stubOnly()), tickDriver);
+        when(plugin.getGameManager()).thenReturn(gameManager);
+
+        for (int i = 0; i < config.playersPerGame(); i++) {
+            UUID botId = UUID.randomUUID();
+            bots.put(botId, MockBukkitFactory.createMockPlayer(botId, name + "-bot" + i));
+        }
+    }
+
+    int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    GameManager getGameManager() {
+        return gameManager;
+    }
+
+    /**
+     * Latency of every game phase and action measured in this world so far.
+     */
+    List<TimingSnapshot> getPhaseCosts() {
+        return gameManager.getLatencyMetrics().snapshot();
+    }
+
+    /**
+     * Plays one game to the end, stepping the virtual clock and letting the bots act at the start of each phase.
+     */
+    GameOutcome playGame(int gameIndex, SimulationConfig config) {
+        gamesPlayed++;
+        String sessionName = name + "-game" + gameIndex;
+        Random random = new Random(config.seed() * 31 + gameIndex);
+
+        GameSession session = sessionManager.createSession(sessionName);
+        if (session == null) {
+            throw new IllegalStateException("Session already exists: " + sessionName);
+        }
+        for (Player bot : bots.values()) {
+            session.addPlayer(bot);
+        }
+        session.addSpawnLocation(arena);
+        session.setDiscussionLocation(arena);
+        session.setActive(true);
+
+        long allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+
+        gameManager.startRound(bots.values(), List.of(arena), arena, sessionName);
+        SessionGameContext context = gameManager.getContext(sessionName);
+        if (context == null) {
+            throw new IllegalStateException("Game did not start in session " + sessionName);
+        }
+
+        int rounds = 0;
+        GamePhase actedPhase = null;
+        int actedRound = -1;
+        long ticks = 0;
+        boolean finished = true;
+        // The context is dropped when the game ends
+        while (gameManager.getContext(sessionName) != null) {
+            if (ticks >= config.maxTicksPerGame()) {
+                gameManager.endGame(sessionName);
+                finished = false;
+                break;
+            }
+            GameState state = context.getGameState();
+            GamePhase phase = context.getPhaseManager().getCurrentPhase();
+            int round = state.getCurrentRound();
+            rounds = Math.max(rounds, round);
+            if (round != actedRound || phase != actedPhase) {
+                actedRound = round;
+                actedPhase = phase;
+                playPhase(phase, state, config.strategy(), random);
+            }
+            clock.tick();
+            ticks++;
+        }
+
+        long nanos = System.nanoTime() - started;
+        long allocatedAfter = allocatedBytes();
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return new GameOutcome(sessionName, finished ? readWinner(sessionName) : null, rounds, ticks, nanos, allocated);
+    }
+
+    private void playPhase(GamePhase phase, GameState state, BotStrategy strategy, Random random) {
+        if (phase == GamePhase.SWIPE) {
+            // The Spark goes first so an informed Medic has something to cure
+            for (UUID botId : state.getAlivePlayerIds()) {
+                if (state.getRole(botId) == Role.SPARK) {
+                    Player target = bots.get(strategy.chooseSwipeTarget(botId, state, random));
+                    if (target != null) {
+                        Player spark = bots.get(botId);
+                        gameManager.startSwipeWindow(spark, ABILITY_WINDOW_SECONDS);
+                        gameManager.handleSwipe(spark, target);
+                    }
+                }
+            }
+            for (UUID botId : state.getAlivePlayerIds()) {
+                if (state.getRole(botId) == Role.MEDIC) {
+                    Player target = bots.get(strategy.chooseCureTarget(botId, state, random));
+                    if (target != null) {
+                        Player medic = bots.get(botId);
+                        gameManager.startCureWindow(medic, ABILITY_WINDOW_SECONDS);
+                        gameManager.handleCure(medic, target);
+                    }
+                }
+            }
+        } else if (phase == GamePhase.VOTING) {
+            for (UUID botId : state.getAlivePlayerIds()) {
+                Player target = bots.get(strategy.chooseVoteTarget(botId, state, random));
+                if (target != null) {
+                    gameManager.handleVote(bots.get(botId), target);
+                }
+            }
+        }
+    }
+
+    private WinConditionChecker.Winner readWinner(String sessionName) {
+        List<GameLogEntry> entries = gameManager.getSessionLog(sessionName)
+            .map(GameSessionLog::getEntries)
+            .orElse(List.of());
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            GameLogEntry entry = entries.get(i);
+            if ("WIN".equals(entry.category())) {
+                return WinConditionChecker.Winner.valueOf(entry.attributes().get("winner"));
+            }
+        }
+        return null;
+    }
+
+    private void writeConfig(SimulationConfig config) throws IOException {
+        // Cosmetics and event files are switched off so a run measures game logic rather than disk and skin lookups
+        String yaml = "swipe:\n  duration: " + config.swipeSeconds() + "\n"
+            + "discussion:\n  duration: " + config.discussionSeconds() + "\n"
+            + "voting:\n  duration: " + config.votingSeconds() + "\n"
+            + "cosmetics:\n  random-skins-enabled: false\n  use-steve-skins: false\n"
+            + "logging:\n  event-files:\n    enabled: false\n  console:\n    enabled: false\n";
+        Files.writeString(dataFolder.resolve("config.yml"), yaml);
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Drops any unfinished session and closes the session log files before the folder goes
+        gameManager.emergencyCleanup();
+        try (Stream<Path> files = Files.walk(dataFolder)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
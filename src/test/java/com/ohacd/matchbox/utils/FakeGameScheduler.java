@@ -0,0 +1,138 @@
+package com.ohacd.matchbox.utils;
+
+import com.ohacd.matchbox.game.scheduler.GameScheduler;
+import com.ohacd.matchbox.game.scheduler.GameTask;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic {@link GameScheduler} for headless tests.
+ * Nothing runs until the test advances the virtual clock with {@link #tick()} or {@link #advance(long)}.
+ */
+public class FakeGameScheduler implements GameScheduler {
+
+    private final List<FakeTask> tasks = new ArrayList<>();
+    private long currentTick = 0;
+
+    /**
+     * Advances the clock by one tick and runs every task that is due.
+     */
+    public void tick() {
+        currentTick++;
+        // Snapshot so tasks scheduled while ticking first run on a later tick
+        for (FakeTask task : new ArrayList<>(tasks)) {
+            if (!task.cancelled && task.nextRunTick <= currentTick) {
+                task.runOnce();
+            }
+        }
+        tasks.removeIf(task -> task.cancelled);
+    }
+
+    /**
+     * Advances the clock by the given number of ticks.
+     */
+    public void advance(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the number of tasks that are still scheduled.
+     */
+    public int getPendingTaskCount() {
+        return (int) tasks.stream().filter(task -> !task.cancelled).count();
+    }
+
+    /**
+     * Gets the locations that region timers were pinned to, in scheduling order.
+     */
+    public List<Location> getScheduledRegions() {
+        List<Location> regions = new ArrayList<>();
+        for (FakeTask task : tasks) {
+            if (task.region != null) {
+                regions.add(task.region);
+            }
+        }
+        return regions;
+    }
+
+    @Override
+    public GameTask run(Runnable task) {
+        return schedule(null, ignored -> task.run(), 0, -1);
+    }
+
+    @Override
+    public GameTask run(Entity entity, Runnable task) {
+        return run(task);
+    }
+
+    @Override
+    public GameTask runLater(Runnable task, long delayTicks) {
+        return schedule(null, ignored -> task.run(), delayTicks, -1);
+    }
+
+    @Override
+    public GameTask runTimer(Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        return schedule(null, task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public GameTask runTimer(Location region, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        return schedule(region, task, delayTicks, periodTicks);
+    }
+
+    @Override
+    public GameTask runTimer(Entity entity, Consumer<GameTask> task, long delayTicks, long periodTicks) {
+        return schedule(null, task, delayTicks, periodTicks);
+    }
+
+    private FakeTask schedule(Location region, Consumer<GameTask> body, long delayTicks, long periodTicks) {
+        // Like Bukkit, a zero delay still runs on the next tick at the earliest
+        FakeTask task = new FakeTask(region, body, currentTick + Math.max(1, delayTicks), periodTicks);
+        tasks.add(task);
+        return task;
+    }
+
+    private static final class FakeTask implements GameTask {
+        private final Location region;
+        private final Consumer<GameTask> body;
+        private final long periodTicks;
+        private long nextRunTick;
+        private boolean cancelled;
+
+        private FakeTask(Location region, Consumer<GameTask> body, long nextRunTick, long periodTicks) {
+            this.region = region;
+            this.body = body;
+            this.nextRunTick = nextRunTick;
+            this.periodTicks = periodTicks;
+        }
+
+        private void runOnce() {
+            body.accept(this);
+            if (periodTicks > 0) {
+                nextRunTick += periodTicks;
+            } else {
+                cancelled = true;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * Factory for creating mock Bukkit objects for testing.
@@ -248,6 +249,26 @@ public class MockBukkitFactory {
         }
     }
     
+    /**
+     * Sets up a static Bukkit server for headless game simulations.
+     * No player is known to the server, and calls are not recorded, so long runs from many
+     * threads do not build up memory. Call {@link #tearDownBukkitMocks()} afterwards.
+     */
+    public static void setUpHeadlessBukkitMocks() {
+        Server server = mock(Server.class, withSettings().stubOnly());
+        when(server.getLogger()).thenReturn(Logger.getAnonymousLogger());
+        when(server.getBukkitVersion()).thenReturn("1.21.11-R0.1-SNAPSHOT");
+        BukkitScheduler scheduler = mock(BukkitScheduler.class, withSettings().stubOnly());
+        when(server.getScheduler()).thenReturn(scheduler);
+        try {
+            var serverField = Bukkit.class.getDeclaredField("server");
+            serverField.setAccessible(true);
+            serverField.set(null, server);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set up headless Bukkit mocks", e);
+        }
+    }
+
     /**
      * Cleans up static Bukkit mocks after testing.
      * Call this method in @AfterEach cleanup methods.